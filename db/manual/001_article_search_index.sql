@@ -0,0 +1,34 @@
+-- 아티클 검색 GIN 인덱스 (ArticleSearchIndex, ArticleRepositoryImpl 전체 텍스트 검색)
+--
+-- 운영 스키마는 ddl-auto: validate 이므로 배포 전에 수동 실행한다. 애플리케이션은 기동 시
+-- 함수와 유효한 인덱스가 있는지만 확인하고, 없으면 LIKE 검색을 유지한다.
+--   psql "$DATABASE_URL" -f db/manual/001_article_search_index.sql
+-- CREATE INDEX CONCURRENTLY 는 트랜잭션 블록 밖에서 실행해야 한다 (psql -1 / BEGIN 사용 금지).
+-- 인덱스를 만드는 동안에도 쓰기는 막히지 않는다. 실패하면 INVALID 인덱스가 남으므로
+-- DROP INDEX CONCURRENTLY 후 다시 실행한다.
+-- 함수를 바꾸면 두 인덱스를 REINDEX INDEX CONCURRENTLY 로 다시 만든다.
+
+-- 이전 버전이 기동 시 추가한 저장 컬럼(과 그 인덱스) 제거: 카탈로그만 바뀌고 테이블은 다시 쓰지 않음
+ALTER TABLE articles
+    DROP COLUMN IF EXISTS search_title,
+    DROP COLUMN IF EXISTS search_body;
+
+-- 공백/구두점으로 나눈 두 글자 이상 단어의 겹치는 2-gram. 한 글자 단어는 버림
+-- (검색어의 한 글자 조각은 문서에서 더 긴 단어의 일부일 수 있어 필수 조건이 아님)
+CREATE OR REPLACE FUNCTION article_search_bigrams(input text) RETURNS text
+LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT coalesce(string_agg(substr(word, i, 2), ' ' ORDER BY n, i), '')
+    FROM regexp_split_to_table(lower(coalesce(input, '')), '[[:space:][:punct:]]+')
+        WITH ORDINALITY AS words(word, n),
+        generate_series(1, length(word) - 1) AS i
+    WHERE length(word) >= 2
+$$;
+
+-- 표현식 인덱스: 컬럼 추가 없이 생성 (테이블 재작성 없음)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_articles_search_title
+    ON articles USING GIN (to_tsvector('simple', article_search_bigrams(summary_ko_title)));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_articles_search_body
+    ON articles USING GIN (to_tsvector('simple', article_search_bigrams(summary_ko_body)));
+
+ANALYZE articles;
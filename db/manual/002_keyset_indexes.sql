@@ -0,0 +1,23 @@
+-- 커서(keyset) 페이지네이션 정렬 키 인덱스 (Article / GitRepo 엔티티의 @Index 와 같은 정의)
+--
+-- 운영 스키마는 ddl-auto: validate 이므로 @Index 가 만들어지지 않는다. 배포 전에 수동 실행한다.
+--   psql "$DATABASE_URL" -f db/manual/002_keyset_indexes.sql
+-- CREATE INDEX CONCURRENTLY 는 트랜잭션 블록 밖에서 실행해야 한다 (psql -1 / BEGIN 사용 금지).
+-- 인덱스를 만드는 동안에도 쓰기는 막히지 않는다. 실패하면 INVALID 인덱스가 남으므로
+-- DROP INDEX CONCURRENTLY 후 다시 실행한다.
+
+-- 전체 목록: ORDER BY score DESC, created_at_source DESC, id DESC 범위 스캔
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_articles_keyset
+    ON articles (score DESC, created_at_source DESC, id DESC);
+
+-- 카테고리 필터 목록
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_articles_category_keyset
+    ON articles (category, score DESC, created_at_source DESC, id DESC);
+
+-- 전체 목록: ORDER BY score DESC, created_at DESC, id DESC 범위 스캔
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_git_repos_keyset
+    ON git_repos (score DESC, created_at DESC, id DESC);
+
+-- 카테고리 필터 목록
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_git_repos_category_keyset
+    ON git_repos (category, score DESC, created_at DESC, id DESC);
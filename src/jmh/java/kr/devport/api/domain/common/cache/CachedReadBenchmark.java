@@ -0,0 +1,134 @@
+package kr.devport.api.domain.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of a cache hit: Spring's @Cacheable advice with a SpEL
+ * CacheKeyFactory key (previous service methods) against ReadThroughCache.
+ *
+ * Both read the same TieredCache entry from L1, so the difference is the advice
+ * (proxy, operation lookup, SpEL key evaluation) versus a direct key build.
+ * {@code fallbackModeStable} is the per-load bypass check of a stable scope.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CachedReadBenchmark {
+
+    private int limit = 10;
+
+    private TickerSource spelCached;
+    private ReadThroughCache readThroughCache;
+    private CacheFallbackBypass fallbackBypass;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        fallbackBypass = new CacheFallbackBypass(new CacheFallbackStateStore());
+        TieredCacheManager cacheManager = new TieredCacheManager(
+            new ConcurrentMapCacheManager(CacheNames.TRENDING_TICKER),
+            (cacheName, key) -> { },
+            meterRegistry,
+            fallbackBypass,
+            CacheLeaseLock.DISABLED,
+            Runnable::run,
+            CacheGenerations.DISABLED,
+            CacheKeyIndex.DISABLED,
+            CacheRefreshAhead.DISABLED,
+            // Never probes here: the breaker stays closed
+            new RedisCircuitBreaker(null, meterRegistry),
+            CacheClientTracking.DISABLED
+        );
+
+        CacheInterceptor interceptor = new CacheInterceptor();
+        interceptor.setCacheOperationSource(new AnnotationCacheOperationSource());
+        interceptor.setCacheManager(cacheManager);
+        interceptor.afterPropertiesSet();
+        interceptor.afterSingletonsInstantiated();
+        ProxyFactory proxyFactory = new ProxyFactory(new SpelTickerSource());
+        proxyFactory.addAdvice(interceptor);
+        spelCached = (TickerSource) proxyFactory.getProxy();
+
+        readThroughCache = new ReadThroughCache(cacheManager, new NoOpTransactionManager());
+
+        // Fill the shared entry so every measured call is an L1 hit
+        spelCached.trendingTicker(limit);
+    }
+
+    @Benchmark
+    public List<String> spelCacheableHit() {
+        return spelCached.trendingTicker(limit);
+    }
+
+    @Benchmark
+    public List<String> readThroughHit() {
+        int current = limit;
+        return readThroughCache.get(
+            CacheNames.TRENDING_TICKER,
+            CacheKeyFactory.trendingTickerKey(current),
+            () -> SpelTickerSource.load(current)
+        );
+    }
+
+    @Benchmark
+    public CacheFallbackMode fallbackModeStable() {
+        return fallbackBypass.currentMode(CacheScope.ARTICLE);
+    }
+
+    public interface TickerSource {
+
+        List<String> trendingTicker(int limit);
+    }
+
+    public static class SpelTickerSource implements TickerSource {
+
+        @Override
+        @Cacheable(
+            value = CacheNames.TRENDING_TICKER,
+            key = "T(kr.devport.api.domain.common.cache.CacheKeyFactory).trendingTickerKey(#limit)",
+            sync = true
+        )
+        public List<String> trendingTicker(int limit) {
+            return load(limit);
+        }
+
+        static List<String> load(int limit) {
+            return List.of("ticker-" + limit);
+        }
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package kr.devport.api.domain.common.cache.serializer;
+
+import kr.devport.api.domain.article.dto.response.ArticleMetadataResponse;
+import kr.devport.api.domain.article.dto.response.ArticlePageResponse;
+import kr.devport.api.domain.article.dto.response.ArticleResponse;
+import kr.devport.api.domain.article.enums.Category;
+import kr.devport.api.domain.article.enums.ItemType;
+import kr.devport.api.domain.common.cache.CacheNames;
+import kr.devport.api.domain.llm.dto.response.LLMLeaderboardEntryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the default-typed JSON serializer with the typed Smile serializer
+ * on representative cache values.
+ *
+ * ns/op is reported by JMH; bytes-per-entry is printed once during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheValueSerializerBenchmark {
+
+    private static final int ARTICLE_PAGE_SIZE = 20;
+    private static final int LEADERBOARD_SIZE = 100;
+
+    private RedisSerializer<Object> legacy;
+    private RedisSerializer<Object> typedArticles;
+    private RedisSerializer<Object> typedLeaderboard;
+    private RedisSerializer<Object> compressedArticles;
+
+    private ArticlePageResponse articlePage;
+    private List<LLMLeaderboardEntryResponse> leaderboard;
+
+    private byte[] legacyArticleBytes;
+    private byte[] typedArticleBytes;
+    private byte[] compressedArticleBytes;
+    private byte[] legacyLeaderboardBytes;
+    private byte[] typedLeaderboardBytes;
+
+    @Setup
+    public void setUp() {
+        legacy = new DefaultTypingJsonRedisSerializer();
+        typedArticles = CacheValueSerializer.forCache(CacheNames.ARTICLES);
+        typedLeaderboard = CacheValueSerializer.forCache(CacheNames.LLM_LEADERBOARD);
+        compressedArticles = CacheValueSerializer.forCache(CacheNames.ARTICLES, 1, CompressionObserver.NONE);
+
+        articlePage = articlePage();
+        leaderboard = leaderboard();
+
+        legacyArticleBytes = legacy.serialize(articlePage);
+        typedArticleBytes = typedArticles.serialize(articlePage);
+        compressedArticleBytes = compressedArticles.serialize(articlePage);
+        legacyLeaderboardBytes = legacy.serialize(leaderboard);
+        typedLeaderboardBytes = typedLeaderboard.serialize(leaderboard);
+
+        System.out.printf("%n[bytes/entry] articles: legacy=%d, typed=%d, compressed=%d (%d items)%n",
+            legacyArticleBytes.length / ARTICLE_PAGE_SIZE, typedArticleBytes.length / ARTICLE_PAGE_SIZE,
+            compressedArticleBytes.length / ARTICLE_PAGE_SIZE, ARTICLE_PAGE_SIZE);
+        System.out.printf("[bytes/entry] llmLeaderboard: legacy=%d, typed=%d (%d items)%n",
+            legacyLeaderboardBytes.length / LEADERBOARD_SIZE, typedLeaderboardBytes.length / LEADERBOARD_SIZE,
+            LEADERBOARD_SIZE);
+    }
+
+    @Benchmark
+    public byte[] articlesSerializeLegacy() {
+        return legacy.serialize(articlePage);
+    }
+
+    @Benchmark
+    public byte[] articlesSerializeTyped() {
+        return typedArticles.serialize(articlePage);
+    }
+
+    @Benchmark
+    public byte[] articlesSerializeCompressed() {
+        return compressedArticles.serialize(articlePage);
+    }
+
+    @Benchmark
+    public Object articlesDeserializeCompressed() {
+        return compressedArticles.deserialize(compressedArticleBytes);
+    }
+
+    @Benchmark
+    public Object articlesDeserializeLegacy() {
+        return legacy.deserialize(legacyArticleBytes);
+    }
+
+    @Benchmark
+    public Object articlesDeserializeTyped() {
+        return typedArticles.deserialize(typedArticleBytes);
+    }
+
+    @Benchmark
+    public byte[] leaderboardSerializeLegacy() {
+        return legacy.serialize(leaderboard);
+    }
+
+    @Benchmark
+    public byte[] leaderboardSerializeTyped() {
+        return typedLeaderboard.serialize(leaderboard);
+    }
+
+    @Benchmark
+    public Object leaderboardDeserializeLegacy() {
+        return legacy.deserialize(legacyLeaderboardBytes);
+    }
+
+    @Benchmark
+    public Object leaderboardDeserializeTyped() {
+        return typedLeaderboard.deserialize(typedLeaderboardBytes);
+    }
+
+    private static ArticlePageResponse articlePage() {
+        List<ArticleResponse> content = new ArrayList<>();
+        for (int i = 0; i < ARTICLE_PAGE_SIZE; i++) {
+            content.add(ArticleResponse.builder()
+                .id((long) i)
+                .externalId("a1b2c3d4-e5f6-7890-abcd-" + String.format("%012d", i))
+                .itemType(ItemType.BLOG)
+                .source("hackernews")
+                .category(Category.AI_LLM)
+                .summaryKoTitle("새로운 AI 모델 공개 " + i)
+                .summaryKoBody("OpenAI가 새로운 언어 모델을 공개했습니다. 추론 성능이 크게 향상되었습니다.")
+                .titleEn("New AI Model Released " + i)
+                .url("https://news.ycombinator.com/item?id=" + (40000000 + i))
+                .score(1000 + i)
+                .tags(List.of("AI", "Machine Learning", "NLP"))
+                .createdAtSource(LocalDateTime.of(2025, 1, 15, 10, 0).plusMinutes(i))
+                .metadata(ArticleMetadataResponse.builder()
+                    .stars(120 + i)
+                    .comments(30)
+                    .upvotes(250)
+                    .readTime("5 min")
+                    .language("en")
+                    .build())
+                .build());
+        }
+        return ArticlePageResponse.builder()
+            .content(content)
+            .totalElements(1000L)
+            .totalPages(50)
+            .currentPage(0)
+            .hasMore(true)
+            .build();
+    }
+
+    private static List<LLMLeaderboardEntryResponse> leaderboard() {
+        List<LLMLeaderboardEntryResponse> entries = new ArrayList<>();
+        for (int i = 0; i < LEADERBOARD_SIZE; i++) {
+            entries.add(LLMLeaderboardEntryResponse.builder()
+                .id((long) i)
+                .modelId("model-" + i)
+                .modelName("Model " + i)
+                .provider(i % 2 == 0 ? "OpenAI" : "Anthropic")
+                .license("Proprietary")
+                .score(BigDecimal.valueOf(9000 - i * 13L, 2))
+                .rank(i + 1)
+                .priceBlended(BigDecimal.valueOf(350, 2))
+                .contextWindow(200_000L)
+                .build());
+        }
+        return entries;
+    }
+}
@@ -15,10 +15,16 @@ import kr.devport.api.domain.article.dto.response.ArticleDetailResponse;
 import kr.devport.api.domain.article.dto.response.ArticlePageResponse;
 import kr.devport.api.domain.article.dto.response.ArticleResponse;
 import kr.devport.api.domain.article.dto.response.TrendingTickerResponse;
+import kr.devport.api.domain.common.cache.CacheKeyFactory;
+import kr.devport.api.domain.common.cache.CacheNames;
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.etag.ScopeETag;
+import kr.devport.api.domain.common.cache.response.ResponseBodyCache;
 import kr.devport.api.domain.common.security.CustomUserDetails;
 import kr.devport.api.domain.article.service.ArticleService;
 import kr.devport.api.domain.mypage.service.MyPageService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -40,6 +46,7 @@ public class ArticleController {
 
     private final ArticleService articleService;
     private final MyPageService myPageService;
+    private final ResponseBodyCache responseBodyCache;
 
     @Operation(
         summary = "Get articles with pagination",
@@ -52,17 +59,25 @@ public class ArticleController {
             content = @Content(schema = @Schema(implementation = ArticlePageResponse.class))
         )
     })
+    @ScopeETag(CacheScope.ARTICLE)
     @GetMapping
-    public ResponseEntity<ArticlePageResponse> getArticles(
+    public ResponseEntity<?> getArticles(
         @Parameter(description = "Category filter: ALL, AI_LLM, DEVOPS_SRE, BACKEND, INFRA_CLOUD, OTHER")
         @RequestParam(required = false) Category category,
         @Parameter(description = "Page number (0-indexed)")
         @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "Number of items per page")
-        @RequestParam(defaultValue = "9") int size
+        @RequestParam(defaultValue = "9") int size,
+        @Parameter(description = "Cursor mode: empty for the first page, then the previous response's nextCursor (page is ignored, totals are omitted)")
+        @RequestParam(required = false) String cursor,
+        HttpServletRequest request
     ) {
-        ArticlePageResponse response = articleService.getArticles(category, page, size);
-        return ResponseEntity.ok(response);
+        if (cursor != null) {
+            return ResponseEntity.ok(articleService.getArticlesAfter(category, cursor, size));
+        }
+        return responseBodyCache.respond(
+            CacheNames.ARTICLES_BODY, CacheKeyFactory.articleListKey(category, page, size), request,
+            () -> articleService.getArticles(category, page, size));
     }
 
     @Operation(
@@ -75,6 +90,7 @@ public class ArticleController {
             description = "Successfully retrieved trending ticker articles"
         )
     })
+    @ScopeETag(CacheScope.ARTICLE)
     @GetMapping("/trending-ticker")
     public ResponseEntity<List<TrendingTickerResponse>> getTrendingTicker(
         @Parameter(description = "Number of articles for ticker display")
@@ -95,6 +111,7 @@ public class ArticleController {
             content = @Content(schema = @Schema(implementation = ArticlePageResponse.class))
         )
     })
+    @ScopeETag(CacheScope.ARTICLE)
     @GetMapping("/search")
     public ResponseEntity<ArticlePageResponse> searchArticles(
         @Parameter(description = "Category filter")
@@ -128,7 +145,10 @@ public class ArticleController {
         @RequestParam(defaultValue = "0") int page,
 
         @Parameter(description = "Number of items per page")
-        @RequestParam(defaultValue = "9") int size
+        @RequestParam(defaultValue = "9") int size,
+
+        @Parameter(description = "Cursor mode: empty for the first page, then the previous response's nextCursor (page is ignored, totals are omitted)")
+        @RequestParam(required = false) String cursor
     ) {
         ArticleSearchCondition condition = ArticleSearchCondition.builder()
             .category(category)
@@ -142,14 +162,17 @@ public class ArticleController {
             .tags(tags)
             .build();
 
-        ArticlePageResponse response = articleService.searchArticles(condition, page, size);
+        ArticlePageResponse response = cursor != null
+            ? articleService.searchArticlesAfter(condition, cursor, size)
+            : articleService.searchArticles(condition, page, size);
         return ResponseEntity.ok(response);
     }
 
     @Operation(
         summary = "Autocomplete search suggestions",
         description = "Get top 5 lightweight article suggestions for autocomplete dropdown. " +
-            "Title matches are prioritized over body matches. Minimum 2 characters required."
+            "Searches the Korean title, English title and tags (Korean substrings, English word prefixes); " +
+            "title matches come first (matchType TITLE), then the rest (matchType BODY). Minimum 2 characters required."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -162,6 +185,7 @@ public class ArticleController {
             description = "Query too short (minimum 2 characters)"
         )
     })
+    @ScopeETag(CacheScope.ARTICLE)
     @GetMapping("/autocomplete")
     public ResponseEntity<ArticleAutocompleteListResponse> autocomplete(
         @Parameter(description = "Search query (minimum 2 characters)", example = "React")
@@ -190,6 +214,7 @@ public class ArticleController {
             description = "Query too short (minimum 2 characters)"
         )
     })
+    @ScopeETag(CacheScope.ARTICLE)
     @GetMapping("/search/fulltext")
     public ResponseEntity<ArticlePageResponse> searchFulltext(
         @Parameter(description = "Search query (minimum 2 characters)", example = "AI")
@@ -221,6 +246,7 @@ public class ArticleController {
             description = "Article not found"
         )
     })
+    @ScopeETag(CacheScope.ARTICLE)
     @GetMapping("/{externalId}")
     public ResponseEntity<ArticleDetailResponse> getArticleByExternalId(
         @Parameter(description = "Article external UUID", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
@@ -20,15 +20,21 @@ public class ArticlePageResponse {
     @Schema(description = "List of articles on current page")
     private List<ArticleResponse> content;
 
-    @Schema(description = "Total number of articles", example = "150")
+    @Schema(description = "Total number of articles (omitted in cursor mode)", example = "150")
     private Long totalElements;
 
-    @Schema(description = "Total number of pages", example = "17")
+    @Schema(description = "Total number of pages (omitted in cursor mode)", example = "17")
     private Integer totalPages;
 
-    @Schema(description = "Current page number (0-indexed)", example = "0")
+    @Schema(description = "Current page number (0-indexed, omitted in cursor mode)", example = "0")
     private Integer currentPage;
 
     @Schema(description = "Whether there are more pages", example = "true")
     private Boolean hasMore;
+
+    @Schema(description = "Whether totalElements/totalPages are exact; false for a reused count or an estimate (omitted in cursor mode)", example = "true")
+    private Boolean totalExact;
+
+    @Schema(description = "Cursor for the next page in cursor mode, null on the last page", example = "djF8MTAwfDIwMjYtMDEtMDFUMDA6MDB8NDI")
+    private String nextCursor;
 }
@@ -30,7 +30,10 @@ import java.util.UUID;
 @Entity
 @Table(name = "articles", indexes = {
     @Index(name = "idx_articles_summary_ko_title", columnList = "summary_ko_title"),
-    @Index(name = "idx_articles_created_at_source", columnList = "created_at_source")
+    @Index(name = "idx_articles_created_at_source", columnList = "created_at_source"),
+    // 커서 페이지네이션 정렬 키 (score, created_at_source, id) 범위 스캔용. 운영: db/manual/002_keyset_indexes.sql
+    @Index(name = "idx_articles_keyset", columnList = "score DESC, created_at_source DESC, id DESC"),
+    @Index(name = "idx_articles_category_keyset", columnList = "category, score DESC, created_at_source DESC, id DESC")
 })
 @Getter
 @Setter
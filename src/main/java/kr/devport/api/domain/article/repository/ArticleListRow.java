@@ -0,0 +1,71 @@
+package kr.devport.api.domain.article.repository;
+
+import kr.devport.api.domain.article.enums.Category;
+import kr.devport.api.domain.article.enums.ItemType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Columns of an article list item, read by a DTO projection instead of loading Article
+ * entities: nothing enters the persistence context, and tags come from one batched
+ * query per page ({@code article_tags} by article id) instead of one lazy collection
+ * load per article.
+ *
+ * The metadata columns are flattened; like the embedded ArticleMetadata, all of them
+ * null means no metadata.
+ */
+public record ArticleListRow(
+    Long id,
+    String externalId,
+    ItemType itemType,
+    String source,
+    Category category,
+    String summaryKoTitle,
+    String summaryKoBody,
+    String titleEn,
+    String url,
+    Integer score,
+    LocalDateTime createdAtSource,
+    Integer stars,
+    Integer comments,
+    Integer upvotes,
+    String readTime,
+    String language,
+    List<String> tags
+) {
+
+    /**
+     * Projection constructor; tags are attached afterwards ({@link #withTags}).
+     */
+    public ArticleListRow(
+        Long id,
+        String externalId,
+        ItemType itemType,
+        String source,
+        Category category,
+        String summaryKoTitle,
+        String summaryKoBody,
+        String titleEn,
+        String url,
+        Integer score,
+        LocalDateTime createdAtSource,
+        Integer stars,
+        Integer comments,
+        Integer upvotes,
+        String readTime,
+        String language
+    ) {
+        this(id, externalId, itemType, source, category, summaryKoTitle, summaryKoBody, titleEn, url, score,
+            createdAtSource, stars, comments, upvotes, readTime, language, List.of());
+    }
+
+    public ArticleListRow withTags(List<String> tags) {
+        return new ArticleListRow(id, externalId, itemType, source, category, summaryKoTitle, summaryKoBody, titleEn,
+            url, score, createdAtSource, stars, comments, upvotes, readTime, language, tags);
+    }
+
+    public boolean hasMetadata() {
+        return stars != null || comments != null || upvotes != null || readTime != null || language != null;
+    }
+}
@@ -5,8 +5,12 @@ import kr.devport.api.domain.article.enums.Category;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,5 +27,83 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, Article
 
     Page<Article> findBySourceOrderByScoreDesc(String source, Pageable pageable);
 
-    List<Article> findAllByOrderByScoreDescCreatedAtSourceDesc(Pageable pageable);
+    // 트렌딩 티커: 응답에 필요한 컬럼만 조회 (엔티티/태그 로드 없음)
+    @Query("SELECT a.id AS id, a.summaryKoTitle AS summaryKoTitle, a.url AS url, a.createdAtSource AS createdAtSource "
+        + "FROM Article a ORDER BY a.score DESC, a.createdAtSource DESC")
+    List<TickerRow> findTickerRows(Pageable pageable);
+
+    // 없는 id 선차단 필터: 기본 키가 afterId보다 큰 행만 증분 조회
+    @Query("SELECT a.id AS id, a.externalId AS externalId FROM Article a WHERE a.id > :afterId ORDER BY a.id")
+    List<KnownIdRow> findKnownIdsAfter(@Param("afterId") long afterId);
+
+    long countByCategory(Category category);
+
+    // 자동완성 인메모리 인덱스용: 본문 제외 필드와 태그를 따로 조회
+    @Query("SELECT a.id AS id, a.externalId AS externalId, a.summaryKoTitle AS summaryKoTitle, "
+        + "a.titleEn AS titleEn, a.source AS source, a.category AS category, a.score AS score, "
+        + "a.createdAtSource AS createdAtSource FROM Article a")
+    List<AutocompleteRow> findAutocompleteRows();
+
+    @Query("SELECT a.id AS id, a.externalId AS externalId, a.summaryKoTitle AS summaryKoTitle, "
+        + "a.titleEn AS titleEn, a.source AS source, a.category AS category, a.score AS score, "
+        + "a.createdAtSource AS createdAtSource FROM Article a WHERE a.updatedAt >= :since")
+    List<AutocompleteRow> findAutocompleteRowsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT a.id AS id, a.externalId AS externalId, a.summaryKoTitle AS summaryKoTitle, "
+        + "a.titleEn AS titleEn, a.source AS source, a.category AS category, a.score AS score, "
+        + "a.createdAtSource AS createdAtSource FROM Article a WHERE a.id IN :ids")
+    List<AutocompleteRow> findAutocompleteRowsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.id AS articleId, t AS tag FROM Article a JOIN a.tags t")
+    List<TagRow> findAllTagRows();
+
+    @Query("SELECT a.id AS articleId, t AS tag FROM Article a JOIN a.tags t WHERE a.id IN :ids")
+    List<TagRow> findTagRowsByArticleIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.id FROM Article a")
+    List<Long> findAllIds();
+
+    interface AutocompleteRow {
+
+        Long getId();
+
+        String getExternalId();
+
+        String getSummaryKoTitle();
+
+        String getTitleEn();
+
+        String getSource();
+
+        Category getCategory();
+
+        Integer getScore();
+
+        LocalDateTime getCreatedAtSource();
+    }
+
+    interface TickerRow {
+
+        Long getId();
+
+        String getSummaryKoTitle();
+
+        String getUrl();
+
+        LocalDateTime getCreatedAtSource();
+    }
+
+    interface KnownIdRow {
+
+        Long getId();
+
+        String getExternalId();
+    }
+
+    interface TagRow {
+
+        Long getArticleId();
+
+        String getTag();
+    }
 }
@@ -1,10 +1,12 @@
 package kr.devport.api.domain.article.repository;
 
-import kr.devport.api.domain.article.entity.Article;
 import kr.devport.api.domain.article.dto.request.ArticleSearchCondition;
-import org.springframework.data.domain.Page;
+import kr.devport.api.domain.article.enums.Category;
+import kr.devport.api.domain.common.pagination.KeysetCursor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ArticleRepositoryCustom {
@@ -14,24 +16,60 @@ public interface ArticleRepositoryCustom {
      * - 타입 안전한 쿼리 빌딩
      * - 8개 선택적 필터 조건 지원
      * - 키워드 검색 (한글/영문 제목)
+     * - 페이지 크기 + 1개 조회로 다음 페이지 여부 판단 (COUNT 없음)
+     * - 엔티티 대신 DTO 프로젝션, 태그는 페이지당 한 번에 조회
      */
-    Page<Article> searchWithCondition(ArticleSearchCondition condition, Pageable pageable);
+    Slice<ArticleListRow> searchWithCondition(ArticleSearchCondition condition, Pageable pageable);
 
     /**
-     * 자동완성 검색 (제목 우선, 본문 검색)
-     * - 제목 매칭 우선 정렬
-     * - 최신순 2차 정렬
-     * - 최소 2자 이상 쿼리 필요
+     * 동적 검색 결과 수 (전체 개수는 PageTotals에서 첫 페이지에만 계산)
+     */
+    long countWithCondition(ArticleSearchCondition condition);
+
+    /**
+     * 목록 캐시(CachedIdPage)용 id 슬라이스: score, createdAtSource, id 내림차순
+     */
+    Slice<Long> findIdSlice(Category category, Pageable pageable);
+
+    /**
+     * 기사별 캐시 미스 로드용: id 목록의 목록 행 (순서 무관, 태그 포함 쿼리 2회)
+     */
+    List<ArticleListRow> findListRowsByIds(Collection<Long> ids);
+
+    /**
+     * 관리자 목록: 등록일(createdAt) 최신순 목록 행
+     */
+    Slice<ArticleListRow> findLatestRows(Pageable pageable);
+
+    /**
+     * 커서(키셋) 페이지네이션: 정렬 키 (score, createdAtSource, id) 기준 after 다음 행부터 limit개
+     * - 정렬 키만 조회 (기사 DTO는 기사별 캐시에서)
+     * - 오프셋/COUNT 없이 복합 인덱스 범위 스캔
+     */
+    List<KeysetCursor> findKeysetPage(ArticleSearchCondition condition, KeysetCursor after, int limit);
+
+    /**
+     * 자동완성 DB 검색 (인덱스 미준비 시)
+     * - 제목/영문 제목/태그 중 어딘가에 모든 토큰이 부분 문자열로 포함된 기사 (대소문자 무시)
+     * - 제목에 모든 토큰이 포함된 기사 우선, 최신순 2차 정렬
+     * - 상위 limit개의 id만 조회
+     */
+    List<Long> findAutocompleteTopIds(List<String> tokens, int limit);
+
+    /**
+     * 자동완성 DB 검색 결과 수 (findAutocompleteTopIds와 같은 조건)
      */
-    List<Article> searchAutocomplete(String query, int limit);
+    long countAutocompleteMatches(List<String> tokens);
 
     /**
      * 전체 텍스트 검색 (페이지네이션)
      * - 한글 제목/본문 검색
      * - 제목 매칭 우선 정렬
      * - 최신순 2차 정렬
+     * - 결과 수는 countFulltextMatches로 별도 조회
+     * - 엔티티 대신 DTO 프로젝션, 태그는 페이지당 한 번에 조회
      */
-    Page<Article> searchFulltext(String query, Pageable pageable);
+    Slice<ArticleListRow> searchFulltext(String query, Pageable pageable);
 
     /**
      * 전체 텍스트 검색 결과 수 카운트
@@ -1,22 +1,34 @@
 package kr.devport.api.domain.article.repository;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import kr.devport.api.domain.article.entity.Article;
+import jakarta.persistence.EntityManager;
 import kr.devport.api.domain.article.entity.QArticle;
 import kr.devport.api.domain.article.enums.Category;
 import kr.devport.api.domain.article.enums.ItemType;
 import kr.devport.api.domain.article.dto.request.ArticleSearchCondition;
+import kr.devport.api.domain.common.pagination.KeysetCursor;
+import kr.devport.api.domain.common.pagination.Slices;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.springframework.util.StringUtils.hasText;
 
@@ -24,51 +36,151 @@ import static org.springframework.util.StringUtils.hasText;
 @RequiredArgsConstructor
 public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
 
+    /**
+     * Every bigram of the search term, positions ignored (see ArticleSearchIndex).
+     */
+    static final String BIGRAM_QUERY = "plainto_tsquery('simple', article_search_bigrams(:term))";
+
+    /**
+     * Candidates: title or body contains every bigram of the term. Answered by the GIN
+     * expression indexes; the expressions must match the index definitions.
+     */
+    static final String BIGRAM_CANDIDATE =
+        "(to_tsvector('simple', article_search_bigrams(a.summary_ko_title)) @@ " + BIGRAM_QUERY
+            + " OR to_tsvector('simple', article_search_bigrams(a.summary_ko_body)) @@ " + BIGRAM_QUERY + ")";
+
+    static final String TITLE_MATCH = "a.summary_ko_title ILIKE :pattern";
+
+    /**
+     * The LIKE search's predicate, rechecked on the candidates so results are the same.
+     */
+    static final String FULLTEXT_MATCH =
+        BIGRAM_CANDIDATE + " AND (" + TITLE_MATCH + " OR a.summary_ko_body ILIKE :pattern)";
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final ArticleSearchIndex searchIndex;
 
     private static final QArticle article = QArticle.article;
 
+    /**
+     * Element of {@code article.tags} in tag queries.
+     */
+    private static final StringPath tag = Expressions.stringPath("tag");
+
+    private static final ConstructorExpression<ArticleListRow> listRow = Projections.constructor(ArticleListRow.class,
+        article.id,
+        article.externalId,
+        article.itemType,
+        article.source,
+        article.category,
+        article.summaryKoTitle,
+        article.summaryKoBody,
+        article.titleEn,
+        article.url,
+        article.score,
+        article.createdAtSource,
+        article.metadata.stars,
+        article.metadata.comments,
+        article.metadata.upvotes,
+        article.metadata.readTime,
+        article.metadata.language
+    );
+
     @Override
-    public Page<Article> searchWithCondition(ArticleSearchCondition condition, Pageable pageable) {
-        List<Article> content = queryFactory
-            .selectFrom(article)
-            .where(
-                categoryEq(condition.getCategory()),
-                sourceEq(condition.getSource()),
-                itemTypeEq(condition.getItemType()),
-                keywordContains(condition.getKeyword()),
-                scoreGoe(condition.getMinScore()),
-                scoreLoe(condition.getMaxScore()),
-                createdAtGoe(condition.getCreatedAfter()),
-                createdAtLoe(condition.getCreatedBefore()),
-                tagsContainsAny(condition.getTags())
-            )
+    public Slice<ArticleListRow> searchWithCondition(ArticleSearchCondition condition, Pageable pageable) {
+        List<ArticleListRow> rows = queryFactory
+            .select(listRow)
+            .from(article)
+            .where(conditionMatches(condition))
             .orderBy(article.score.desc(), article.createdAtSource.desc())
             .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
+            .limit(Slices.limitWithNext(pageable))
             .fetch();
 
+        return withTags(Slices.of(rows, pageable));
+    }
+
+    @Override
+    public long countWithCondition(ArticleSearchCondition condition) {
         Long total = queryFactory
             .select(article.count())
             .from(article)
-            .where(
-                categoryEq(condition.getCategory()),
-                sourceEq(condition.getSource()),
-                itemTypeEq(condition.getItemType()),
-                keywordContains(condition.getKeyword()),
-                scoreGoe(condition.getMinScore()),
-                scoreLoe(condition.getMaxScore()),
-                createdAtGoe(condition.getCreatedAfter()),
-                createdAtLoe(condition.getCreatedBefore()),
-                tagsContainsAny(condition.getTags())
-            )
+            .where(conditionMatches(condition))
             .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public Slice<Long> findIdSlice(Category category, Pageable pageable) {
+        List<Long> rows = queryFactory
+            .select(article.id)
+            .from(article)
+            .where(categoryEq(category))
+            .orderBy(article.score.desc(), article.createdAtSource.desc(), article.id.desc())
+            .offset(pageable.getOffset())
+            .limit(Slices.limitWithNext(pageable))
+            .fetch();
+
+        return Slices.of(rows, pageable);
+    }
+
+    @Override
+    public List<ArticleListRow> findListRowsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<ArticleListRow> rows = queryFactory
+            .select(listRow)
+            .from(article)
+            .where(article.id.in(ids))
+            .fetch();
+
+        return withTags(rows);
+    }
+
+    @Override
+    public Slice<ArticleListRow> findLatestRows(Pageable pageable) {
+        List<ArticleListRow> rows = queryFactory
+            .select(listRow)
+            .from(article)
+            .orderBy(article.createdAt.desc(), article.id.desc())
+            .offset(pageable.getOffset())
+            .limit(Slices.limitWithNext(pageable))
+            .fetch();
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+        return withTags(Slices.of(rows, pageable));
+    }
+
+    @Override
+    public List<KeysetCursor> findKeysetPage(ArticleSearchCondition condition, KeysetCursor after, int limit) {
+        return queryFactory
+            .select(Projections.constructor(KeysetCursor.class, article.score, article.createdAtSource, article.id))
+            .from(article)
+            .where(conditionMatches(condition))
+            .where(keysetAfter(after))
+            .orderBy(article.score.desc(), article.createdAtSource.desc(), article.id.desc())
+            .limit(limit)
+            .fetch();
     }
 
     // ========== BooleanExpression Methods (Type-safe condition building) ==========
 
+    private BooleanExpression[] conditionMatches(ArticleSearchCondition condition) {
+        return new BooleanExpression[] {
+            categoryEq(condition.getCategory()),
+            sourceEq(condition.getSource()),
+            itemTypeEq(condition.getItemType()),
+            keywordContains(condition.getKeyword()),
+            scoreGoe(condition.getMinScore()),
+            scoreLoe(condition.getMaxScore()),
+            createdAtGoe(condition.getCreatedAfter()),
+            createdAtLoe(condition.getCreatedBefore()),
+            tagsContainsAny(condition.getTags())
+        };
+    }
+
     private BooleanExpression categoryEq(Category category) {
         return category != null ? article.category.eq(category) : null;
     }
@@ -106,6 +218,19 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
         return to != null ? article.createdAtSource.loe(to) : null;
     }
 
+    private BooleanExpression keysetAfter(KeysetCursor after) {
+        if (after == null) {
+            return null;
+        }
+        // (score, createdAtSource, id) < cursor; the redundant score bound keeps it an index range scan
+        return article.score.loe(after.score()).and(
+            article.score.lt(after.score())
+                .or(article.score.eq(after.score()).and(article.createdAtSource.lt(after.sortedAt())))
+                .or(article.score.eq(after.score()).and(article.createdAtSource.eq(after.sortedAt()))
+                    .and(article.id.lt(after.id())))
+        );
+    }
+
     private BooleanExpression tagsContainsAny(List<String> tags) {
         if (tags == null || tags.isEmpty()) {
             return null;
@@ -118,25 +243,22 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
     // ========== Autocomplete/Fulltext Search Methods ==========
 
     @Override
-    public List<Article> searchAutocomplete(String query, int limit) {
-        if (!hasText(query) || query.trim().length() < 2) {
+    public List<Long> findAutocompleteTopIds(List<String> tokens, int limit) {
+        BooleanExpression inAnyField = autocompleteMatch(tokens);
+        if (inAnyField == null || limit <= 0) {
             return List.of();
         }
 
-        String searchTerm = query.trim();
-
-        // Priority: 1 = title match, 2 = body-only match
+        // Priority: 1 = every token in the title, 2 = otherwise
         NumberExpression<Integer> priorityOrder = new CaseBuilder()
-            .when(article.summaryKoTitle.containsIgnoreCase(searchTerm))
+            .when(allTokens(tokens, article.summaryKoTitle::containsIgnoreCase))
             .then(1)
             .otherwise(2);
 
         return queryFactory
-            .selectFrom(article)
-            .where(
-                article.summaryKoTitle.containsIgnoreCase(searchTerm)
-                    .or(article.summaryKoBody.containsIgnoreCase(searchTerm))
-            )
+            .select(article.id)
+            .from(article)
+            .where(inAnyField)
             .orderBy(
                 priorityOrder.asc(),           // Title matches first
                 article.createdAtSource.desc() // Then by recency
@@ -146,13 +268,51 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
     }
 
     @Override
-    public Page<Article> searchFulltext(String query, Pageable pageable) {
+    public long countAutocompleteMatches(List<String> tokens) {
+        BooleanExpression inAnyField = autocompleteMatch(tokens);
+        if (inAnyField == null) {
+            return 0L;
+        }
+
+        Long count = queryFactory
+            .select(article.count())
+            .from(article)
+            .where(inAnyField)
+            .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * Every token in the title, the English title or a tag: the fields of the autocomplete index.
+     */
+    private static BooleanExpression autocompleteMatch(List<String> tokens) {
+        return allTokens(tokens, token -> article.summaryKoTitle.containsIgnoreCase(token)
+            .or(article.titleEn.containsIgnoreCase(token))
+            .or(article.tags.any().containsIgnoreCase(token)));
+    }
+
+    private static BooleanExpression allTokens(List<String> tokens, Function<String, BooleanExpression> match) {
+        return tokens.stream()
+            .map(match)
+            .reduce(BooleanExpression::and)
+            .orElse(null);
+    }
+
+    @Override
+    public Slice<ArticleListRow> searchFulltext(String query, Pageable pageable) {
         if (!hasText(query) || query.trim().length() < 2) {
-            return new PageImpl<>(List.of(), pageable, 0L);
+            return new SliceImpl<>(List.of(), pageable, false);
         }
 
         String searchTerm = query.trim();
 
+        if (searchIndex.covers(searchTerm)) {
+            List<Long> ids = fulltextIds(searchTerm, pageable.getOffset(), Slices.limitWithNext(pageable));
+            Slice<Long> page = Slices.of(ids, pageable);
+            List<ArticleListRow> rows = inIdOrder(page.getContent(), findListRowsByIds(page.getContent()), ArticleListRow::id);
+            return new SliceImpl<>(rows, pageable, page.hasNext());
+        }
+
         // Priority: 1 = title match, 2 = body-only match
         NumberExpression<Integer> priorityOrder = new CaseBuilder()
             .when(article.summaryKoTitle.containsIgnoreCase(searchTerm))
@@ -162,20 +322,19 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
         BooleanExpression searchCondition = article.summaryKoTitle.containsIgnoreCase(searchTerm)
             .or(article.summaryKoBody.containsIgnoreCase(searchTerm));
 
-        List<Article> content = queryFactory
-            .selectFrom(article)
+        List<ArticleListRow> rows = queryFactory
+            .select(listRow)
+            .from(article)
             .where(searchCondition)
             .orderBy(
                 priorityOrder.asc(),           // Title matches first
                 article.createdAtSource.desc() // Then by recency
             )
             .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
+            .limit(Slices.limitWithNext(pageable))
             .fetch();
 
-        Long total = countFulltextMatches(query);
-
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+        return withTags(Slices.of(rows, pageable));
     }
 
     @Override
@@ -186,6 +345,15 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
 
         String searchTerm = query.trim();
 
+        if (searchIndex.covers(searchTerm)) {
+            Number count = (Number) entityManager
+                .createNativeQuery("SELECT count(*) FROM articles a WHERE " + FULLTEXT_MATCH)
+                .setParameter("term", searchTerm)
+                .setParameter("pattern", containsPattern(searchTerm))
+                .getSingleResult();
+            return count.longValue();
+        }
+
         return queryFactory
             .select(article.count())
             .from(article)
@@ -195,4 +363,66 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
             )
             .fetchOne();
     }
+
+    /**
+     * Ids of full-text matches in the same order as the LIKE search: title matches
+     * first, then by recency. Ranked by the index query; rows are loaded by id.
+     */
+    private List<Long> fulltextIds(String searchTerm, long offset, int limit) {
+        List<?> rows = entityManager
+            .createNativeQuery(
+                "SELECT a.id FROM articles a WHERE " + FULLTEXT_MATCH
+                    + " ORDER BY (" + TITLE_MATCH + ") DESC, a.created_at_source DESC, a.id DESC")
+            .setParameter("term", searchTerm)
+            .setParameter("pattern", containsPattern(searchTerm))
+            .setFirstResult((int) offset)
+            .setMaxResults(limit)
+            .getResultList();
+
+        return rows.stream().map(id -> ((Number) id).longValue()).toList();
+    }
+
+    /**
+     * {@code %term%} with the LIKE wildcards and escape character of the term escaped.
+     */
+    private static String containsPattern(String term) {
+        return "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private static <T> List<T> inIdOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> byId = rows.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    // ========== Tags ==========
+
+    private Slice<ArticleListRow> withTags(Slice<ArticleListRow> slice) {
+        return new SliceImpl<>(withTags(slice.getContent()), slice.getPageable(), slice.hasNext());
+    }
+
+    /**
+     * Attaches the tags of every row with one query (instead of a lazy collection load per article).
+     */
+    private List<ArticleListRow> withTags(List<ArticleListRow> rows) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+
+        List<Long> ids = rows.stream().map(ArticleListRow::id).toList();
+        Map<Long, List<String>> tagsById = queryFactory
+            .select(article.id, tag)
+            .from(article)
+            .join(article.tags, tag)
+            .where(article.id.in(ids))
+            .fetch()
+            .stream()
+            .collect(Collectors.groupingBy(
+                row -> row.get(article.id),
+                Collectors.mapping(row -> row.get(tag), Collectors.toList())
+            ));
+
+        return rows.stream()
+            .map(row -> row.withTags(tagsById.getOrDefault(row.id(), new ArrayList<>())))
+            .toList();
+    }
 }
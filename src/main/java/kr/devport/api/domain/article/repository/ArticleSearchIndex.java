@@ -0,0 +1,144 @@
+package kr.devport.api.domain.article.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * PostgreSQL GIN index behind article search (ArticleRepositoryImpl).
+ *
+ * Korean has no word stemmer in PostgreSQL and particles are glued to words ("모델을"),
+ * so the title and body are indexed as character bigrams: {@code article_search_bigrams}
+ * turns each whitespace/punctuation-separated word of two or more characters into its
+ * overlapping 2-character grams, and one GIN expression index per column holds their
+ * {@code to_tsvector('simple', ...)}. A search first narrows to rows that contain every
+ * bigram of the term (positions are not compared, so the per-lexeme position limits of
+ * tsvector lose nothing), then rechecks those candidates with the original
+ * {@code ILIKE '%term%'}. Results are therefore exactly the LIKE search's, answered by a
+ * bitmap scan of the GIN indexes instead of a sequential scan of every article body.
+ * Two-character terms, the common Korean case, are a single indexed lexeme (pg_trgm
+ * indexes need three characters and were not used for that reason). Terms without a
+ * word of two characters have no bigram to narrow by and keep the LIKE query.
+ *
+ * The function and indexes are created by hand with
+ * {@code db/manual/001_article_search_index.sql} ({@code CREATE INDEX CONCURRENTLY}); the
+ * application only checks at startup that they exist and are valid. On other databases
+ * (H2 in tests) or if they are missing, search keeps the LIKE queries.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleSearchIndex {
+
+    /**
+     * Below this many rows a sequential scan is the planner's right call.
+     */
+    private static final long SEQ_SCAN_WARN_ROWS = 100_000;
+
+    private static final String FUNCTION_CHECK = "SELECT to_regprocedure('article_search_bigrams(text)') IS NOT NULL";
+
+    /**
+     * The bigram function drops one-character words (an older version kept them), and
+     * both indexes were built successfully. Run only once the function exists.
+     */
+    private static final String INDEX_CHECK = """
+        SELECT article_search_bigrams('a bc') = 'bc'
+            AND (SELECT count(*) FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+                 WHERE c.relname IN ('idx_articles_search_title', 'idx_articles_search_body')
+                   AND i.indisvalid) = 2
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.search.fulltext.enabled:true}")
+    private boolean enabled = true;
+
+    private volatile boolean ready;
+
+    /**
+     * True if the index can narrow the search for the term: it exists and the term has a
+     * word of two or more letters or digits, i.e. at least one bigram. Otherwise search
+     * uses LIKE.
+     */
+    public boolean covers(String term) {
+        return ready && hasBigram(term);
+    }
+
+    static boolean hasBigram(String term) {
+        boolean previous = false;
+        for (int i = 0; i < term.length(); ) {
+            int codePoint = term.codePointAt(i);
+            boolean current = Character.isLetterOrDigit(codePoint);
+            if (previous && current) {
+                return true;
+            }
+            previous = current;
+            i += Character.charCount(codePoint);
+        }
+        return false;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+
+        try {
+            ready = Boolean.TRUE.equals(jdbcTemplate.queryForObject(FUNCTION_CHECK, Boolean.class))
+                && Boolean.TRUE.equals(jdbcTemplate.queryForObject(INDEX_CHECK, Boolean.class));
+        } catch (Exception e) {
+            log.warn("Could not check the article search index; search falls back to LIKE", e);
+            return;
+        }
+
+        if (!ready) {
+            log.warn("Article search index missing or invalid (run db/manual/001_article_search_index.sql); "
+                + "search falls back to LIKE");
+            return;
+        }
+        log.info("Article search index ready");
+        checkPlan();
+    }
+
+    /**
+     * EXPLAINs the search predicate and warns if a large table is scanned sequentially
+     * (e.g. missing index or stale statistics).
+     */
+    private void checkPlan() {
+        try {
+            Long rows = jdbcTemplate.queryForObject(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = 'articles'::regclass", Long.class);
+            String plan = String.join("\n", new NamedParameterJdbcTemplate(jdbcTemplate).queryForList(
+                "EXPLAIN SELECT a.id FROM articles a WHERE " + ArticleRepositoryImpl.FULLTEXT_MATCH,
+                Map.of("term", "검색어", "pattern", "%검색어%"), String.class));
+
+            if (plan.contains("Seq Scan on articles") && rows != null && rows >= SEQ_SCAN_WARN_ROWS) {
+                log.warn("Article search plan scans {} rows sequentially:\n{}", rows, plan);
+            } else {
+                log.debug("Article search plan:\n{}", plan);
+            }
+        } catch (Exception e) {
+            log.debug("Could not explain article search plan", e);
+        }
+    }
+
+    private boolean isPostgres() {
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+            return "PostgreSQL".equals(product);
+        } catch (Exception e) {
+            log.warn("Could not determine database product; article search uses LIKE", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package kr.devport.api.domain.article.service;
+
+import kr.devport.api.domain.article.enums.Category;
+import kr.devport.api.domain.common.cache.CacheKeyFactory;
+import kr.devport.api.domain.common.cache.CacheNames;
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.warmup.CacheWarmer;
+import kr.devport.api.domain.common.cache.warmup.CacheWarmupTask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아티클 스코프 핫 키 워밍: 전체/카테고리별 목록 앞 페이지와 트렌딩 티커.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleCacheWarmer implements CacheWarmer {
+
+    // ArticleController 기본 파라미터와 동일해야 실제 요청 키와 일치
+    private static final int DEFAULT_PAGE_SIZE = 9;
+    private static final int DEFAULT_TICKER_LIMIT = 20;
+
+    private final ArticleService articleService;
+
+    @Override
+    public CacheScope scope() {
+        return CacheScope.ARTICLE;
+    }
+
+    @Override
+    public List<CacheWarmupTask> hotKeys(int pages) {
+        List<CacheWarmupTask> tasks = new ArrayList<>();
+
+        List<Category> categories = new ArrayList<>();
+        categories.add(null);
+        categories.addAll(List.of(Category.values()));
+
+        for (Category category : categories) {
+            for (int page = 0; page < pages; page++) {
+                int targetPage = page;
+                tasks.add(new CacheWarmupTask(
+                    CacheNames.ARTICLES,
+                    CacheKeyFactory.articleListKey(category, targetPage, DEFAULT_PAGE_SIZE),
+                    () -> articleService.getArticles(category, targetPage, DEFAULT_PAGE_SIZE)
+                ));
+            }
+        }
+
+        tasks.add(new CacheWarmupTask(
+            CacheNames.TRENDING_TICKER,
+            CacheKeyFactory.trendingTickerKey(DEFAULT_TICKER_LIMIT),
+            () -> articleService.getTrendingTicker(DEFAULT_TICKER_LIMIT)
+        ));
+
+        return tasks;
+    }
+}
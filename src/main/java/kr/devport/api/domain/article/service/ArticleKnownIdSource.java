@@ -0,0 +1,32 @@
+package kr.devport.api.domain.article.service;
+
+import kr.devport.api.domain.article.repository.ArticleRepository;
+import kr.devport.api.domain.common.cache.knownid.KnownId;
+import kr.devport.api.domain.common.cache.knownid.KnownIdSource;
+import kr.devport.api.domain.common.cache.knownid.KnownIdType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 아티클 외부 id 목록 (상세 조회/조회 기록의 존재하지 않는 id 선차단용).
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleKnownIdSource implements KnownIdSource {
+
+    private final ArticleRepository articleRepository;
+
+    @Override
+    public KnownIdType type() {
+        return KnownIdType.ARTICLE;
+    }
+
+    @Override
+    public List<KnownId> loadIdsAfter(long afterKey) {
+        return articleRepository.findKnownIdsAfter(afterKey).stream()
+            .map(row -> new KnownId(row.getId(), row.getExternalId()))
+            .toList();
+    }
+}
@@ -10,19 +10,32 @@ import kr.devport.api.domain.article.dto.response.ArticleMetadataResponse;
 import kr.devport.api.domain.article.dto.response.ArticlePageResponse;
 import kr.devport.api.domain.article.dto.response.ArticleResponse;
 import kr.devport.api.domain.article.dto.response.TrendingTickerResponse;
+import kr.devport.api.domain.article.repository.ArticleListRow;
 import kr.devport.api.domain.article.repository.ArticleRepository;
+import kr.devport.api.domain.article.service.autocomplete.ArticleAutocompleteIndex;
+import kr.devport.api.domain.article.service.autocomplete.AutocompleteDocument;
 import kr.devport.api.domain.common.cache.CacheKeyFactory;
 import kr.devport.api.domain.common.cache.CacheNames;
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.CachedIdPage;
+import kr.devport.api.domain.common.cache.NormalizedListCache;
+import kr.devport.api.domain.common.cache.ReadThroughCache;
+import kr.devport.api.domain.common.cache.knownid.KnownIdFilter;
+import kr.devport.api.domain.common.cache.knownid.KnownIdType;
+import kr.devport.api.domain.common.pagination.KeysetCursor;
+import kr.devport.api.domain.common.pagination.PageTotal;
+import kr.devport.api.domain.common.pagination.PageTotals;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,50 +44,82 @@ import java.util.stream.Collectors;
 public class ArticleService {
 
     private final ArticleRepository articleRepository;
+    private final KnownIdFilter knownIdFilter;
+    private final NormalizedListCache normalizedListCache;
+    private final ReadThroughCache readThroughCache;
+    private final ArticleAutocompleteIndex autocompleteIndex;
+    private final PageTotals pageTotals;
 
-    @Cacheable(
-        value = CacheNames.ARTICLES,
-        key = "T(kr.devport.api.domain.common.cache.CacheKeyFactory).articleListKey(#category, #page, #size)",
-        unless = "@cacheFallbackBypass.shouldBypass('ARTICLE')"
-    )
+    /**
+     * 목록 캐시에는 정렬된 id만 저장하고 기사 DTO는 기사별 캐시에서 MGET으로 조회
+     * - 캐시에 없는 기사만 IN 쿼리 한 번으로 로드
+     * - 전체 개수는 첫 페이지에서만 집계 (전체 목록은 플래너 추정치 사용 가능)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ArticlePageResponse getArticles(Category category, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size,
-            Sort.by(Sort.Direction.DESC, "score")
-                .and(Sort.by(Sort.Direction.DESC, "createdAtSource"))
+        CachedIdPage idPage = normalizedListCache.idPage(
+            CacheNames.ARTICLES,
+            CacheKeyFactory.articleListKey(category, page, size),
+            () -> findArticleIdPage(category, page, size)
         );
 
-        Page<Article> articlePage;
+        List<ArticleResponse> content = normalizedListCache.entities(
+            CacheNames.ARTICLE_ENTITIES, idPage.ids(), this::loadArticleResponses);
+
+        return ArticlePageResponse.builder()
+            .content(content)
+            .totalElements(idPage.totalElements())
+            .totalPages(idPage.totalPages())
+            .currentPage(idPage.currentPage())
+            .hasMore(idPage.hasMore())
+            .totalExact(idPage.totalExact())
+            .build();
+    }
+
+    /**
+     * 커서 모드 목록: 마지막 행의 (score, createdAtSource, id) 다음부터 조회
+     * - 깊은 페이지도 첫 페이지와 같은 비용 (오프셋 스킵, COUNT 없음)
+     * - 전체 개수는 생략
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ArticlePageResponse getArticlesAfter(Category category, String cursor, int size) {
+        return searchArticlesAfter(ArticleSearchCondition.builder().category(category).build(), cursor, size);
+    }
+
+    private CachedIdPage findArticleIdPage(Category category, int page, int size) {
+        Slice<Long> ids = articleRepository.findIdSlice(category, PageRequest.of(page, size));
 
         if (category == null) {
-            articlePage = articleRepository.findAll(pageable);
-        } else {
-            articlePage = articleRepository.findByCategory(category, pageable);
+            return CachedIdPage.of(ids,
+                pageTotals.estimatedTotal(CacheScope.ARTICLE, "articles", ids, articleRepository::count));
         }
+        // 카테고리만 지정한 동적 검색과 같은 개수를 공유
+        ArticleSearchCondition condition = ArticleSearchCondition.builder().category(category).build();
+        return CachedIdPage.of(ids, pageTotals.total(CacheScope.ARTICLE,
+            CacheKeyFactory.articleSearchFilterKey(condition), ids, () -> articleRepository.countByCategory(category)));
+    }
 
-
-        return ArticlePageResponse.builder()
-            .content(articlePage.getContent().stream()
-                .map(this::convertToArticleResponse)
-                .collect(Collectors.toList()))
-            .totalElements(articlePage.getTotalElements())
-            .totalPages(articlePage.getTotalPages())
-            .currentPage(articlePage.getNumber())
-            .hasMore(articlePage.hasNext())
-            .build();
+    private Map<Long, ArticleResponse> loadArticleResponses(Collection<Long> ids) {
+        return articleRepository.findListRowsByIds(ids).stream()
+            .collect(Collectors.toMap(ArticleListRow::id, this::convertToArticleResponse));
     }
 
 
-    @Cacheable(
-        value = CacheNames.TRENDING_TICKER,
-        key = "T(kr.devport.api.domain.common.cache.CacheKeyFactory).trendingTickerKey(#limit)",
-        unless = "@cacheFallbackBypass.shouldBypass('ARTICLE')"
-    )
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<TrendingTickerResponse> getTrendingTicker(int limit) {
+        return readThroughCache.get(
+            CacheNames.TRENDING_TICKER,
+            CacheKeyFactory.trendingTickerKey(limit),
+            () -> loadTrendingTicker(limit)
+        );
+    }
+
+    private List<TrendingTickerResponse> loadTrendingTicker(int limit) {
         Pageable pageable = PageRequest.of(0, limit);
 
-        List<Article> articles = articleRepository.findAllByOrderByScoreDescCreatedAtSourceDesc(pageable);
+        List<ArticleRepository.TickerRow> rows = articleRepository.findTickerRows(pageable);
 
-        return articles.stream()
+        return rows.stream()
             .map(this::convertToTrendingTickerResponse)
             .collect(Collectors.toList());
     }
@@ -83,25 +128,43 @@ public class ArticleService {
      * QueryDSL을 사용한 동적 검색
      * - 8개 선택적 필터 조건을 타입 안전하게 처리
      * - BooleanExpression 조합으로 null 조건 자동 제외
+     * - 다음 페이지 여부는 limit+1 조회로 판단, COUNT는 필터 조합별로 첫 페이지에서만 실행
      */
     public ArticlePageResponse searchArticles(ArticleSearchCondition condition, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<Article> articlePage = articleRepository.searchWithCondition(condition, pageable);
+        Slice<ArticleListRow> articles = articleRepository.searchWithCondition(condition, pageable);
+        PageTotal total = pageTotals.total(CacheScope.ARTICLE, CacheKeyFactory.articleSearchFilterKey(condition),
+            articles, () -> articleRepository.countWithCondition(condition));
+
+        return toArticlePageResponse(articles, total);
+    }
+
+    /**
+     * 커서 모드 동적 검색: 정렬 키만 limit+1개 조회해 다음 페이지 여부를 판단하고
+     * 기사 DTO는 기사별 캐시에서 조회
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ArticlePageResponse searchArticlesAfter(ArticleSearchCondition condition, String cursor, int size) {
+        List<KeysetCursor> keys = articleRepository.findKeysetPage(condition, KeysetCursor.decode(cursor), KeysetCursor.limitWithNext(size));
+        boolean hasMore = keys.size() > size;
+        List<KeysetCursor> pageKeys = hasMore ? keys.subList(0, size) : keys;
+
+        List<ArticleResponse> content = normalizedListCache.entities(
+            CacheNames.ARTICLE_ENTITIES,
+            pageKeys.stream().map(KeysetCursor::id).toList(),
+            this::loadArticleResponses
+        );
 
         return ArticlePageResponse.builder()
-            .content(articlePage.getContent().stream()
-                .map(this::convertToArticleResponse)
-                .collect(Collectors.toList()))
-            .totalElements(articlePage.getTotalElements())
-            .totalPages(articlePage.getTotalPages())
-            .currentPage(articlePage.getNumber())
-            .hasMore(articlePage.hasNext())
+            .content(content)
+            .hasMore(hasMore)
+            .nextCursor(hasMore ? pageKeys.getLast().encode() : null)
             .build();
     }
 
     public ArticleDetailResponse getArticleByExternalId(String externalId) {
-        Article article = articleRepository.findByExternalId(externalId)
+        Article article = knownIdFilter.find(KnownIdType.ARTICLE, externalId, articleRepository::findByExternalId)
             .orElseThrow(() -> new IllegalArgumentException("Article not found: " + externalId));
         return convertToArticleDetailResponse(article);
     }
@@ -123,30 +186,30 @@ public class ArticleService {
             .build();
     }
 
-    private ArticleResponse convertToArticleResponse(Article article) {
+    private ArticleResponse convertToArticleResponse(ArticleListRow row) {
         return ArticleResponse.builder()
-            .id(article.getId())
-            .externalId(article.getExternalId())
-            .itemType(article.getItemType())
-            .source(article.getSource())
-            .category(article.getCategory())
-            .summaryKoTitle(article.getSummaryKoTitle())
-            .summaryKoBody(article.getSummaryKoBody())
-            .titleEn(article.getTitleEn())
-            .url(article.getUrl())
-            .score(article.getScore())
-            .tags(article.getTags() != null ? new java.util.ArrayList<>(article.getTags()) : new java.util.ArrayList<>())
-            .createdAtSource(article.getCreatedAtSource())
-            .metadata(convertToMetadataResponse(article))
+            .id(row.id())
+            .externalId(row.externalId())
+            .itemType(row.itemType())
+            .source(row.source())
+            .category(row.category())
+            .summaryKoTitle(row.summaryKoTitle())
+            .summaryKoBody(row.summaryKoBody())
+            .titleEn(row.titleEn())
+            .url(row.url())
+            .score(row.score())
+            .tags(new java.util.ArrayList<>(row.tags()))
+            .createdAtSource(row.createdAtSource())
+            .metadata(convertToMetadataResponse(row))
             .build();
     }
 
-    private TrendingTickerResponse convertToTrendingTickerResponse(Article article) {
+    private TrendingTickerResponse convertToTrendingTickerResponse(ArticleRepository.TickerRow row) {
         return TrendingTickerResponse.builder()
-            .id(article.getId())
-            .summaryKoTitle(article.getSummaryKoTitle())
-            .url(article.getUrl())
-            .createdAtSource(article.getCreatedAtSource())
+            .id(row.getId())
+            .summaryKoTitle(row.getSummaryKoTitle())
+            .url(row.getUrl())
+            .createdAtSource(row.getCreatedAtSource())
             .build();
     }
 
@@ -164,6 +227,20 @@ public class ArticleService {
             .build();
     }
 
+    private ArticleMetadataResponse convertToMetadataResponse(ArticleListRow row) {
+        if (!row.hasMetadata()) {
+            return null;
+        }
+
+        return ArticleMetadataResponse.builder()
+            .stars(row.stars())
+            .comments(row.comments())
+            .upvotes(row.upvotes())
+            .readTime(row.readTime())
+            .language(row.language())
+            .build();
+    }
+
     // ========== Autocomplete/Fulltext Search Methods ==========
 
     /**
@@ -172,17 +249,22 @@ public class ArticleService {
      * - 최신순 2차 정렬
      * - 총 검색 결과 수 포함 ("전체 X개 결과 보기" UI용)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ArticleAutocompleteListResponse searchAutocomplete(String query) {
-        List<Article> articles = articleRepository.searchAutocomplete(query, 5);
-        Long totalMatches = articleRepository.countFulltextMatches(query);
-
-        List<ArticleAutocompleteResponse> suggestions = articles.stream()
-            .map(article -> convertToAutocompleteResponse(article, query))
-            .collect(Collectors.toList());
+        if (query == null || query.trim().length() < 2) {
+            return ArticleAutocompleteListResponse.builder()
+                .suggestions(List.of())
+                .totalMatches(0L)
+                .build();
+        }
 
+        // 제목/영문 제목/태그 인메모리 인덱스 (빌드 전에는 같은 필드를 DB에서 상위 5개 + 개수 조회)
+        ArticleAutocompleteIndex.Result result = autocompleteIndex.search(query.trim(), 5);
         return ArticleAutocompleteListResponse.builder()
-            .suggestions(suggestions)
-            .totalMatches(totalMatches != null ? totalMatches : 0L)
+            .suggestions(result.hits().stream()
+                .map(this::convertToAutocompleteResponse)
+                .collect(Collectors.toList()))
+            .totalMatches(result.totalMatches())
             .build();
     }
 
@@ -190,38 +272,45 @@ public class ArticleService {
      * 전체 텍스트 검색 - 페이지네이션 결과 반환
      * - 제목 매칭 우선
      * - 최신순 2차 정렬
+     * - 결과 수는 검색어별로 첫 페이지에서만 집계
      */
     public ArticlePageResponse searchFulltext(String query, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<Article> articlePage = articleRepository.searchFulltext(query, pageable);
+        Slice<ArticleListRow> articles = articleRepository.searchFulltext(query, pageable);
+        PageTotal total = pageTotals.total(CacheScope.ARTICLE, CacheKeyFactory.articleFulltextFilterKey(query),
+            articles, () -> {
+                Long matches = articleRepository.countFulltextMatches(query);
+                return matches != null ? matches : 0L;
+            });
+
+        return toArticlePageResponse(articles, total);
+    }
 
+    private ArticlePageResponse toArticlePageResponse(Slice<ArticleListRow> articles, PageTotal total) {
         return ArticlePageResponse.builder()
-            .content(articlePage.getContent().stream()
+            .content(articles.getContent().stream()
                 .map(this::convertToArticleResponse)
                 .collect(Collectors.toList()))
-            .totalElements(articlePage.getTotalElements())
-            .totalPages(articlePage.getTotalPages())
-            .currentPage(articlePage.getNumber())
-            .hasMore(articlePage.hasNext())
+            .totalElements(total.count())
+            .totalPages(total.totalPages(articles.getSize()))
+            .currentPage(articles.getNumber())
+            .hasMore(articles.hasNext())
+            .totalExact(total.exact())
             .build();
     }
 
-    private ArticleAutocompleteResponse convertToAutocompleteResponse(Article article, String query) {
-        String searchTerm = query.trim().toLowerCase();
-        ArticleAutocompleteResponse.MatchType matchType =
-            article.getSummaryKoTitle() != null &&
-            article.getSummaryKoTitle().toLowerCase().contains(searchTerm)
-                ? ArticleAutocompleteResponse.MatchType.TITLE
-                : ArticleAutocompleteResponse.MatchType.BODY;
-
+    private ArticleAutocompleteResponse convertToAutocompleteResponse(ArticleAutocompleteIndex.Hit hit) {
+        AutocompleteDocument document = hit.document();
         return ArticleAutocompleteResponse.builder()
-            .externalId(article.getExternalId())
-            .summaryKoTitle(article.getSummaryKoTitle())
-            .source(article.getSource())
-            .category(article.getCategory() != null ? article.getCategory().name() : null)
-            .matchType(matchType)
-            .score(article.getScore())
+            .externalId(document.externalId())
+            .summaryKoTitle(document.summaryKoTitle())
+            .source(document.source())
+            .category(document.category() != null ? document.category().name() : null)
+            .matchType(hit.titleMatch()
+                ? ArticleAutocompleteResponse.MatchType.TITLE
+                : ArticleAutocompleteResponse.MatchType.BODY)
+            .score(document.score())
             .build();
     }
 }
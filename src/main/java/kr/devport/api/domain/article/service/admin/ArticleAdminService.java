@@ -10,13 +10,20 @@ import kr.devport.api.domain.article.dto.response.ArticleMetadataResponse;
 import kr.devport.api.domain.article.dto.response.ArticlePageResponse;
 import kr.devport.api.domain.article.dto.response.ArticleResponse;
 import kr.devport.api.domain.article.enums.Category;
+import kr.devport.api.domain.article.repository.ArticleListRow;
 import kr.devport.api.domain.article.repository.ArticleRepository;
 import kr.devport.api.domain.article.service.admin.ArticleLLMService.LLMArticleResult;
+import kr.devport.api.domain.article.service.autocomplete.ArticleAutocompleteIndex;
+import kr.devport.api.domain.article.service.autocomplete.AutocompleteDocument;
+import kr.devport.api.domain.common.cache.knownid.KnownIdFilter;
+import kr.devport.api.domain.common.cache.knownid.KnownIdType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,10 +38,13 @@ public class ArticleAdminService {
 
     private final ArticleRepository articleRepository;
     private final ArticleLLMService articleLLMService;
+    private final KnownIdFilter knownIdFilter;
+    private final ArticleAutocompleteIndex autocompleteIndex;
 
     @CacheEvict(value = {
         "#{T(kr.devport.api.domain.common.cache.CacheNames).ARTICLES}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_TICKER}"
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_TICKER}",
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).ARTICLES_BODY}"
     }, allEntries = true)
     public ArticleResponse createArticle(ArticleCreateRequest request) {
         Article article = Article.builder()
@@ -63,13 +73,20 @@ public class ArticleAdminService {
         }
 
         Article saved = articleRepository.save(article);
+        knownIdFilter.add(KnownIdType.ARTICLE, saved.getExternalId());
+        autocompleteIndex.articleChanged(AutocompleteDocument.of(saved));
         return convertToResponse(saved);
     }
 
-    @CacheEvict(value = {
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).ARTICLES}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_TICKER}"
-    }, allEntries = true)
+    // 목록(id 페이지)은 순서가 바뀔 수 있어 전체 삭제, 기사 DTO는 해당 기사만 삭제
+    @Caching(evict = {
+        @CacheEvict(value = {
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).ARTICLES}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_TICKER}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).ARTICLES_BODY}"
+        }, allEntries = true),
+        @CacheEvict(value = "#{T(kr.devport.api.domain.common.cache.CacheNames).ARTICLE_ENTITIES}", key = "#id")
+    })
     public ArticleResponse updateArticle(Long id, ArticleUpdateRequest request) {
         Article article = articleRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Article not found with id: " + id));
@@ -100,23 +117,31 @@ public class ArticleAdminService {
 
         article.setUpdatedAt(LocalDateTime.now());
         Article updated = articleRepository.save(article);
+        autocompleteIndex.articleChanged(AutocompleteDocument.of(updated));
         return convertToResponse(updated);
     }
 
-    @CacheEvict(value = {
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).ARTICLES}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_TICKER}"
-    }, allEntries = true)
+    // 목록(id 페이지)은 순서가 바뀔 수 있어 전체 삭제, 기사 DTO는 해당 기사만 삭제
+    @Caching(evict = {
+        @CacheEvict(value = {
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).ARTICLES}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_TICKER}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).ARTICLES_BODY}"
+        }, allEntries = true),
+        @CacheEvict(value = "#{T(kr.devport.api.domain.common.cache.CacheNames).ARTICLE_ENTITIES}", key = "#id")
+    })
     public void deleteArticle(Long id) {
         if (!articleRepository.existsById(id)) {
             throw new IllegalArgumentException("Article not found with id: " + id);
         }
         articleRepository.deleteById(id);
+        autocompleteIndex.articleRemoved(id);
     }
 
     @CacheEvict(value = {
         "#{T(kr.devport.api.domain.common.cache.CacheNames).ARTICLES}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_TICKER}"
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_TICKER}",
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).ARTICLES_BODY}"
     }, allEntries = true)
     public ArticleResponse createArticleFromLLM(ArticleLLMCreateRequest request) {
         LLMArticleResult result = articleLLMService.processArticle(
@@ -159,6 +184,8 @@ public class ArticleAdminService {
         }
 
         Article saved = articleRepository.save(article);
+        knownIdFilter.add(KnownIdType.ARTICLE, saved.getExternalId());
+        autocompleteIndex.articleChanged(AutocompleteDocument.of(saved));
         return convertToResponse(saved);
     }
 
@@ -184,13 +211,17 @@ public class ArticleAdminService {
 
     @Transactional(readOnly = true)
     public ArticlePageResponse listArticles(int page, int size, String search) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        PageRequest pageRequest = PageRequest.of(page, size);
 
-        Page<Article> articlePage;
+        // 관리자 목록은 정확한 개수를 유지, 행은 DTO 프로젝션 + 태그 일괄 조회
+        Page<ArticleListRow> articlePage;
         if (search != null && !search.isBlank()) {
-            articlePage = articleRepository.searchFulltext(search.trim(), pageRequest);
+            String term = search.trim();
+            Slice<ArticleListRow> rows = articleRepository.searchFulltext(term, pageRequest);
+            articlePage = new PageImpl<>(rows.getContent(), pageRequest, articleRepository.countFulltextMatches(term));
         } else {
-            articlePage = articleRepository.findAll(pageRequest);
+            Slice<ArticleListRow> rows = articleRepository.findLatestRows(pageRequest);
+            articlePage = new PageImpl<>(rows.getContent(), pageRequest, articleRepository.count());
         }
 
         List<ArticleResponse> content = articlePage.getContent().stream()
@@ -203,6 +234,32 @@ public class ArticleAdminService {
             .totalPages(articlePage.getTotalPages())
             .currentPage(articlePage.getNumber())
             .hasMore(articlePage.hasNext())
+            .totalExact(true)
+            .build();
+    }
+
+    private ArticleResponse convertToResponse(ArticleListRow row) {
+        return ArticleResponse.builder()
+            .id(row.id())
+            .itemType(row.itemType())
+            .source(row.source())
+            .category(row.category())
+            .summaryKoTitle(row.summaryKoTitle())
+            .summaryKoBody(row.summaryKoBody())
+            .titleEn(row.titleEn())
+            .url(row.url())
+            .score(row.score())
+            .tags(new ArrayList<>(row.tags()))
+            .createdAtSource(row.createdAtSource())
+            .metadata(row.hasMetadata()
+                ? ArticleMetadataResponse.builder()
+                    .stars(row.stars())
+                    .comments(row.comments())
+                    .upvotes(row.upvotes())
+                    .readTime(row.readTime())
+                    .language(row.language())
+                    .build()
+                : null)
             .build();
     }
 
@@ -0,0 +1,304 @@
+package kr.devport.api.domain.article.service.autocomplete;
+
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.CacheScopeVersions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory inverted index answering article autocomplete without a database query.
+ *
+ * Searches summaryKoTitle, titleEn and tags with the tokens of AutocompleteTokenizer
+ * (Hangul syllable n-grams, English prefixes); a document matches when it contains
+ * every query token. Results are title matches first, then the rest, newest first,
+ * with the total match count, collected in one pass (TopMatches).
+ *
+ * The searchable state is an immutable snapshot swapped atomically: a base segment,
+ * the base doc ids deleted since it was built, and a small delta segment of documents
+ * added or changed since. Writers (rebuilds, syncs, admin writes) are serialized on
+ * {@code this}; once the delta grows past {@link #MAX_DELTA_DOCUMENTS} it is merged
+ * into a new base in memory.
+ *
+ * Freshness: admin writes are applied locally after commit ({@link #articleChanged},
+ * {@link #articleRemoved}) and bump the ARTICLE scope version; every node syncs once
+ * that version moves (admin writes elsewhere, crawler webhook invalidations), checked
+ * every {@code app.search.autocomplete.check-interval-ms}, by reloading the articles
+ * updated since the last sync and dropping ids that no longer exist. A full rebuild
+ * runs every {@code app.search.autocomplete.rebuild-interval-ms}. Until the first build
+ * completes (or while disabled), {@link #search} asks the database for the top {@code limit}
+ * articles and the match count over the same fields and in the same order; the database
+ * matches tokens as substrings, so it may also return articles the index would not.
+ */
+@Component
+@Slf4j
+public class ArticleAutocompleteIndex {
+
+    static final int MAX_DELTA_DOCUMENTS = 1000;
+
+    /**
+     * Re-reads rows updated shortly before the previous sync started (clock skew between
+     * writers, transactions committing after the sync read).
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(5);
+
+    private final ArticleAutocompleteSource source;
+    private final CacheScopeVersions scopeVersions;
+
+    @Value("${app.search.autocomplete.enabled:true}")
+    private boolean enabled = true;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Scope version and start time of the last build or sync. Guarded by {@code syncLock}.
+     */
+    private long syncedVersion;
+    private LocalDateTime syncedAt;
+
+    private final Object syncLock = new Object();
+
+    public ArticleAutocompleteIndex(ArticleAutocompleteSource source, CacheScopeVersions scopeVersions) {
+        this.source = source;
+        this.scopeVersions = scopeVersions;
+    }
+
+    public boolean isReady() {
+        return enabled && snapshot != null;
+    }
+
+    public Result search(String query, int limit) {
+        List<String> tokens = AutocompleteTokenizer.queryTokens(query);
+        TopMatches matches = new TopMatches(limit);
+
+        Snapshot current = snapshot;
+        if (enabled && current != null) {
+            current.base().search(tokens, current.deleted(), matches);
+            current.delta().search(tokens, null, matches);
+        } else if (!tokens.isEmpty()) {
+            List<Hit> hits = source.loadTopContaining(tokens, limit).stream()
+                .map(document -> new Hit(document, titleContainsAll(document, tokens)))
+                .toList();
+            return new Result(hits, source.countContaining(tokens));
+        }
+        return new Result(matches.hits(), matches.total());
+    }
+
+    private static boolean titleContainsAll(AutocompleteDocument document, List<String> tokens) {
+        if (document.summaryKoTitle() == null) {
+            return false;
+        }
+        String title = document.summaryKoTitle().toLowerCase(Locale.ROOT);
+        return tokens.stream().allMatch(token -> title.contains(token.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Indexes an article written by this application once the surrounding transaction
+     * commits, and lets the other nodes sync.
+     */
+    public void articleChanged(AutocompleteDocument document) {
+        afterCommit(() -> apply(List.of(document), Set.of()));
+    }
+
+    public void articleRemoved(Long articleId) {
+        afterCommit(() -> apply(List.of(), Set.of(articleId)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        // Startup is not held up; autocomplete uses the database until the build completes
+        Thread.ofVirtual().name("autocomplete-index-build").start(this::rebuild);
+    }
+
+    /**
+     * Applies articles changed since the last sync once the ARTICLE scope version moved.
+     */
+    @Scheduled(
+        fixedDelayString = "${app.search.autocomplete.check-interval-ms:5000}",
+        initialDelayString = "${app.search.autocomplete.check-interval-ms:5000}"
+    )
+    public void syncChanged() {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (syncLock) {
+            if (snapshot == null || syncedVersion == scopeVersions.current(CacheScope.ARTICLE)) {
+                return;
+            }
+
+            // Read first: a bump during loading triggers another sync
+            long version = scopeVersions.current(CacheScope.ARTICLE);
+            LocalDateTime startedAt = LocalDateTime.now();
+            // Ids indexed before loading: a local admin write applied meanwhile is not mistaken for a deletion
+            Snapshot indexed = snapshot;
+            try {
+                List<AutocompleteDocument> changed = source.loadUpdatedSince(syncedAt.minus(SYNC_OVERLAP));
+                Set<Long> ids = source.loadIds();
+                List<Long> removed = indexed.articleIds().stream()
+                    .filter(id -> !ids.contains(id))
+                    .toList();
+
+                apply(changed, removed);
+                syncedVersion = version;
+                syncedAt = startedAt;
+                log.debug("Synced autocomplete index: changed={}, removed={}", changed.size(), removed.size());
+            } catch (RuntimeException e) {
+                log.warn("Failed to sync autocomplete index; retrying on the next check", e);
+            }
+        }
+    }
+
+    /**
+     * Replaces the index with one built from every article. On failure the previous
+     * index stays in place.
+     */
+    @Scheduled(
+        fixedDelayString = "${app.search.autocomplete.rebuild-interval-ms:600000}",
+        initialDelayString = "${app.search.autocomplete.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (syncLock) {
+            long version = scopeVersions.current(CacheScope.ARTICLE);
+            LocalDateTime startedAt = LocalDateTime.now();
+            long started = System.nanoTime();
+            try {
+                AutocompleteSegment base = AutocompleteSegment.build(source.loadAll());
+                synchronized (this) {
+                    snapshot = new Snapshot(base, new BitSet(), Map.of(), AutocompleteSegment.EMPTY);
+                }
+                // Admin writes committed during loading bumped the version and are synced next
+                syncedVersion = version;
+                syncedAt = startedAt;
+
+                log.info("Built autocomplete index: articles={}, tokens={}, took={}ms",
+                    base.size(), base.tokenCount(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+            } catch (RuntimeException e) {
+                log.warn("Failed to build autocomplete index; keeping the previous one", e);
+            }
+        }
+    }
+
+    private synchronized void apply(Collection<AutocompleteDocument> upserts, Collection<Long> removals) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // Not built yet: the running build or the next sync picks the change up
+            return;
+        }
+
+        BitSet deleted = (BitSet) current.deleted().clone();
+        Map<Long, AutocompleteDocument> delta = new LinkedHashMap<>(current.deltaDocuments());
+        for (Long articleId : removals) {
+            remove(current.base(), deleted, delta, articleId);
+        }
+        for (AutocompleteDocument document : upserts) {
+            remove(current.base(), deleted, delta, document.articleId());
+            delta.put(document.articleId(), document);
+        }
+
+        if (delta.size() + deleted.cardinality() > MAX_DELTA_DOCUMENTS) {
+            snapshot = compact(current.base(), deleted, delta);
+        } else {
+            snapshot = new Snapshot(current.base(), deleted, delta, AutocompleteSegment.build(List.copyOf(delta.values())));
+        }
+    }
+
+    private static void remove(
+        AutocompleteSegment base,
+        BitSet deleted,
+        Map<Long, AutocompleteDocument> delta,
+        Long articleId
+    ) {
+        Integer docId = base.docId(articleId);
+        if (docId != null) {
+            deleted.set(docId);
+        }
+        delta.remove(articleId);
+    }
+
+    private static Snapshot compact(AutocompleteSegment base, BitSet deleted, Map<Long, AutocompleteDocument> delta) {
+        List<AutocompleteDocument> documents = new ArrayList<>(base.size() + delta.size());
+        for (int docId = 0; docId < base.size(); docId++) {
+            if (!deleted.get(docId)) {
+                documents.add(base.document(docId));
+            }
+        }
+        documents.addAll(delta.values());
+        return new Snapshot(AutocompleteSegment.build(documents), new BitSet(), Map.of(), AutocompleteSegment.EMPTY);
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable applyAndBump = () -> {
+            action.run();
+            try {
+                scopeVersions.bump(CacheScope.ARTICLE);
+            } catch (Exception e) {
+                // Other nodes pick the change up with their next periodic rebuild
+                log.warn("Failed to bump version of scope={} after an autocomplete index write", CacheScope.ARTICLE, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyAndBump.run();
+                }
+            });
+        } else {
+            applyAndBump.run();
+        }
+    }
+
+    public record Result(List<Hit> hits, long totalMatches) {
+    }
+
+    public record Hit(AutocompleteDocument document, boolean titleMatch) {
+    }
+
+    /**
+     * @param deleted base doc ids replaced or removed since the base was built
+     * @param deltaDocuments documents of the delta segment by article id
+     */
+    private record Snapshot(
+        AutocompleteSegment base,
+        BitSet deleted,
+        Map<Long, AutocompleteDocument> deltaDocuments,
+        AutocompleteSegment delta
+    ) {
+
+        List<Long> articleIds() {
+            List<Long> ids = new ArrayList<>(base.size() + deltaDocuments.size());
+            for (int docId = 0; docId < base.size(); docId++) {
+                if (!deleted.get(docId)) {
+                    ids.add(base.document(docId).articleId());
+                }
+            }
+            ids.addAll(deltaDocuments.keySet());
+            return ids;
+        }
+    }
+}
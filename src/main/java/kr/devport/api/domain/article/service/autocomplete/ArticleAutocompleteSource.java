@@ -0,0 +1,100 @@
+package kr.devport.api.domain.article.service.autocomplete;
+
+import kr.devport.api.domain.article.repository.ArticleRepository;
+import kr.devport.api.domain.article.repository.ArticleRepository.AutocompleteRow;
+import kr.devport.api.domain.article.repository.ArticleRepository.TagRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 자동완성 인덱스 문서 조회 (본문 없이 제목/영문 제목/태그만).
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ArticleAutocompleteSource {
+
+    private static final int TAG_QUERY_BATCH = 1000;
+
+    private final ArticleRepository articleRepository;
+
+    public List<AutocompleteDocument> loadAll() {
+        Map<Long, List<String>> tags = groupTags(articleRepository.findAllTagRows());
+        return toDocuments(articleRepository.findAutocompleteRows(), tags);
+    }
+
+    public List<AutocompleteDocument> loadUpdatedSince(LocalDateTime since) {
+        List<AutocompleteRow> rows = articleRepository.findAutocompleteRowsUpdatedSince(since);
+        return toDocuments(rows, tagsOf(rows.stream().map(AutocompleteRow::getId).toList()));
+    }
+
+    /**
+     * 제목/영문 제목/태그 중 어딘가에 모든 토큰이 부분 문자열로 들어 있는 기사 상위 limit개
+     * (제목 일치 우선, 최신순; 인덱스 미준비 시 검색)
+     */
+    public List<AutocompleteDocument> loadTopContaining(List<String> tokens, int limit) {
+        List<Long> ids = articleRepository.findAutocompleteTopIds(tokens, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, AutocompleteDocument> documents = new HashMap<>();
+        toDocuments(articleRepository.findAutocompleteRowsByIds(ids), tagsOf(ids))
+            .forEach(document -> documents.put(document.articleId(), document));
+        return ids.stream()
+            .map(documents::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    public long countContaining(List<String> tokens) {
+        return articleRepository.countAutocompleteMatches(tokens);
+    }
+
+    public Set<Long> loadIds() {
+        return new HashSet<>(articleRepository.findAllIds());
+    }
+
+    private Map<Long, List<String>> tagsOf(List<Long> ids) {
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += TAG_QUERY_BATCH) {
+            List<Long> batch = ids.subList(from, Math.min(ids.size(), from + TAG_QUERY_BATCH));
+            tags.putAll(groupTags(articleRepository.findTagRowsByArticleIds(batch)));
+        }
+        return tags;
+    }
+
+    private static Map<Long, List<String>> groupTags(List<TagRow> rows) {
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (TagRow row : rows) {
+            tags.computeIfAbsent(row.getArticleId(), ignored -> new ArrayList<>()).add(row.getTag());
+        }
+        return tags;
+    }
+
+    private static List<AutocompleteDocument> toDocuments(List<AutocompleteRow> rows, Map<Long, List<String>> tags) {
+        return rows.stream()
+            .map(row -> new AutocompleteDocument(
+                row.getId(),
+                row.getExternalId(),
+                row.getSummaryKoTitle(),
+                row.getTitleEn(),
+                tags.get(row.getId()),
+                row.getSource(),
+                row.getCategory(),
+                row.getScore(),
+                row.getCreatedAtSource()
+            ))
+            .toList();
+    }
+}
@@ -0,0 +1,42 @@
+package kr.devport.api.domain.article.service.autocomplete;
+
+import kr.devport.api.domain.article.entity.Article;
+import kr.devport.api.domain.article.enums.Category;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The fields of an article the autocomplete index searches and answers with (no body).
+ */
+public record AutocompleteDocument(
+    Long articleId,
+    String externalId,
+    String summaryKoTitle,
+    String titleEn,
+    List<String> tags,
+    String source,
+    Category category,
+    Integer score,
+    LocalDateTime createdAtSource
+) {
+
+    public AutocompleteDocument {
+        tags = tags != null ? tags.stream().filter(Objects::nonNull).toList() : List.of();
+    }
+
+    public static AutocompleteDocument of(Article article) {
+        return new AutocompleteDocument(
+            article.getId(),
+            article.getExternalId(),
+            article.getSummaryKoTitle(),
+            article.getTitleEn(),
+            article.getTags(),
+            article.getSource(),
+            article.getCategory(),
+            article.getScore(),
+            article.getCreatedAtSource()
+        );
+    }
+}
@@ -0,0 +1,165 @@
+package kr.devport.api.domain.article.service.autocomplete;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable inverted index over a list of documents.
+ *
+ * Doc ids are positions in the list. Every token has two posting lists: documents
+ * with the token in summaryKoTitle, and documents with it in titleEn or a tag, so a
+ * search tells title matches apart without a second lookup.
+ */
+final class AutocompleteSegment {
+
+    static final AutocompleteSegment EMPTY = build(List.of());
+
+    private final List<AutocompleteDocument> documents;
+    private final Map<Long, Integer> docIds;
+    private final Map<String, byte[]> titlePostings;
+    private final Map<String, byte[]> otherPostings;
+
+    private AutocompleteSegment(
+        List<AutocompleteDocument> documents,
+        Map<Long, Integer> docIds,
+        Map<String, byte[]> titlePostings,
+        Map<String, byte[]> otherPostings
+    ) {
+        this.documents = documents;
+        this.docIds = docIds;
+        this.titlePostings = titlePostings;
+        this.otherPostings = otherPostings;
+    }
+
+    static AutocompleteSegment build(List<AutocompleteDocument> documents) {
+        List<AutocompleteDocument> snapshot = List.copyOf(documents);
+        Map<Long, Integer> docIds = new HashMap<>(snapshot.size() * 2);
+        Map<String, DocIdBuffer> title = new HashMap<>();
+        Map<String, DocIdBuffer> other = new HashMap<>();
+
+        for (int docId = 0; docId < snapshot.size(); docId++) {
+            AutocompleteDocument document = snapshot.get(docId);
+            docIds.put(document.articleId(), docId);
+
+            addAll(title, AutocompleteTokenizer.indexTokens(document.summaryKoTitle()), docId);
+            addAll(other, AutocompleteTokenizer.indexTokens(document.titleEn()), docId);
+            for (String tag : document.tags()) {
+                addAll(other, AutocompleteTokenizer.indexTokens(tag), docId);
+            }
+        }
+
+        return new AutocompleteSegment(snapshot, docIds, encode(title), encode(other));
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    List<AutocompleteDocument> documents() {
+        return documents;
+    }
+
+    AutocompleteDocument document(int docId) {
+        return documents.get(docId);
+    }
+
+    Integer docId(Long articleId) {
+        return docIds.get(articleId);
+    }
+
+    int tokenCount() {
+        return titlePostings.size() + otherPostings.size();
+    }
+
+    /**
+     * Passes every document containing all tokens (title or other fields) to the
+     * collector in one merge pass over the posting lists.
+     *
+     * @param deleted doc ids to skip, or null
+     */
+    void search(List<String> tokens, BitSet deleted, TopMatches collector) {
+        if (tokens.isEmpty() || documents.isEmpty()) {
+            return;
+        }
+
+        PostingList.DocCursor[] any = new PostingList.DocCursor[tokens.size()];
+        PostingList.DocCursor[] inTitle = new PostingList.DocCursor[tokens.size()];
+        boolean titleCandidate = true;
+        for (int i = 0; i < tokens.size(); i++) {
+            byte[] titleDocs = titlePostings.get(tokens.get(i));
+            byte[] otherDocs = otherPostings.get(tokens.get(i));
+            if (titleDocs == null && otherDocs == null) {
+                return;
+            }
+            any[i] = PostingList.union(cursor(titleDocs), cursor(otherDocs));
+            inTitle[i] = cursor(titleDocs);
+            titleCandidate &= titleDocs != null;
+        }
+
+        int doc = any[0].next();
+        while (doc != PostingList.NO_MORE) {
+            int target = doc;
+            for (int i = 1; i < any.length && target == doc; i++) {
+                target = any[i].advance(doc);
+            }
+            if (target != doc) {
+                // Leapfrog: skip every doc the first list has below the next candidate
+                doc = any[0].advance(target);
+                continue;
+            }
+
+            if (deleted == null || !deleted.get(doc)) {
+                collector.accept(documents.get(doc), titleCandidate && allAt(inTitle, doc));
+            }
+            doc = any[0].next();
+        }
+    }
+
+    private static boolean allAt(PostingList.DocCursor[] cursors, int doc) {
+        for (PostingList.DocCursor cursor : cursors) {
+            if (cursor.advance(doc) != doc) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static PostingList.DocCursor cursor(byte[] encoded) {
+        return encoded != null ? PostingList.cursor(encoded) : null;
+    }
+
+    private static void addAll(Map<String, DocIdBuffer> postings, Set<String> tokens, int docId) {
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, ignored -> new DocIdBuffer()).add(docId);
+        }
+    }
+
+    private static Map<String, byte[]> encode(Map<String, DocIdBuffer> postings) {
+        Map<String, byte[]> encoded = new HashMap<>(postings.size() * 2);
+        postings.forEach((token, buffer) -> encoded.put(token, PostingList.encode(buffer.ids, buffer.size)));
+        return encoded;
+    }
+
+    /**
+     * Doc ids of one token during a build; a doc adds a token once per field group.
+     */
+    private static final class DocIdBuffer {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int docId) {
+            if (size > 0 && ids[size - 1] == docId) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = docId;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package kr.devport.api.domain.article.service.autocomplete;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Tokens of the autocomplete index.
+ *
+ * Text is lower-cased and split into runs of ASCII letters/digits and runs of other
+ * letters/digits (Hangul); everything else separates runs. ASCII runs are indexed by
+ * every prefix up to {@link #MAX_PREFIX} characters, so a partially typed English word
+ * matches. Other runs are indexed by syllable unigrams and bigrams, so any Korean
+ * substring is found without a morphological analyzer ("모델" in "모델을").
+ *
+ * A query needs all of its tokens: its ASCII runs as one prefix each, its other runs
+ * as their bigrams (or the syllable itself for a single syllable).
+ */
+final class AutocompleteTokenizer {
+
+    static final int MAX_PREFIX = 12;
+
+    private AutocompleteTokenizer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static Set<String> indexTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        forEachRun(text, (run, ascii) -> {
+            if (ascii) {
+                for (int length = 1; length <= Math.min(run.length(), MAX_PREFIX); length++) {
+                    tokens.add(run.substring(0, length));
+                }
+            } else {
+                for (int i = 0; i < run.length(); i++) {
+                    tokens.add(run.substring(i, i + 1));
+                    if (i + 1 < run.length()) {
+                        tokens.add(run.substring(i, i + 2));
+                    }
+                }
+            }
+        });
+        return tokens;
+    }
+
+    static List<String> queryTokens(String query) {
+        Set<String> tokens = new LinkedHashSet<>();
+        forEachRun(query, (run, ascii) -> {
+            if (ascii) {
+                tokens.add(run.substring(0, Math.min(run.length(), MAX_PREFIX)));
+            } else if (run.length() == 1) {
+                tokens.add(run);
+            } else {
+                for (int i = 0; i + 1 < run.length(); i++) {
+                    tokens.add(run.substring(i, i + 2));
+                }
+            }
+        });
+        return List.copyOf(tokens);
+    }
+
+    private static void forEachRun(String text, BiConsumer<String, Boolean> consumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        boolean runAscii = false;
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            boolean ascii = c < 128 && Character.isLetterOrDigit(c);
+            boolean word = ascii || (c >= 128 && Character.isLetterOrDigit(c));
+
+            if (start >= 0 && (!word || ascii != runAscii)) {
+                consumer.accept(lower.substring(start, i), runAscii);
+                start = -1;
+            }
+            if (word && start < 0) {
+                start = i;
+                runAscii = ascii;
+            }
+        }
+    }
+}
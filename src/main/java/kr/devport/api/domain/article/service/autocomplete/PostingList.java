@@ -0,0 +1,127 @@
+package kr.devport.api.domain.article.service.autocomplete;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Sorted doc ids of one token, stored as varint-encoded gaps (1-2 bytes per doc for
+ * common tokens instead of 4), read through forward-only cursors.
+ */
+final class PostingList {
+
+    static final int NO_MORE = Integer.MAX_VALUE;
+
+    private PostingList() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static byte[] encode(int[] docIds, int size) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size + 4);
+        int previous = -1;
+        for (int i = 0; i < size; i++) {
+            int gap = docIds[i] - previous;
+            previous = docIds[i];
+            while ((gap & ~0x7F) != 0) {
+                out.write((gap & 0x7F) | 0x80);
+                gap >>>= 7;
+            }
+            out.write(gap);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Iterates doc ids in ascending order; {@link #NO_MORE} once exhausted.
+     */
+    interface DocCursor {
+
+        int doc();
+
+        int next();
+
+        /**
+         * Moves to the first doc id at or after the target (stays put if already there).
+         */
+        default int advance(int target) {
+            int current = doc();
+            while (current < target) {
+                current = next();
+            }
+            return current;
+        }
+    }
+
+    static DocCursor cursor(byte[] encoded) {
+        return new EncodedCursor(encoded);
+    }
+
+    /**
+     * Docs in either cursor (a token in the title or in the other fields).
+     */
+    static DocCursor union(DocCursor first, DocCursor second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        return new UnionCursor(first, second);
+    }
+
+    private static final class EncodedCursor implements DocCursor {
+
+        private final byte[] encoded;
+        private int position;
+        private int doc = -1;
+
+        private EncodedCursor(byte[] encoded) {
+            this.encoded = encoded;
+        }
+
+        @Override
+        public int doc() {
+            return doc;
+        }
+
+        @Override
+        public int next() {
+            if (position >= encoded.length) {
+                doc = NO_MORE;
+                return doc;
+            }
+            int gap = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = encoded[position++];
+                gap |= (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            doc += gap;
+            return doc;
+        }
+    }
+
+    private static final class UnionCursor implements DocCursor {
+
+        private final DocCursor first;
+        private final DocCursor second;
+        private int doc = -1;
+
+        private UnionCursor(DocCursor first, DocCursor second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public int doc() {
+            return doc;
+        }
+
+        @Override
+        public int next() {
+            int target = doc + 1;
+            doc = Math.min(first.advance(target), second.advance(target));
+            return doc;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package kr.devport.api.domain.article.service.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Counts matches and keeps only the newest {@code limit} title matches and the newest
+ * {@code limit} other matches, in bounded min-heaps; the final order is title matches
+ * first, each group newest first.
+ */
+final class TopMatches {
+
+    static final Comparator<AutocompleteDocument> RECENCY = Comparator
+        .comparing(AutocompleteDocument::createdAtSource, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(AutocompleteDocument::articleId);
+
+    private final int limit;
+    private final PriorityQueue<AutocompleteDocument> titleMatches = new PriorityQueue<>(RECENCY);
+    private final PriorityQueue<AutocompleteDocument> otherMatches = new PriorityQueue<>(RECENCY);
+    private long total;
+
+    TopMatches(int limit) {
+        this.limit = limit;
+    }
+
+    void accept(AutocompleteDocument document, boolean titleMatch) {
+        total++;
+        if (limit <= 0) {
+            return;
+        }
+
+        PriorityQueue<AutocompleteDocument> heap = titleMatch ? titleMatches : otherMatches;
+        if (heap.size() < limit) {
+            heap.add(document);
+        } else if (RECENCY.compare(document, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(document);
+        }
+    }
+
+    long total() {
+        return total;
+    }
+
+    List<ArticleAutocompleteIndex.Hit> hits() {
+        List<ArticleAutocompleteIndex.Hit> hits = new ArrayList<>(limit);
+        addNewestFirst(hits, titleMatches, true);
+        addNewestFirst(hits, otherMatches, false);
+        return hits;
+    }
+
+    private void addNewestFirst(
+        List<ArticleAutocompleteIndex.Hit> hits,
+        PriorityQueue<AutocompleteDocument> heap,
+        boolean titleMatch
+    ) {
+        heap.stream()
+            .sorted(RECENCY.reversed())
+            .limit(Math.max(0, limit - hits.size()))
+            .forEach(document -> hits.add(new ArticleAutocompleteIndex.Hit(document, titleMatch)));
+    }
+}
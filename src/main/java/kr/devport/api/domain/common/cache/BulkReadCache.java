@@ -0,0 +1,36 @@
+package kr.devport.api.domain.common.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache that can look up many keys in a single round trip (e.g. Redis MGET).
+ */
+public interface BulkReadCache {
+
+    /**
+     * @return the entries found, keyed by the requested key; missing keys are left out
+     */
+    Map<Object, Cache.ValueWrapper> getAll(Collection<?> keys);
+
+    /**
+     * Bulk lookup on any cache: one call if it is a BulkReadCache, one get per key otherwise.
+     */
+    static Map<Object, Cache.ValueWrapper> getAll(Cache cache, Collection<?> keys) {
+        if (cache instanceof BulkReadCache bulk) {
+            return bulk.getAll(keys);
+        }
+
+        Map<Object, Cache.ValueWrapper> found = new HashMap<>();
+        for (Object key : keys) {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            if (wrapper != null) {
+                found.put(key, wrapper);
+            }
+        }
+        return found;
+    }
+}
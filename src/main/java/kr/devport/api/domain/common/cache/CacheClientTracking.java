@@ -0,0 +1,22 @@
+package kr.devport.api.domain.common.cache;
+
+import org.springframework.cache.Cache;
+
+/**
+ * Server-assisted client-side caching of Redis reads (Redis CLIENT TRACKING).
+ *
+ * Caches enabled for tracking keep the values they read from Redis in memory until
+ * Redis reports the key as changed, instead of until the short L1 TTL runs out.
+ */
+public interface CacheClientTracking {
+
+    /**
+     * No client-side caching; every read goes to Redis.
+     */
+    CacheClientTracking DISABLED = remote -> remote;
+
+    /**
+     * @return the given Redis cache, wrapped if tracking is enabled for its name
+     */
+    Cache decorate(Cache remote);
+}
@@ -0,0 +1,201 @@
+package kr.devport.api.domain.common.cache;
+
+import kr.devport.api.domain.article.dto.response.ArticleResponse;
+import kr.devport.api.domain.article.dto.response.TrendingTickerResponse;
+import kr.devport.api.domain.gitrepo.dto.response.GitRepoResponse;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Tags of cache entries used by the reverse index for targeted invalidation.
+ *
+ * Each indexed cache declares the dimensions it can be invalidated by and derives the
+ * tags of an entry from its CacheKeyFactory key (category, language) and its value
+ * (ids of the contained entities). Caches without an entry here are always cleared
+ * as a whole.
+ *
+ * Tag format: {@code id:<entityId>}, {@code category:<CATEGORY>}, {@code language:<language>}.
+ * List keys without a category filter are tagged {@code category:all}; a category change
+ * reorders those lists too, so they are evicted together with the category.
+ */
+public final class CacheEntryTags {
+
+    public enum Dimension {
+        ENTITY_ID,
+        CATEGORY,
+        LANGUAGE
+    }
+
+    private static final String ALL = "all";
+
+    private static final Map<String, Rule> RULES;
+
+    static {
+        Map<String, Rule> map = new HashMap<>();
+
+        // Article caches (keys: "<category>_<page>_<size>", "<limit>", "<articleId>")
+        map.put(CacheNames.ARTICLES, new Rule(
+            EnumSet.of(Dimension.ENTITY_ID, Dimension.CATEGORY),
+            (key, value, tags) -> {
+                tags.add(categoryTag(allButLastTwoSegments(key)));
+                addIdTags(tags, value);
+            }));
+        map.put(CacheNames.TRENDING_TICKER, new Rule(
+            EnumSet.of(Dimension.ENTITY_ID),
+            (key, value, tags) -> forEachElement(value, TrendingTickerResponse.class,
+                ticker -> addIdTag(tags, ticker.getId()))));
+        map.put(CacheNames.ARTICLE_ENTITIES, new Rule(
+            EnumSet.of(Dimension.ENTITY_ID),
+            (key, value, tags) -> {
+                if (value instanceof ArticleResponse article) {
+                    addIdTag(tags, article.getId());
+                }
+            }));
+
+        // Git repository caches (keys: "<category>_<page>_<size>", "<page>_<size>", "<language>_<limit>", "<repoId>")
+        map.put(CacheNames.GIT_REPOS, new Rule(
+            EnumSet.of(Dimension.ENTITY_ID, Dimension.CATEGORY),
+            (key, value, tags) -> {
+                tags.add(categoryTag(allButLastTwoSegments(key)));
+                addIdTags(tags, value);
+            }));
+        map.put(CacheNames.TRENDING_GIT_REPOS, new Rule(
+            EnumSet.of(Dimension.ENTITY_ID),
+            (key, value, tags) -> addIdTags(tags, value)));
+        map.put(CacheNames.GIT_REPO_ENTITIES, new Rule(
+            EnumSet.of(Dimension.ENTITY_ID),
+            (key, value, tags) -> {
+                if (value instanceof GitRepoResponse repo) {
+                    addIdTag(tags, repo.getId());
+                }
+            }));
+        map.put(CacheNames.GIT_REPOS_BY_LANGUAGE, new Rule(
+            EnumSet.of(Dimension.ENTITY_ID, Dimension.LANGUAGE),
+            (key, value, tags) -> {
+                tags.add(languageTag(allButLastSegment(key)));
+                forEachElement(value, GitRepoResponse.class, repo -> addIdTag(tags, repo.getId()));
+            }));
+
+        RULES = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * True if the cache indexes every dimension the target carries detail for.
+     */
+    public static boolean supports(String cacheName, CacheInvalidationTarget target) {
+        Rule rule = RULES.get(cacheName);
+        if (rule == null || target.isScopeWide()) {
+            return false;
+        }
+        return (target.entityIds().isEmpty() || rule.dimensions().contains(Dimension.ENTITY_ID))
+            && (target.categories().isEmpty() || rule.dimensions().contains(Dimension.CATEGORY))
+            && (target.languages().isEmpty() || rule.dimensions().contains(Dimension.LANGUAGE));
+    }
+
+    /**
+     * True if entries of the cache are indexed at all.
+     */
+    public static boolean isIndexed(String cacheName) {
+        return RULES.containsKey(cacheName);
+    }
+
+    /**
+     * Tags of an entry, or an empty set if the cache is not indexed.
+     */
+    public static Set<String> tagsOf(String cacheName, Object key, Object value) {
+        Rule rule = RULES.get(cacheName);
+        if (rule == null || key == null) {
+            return Set.of();
+        }
+        Set<String> tags = new LinkedHashSet<>();
+        rule.tagger().accept(key.toString(), value, tags);
+        return tags;
+    }
+
+    /**
+     * Tags to evict for the target.
+     */
+    public static Set<String> tagsFor(CacheInvalidationTarget target) {
+        Set<String> tags = new LinkedHashSet<>();
+        target.entityIds().forEach(id -> tags.add(idTag(id)));
+        if (!target.categories().isEmpty()) {
+            target.categories().forEach(category -> tags.add(categoryTag(category)));
+            tags.add(categoryTag(ALL));
+        }
+        target.languages().forEach(language -> tags.add(languageTag(language)));
+        return tags;
+    }
+
+    public static String idTag(long entityId) {
+        return "id:" + entityId;
+    }
+
+    public static String categoryTag(String category) {
+        String normalized = category == null || category.isBlank() ? ALL : category.trim();
+        return "category:" + (ALL.equalsIgnoreCase(normalized) ? ALL : normalized.toUpperCase(Locale.ROOT));
+    }
+
+    public static String languageTag(String language) {
+        // Same normalization as CacheKeyFactory.gitReposByLanguageKey
+        String normalized = language == null || language.isBlank() ? ALL : language.trim().toLowerCase();
+        return "language:" + normalized;
+    }
+
+    private static void addIdTag(Set<String> tags, Long id) {
+        if (id != null) {
+            tags.add(idTag(id));
+        }
+    }
+
+    /**
+     * Ids of a CachedIdPage value (list caches store ids only).
+     */
+    private static void addIdTags(Set<String> tags, Object value) {
+        if (value instanceof CachedIdPage page) {
+            page.ids().forEach(id -> addIdTag(tags, id));
+        }
+    }
+
+    private static <T> void forEachElement(Object value, Class<T> type, Consumer<T> action) {
+        if (value instanceof Collection<?> elements) {
+            for (Object element : elements) {
+                if (type.isInstance(element)) {
+                    action.accept(type.cast(element));
+                }
+            }
+        }
+    }
+
+    /**
+     * Category part of a list key: "AI_LLM_0_20" -> "AI_LLM". Category names contain
+     * underscores themselves, so only the trailing page and size segments are dropped.
+     */
+    private static String allButLastTwoSegments(String key) {
+        return allButLastSegment(allButLastSegment(key));
+    }
+
+    private static String allButLastSegment(String key) {
+        int separator = key.lastIndexOf('_');
+        return separator > 0 ? key.substring(0, separator) : key;
+    }
+
+    private record Rule(Set<Dimension> dimensions, Tagger tagger) {
+    }
+
+    @FunctionalInterface
+    private interface Tagger {
+        void accept(String key, Object value, Set<String> tags);
+    }
+
+    private CacheEntryTags() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+}
@@ -2,26 +2,28 @@ package kr.devport.api.domain.common.cache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
- * SpEL-friendly bypass policy for scoped uncertainty state.
+ * Bypass policy for scoped uncertainty state.
  * 
- * Provides cache bypass decisions based on scope uncertainty.
- * Used in @Cacheable condition/unless expressions to fail safe:
+ * Provides cache bypass decisions based on scope uncertainty:
  * - Uncertain scope → bypass=true (read-through to source)
  * - Stable scope → bypass=false (cache allowed)
  * 
- * Example usage in @Cacheable:
- * <pre>
- * {@code
- * @Cacheable(
- *   value = CacheNames.ARTICLES,
- *   key = "...",
- *   unless = "@cacheFallbackBypass.shouldBypass('ARTICLE')"
- * )
- * }
- * </pre>
+ * Consulted by TieredCache on every load, using the scope that owns the cache
+ * (CacheGroups.scopeOf, resolved once per cache), so cached service methods need no
+ * per-call bypass expression (see ReadThroughCache). The check is a volatile read of
+ * the scope's flag in CacheFallbackStateStore while the scope is stable.
+ * 
+ * Scopes listed in {@code app.cache.fallback.stale-while-revalidate-scopes} use
+ * STALE_WHILE_REVALIDATE instead of BYPASS while uncertain (see CacheFallbackMode),
+ * serving last-known values no older than {@code app.cache.fallback.max-staleness}.
  */
 @Component("cacheFallbackBypass")
 @RequiredArgsConstructor
@@ -30,29 +32,19 @@ public class CacheFallbackBypass {
     
     private final CacheFallbackStateStore stateStore;
     
+    @Value("${app.cache.fallback.stale-while-revalidate-scopes:}")
+    private Set<CacheScope> staleWhileRevalidateScopes = EnumSet.noneOf(CacheScope.class);
+    
+    @Value("${app.cache.fallback.max-staleness:PT30M}")
+    private Duration maxStaleness = Duration.ofMinutes(30);
+    
     /**
-     * Checks if cache should be bypassed for a given scope name.
+     * Checks if cache should be bypassed for a given scope.
      * 
      * Fail-safe policy:
      * - If scope is uncertain → return true (bypass cache, read-through)
      * - If scope is stable → return false (allow cache)
      * 
-     * @param scopeName Cache scope name (e.g., "ARTICLE", "GIT_REPO", "LLM")
-     * @return true if cache should be bypassed
-     */
-    public boolean shouldBypass(String scopeName) {
-        try {
-            CacheScope scope = CacheScope.valueOf(scopeName);
-            return shouldBypass(scope);
-        } catch (IllegalArgumentException e) {
-            log.warn("Invalid scope name: {}, treating as UNKNOWN", scopeName);
-            return shouldBypass(CacheScope.UNKNOWN);
-        }
-    }
-    
-    /**
-     * Checks if cache should be bypassed for a given scope.
-     * 
      * @param scope Cache scope to check
      * @return true if cache should be bypassed
      */
@@ -67,22 +59,34 @@ public class CacheFallbackBypass {
     }
     
     /**
-     * Inverse check for SpEL 'condition' attribute.
+     * Inverse of shouldBypass.
      * 
-     * @param scopeName Cache scope name
+     * @param scope Cache scope
      * @return true if cache is allowed (not uncertain)
      */
-    public boolean allowCache(String scopeName) {
-        return !shouldBypass(scopeName);
+    public boolean allowCache(CacheScope scope) {
+        return !shouldBypass(scope);
     }
     
     /**
-     * Inverse check for SpEL 'condition' attribute.
+     * Returns the fallback mode currently in effect for a scope.
      * 
-     * @param scope Cache scope
-     * @return true if cache is allowed (not uncertain)
+     * @param scope Cache scope to check
+     * @return NONE if the scope is stable, otherwise the scope's configured fallback mode
      */
-    public boolean allowCache(CacheScope scope) {
-        return !shouldBypass(scope);
+    public CacheFallbackMode currentMode(CacheScope scope) {
+        if (!shouldBypass(scope)) {
+            return CacheFallbackMode.NONE;
+        }
+        return staleWhileRevalidateScopes.contains(scope)
+            ? CacheFallbackMode.STALE_WHILE_REVALIDATE
+            : CacheFallbackMode.BYPASS;
+    }
+    
+    /**
+     * Maximum age of a last-known value served under STALE_WHILE_REVALIDATE.
+     */
+    public Duration getMaxStaleness() {
+        return maxStaleness;
     }
 }
@@ -0,0 +1,22 @@
+package kr.devport.api.domain.common.cache;
+
+/**
+ * How cache loads behave for a scope, depending on its uncertainty state.
+ */
+public enum CacheFallbackMode {
+    /**
+     * Scope is stable - normal read-through caching
+     */
+    NONE,
+
+    /**
+     * Scope is uncertain - misses read through to the source and results are not stored
+     */
+    BYPASS,
+
+    /**
+     * Scope is uncertain - misses serve the last-known value (tagged stale) while a
+     * background refresh repopulates the key; falls back to BYPASS without a stale copy
+     */
+    STALE_WHILE_REVALIDATE
+}
@@ -1,11 +1,13 @@
 package kr.devport.api.domain.common.cache;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 /**
  * Tracks temporary uncertainty state for cache scopes during invalidation failures.
@@ -15,8 +17,14 @@ import java.util.concurrent.ConcurrentHashMap;
  * and read from source of truth.
  * 
  * Uncertainty is cleared when invalidation succeeds or TTL expires naturally.
+ * 
+ * This implementation keeps state in-process only (single node, tests).
+ * With {@code app.cache.fallback.state-store=redis} the cluster-wide
+ * RedisCacheFallbackStateStore is used instead; both serve reads from the
+ * local map so the read path never leaves the process.
  */
 @Component
+@ConditionalOnProperty(prefix = "app.cache.fallback", name = "state-store", havingValue = "local", matchIfMissing = true)
 @Slf4j
 public class CacheFallbackStateStore {
     
@@ -24,13 +32,19 @@ public class CacheFallbackStateStore {
      * Maximum age of uncertainty state before auto-clearing (5 minutes).
      * After this duration, assume TTL has handled staleness.
      */
-    private static final long MAX_UNCERTAINTY_AGE_MS = 5 * 60 * 1000;
+    protected static final long MAX_UNCERTAINTY_AGE_MS = 5 * 60 * 1000;
     
     /**
      * Map of scope -> uncertainty metadata.
      */
     private final Map<CacheScope, UncertaintyState> uncertaintyMap = new ConcurrentHashMap<>();
     
+    /**
+     * Bit per scope ordinal, set while the scope has an entry in uncertaintyMap.
+     * Lets the common stable case answer isUncertain with one volatile read.
+     */
+    private volatile long uncertainScopes;
+    
     /**
      * Marks a scope as uncertain due to invalidation failure/retry.
      * 
@@ -38,8 +52,7 @@ public class CacheFallbackStateStore {
      * @param jobId Job identifier causing the uncertainty
      */
     public void markUncertain(CacheScope scope, String jobId) {
-        UncertaintyState state = new UncertaintyState(jobId, Instant.now());
-        uncertaintyMap.put(scope, state);
+        applyUncertain(scope, jobId, System.currentTimeMillis());
         
         log.warn("Marked scope={} as uncertain due to jobId={}", scope, jobId);
     }
@@ -51,11 +64,11 @@ public class CacheFallbackStateStore {
      * @param jobId Job identifier that triggered the invalidation
      */
     public void clearUncertainty(CacheScope scope, String jobId) {
-        UncertaintyState removed = uncertaintyMap.remove(scope);
+        UncertaintyState removed = applyCleared(scope);
         
         if (removed != null) {
             log.info("Cleared uncertainty for scope={}, jobId={} (was uncertain since {})", 
-                scope, jobId, removed.markedAt);
+                scope, jobId, Instant.ofEpochMilli(removed.markedAtMillis()));
         }
     }
     
@@ -63,11 +76,16 @@ public class CacheFallbackStateStore {
      * Checks if a scope is currently in uncertain state.
      * 
      * Auto-clears stale uncertainty states older than MAX_UNCERTAINTY_AGE_MS.
+     * Called on every cached read, so it only touches the local map and allocates nothing.
      * 
      * @param scope Cache scope to check
      * @return true if scope is uncertain and uncertainty is recent
      */
     public boolean isUncertain(CacheScope scope) {
+        if ((uncertainScopes & bit(scope)) == 0) {
+            return false;
+        }
+        
         UncertaintyState state = uncertaintyMap.get(scope);
         
         if (state == null) {
@@ -75,10 +93,11 @@ public class CacheFallbackStateStore {
         }
         
         // Auto-clear stale uncertainty (assume TTL has handled it)
-        long ageMs = Instant.now().toEpochMilli() - state.markedAt.toEpochMilli();
+        long ageMs = System.currentTimeMillis() - state.markedAtMillis();
         if (ageMs > MAX_UNCERTAINTY_AGE_MS) {
             log.info("Auto-clearing stale uncertainty for scope={} (age: {}ms)", scope, ageMs);
-            uncertaintyMap.remove(scope);
+            uncertaintyMap.remove(scope, state);
+            refreshUncertainScopes();
             return false;
         }
         
@@ -93,11 +112,63 @@ public class CacheFallbackStateStore {
      */
     public String getUncertainJobId(CacheScope scope) {
         UncertaintyState state = uncertaintyMap.get(scope);
-        return state != null ? state.jobId : null;
+        return state != null ? state.jobId() : null;
+    }
+    
+    /**
+     * Whether marks and clears made through this store reach every node.
+     */
+    public boolean isClusterWide() {
+        return false;
+    }
+    
+    /**
+     * Records uncertainty in the local map without logging or propagation.
+     */
+    protected void applyUncertain(CacheScope scope, String jobId, long markedAtMillis) {
+        // An older mark (delayed message, sync read) never replaces a newer one
+        uncertaintyMap.merge(scope, new UncertaintyState(jobId, markedAtMillis),
+            (current, incoming) -> incoming.markedAtMillis() >= current.markedAtMillis() ? incoming : current);
+        refreshUncertainScopes();
+    }
+    
+    /**
+     * Removes uncertainty from the local map without logging or propagation.
+     * 
+     * @return the removed state, or null if the scope was not uncertain
+     */
+    protected UncertaintyState applyCleared(CacheScope scope) {
+        UncertaintyState removed = uncertaintyMap.remove(scope);
+        refreshUncertainScopes();
+        return removed;
+    }
+    
+    /**
+     * Removes uncertainty from the local map only if the current state matches.
+     */
+    protected void applyClearedIf(CacheScope scope, Predicate<UncertaintyState> condition) {
+        uncertaintyMap.computeIfPresent(scope, (key, state) -> condition.test(state) ? null : state);
+        refreshUncertainScopes();
+    }
+    
+    /**
+     * Recomputes the scope bits from the map after a change. Serialized so the last
+     * refresh always reflects every change completed before it.
+     */
+    private synchronized void refreshUncertainScopes() {
+        long bits = 0;
+        for (CacheScope scope : uncertaintyMap.keySet()) {
+            bits |= bit(scope);
+        }
+        uncertainScopes = bits;
+    }
+    
+    private static long bit(CacheScope scope) {
+        return 1L << scope.ordinal();
     }
     
     /**
      * Metadata about uncertainty state.
      */
-    private record UncertaintyState(String jobId, Instant markedAt) {}
+    protected record UncertaintyState(String jobId, long markedAtMillis) {}
 }
@@ -0,0 +1,53 @@
+package kr.devport.api.domain.common.cache;
+
+/**
+ * Per-cache generation counters used to namespace L2 keys.
+ *
+ * Clearing a cache bumps its generation instead of deleting its keys: entries of
+ * older generations become unreachable and expire through their regular TTL.
+ */
+public interface CacheGenerations {
+
+    /**
+     * Generations not in use: TieredCache keys are unversioned and clear() deletes keys.
+     */
+    CacheGenerations DISABLED = new CacheGenerations() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public long current(String cacheName) {
+            return 0;
+        }
+
+        @Override
+        public long bump(String cacheName) {
+            throw new UnsupportedOperationException("Cache generations are disabled");
+        }
+
+        @Override
+        public void refresh(String cacheName) {
+        }
+    };
+
+    boolean isEnabled();
+
+    /**
+     * Locally known generation of the cache (no remote round trip).
+     */
+    long current(String cacheName);
+
+    /**
+     * Atomically advances the cache's generation.
+     *
+     * @return the new generation
+     */
+    long bump(String cacheName);
+
+    /**
+     * Re-reads the cache's generation from the shared store (e.g. after another node bumped it).
+     */
+    void refresh(String cacheName);
+}
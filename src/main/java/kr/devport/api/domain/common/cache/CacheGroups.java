@@ -2,12 +2,18 @@ package kr.devport.api.domain.common.cache;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * Mapping of cache scopes to related cache groups.
  * Used for scope-based invalidation when webhook signals data changes.
+ * 
+ * Groups are ordered: response body caches come after the caches they are rendered
+ * from, so a body rebuilt during invalidation cannot be derived from a source entry
+ * that is about to be invalidated.
  */
 public final class CacheGroups {
     
@@ -17,37 +23,51 @@ public final class CacheGroups {
         Map<CacheScope, Set<String>> map = new HashMap<>();
         
         // Article scope - detail and summary caches
-        map.put(CacheScope.ARTICLE, Set.of(
+        map.put(CacheScope.ARTICLE, orderedSet(
             CacheNames.ARTICLES,
-            CacheNames.TRENDING_TICKER
+            CacheNames.TRENDING_TICKER,
+            CacheNames.ARTICLE_ENTITIES,
+            CacheNames.ARTICLES_BODY
         ));
         
         // Git repository scope - detail, list, trending, and language-filtered caches
-        map.put(CacheScope.GIT_REPO, Set.of(
+        map.put(CacheScope.GIT_REPO, orderedSet(
             CacheNames.GIT_REPOS,
             CacheNames.TRENDING_GIT_REPOS,
             CacheNames.GIT_REPOS_BY_LANGUAGE,
-            CacheNames.GITHUB_TRENDING
+            CacheNames.GITHUB_TRENDING,
+            CacheNames.GIT_REPO_ENTITIES,
+            CacheNames.GIT_REPOS_BODY,
+            CacheNames.TRENDING_GIT_REPOS_BODY,
+            CacheNames.GIT_REPOS_BY_LANGUAGE_BODY
         ));
         
         // LLM scope - leaderboard, benchmarks, and model caches
-        map.put(CacheScope.LLM, Set.of(
+        map.put(CacheScope.LLM, orderedSet(
             CacheNames.LLM_LEADERBOARD,
             CacheNames.LLM_BENCHMARKS,
-            CacheNames.LLM_MODELS
+            CacheNames.LLM_MODELS,
+            CacheNames.LLM_LEADERBOARD_BODY
         ));
         
         // Unknown scope - broad invalidation for safety (all critical caches)
-        map.put(CacheScope.UNKNOWN, Set.of(
+        map.put(CacheScope.UNKNOWN, orderedSet(
             CacheNames.ARTICLES,
             CacheNames.TRENDING_TICKER,
+            CacheNames.ARTICLE_ENTITIES,
             CacheNames.GIT_REPOS,
             CacheNames.TRENDING_GIT_REPOS,
             CacheNames.GIT_REPOS_BY_LANGUAGE,
             CacheNames.GITHUB_TRENDING,
+            CacheNames.GIT_REPO_ENTITIES,
             CacheNames.LLM_LEADERBOARD,
             CacheNames.LLM_BENCHMARKS,
-            CacheNames.LLM_MODELS
+            CacheNames.LLM_MODELS,
+            CacheNames.ARTICLES_BODY,
+            CacheNames.GIT_REPOS_BODY,
+            CacheNames.TRENDING_GIT_REPOS_BODY,
+            CacheNames.GIT_REPOS_BY_LANGUAGE_BODY,
+            CacheNames.LLM_LEADERBOARD_BODY
         ));
         
         SCOPE_TO_CACHES = Collections.unmodifiableMap(map);
@@ -61,6 +81,22 @@ public final class CacheGroups {
         return SCOPE_TO_CACHES.getOrDefault(scope, Collections.emptySet());
     }
     
+    /**
+     * Returns the domain scope owning the given cache, or UNKNOWN if no domain scope lists it.
+     */
+    public static CacheScope scopeOf(String cacheName) {
+        for (CacheScope scope : CacheScope.values()) {
+            if (scope != CacheScope.UNKNOWN && forScope(scope).contains(cacheName)) {
+                return scope;
+            }
+        }
+        return CacheScope.UNKNOWN;
+    }
+    
+    private static Set<String> orderedSet(String... cacheNames) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(List.of(cacheNames)));
+    }
+    
     private CacheGroups() {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
     }
@@ -0,0 +1,217 @@
+package kr.devport.api.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background queue for webhook-triggered scope invalidation.
+ *
+ * Events are acknowledged immediately and executed on a single worker thread, so
+ * retry backoff in CacheInvalidationService never blocks a servlet thread. Events for
+ * the same scope arriving within {@code app.cache.invalidation-queue.window-ms} of the
+ * first pending one are coalesced into a single invalidation. The window starts at the
+ * first event, so a steady stream of events cannot postpone invalidation indefinitely.
+ * Targets of coalesced events are merged (see CacheInvalidationTarget#merge).
+ *
+ * Job IDs are deduplicated per scope: recently seen IDs in memory for {@link #DEDUPE_TTL},
+ * then across nodes and restarts by the CacheJobLedger, consulted before anything is
+ * queued. IDs of a batch that failed are forgotten again so that crawler retries are processed.
+ *
+ * Metrics: {@code cache.invalidation.queue.depth} (events waiting),
+ * {@code cache.invalidation.queue.lag} (first event to execution start) and
+ * {@code cache.invalidation.queue.events{outcome=accepted|coalesced|duplicate}}.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationQueue {
+
+    static final Duration DEDUPE_TTL = Duration.ofMinutes(10);
+
+    private static final int MAX_TRACKED_JOB_IDS = 10_000;
+
+    private final CacheInvalidationService invalidationService;
+    private final CacheJobLedger jobLedger;
+
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("cache-invalidation").daemon().factory());
+
+    private final Map<CacheScope, PendingInvalidation> pending = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> seenJobIds = Caffeine.newBuilder()
+        .maximumSize(MAX_TRACKED_JOB_IDS)
+        .expireAfterWrite(DEDUPE_TTL)
+        .<String, Boolean>build()
+        .asMap();
+    private final AtomicInteger depth = new AtomicInteger();
+
+    private final Timer lag;
+    private final Counter accepted;
+    private final Counter coalesced;
+    private final Counter duplicates;
+
+    @Value("${app.cache.invalidation-queue.window-ms:500}")
+    private long windowMs = 500;
+
+    public CacheInvalidationQueue(
+        CacheInvalidationService invalidationService,
+        CacheJobLedger jobLedger,
+        MeterRegistry meterRegistry
+    ) {
+        this.invalidationService = invalidationService;
+        this.jobLedger = jobLedger;
+
+        Gauge.builder("cache.invalidation.queue.depth", depth, AtomicInteger::get)
+            .description("Invalidation events waiting to be executed")
+            .register(meterRegistry);
+        this.lag = Timer.builder("cache.invalidation.queue.lag")
+            .description("Time from the first pending event of a scope to execution start")
+            .register(meterRegistry);
+        this.accepted = eventCounter(meterRegistry, "accepted");
+        this.coalesced = eventCounter(meterRegistry, "coalesced");
+        this.duplicates = eventCounter(meterRegistry, "duplicate");
+    }
+
+    /**
+     * Queues invalidation of the given scope.
+     *
+     * @return false if the job ID was already queued or processed recently
+     */
+    public boolean enqueue(CacheScope scope, String jobId) {
+        return enqueue(CacheInvalidationTarget.scope(scope), jobId);
+    }
+
+    /**
+     * Queues invalidation of the given target.
+     *
+     * @return false if the job ID was already queued or processed recently
+     */
+    public boolean enqueue(CacheInvalidationTarget target, String jobId) {
+        CacheScope scope = target.scope();
+        if (seenJobIds.putIfAbsent(seenKey(scope, jobId), Boolean.TRUE) != null) {
+            duplicates.increment();
+            log.info("Ignoring duplicate invalidation event: scope={}, jobId={}", scope, jobId);
+            return false;
+        }
+        if (!jobLedger.tryClaim(scope, jobId)) {
+            // Processed by another node or before a restart; remembered locally for the fast path
+            duplicates.increment();
+            log.info("Ignoring invalidation event already in the job ledger: scope={}, jobId={}", scope, jobId);
+            return false;
+        }
+
+        accepted.increment();
+        depth.incrementAndGet();
+
+        boolean[] created = new boolean[1];
+        pending.compute(scope, (key, current) -> {
+            if (current == null) {
+                created[0] = true;
+                return new PendingInvalidation(System.nanoTime(), target, jobId);
+            }
+            current.jobIds().add(jobId);
+            return current.withTarget(current.target().merge(target));
+        });
+
+        if (created[0]) {
+            schedule(scope);
+        } else {
+            coalesced.increment();
+            log.debug("Coalesced invalidation event: scope={}, jobId={}", scope, jobId);
+        }
+        return true;
+    }
+
+    private void schedule(CacheScope scope) {
+        try {
+            worker.schedule(() -> flush(scope), windowMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down: invalidate inline rather than dropping the event
+            log.warn("Invalidation worker unavailable, invalidating scope={} inline", scope);
+            flush(scope);
+        }
+    }
+
+    private void flush(CacheScope scope) {
+        PendingInvalidation batch = pending.remove(scope);
+        if (batch == null) {
+            return;
+        }
+
+        List<String> jobIds = batch.jobIds();
+        depth.addAndGet(-jobIds.size());
+        lag.record(System.nanoTime() - batch.firstEnqueuedAtNanos(), TimeUnit.NANOSECONDS);
+
+        String jobId = jobIds.get(jobIds.size() - 1);
+        if (jobIds.size() > 1) {
+            log.info("Invalidating scope={} once for {} coalesced jobs: {}", scope, jobIds.size(), jobIds);
+        }
+
+        boolean success;
+        try {
+            success = invalidationService.invalidate(batch.target(), jobId);
+        } catch (Exception e) {
+            log.error("Queued invalidation failed for scope={}, jobIds={}", scope, jobIds, e);
+            success = false;
+        }
+
+        for (String batchJobId : jobIds) {
+            if (success) {
+                jobLedger.complete(scope, batchJobId);
+            } else {
+                seenJobIds.remove(seenKey(scope, batchJobId));
+                jobLedger.release(scope, batchJobId);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Delayed flushes still run after shutdown(); wait for them so no event is lost
+        worker.shutdown();
+        if (!worker.awaitTermination(windowMs + 10_000, TimeUnit.MILLISECONDS)) {
+            log.warn("Invalidation queue did not drain in time; pending scopes={}", pending.keySet());
+        }
+    }
+
+    private static String seenKey(CacheScope scope, String jobId) {
+        return scope.name() + ":" + jobId;
+    }
+
+    private Counter eventCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("cache.invalidation.queue.events")
+            .tag("outcome", outcome)
+            .description("Invalidation events received by outcome")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Events waiting for one scope. Only mutated inside ConcurrentHashMap.compute.
+     */
+    private record PendingInvalidation(long firstEnqueuedAtNanos, CacheInvalidationTarget target, List<String> jobIds) {
+
+        PendingInvalidation(long firstEnqueuedAtNanos, CacheInvalidationTarget target, String jobId) {
+            this(firstEnqueuedAtNanos, target, new ArrayList<>(List.of(jobId)));
+        }
+
+        PendingInvalidation withTarget(CacheInvalidationTarget merged) {
+            return new PendingInvalidation(firstEnqueuedAtNanos, merged, jobIds);
+        }
+    }
+}
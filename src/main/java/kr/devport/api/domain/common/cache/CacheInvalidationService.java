@@ -1,9 +1,11 @@
 package kr.devport.api.domain.common.cache;
 
+import kr.devport.api.domain.common.cache.warmup.CacheScopeInvalidatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.Set;
@@ -13,6 +15,14 @@ import java.util.Set;
  * 
  * Invalidates related cache groups (detail + list + summary) when crawler signals data changes.
  * Tracks invalidation failures as uncertainty states for downstream read-through control.
+ * 
+ * For TieredCache, clear() is an atomic generation bump (one INCR per cache), so a retry
+ * either fully invalidates a cache or leaves it untouched.
+ * 
+ * Targets carrying entity ids/categories/languages evict only the indexed keys of caches
+ * that support it (TieredCache + CacheEntryTags); other caches of the scope are cleared.
+ * Retries always clear whole caches, since a failed attempt may have drained index entries
+ * without evicting their keys.
  */
 @Service
 @RequiredArgsConstructor
@@ -25,6 +35,7 @@ public class CacheInvalidationService {
     
     private final CacheManager cacheManager;
     private final CacheFallbackStateStore fallbackStateStore;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Invalidates all caches for the given scope with retry/backoff.
@@ -33,21 +44,38 @@ public class CacheInvalidationService {
      * For UNKNOWN scope: broad invalidation of all critical caches for safety.
      * 
      * Marks scope as uncertain during retry windows.
-     * Clears uncertainty state after successful invalidation.
+     * Clears uncertainty state after successful invalidation and publishes
+     * CacheScopeInvalidatedEvent (triggers hot-key warm-up).
      * 
      * @param scope Cache scope to invalidate
      * @param jobId Job identifier for logging and idempotency
+     * @return true if the scope was invalidated, false if it was left uncertain
+     */
+    public boolean invalidateScope(CacheScope scope, String jobId) {
+        return invalidate(CacheInvalidationTarget.scope(scope), jobId);
+    }
+    
+    /**
+     * Invalidates what the target touched, with the same retry/uncertainty handling
+     * as {@link #invalidateScope}. Scope-wide targets clear every cache of the scope.
+     * 
+     * @param target Scope plus optional entity ids/categories/languages
+     * @param jobId Job identifier for logging and idempotency
+     * @return true if the target was invalidated, false if the scope was left uncertain
      */
-    public void invalidateScope(CacheScope scope, String jobId) {
+    public boolean invalidate(CacheInvalidationTarget target, String jobId) {
+        CacheScope scope = target.scope();
         Set<String> cacheNames = CacheGroups.forScope(scope);
         
         if (cacheNames.isEmpty()) {
-            log.warn("No cache groups mapped for scope={}, jobId={}", scope, jobId);
-            return;
+            // Nothing cached server-side; listeners still advance scope versions (ETags)
+            log.info("No cache groups mapped for scope={}, jobId={}", scope, jobId);
+            eventPublisher.publishEvent(new CacheScopeInvalidatedEvent(scope, jobId));
+            return true;
         }
         
-        log.info("Starting invalidation for scope={}, caches={}, jobId={}", 
-            scope, cacheNames, jobId);
+        log.info("Starting invalidation for scope={}, caches={}, target={}, jobId={}", 
+            scope, cacheNames, target.isScopeWide() ? "all" : target, jobId);
         
         boolean success = false;
         int attempt = 0;
@@ -61,11 +89,17 @@ public class CacheInvalidationService {
                     fallbackStateStore.markUncertain(scope, jobId);
                 }
                 
-                // Invalidate all caches in the scope
+                // Invalidate all caches in the scope (only affected keys where indexed)
                 for (String cacheName : cacheNames) {
                     Cache cache = cacheManager.getCache(cacheName);
                     
-                    if (cache != null) {
+                    if (cache instanceof TieredCache tieredCache
+                        && attempt == 1
+                        && tieredCache.supportsTargetedEviction(target)) {
+                        int evicted = tieredCache.evictTagged(CacheEntryTags.tagsFor(target));
+                        log.debug("Evicted {} key(s) from cache: {} (scope={}, jobId={})", 
+                            evicted, cacheName, scope, jobId);
+                    } else if (cache != null) {
                         cache.clear();
                         log.debug("Cleared cache: {} (scope={}, attempt={}, jobId={})", 
                             cacheName, scope, attempt, jobId);
@@ -108,6 +142,12 @@ public class CacheInvalidationService {
                 }
             }
         }
+        
+        if (success) {
+            // Outside the retry loop: listener failures must not count as invalidation failures
+            eventPublisher.publishEvent(new CacheScopeInvalidatedEvent(scope, jobId));
+        }
+        return success;
     }
     
     /**
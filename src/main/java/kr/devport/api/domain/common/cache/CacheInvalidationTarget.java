@@ -0,0 +1,92 @@
+package kr.devport.api.domain.common.cache;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * What a data change touched within a scope.
+ *
+ * Without any detail the whole scope is invalidated. With detail, caches that index
+ * the given dimensions (see CacheEntryTags) evict only the matching keys; the other
+ * caches of the scope are still cleared entirely.
+ *
+ * @param scope      scope of the change
+ * @param entityIds  ids of entities whose content changed
+ * @param categories categories whose membership or ordering changed
+ * @param languages  languages whose membership or ordering changed (git repositories)
+ */
+public record CacheInvalidationTarget(
+    CacheScope scope,
+    Set<Long> entityIds,
+    Set<String> categories,
+    Set<String> languages
+) {
+
+    public CacheInvalidationTarget {
+        entityIds = entityIds != null ? Set.copyOf(entityIds) : Set.of();
+        categories = categories != null ? Set.copyOf(categories) : Set.of();
+        languages = languages != null ? Set.copyOf(languages) : Set.of();
+    }
+
+    /**
+     * Target covering the whole scope.
+     */
+    public static CacheInvalidationTarget scope(CacheScope scope) {
+        return new CacheInvalidationTarget(scope, Set.of(), Set.of(), Set.of());
+    }
+
+    public static CacheInvalidationTarget of(
+        CacheScope scope,
+        Collection<Long> entityIds,
+        Collection<String> categories,
+        Collection<String> languages
+    ) {
+        return new CacheInvalidationTarget(scope, copy(entityIds), copy(categories), copy(languages));
+    }
+
+    /**
+     * True if the target carries no detail (or the scope is UNKNOWN) and the whole scope must go.
+     */
+    public boolean isScopeWide() {
+        return scope == CacheScope.UNKNOWN
+            || (entityIds.isEmpty() && categories.isEmpty() && languages.isEmpty());
+    }
+
+    /**
+     * Combines two targets of the same scope; a scope-wide side makes the result scope-wide.
+     */
+    public CacheInvalidationTarget merge(CacheInvalidationTarget other) {
+        if (scope != other.scope) {
+            throw new IllegalArgumentException("Cannot merge targets of scopes " + scope + " and " + other.scope);
+        }
+        if (isScopeWide() || other.isScopeWide()) {
+            return scope(scope);
+        }
+        return new CacheInvalidationTarget(
+            scope,
+            union(entityIds, other.entityIds),
+            union(categories, other.categories),
+            union(languages, other.languages)
+        );
+    }
+
+    private static <T> Set<T> copy(Collection<T> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        Set<T> copy = new LinkedHashSet<>();
+        for (T value : values) {
+            if (value != null) {
+                copy.add(value);
+            }
+        }
+        return copy;
+    }
+
+    private static <T> Set<T> union(Set<T> left, Set<T> right) {
+        Set<T> union = new LinkedHashSet<>(left);
+        union.addAll(right);
+        return union;
+    }
+}
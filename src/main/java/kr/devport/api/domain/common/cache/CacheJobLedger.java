@@ -0,0 +1,39 @@
+package kr.devport.api.domain.common.cache;
+
+/**
+ * Cluster-wide record of processed invalidation job IDs, keyed by scope and job ID.
+ *
+ * A job is claimed before it is queued, marked completed once its invalidation
+ * succeeded and released if it failed, so that crawler retries of a failed job are
+ * processed again while duplicate deliveries of a completed one are not.
+ * Implementations fail open: if the ledger is unreachable the job is processed.
+ */
+public interface CacheJobLedger {
+
+    /**
+     * Ledger that never reports duplicates. Used when the ledger is off.
+     */
+    CacheJobLedger DISABLED = new CacheJobLedger() {
+        @Override
+        public boolean tryClaim(CacheScope scope, String jobId) {
+            return true;
+        }
+
+        @Override
+        public void complete(CacheScope scope, String jobId) {
+        }
+
+        @Override
+        public void release(CacheScope scope, String jobId) {
+        }
+    };
+
+    /**
+     * @return false if the job is being processed or was processed already
+     */
+    boolean tryClaim(CacheScope scope, String jobId);
+
+    void complete(CacheScope scope, String jobId);
+
+    void release(CacheScope scope, String jobId);
+}
@@ -1,9 +1,12 @@
 package kr.devport.api.domain.common.cache;
 
+import kr.devport.api.domain.article.dto.request.ArticleSearchCondition;
+import kr.devport.api.domain.llm.dto.request.LLMModelSearchCondition;
 import kr.devport.api.domain.llm.enums.BenchmarkType;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -51,6 +54,39 @@ public final class CacheKeyFactory {
         return String.valueOf(limit);
     }
     
+    /**
+     * Key of the filters of an article search, for its cached total (PageTotals).
+     * 
+     * Dimensions: every filter; exact-match filters (source, tags) keep their case,
+     * the case-insensitive keyword is lowercased (not trimmed: the query does not trim it),
+     * tags are sorted and de-duplicated (matched as ANY).
+     * Example: "AI_LLM|all|all|llm|100|all|all|all|agents,rag"
+     */
+    public static String articleSearchFilterKey(ArticleSearchCondition condition) {
+        return String.join("|",
+            condition.getCategory() != null ? condition.getCategory().name() : "all",
+            exactOrAll(condition.getSource()),
+            condition.getItemType() != null ? condition.getItemType().name() : "all",
+            condition.getKeyword() != null && !condition.getKeyword().isBlank() ? condition.getKeyword().toLowerCase() : "all",
+            valueOrAll(condition.getMinScore()),
+            valueOrAll(condition.getMaxScore()),
+            valueOrAll(condition.getCreatedAfter()),
+            valueOrAll(condition.getCreatedBefore()),
+            condition.getTags() != null && !condition.getTags().isEmpty()
+                ? condition.getTags().stream().filter(Objects::nonNull).distinct().sorted().collect(Collectors.joining(","))
+                : "all"
+        );
+    }
+    
+    /**
+     * Key of a full-text search term, for its cached total (PageTotals).
+     * 
+     * Example: "llm 에이전트"
+     */
+    public static String articleFulltextFilterKey(String query) {
+        return query != null ? query.trim().toLowerCase() : "";
+    }
+    
     // ========== Git Repository Domain Keys ==========
     
     /**
@@ -118,6 +154,27 @@ public final class CacheKeyFactory {
             benchmarkKey, providerKey, creatorKey, licenseKey, priceKey, contextKey);
     }
     
+    /**
+     * Key of the filters of an LLM model search, for its cached total (PageTotals).
+     * 
+     * Dimensions: every filter; exact-match filters keep their case, the keyword is
+     * lowercased, decimals are compared by value (1.0 and 1.00 share a key).
+     * Example: "openai|all|all|10|all|gpt|all|all|all"
+     */
+    public static String llmModelSearchFilterKey(LLMModelSearchCondition condition) {
+        return String.join("|",
+            exactOrAll(condition.getProvider()),
+            exactOrAll(condition.getCreatorSlug()),
+            exactOrAll(condition.getLicense()),
+            decimalOrAll(condition.getMaxPrice()),
+            valueOrAll(condition.getMinContextWindow()),
+            condition.getKeyword() != null && !condition.getKeyword().isBlank() ? condition.getKeyword().toLowerCase() : "all",
+            valueOrAll(condition.getReleaseDateFrom()),
+            valueOrAll(condition.getReleaseDateTo()),
+            decimalOrAll(condition.getMinScore())
+        );
+    }
+    
     /**
      * Key for all benchmarks endpoint (public, unsegmented by user).
      * 
@@ -144,6 +201,21 @@ public final class CacheKeyFactory {
         return value.trim().toLowerCase();
     }
     
+    /**
+     * Filters compared exactly by the query: blank means unfiltered, otherwise unchanged.
+     */
+    private static String exactOrAll(String value) {
+        return value != null && !value.isBlank() ? value : "all";
+    }
+    
+    private static String valueOrAll(Object value) {
+        return value != null ? value.toString() : "all";
+    }
+    
+    private static String decimalOrAll(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros().toPlainString() : "all";
+    }
+    
     /**
      * Normalize a list of strings to prevent key drift from order variations.
      * 
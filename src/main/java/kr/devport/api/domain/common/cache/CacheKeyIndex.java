@@ -0,0 +1,44 @@
+package kr.devport.api.domain.common.cache;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Reverse index from entry tags (see CacheEntryTags) to the cache keys carrying them.
+ *
+ * Maintained when TieredCache stores a value, and drained by targeted invalidation
+ * to evict only the keys touched by a change.
+ */
+public interface CacheKeyIndex {
+
+    /**
+     * Index that records nothing. Targeted invalidation falls back to clearing whole caches.
+     */
+    CacheKeyIndex DISABLED = new CacheKeyIndex() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(String cacheName, Object key, Set<String> tags) {
+        }
+
+        @Override
+        public Set<String> drain(String cacheName, Collection<String> tags) {
+            return Set.of();
+        }
+    };
+
+    boolean isEnabled();
+
+    /**
+     * Adds the key under each of the tags.
+     */
+    void record(String cacheName, Object key, Set<String> tags);
+
+    /**
+     * Removes and returns the keys indexed under any of the tags.
+     */
+    Set<String> drain(String cacheName, Collection<String> tags);
+}
@@ -0,0 +1,62 @@
+package kr.devport.api.domain.common.cache;
+
+/**
+ * Cross-node lease that lets a single node recompute a missing cache entry.
+ *
+ * Nodes that fail to acquire the lease poll L2 for the value written by the holder
+ * for up to {@link #maxWaitMillis()}, then load locally (fail open).
+ */
+public interface CacheLeaseLock {
+
+    /**
+     * Token returned when no lease is involved (disabled, or Redis unavailable).
+     * Releasing it is a no-op.
+     */
+    String NO_LEASE = "";
+
+    /**
+     * Lease that always lets the caller load. Used when cross-node coordination is off.
+     */
+    CacheLeaseLock DISABLED = new CacheLeaseLock() {
+        @Override
+        public String tryAcquire(String cacheName, Object key) {
+            return NO_LEASE;
+        }
+
+        @Override
+        public void release(String cacheName, Object key, String token) {
+        }
+
+        @Override
+        public long maxWaitMillis() {
+            return 0;
+        }
+
+        @Override
+        public long pollIntervalMillis() {
+            return 0;
+        }
+    };
+
+    /**
+     * Tries to take the lease for a cache key.
+     *
+     * @return release token if the caller should load, or null if another node holds the lease
+     */
+    String tryAcquire(String cacheName, Object key);
+
+    /**
+     * Releases a lease taken by {@link #tryAcquire}, only if still owned by the token.
+     */
+    void release(String cacheName, Object key, String token);
+
+    /**
+     * Maximum time a non-holder waits for the holder's value before loading itself.
+     */
+    long maxWaitMillis();
+
+    /**
+     * Interval between L2 lookups while waiting for the holder.
+     */
+    long pollIntervalMillis();
+}
@@ -0,0 +1,17 @@
+package kr.devport.api.domain.common.cache;
+
+/**
+ * Callback for every loader invocation of a TieredCache (foreground or background refresh).
+ */
+@FunctionalInterface
+public interface CacheLoadObserver {
+
+    CacheLoadObserver NONE = (durationNanos, success) -> {
+    };
+
+    /**
+     * @param durationNanos time spent in the loader
+     * @param success       false if the loader threw
+     */
+    void onLoad(long durationNanos, boolean success);
+}
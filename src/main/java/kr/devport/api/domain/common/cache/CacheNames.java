@@ -9,18 +9,29 @@ public final class CacheNames {
     // Article domain caches
     public static final String ARTICLES = "articles";
     public static final String TRENDING_TICKER = "trendingTicker";
+    // Per-entity ArticleResponse, keyed by article id (ARTICLES holds id pages only)
+    public static final String ARTICLE_ENTITIES = "articleEntities";
     
     // Git repository domain caches
     public static final String GIT_REPOS = "gitRepos";
     public static final String TRENDING_GIT_REPOS = "trendingGitRepos";
     public static final String GIT_REPOS_BY_LANGUAGE = "gitReposByLanguage";
     public static final String GITHUB_TRENDING = "githubTrending";
+    // Per-entity GitRepoResponse, keyed by repo id (GIT_REPOS/TRENDING_GIT_REPOS hold id pages only)
+    public static final String GIT_REPO_ENTITIES = "gitRepoEntities";
     
     // LLM domain caches
     public static final String LLM_LEADERBOARD = "llmLeaderboard";
     public static final String LLM_BENCHMARKS = "benchmarks";
     public static final String LLM_MODELS = "llmModels";
     
+    // Pre-serialized HTTP response bodies (ResponseBodyCache), keyed like their source cache
+    public static final String ARTICLES_BODY = "articlesBody";
+    public static final String GIT_REPOS_BODY = "gitReposBody";
+    public static final String TRENDING_GIT_REPOS_BODY = "trendingGitReposBody";
+    public static final String GIT_REPOS_BY_LANGUAGE_BODY = "gitReposByLanguageBody";
+    public static final String LLM_LEADERBOARD_BODY = "llmLeaderboardBody";
+    
     private CacheNames() {
         throw new UnsupportedOperationException("This is a constants class and cannot be instantiated");
     }
@@ -0,0 +1,73 @@
+package kr.devport.api.domain.common.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Probabilistic early recomputation (XFetch) of cache entries close to expiry.
+ *
+ * A read of an entry within the last {@code window} fraction of its TTL triggers a
+ * background refresh with probability {@code exp(-remaining / (loadTime * beta))}:
+ * entries that are slow to recompute start refreshing earlier, and the more often a
+ * key is read, the earlier one of its reads wins. Hot keys are therefore recomputed
+ * before they expire while rarely read keys simply expire.
+ *
+ * See Vattani et al., "Optimal Probabilistic Cache Stampede Prevention" (VLDB 2015).
+ */
+public final class CacheRefreshAhead {
+
+    /**
+     * No early refresh; entries expire at their TTL.
+     */
+    public static final CacheRefreshAhead DISABLED = new CacheRefreshAhead(false, 0, 0);
+
+    private final boolean enabled;
+    private final double window;
+    private final double beta;
+
+    /**
+     * @param window fraction of the TTL (0..1] at the end of which reads may refresh
+     * @param beta   weight of the observed load time; higher refreshes earlier
+     */
+    public CacheRefreshAhead(boolean enabled, double window, double beta) {
+        if (enabled && (window <= 0 || window > 1)) {
+            throw new IllegalArgumentException("Refresh-ahead window must be in (0, 1]: " + window);
+        }
+        if (enabled && beta <= 0) {
+            throw new IllegalArgumentException("Refresh-ahead beta must be positive: " + beta);
+        }
+        this.enabled = enabled;
+        this.window = window;
+        this.beta = beta;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Decides whether a read should refresh the entry in the background.
+     *
+     * @param remainingMillis time until the entry expires (may be negative)
+     * @param ttlMillis       TTL the entry was stored with
+     * @param loadNanos       time it took to compute the entry
+     */
+    public boolean shouldRefresh(long remainingMillis, long ttlMillis, long loadNanos) {
+        return shouldRefresh(remainingMillis, ttlMillis, loadNanos, ThreadLocalRandom.current().nextDouble());
+    }
+
+    boolean shouldRefresh(long remainingMillis, long ttlMillis, long loadNanos, double random) {
+        if (!enabled) {
+            return false;
+        }
+        if (remainingMillis <= 0) {
+            return true;
+        }
+        if (remainingMillis > ttlMillis * window) {
+            return false;
+        }
+
+        // XFetch: now - delta * beta * ln(random) >= expiry
+        double gapMillis = -(loadNanos / 1_000_000.0) * beta * Math.log(random);
+        return gapMillis >= remainingMillis;
+    }
+}
@@ -0,0 +1,21 @@
+package kr.devport.api.domain.common.cache;
+
+/**
+ * Per-scope version counters advanced after every successful invalidation of the scope.
+ *
+ * Unlike CacheGenerations (one counter per cache, bumped by clear()), a scope version
+ * also moves on targeted evictions and for scopes without server-side caches, so it can
+ * stand in for "the data behind this scope changed" (see ScopeETagInterceptor).
+ */
+public interface CacheScopeVersions {
+
+    /**
+     * Locally known version of the scope (no remote round trip).
+     */
+    long current(CacheScope scope);
+
+    /**
+     * Atomically advances the scope's version. UNKNOWN advances every scope.
+     */
+    void bump(CacheScope scope);
+}
@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Explicit TTL ownership for all critical caches.
@@ -13,25 +14,58 @@ public final class CacheTtlPolicy {
     
     private static final Map<String, Duration> TTL_MAP;
     
+    private static final Map<String, Integer> LOCAL_MAX_ENTRIES_MAP;
+    
     static {
         Map<String, Duration> map = new HashMap<>();
         
         // Article caches - moderate TTL for frequently updated content
         map.put(CacheNames.ARTICLES, Duration.ofMinutes(10));
         map.put(CacheNames.TRENDING_TICKER, Duration.ofMinutes(5));
+        map.put(CacheNames.ARTICLE_ENTITIES, Duration.ofMinutes(10));
         
         // Git repository caches - varied TTL based on update frequency
         map.put(CacheNames.GIT_REPOS, Duration.ofMinutes(10));
         map.put(CacheNames.TRENDING_GIT_REPOS, Duration.ofHours(1));
         map.put(CacheNames.GIT_REPOS_BY_LANGUAGE, Duration.ofMinutes(30));
         map.put(CacheNames.GITHUB_TRENDING, Duration.ofHours(1));
+        map.put(CacheNames.GIT_REPO_ENTITIES, Duration.ofMinutes(10));
         
         // LLM caches - longer TTL for relatively stable data
         map.put(CacheNames.LLM_LEADERBOARD, Duration.ofHours(24));
         map.put(CacheNames.LLM_BENCHMARKS, Duration.ofHours(24));
         map.put(CacheNames.LLM_MODELS, Duration.ofHours(24));
         
+        // Response body caches - same TTL as the cache they are rendered from
+        map.put(CacheNames.ARTICLES_BODY, map.get(CacheNames.ARTICLES));
+        map.put(CacheNames.GIT_REPOS_BODY, map.get(CacheNames.GIT_REPOS));
+        map.put(CacheNames.TRENDING_GIT_REPOS_BODY, map.get(CacheNames.TRENDING_GIT_REPOS));
+        map.put(CacheNames.GIT_REPOS_BY_LANGUAGE_BODY, map.get(CacheNames.GIT_REPOS_BY_LANGUAGE));
+        map.put(CacheNames.LLM_LEADERBOARD_BODY, map.get(CacheNames.LLM_LEADERBOARD));
+        
         TTL_MAP = Collections.unmodifiableMap(map);
+        
+        // In-process (L1) capacity - sized by payload: article/repo entities carry full Korean bodies,
+        // id pages and ticker/benchmark entries are tiny
+        Map<String, Integer> localMap = new HashMap<>();
+        localMap.put(CacheNames.ARTICLES, 256);
+        localMap.put(CacheNames.TRENDING_TICKER, 16);
+        localMap.put(CacheNames.ARTICLE_ENTITIES, 1024);
+        localMap.put(CacheNames.GIT_REPOS, 256);
+        localMap.put(CacheNames.TRENDING_GIT_REPOS, 128);
+        localMap.put(CacheNames.GIT_REPO_ENTITIES, 1024);
+        localMap.put(CacheNames.GIT_REPOS_BY_LANGUAGE, 64);
+        localMap.put(CacheNames.GITHUB_TRENDING, 16);
+        localMap.put(CacheNames.LLM_LEADERBOARD, 128);
+        localMap.put(CacheNames.LLM_BENCHMARKS, 4);
+        localMap.put(CacheNames.LLM_MODELS, 128);
+        localMap.put(CacheNames.ARTICLES_BODY, 64);
+        localMap.put(CacheNames.GIT_REPOS_BODY, 64);
+        localMap.put(CacheNames.TRENDING_GIT_REPOS_BODY, 32);
+        localMap.put(CacheNames.GIT_REPOS_BY_LANGUAGE_BODY, 64);
+        localMap.put(CacheNames.LLM_LEADERBOARD_BODY, 128);
+        
+        LOCAL_MAX_ENTRIES_MAP = Collections.unmodifiableMap(localMap);
     }
     
     /**
@@ -39,6 +73,22 @@ public final class CacheTtlPolicy {
      */
     public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
     
+    /**
+     * Upper bound for in-process (L1) entry lifetime.
+     * Bounds cross-node staleness if an L1 invalidation broadcast is lost.
+     */
+    public static final Duration MAX_LOCAL_TTL = Duration.ofSeconds(60);
+    
+    /**
+     * Default L1 capacity for caches not explicitly defined
+     */
+    public static final int DEFAULT_LOCAL_MAX_ENTRIES = 32;
+    
+    /**
+     * Maximum fraction by which an entry's TTL is shortened (see getEntryTtl).
+     */
+    public static final double TTL_JITTER = 0.1;
+    
     /**
      * Returns the TTL duration for the given cache name.
      * If not explicitly defined, returns DEFAULT_TTL.
@@ -47,6 +97,36 @@ public final class CacheTtlPolicy {
         return TTL_MAP.getOrDefault(cacheName, DEFAULT_TTL);
     }
     
+    /**
+     * Returns the TTL of a single entry: the cache TTL shortened by up to TTL_JITTER,
+     * spread by key so entries written together (e.g. by a warm-up) do not expire together.
+     * Deterministic per key, so the Redis writer and TieredCache agree on the expiry;
+     * never exceeds getTtl, so the configured TTL stays an upper bound on staleness.
+     */
+    public static Duration getEntryTtl(String cacheName, Object key) {
+        Duration ttl = getTtl(cacheName);
+        // Fibonacci hashing: top 10 bits of the scrambled hash, spread over [0, 1)
+        double spread = ((Objects.hashCode(key) * 0x9E3779B9) >>> 22) / 1024.0;
+        return ttl.minusMillis((long) (ttl.toMillis() * TTL_JITTER * spread));
+    }
+    
+    /**
+     * Returns the in-process (L1) TTL for the given cache name:
+     * the cache TTL capped at MAX_LOCAL_TTL.
+     */
+    public static Duration getLocalTtl(String cacheName) {
+        Duration ttl = getTtl(cacheName);
+        return ttl.compareTo(MAX_LOCAL_TTL) < 0 ? ttl : MAX_LOCAL_TTL;
+    }
+    
+    /**
+     * Returns the maximum number of in-process (L1) entries for the given cache name.
+     * If not explicitly defined, returns DEFAULT_LOCAL_MAX_ENTRIES.
+     */
+    public static int getLocalMaxEntries(String cacheName) {
+        return LOCAL_MAX_ENTRIES_MAP.getOrDefault(cacheName, DEFAULT_LOCAL_MAX_ENTRIES);
+    }
+    
     /**
      * Returns all cache configurations as a map.
      * Used for initializing the cache manager.
@@ -0,0 +1,92 @@
+package kr.devport.api.domain.common.cache;
+
+import kr.devport.api.domain.common.pagination.PageTotal;
+import org.springframework.data.domain.Slice;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of a cached list (NormalizedListCache): ordered entity ids plus paging metadata.
+ * {@code totalExact} is false when the total is a reused count or a planner estimate.
+ *
+ * List caches store this instead of full DTOs, so an entity is cached once (per-entity
+ * cache) however many pages contain it. Ids are stored as zigzag-encoded varint deltas
+ * ({@code encodedIds}, Base64 in JSON): a page of 20 ids takes a few dozen bytes.
+ */
+public record CachedIdPage(
+    byte[] encodedIds,
+    long totalElements,
+    int totalPages,
+    int currentPage,
+    boolean hasMore,
+    boolean totalExact
+) {
+
+    /**
+     * @param slice ids of the page, hasNext from the extra row (see Slices)
+     * @param total total of the list for the slice (see PageTotals)
+     */
+    public static CachedIdPage of(Slice<Long> slice, PageTotal total) {
+        return new CachedIdPage(
+            encode(slice.getContent()),
+            total.count(),
+            total.totalPages(slice.getSize()),
+            slice.getNumber(),
+            slice.hasNext(),
+            total.exact()
+        );
+    }
+
+    /**
+     * Ids of the page in list order.
+     */
+    public List<Long> ids() {
+        return decode(encodedIds);
+    }
+
+    static byte[] encode(List<Long> ids) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(ids.size() * 3);
+        long previous = 0;
+        for (Long id : ids) {
+            long delta = id - previous;
+            previous = id;
+            // Zigzag: small negative deltas stay small
+            long zigzag = (delta << 1) ^ (delta >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                out.write((int) ((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            out.write((int) zigzag);
+        }
+        return out.toByteArray();
+    }
+
+    static List<Long> decode(byte[] encoded) {
+        List<Long> ids = new ArrayList<>();
+        if (encoded == null) {
+            return ids;
+        }
+
+        long previous = 0;
+        int i = 0;
+        while (i < encoded.length) {
+            long zigzag = 0;
+            int shift = 0;
+            byte current;
+            do {
+                if (i >= encoded.length || shift > 63) {
+                    throw new IllegalArgumentException("Truncated id list");
+                }
+                current = encoded[i++];
+                zigzag |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            ids.add(previous);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,184 @@
+package kr.devport.api.domain.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Guards a Redis-backed cache with the RedisCircuitBreaker.
+ *
+ * Reads and writes degrade instead of failing: a short-circuited or failed read is a miss,
+ * a short-circuited or failed write is dropped (TieredCache still fills its L1).
+ * Evictions and clears that could not reach Redis mark the cache dirty; a failed one
+ * still throws so callers can retry or mark their scope uncertain, while one skipped
+ * because the breaker is open returns normally. A dirty cache is cleared in full before
+ * the next read is served from Redis, so entries that missed an invalidation during the
+ * outage are never returned afterwards.
+ */
+@Slf4j
+public class CircuitBreakingCache implements Cache, BulkReadCache {
+
+    private final Cache delegate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    public CircuitBreakingCache(Cache delegate, RedisCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (!circuitBreaker.allowRequest() || !clearIfDirty()) {
+            return null;
+        }
+        try {
+            return call(() -> delegate.get(key));
+        } catch (RuntimeException e) {
+            log.debug("Redis read failed for cache={}, key={}; treating as miss", getName(), key, e);
+            return null;
+        }
+    }
+
+    @Override
+    public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+        if (keys.isEmpty() || !circuitBreaker.allowRequest() || !clearIfDirty()) {
+            return Map.of();
+        }
+        try {
+            return call(() -> BulkReadCache.getAll(delegate, keys));
+        } catch (RuntimeException e) {
+            log.debug("Redis bulk read failed for cache={}; treating {} keys as misses", getName(), keys.size(), e);
+            return Map.of();
+        }
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return type != null ? type.cast(value) : null;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            @SuppressWarnings("unchecked")
+            T value = (T) wrapper.get();
+            return value;
+        }
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (!circuitBreaker.allowRequest()) {
+            return;
+        }
+        try {
+            call(() -> {
+                delegate.put(key, value);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.debug("Redis write failed for cache={}, key={}; entry stays local", getName(), key, e);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (!circuitBreaker.allowRequest()) {
+            dirty.set(true);
+            return;
+        }
+        try {
+            call(() -> {
+                delegate.evict(key);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            throw e;
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (!circuitBreaker.allowRequest()) {
+            dirty.set(true);
+            return;
+        }
+        try {
+            call(() -> {
+                delegate.clear();
+                return null;
+            });
+            dirty.set(false);
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            throw e;
+        }
+    }
+
+    boolean isDirty() {
+        return dirty.get();
+    }
+
+    /**
+     * @return false if the cache is dirty and could not be cleared
+     */
+    private boolean clearIfDirty() {
+        if (!dirty.get()) {
+            return true;
+        }
+        try {
+            call(() -> {
+                delegate.clear();
+                return null;
+            });
+            dirty.set(false);
+            log.info("Cleared cache={} after invalidations missed during a Redis outage", getName());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to clear dirty cache={}; bypassing Redis for this read", getName(), e);
+            return false;
+        }
+    }
+
+    private <T> T call(Supplier<T> operation) {
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = operation.get();
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+        circuitBreaker.onSuccess(System.nanoTime() - start);
+        return result;
+    }
+}
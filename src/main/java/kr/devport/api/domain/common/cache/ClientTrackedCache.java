@@ -0,0 +1,198 @@
+package kr.devport.api.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Keeps values read from a Redis-backed cache in memory until Redis invalidates them.
+ *
+ * Entries are keyed like the Redis key suffix ({@code <cacheName>::<key>}), so only String
+ * and Number keys are tracked; other keys always go to Redis. A read stores its value
+ * only if no invalidation of this cache arrived meanwhile. While tracking is inactive
+ * (connection lost, not yet enabled) every read goes to Redis.
+ */
+class ClientTrackedCache implements Cache, BulkReadCache {
+
+    private final Cache delegate;
+    private final BooleanSupplier trackingActive;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> entries;
+
+    /**
+     * Incremented by every invalidation of this cache.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    ClientTrackedCache(Cache delegate, BooleanSupplier trackingActive, long maxEntries, Duration maxAge) {
+        this.delegate = delegate;
+        this.trackingActive = trackingActive;
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(maxAge)
+            .build();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (!trackable(key) || !trackingActive.getAsBoolean()) {
+            return delegate.get(key);
+        }
+
+        String trackedKey = key.toString();
+        ValueWrapper tracked = entries.getIfPresent(trackedKey);
+        if (tracked != null) {
+            hits.increment();
+            return tracked;
+        }
+
+        misses.increment();
+        long seen = invalidations.get();
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            entries.put(trackedKey, wrapper);
+            // An invalidation racing the read may concern the value just stored
+            if (invalidations.get() != seen) {
+                entries.invalidate(trackedKey);
+            }
+        }
+        return wrapper;
+    }
+
+    @Override
+    public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+        if (!trackingActive.getAsBoolean()) {
+            return BulkReadCache.getAll(delegate, keys);
+        }
+
+        Map<Object, ValueWrapper> found = new HashMap<>();
+        List<Object> remaining = new ArrayList<>();
+        for (Object key : keys) {
+            ValueWrapper tracked = trackable(key) ? entries.getIfPresent(key.toString()) : null;
+            if (tracked != null) {
+                hits.increment();
+                found.put(key, tracked);
+            } else {
+                remaining.add(key);
+            }
+        }
+        if (remaining.isEmpty()) {
+            return found;
+        }
+
+        misses.add(remaining.size());
+        long seen = invalidations.get();
+        Map<Object, ValueWrapper> read = BulkReadCache.getAll(delegate, remaining);
+        read.forEach((key, wrapper) -> {
+            if (wrapper != null && trackable(key)) {
+                entries.put(key.toString(), wrapper);
+            }
+        });
+        if (invalidations.get() != seen) {
+            read.keySet().forEach(key -> entries.invalidate(String.valueOf(key)));
+        }
+        found.putAll(read);
+        return found;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return type != null ? type.cast(value) : null;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            @SuppressWarnings("unchecked")
+            T value = (T) wrapper.get();
+            return value;
+        }
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        invalidate(String.valueOf(key));
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidate(String.valueOf(key));
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        invalidateAll();
+        delegate.clear();
+    }
+
+    /**
+     * Drops the entry of a key Redis reported as changed.
+     */
+    void invalidate(String trackedKey) {
+        invalidations.incrementAndGet();
+        entries.invalidate(trackedKey);
+    }
+
+    /**
+     * Drops every entry (flush, tracking restarted or lost).
+     */
+    void invalidateAll() {
+        invalidations.incrementAndGet();
+        entries.invalidateAll();
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    long size() {
+        return entries.estimatedSize();
+    }
+
+    private static boolean trackable(Object key) {
+        return key instanceof String || key instanceof Number;
+    }
+}
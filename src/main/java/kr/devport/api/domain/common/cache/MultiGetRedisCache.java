@@ -0,0 +1,66 @@
+package kr.devport.api.domain.common.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RedisCache that reads many keys with a single MGET.
+ *
+ * Keys and values go through the cache's own key prefix and serializers, so entries
+ * are interchangeable with those written by {@link #put}.
+ */
+public class MultiGetRedisCache extends RedisCache implements BulkReadCache {
+
+    private final RedisConnectionFactory connectionFactory;
+
+    public MultiGetRedisCache(
+        String name,
+        RedisCacheWriter cacheWriter,
+        RedisCacheConfiguration cacheConfiguration,
+        RedisConnectionFactory connectionFactory
+    ) {
+        super(name, cacheWriter, cacheConfiguration);
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> requested = new ArrayList<>(keys);
+        byte[][] redisKeys = new byte[requested.size()][];
+        for (int i = 0; i < redisKeys.length; i++) {
+            redisKeys[i] = serializeCacheKey(createCacheKey(requested.get(i)));
+        }
+
+        List<byte[]> values;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            values = connection.stringCommands().mGet(redisKeys);
+        }
+
+        Map<Object, ValueWrapper> found = new HashMap<>();
+        if (values == null) {
+            return found;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            byte[] value = values.get(i);
+            // Unreadable entries deserialize to null: a miss, as in RedisCache.get
+            ValueWrapper wrapper = value != null ? toValueWrapper(deserializeCacheValue(value)) : null;
+            if (wrapper != null) {
+                found.put(requested.get(i), wrapper);
+            }
+        }
+        return found;
+    }
+}
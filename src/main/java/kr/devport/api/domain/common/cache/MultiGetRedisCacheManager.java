@@ -0,0 +1,35 @@
+package kr.devport.api.domain.common.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.util.Map;
+
+/**
+ * RedisCacheManager whose caches support MGET bulk reads (MultiGetRedisCache).
+ */
+public class MultiGetRedisCacheManager extends RedisCacheManager {
+
+    private final RedisConnectionFactory connectionFactory;
+
+    public MultiGetRedisCacheManager(
+        RedisCacheWriter cacheWriter,
+        RedisConnectionFactory connectionFactory,
+        RedisCacheConfiguration defaultCacheConfiguration,
+        Map<String, RedisCacheConfiguration> initialCacheConfigurations
+    ) {
+        super(cacheWriter, defaultCacheConfiguration, true, initialCacheConfigurations);
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+        RedisCacheConfiguration configuration = cacheConfiguration != null
+            ? cacheConfiguration
+            : getDefaultCacheConfiguration();
+        return new MultiGetRedisCache(name, getCacheWriter(), configuration, connectionFactory);
+    }
+}
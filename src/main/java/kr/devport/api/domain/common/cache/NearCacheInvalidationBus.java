@@ -0,0 +1,86 @@
+package kr.devport.api.domain.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub channel for cross-node L1 invalidation.
+ *
+ * Every TieredCache evict/clear (CacheInvalidationService, @CacheEvict, admin) is
+ * published here; other nodes drop the matching L1 entries. Messages sent by this
+ * node are ignored on receipt since the local L1 is already invalidated.
+ *
+ * Message format: {@code <nodeId>|C|<cacheName>} or {@code <nodeId>|E|<cacheName>|<key>}
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NearCacheInvalidationBus implements NearCacheInvalidationPublisher, MessageListener {
+
+    public static final String CHANNEL = "devport:cache:l1-invalidation";
+
+    private static final String SEPARATOR = "|";
+    private static final String OP_CLEAR = "C";
+    private static final String OP_EVICT = "E";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile TieredCacheManager cacheManager;
+
+    /**
+     * Binds the cache manager whose L1 entries are invalidated on incoming messages.
+     */
+    public void bind(TieredCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void publish(String cacheName, Object key) {
+        String payload = key == null
+            ? String.join(SEPARATOR, nodeId, OP_CLEAR, cacheName)
+            : String.join(SEPARATOR, nodeId, OP_EVICT, cacheName, key.toString());
+
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, payload);
+        } catch (Exception e) {
+            // L1 TTL bounds staleness on other nodes; never fail the caller
+            log.warn("Failed to publish L1 invalidation for cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = payload.split("\\" + SEPARATOR, 4);
+
+        if (parts.length < 3) {
+            log.warn("Ignoring malformed L1 invalidation message: {}", payload);
+            return;
+        }
+        if (nodeId.equals(parts[0]) || cacheManager == null) {
+            return;
+        }
+
+        TieredCache cache = cacheManager.getTieredCache(parts[2]);
+        if (cache == null) {
+            return;
+        }
+
+        if (OP_CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+            log.debug("Cleared L1 for cache={} (from node={})", parts[2], parts[0]);
+        } else if (OP_EVICT.equals(parts[1]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+            log.debug("Evicted L1 key={} in cache={} (from node={})", parts[3], parts[2], parts[0]);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package kr.devport.api.domain.common.cache;
+
+/**
+ * Broadcasts L1 invalidations of a TieredCache to the other API nodes.
+ */
+@FunctionalInterface
+public interface NearCacheInvalidationPublisher {
+
+    /**
+     * @param cacheName Cache whose L1 entries must be dropped
+     * @param key Evicted key, or null when the whole cache was cleared
+     */
+    void publish(String cacheName, Object key);
+}
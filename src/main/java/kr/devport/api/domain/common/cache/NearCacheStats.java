@@ -0,0 +1,29 @@
+package kr.devport.api.domain.common.cache;
+
+/**
+ * Point-in-time hit counters of a TieredCache.
+ *
+ * Ratios are computed over all lookups (l1Hits + l2Hits + misses).
+ */
+public record NearCacheStats(
+    String cacheName,
+    long l1Hits,
+    long l2Hits,
+    long misses,
+    long l1Size
+) {
+
+    public long requests() {
+        return l1Hits + l2Hits + misses;
+    }
+
+    public double l1HitRatio() {
+        long requests = requests();
+        return requests == 0 ? 0.0 : (double) l1Hits / requests;
+    }
+
+    public double l2HitRatio() {
+        long requests = requests();
+        return requests == 0 ? 0.0 : (double) l2Hits / requests;
+    }
+}
@@ -0,0 +1,53 @@
+package kr.devport.api.domain.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Normalized caching of paginated lists: the list cache holds only the ordered ids of a
+ * page (CachedIdPage) and each entity's DTO lives once in a per-entity cache.
+ *
+ * A page is rendered by reading its id list, then the entities from L1, then the rest
+ * with one Redis MGET, then the remaining ones from the database with one query
+ * ({@link TieredCache#getAll}). A change to one entity only needs its per-entity entry
+ * evicted (tag {@code id:<id>}, see CacheEntryTags).
+ */
+@Component
+@RequiredArgsConstructor
+public class NormalizedListCache {
+
+    private final ReadThroughCache readThroughCache;
+
+    /**
+     * Cached id page for the key, loaded with the given id query on a miss
+     * (single-flight, see ReadThroughCache).
+     */
+    public CachedIdPage idPage(String cacheName, String key, Supplier<CachedIdPage> idQuery) {
+        return readThroughCache.get(cacheName, key, idQuery);
+    }
+
+    /**
+     * @param loader loads the DTOs of the given ids (one {@code IN} query), keyed by id
+     * @return DTOs in id order; ids that no longer exist are skipped
+     */
+    public <T> List<T> entities(String cacheName, List<Long> ids, Function<Collection<Long>, Map<Long, T>> loader) {
+        Map<Long, T> found = readThroughCache.cache(cacheName).getAll(ids, (Set<Long> missing) -> readThroughCache.load(() -> loader.apply(missing)));
+
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T value = found.get(id);
+            if (value != null) {
+                ordered.add(value);
+            }
+        }
+        return ordered;
+    }
+}
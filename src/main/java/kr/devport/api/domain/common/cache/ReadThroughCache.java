@@ -0,0 +1,77 @@
+package kr.devport.api.domain.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Programmatic read-through caching for service methods, used instead of
+ * {@code @Cacheable(key = "T(...CacheKeyFactory)...", sync = true)}.
+ *
+ * The key is built by a plain CacheKeyFactory call at the call site and the cache's
+ * scope is resolved once when its TieredCache is created (CacheGroups.scopeOf), so a hit
+ * costs a key build and an L1 lookup: no proxy, SpEL evaluation, or scope-name parsing.
+ * Semantics match @Cacheable(sync = true): misses are single-flight per key, fallback
+ * modes apply, and the loader's own runtime exception is rethrown unwrapped.
+ *
+ * Loaders run in a read-only transaction (joining the caller's, if any), so callers
+ * should not open one themselves: a hit then never touches the database. Cached entry
+ * points of {@code @Transactional(readOnly = true)} services are declared
+ * {@code @Transactional(propagation = Propagation.SUPPORTS)}.
+ *
+ * <pre>
+ * {@code
+ * return readThroughCache.get(
+ *     CacheNames.TRENDING_TICKER,
+ *     CacheKeyFactory.trendingTickerKey(limit),
+ *     () -> loadTrendingTicker(limit));
+ * }
+ * </pre>
+ */
+@Component
+public class ReadThroughCache {
+
+    private final TieredCacheManager cacheManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReadThroughCache(TieredCacheManager cacheManager, PlatformTransactionManager transactionManager) {
+        this.cacheManager = cacheManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * @param cacheName CacheNames constant
+     * @param key       CacheKeyFactory key
+     * @param loader    loads the value on a miss; a null result is returned but not cached
+     */
+    public <V> V get(String cacheName, String key, Supplier<V> loader) {
+        try {
+            return cache(cacheName).get(key, () -> load(loader));
+        } catch (Cache.ValueRetrievalException e) {
+            // Surface the service's own exception, as @Cacheable(sync = true) does
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a loader in a read-only transaction.
+     */
+    <V> V load(Supplier<V> loader) {
+        return readOnlyTransaction.execute(status -> loader.get());
+    }
+
+    TieredCache cache(String cacheName) {
+        TieredCache cache = cacheManager.getTieredCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("Unknown cache: " + cacheName);
+        }
+        return cache;
+    }
+}
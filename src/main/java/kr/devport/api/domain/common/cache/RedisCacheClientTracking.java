@@ -0,0 +1,253 @@
+package kr.devport.api.domain.common.cache;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side caching for the caches listed in {@code app.cache.client-tracking.caches},
+ * invalidated by Redis through CLIENT TRACKING in broadcast mode.
+ *
+ * A dedicated RESP3 Lettuce connection subscribes to the key prefixes of the tracked
+ * caches ({@code <cacheName>::}). Redis pushes an invalidation whenever such a key is
+ * written, deleted or expires, whichever node or process changed it, and a flush
+ * drops everything. Reads keep going through the regular cache writer; only the
+ * invalidations use the tracking connection. When that connection drops, all tracked
+ * entries are discarded and tracking is re-enabled by the next
+ * {@code app.cache.client-tracking.check-interval-ms} check, so no invalidation sent
+ * in between is missed.
+ *
+ * Requires Redis 6+ and a standalone Lettuce connection factory; otherwise tracked
+ * caches read from Redis as before. Metrics:
+ * {@code cache.client_tracking.requests{cache, result=hit|miss}},
+ * {@code cache.client_tracking.invalidations} and {@code cache.client_tracking.active}.
+ */
+@Component
+@Slf4j
+public class RedisCacheClientTracking implements CacheClientTracking {
+
+    private static final String PREFIX_SEPARATOR = "::";
+
+    private final RedisConnectionFactory connectionFactory;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ClientTrackedCache> caches = new ConcurrentHashMap<>();
+    private final LongAdder invalidations = new LongAdder();
+
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile boolean active;
+    private volatile boolean unsupportedLogged;
+
+    @Value("${app.cache.client-tracking.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.cache.client-tracking.caches:}")
+    private Set<String> trackedCacheNames = Set.of();
+
+    @Value("${app.cache.client-tracking.max-entries:1000}")
+    private long maxEntries = 1000;
+
+    public RedisCacheClientTracking(RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry) {
+        this.connectionFactory = connectionFactory;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("cache.client_tracking.active", this, tracking -> tracking.active ? 1 : 0)
+            .description("Whether Redis client-side caching invalidations are being received")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.client_tracking.invalidations", invalidations, LongAdder::sum)
+            .description("Keys invalidated by Redis tracking push messages")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Cache decorate(Cache remote) {
+        String name = remote.getName();
+        if (!enabled || !trackedCacheNames.contains(name)) {
+            return remote;
+        }
+
+        // Tracking covers all configured prefixes, so caches created later need no re-enable
+        return caches.computeIfAbsent(name, cacheName -> {
+            ClientTrackedCache tracked = new ClientTrackedCache(
+                remote, () -> active, maxEntries, CacheTtlPolicy.getTtl(cacheName));
+            registerMetrics(cacheName, tracked);
+            return tracked;
+        });
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startTracking() {
+        ensureTracking();
+    }
+
+    /**
+     * (Re-)enables tracking on a new or reconnected connection.
+     */
+    @Scheduled(
+        initialDelayString = "${app.cache.client-tracking.check-interval-ms:5000}",
+        fixedDelayString = "${app.cache.client-tracking.check-interval-ms:5000}"
+    )
+    public synchronized void ensureTracking() {
+        if (!enabled || active || trackedCacheNames.isEmpty()) {
+            return;
+        }
+
+        try {
+            StatefulRedisConnection<String, String> current = connection;
+            if (current == null) {
+                current = connect();
+                if (current == null) {
+                    return;
+                }
+                connection = current;
+            }
+
+            String[] prefixes = trackedCacheNames.stream()
+                .map(name -> name + PREFIX_SEPARATOR)
+                .toArray(String[]::new);
+            current.sync().clientTracking(TrackingArgs.Builder.enabled().bcast().prefixes(prefixes));
+
+            // Values read before tracking (re)started may have changed unnoticed
+            caches.values().forEach(ClientTrackedCache::invalidateAll);
+            active = true;
+            log.info("Redis client-side caching enabled for caches={}", trackedCacheNames);
+        } catch (Exception e) {
+            log.warn("Failed to enable Redis client tracking; tracked caches read from Redis", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        active = false;
+        StatefulRedisConnection<String, String> current = connection;
+        connection = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    private StatefulRedisConnection<String, String> connect() {
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuce)
+            || !(lettuce.getNativeClient() instanceof RedisClient client)) {
+            if (!unsupportedLogged) {
+                unsupportedLogged = true;
+                log.warn("Redis client tracking needs a standalone Lettuce connection; tracking disabled");
+            }
+            return null;
+        }
+
+        StatefulRedisConnection<String, String> created = client.connect(StringCodec.UTF8);
+        created.addListener(this::onPush);
+        client.addListener(new TrackingConnectionListener(created));
+        return created;
+    }
+
+    private void onPush(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (!(keys instanceof List<?> keyList)) {
+            // Null key list: FLUSHALL/FLUSHDB
+            invalidateAll();
+            return;
+        }
+
+        for (Object key : keyList) {
+            String redisKey = key instanceof ByteBuffer buffer ? StringCodec.UTF8.decodeKey(buffer) : String.valueOf(key);
+            int separator = redisKey.indexOf(PREFIX_SEPARATOR);
+            if (separator < 0) {
+                continue;
+            }
+            ClientTrackedCache cache = caches.get(redisKey.substring(0, separator));
+            if (cache != null) {
+                cache.invalidate(redisKey.substring(separator + PREFIX_SEPARATOR.length()));
+                invalidations.increment();
+            }
+        }
+    }
+
+    private void invalidateAll() {
+        caches.values().forEach(ClientTrackedCache::invalidateAll);
+    }
+
+    private void registerMetrics(String name, ClientTrackedCache cache) {
+        FunctionCounter.builder("cache.client_tracking.requests", cache, ClientTrackedCache::hits)
+            .tag("cache", name)
+            .tag("result", "hit")
+            .description("Redis reads answered from the client-side cache")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("cache.client_tracking.requests", cache, ClientTrackedCache::misses)
+            .tag("cache", name)
+            .tag("result", "miss")
+            .description("Redis reads of tracked caches that went to Redis")
+            .register(meterRegistry);
+
+        Gauge.builder("cache.client_tracking.size", cache, ClientTrackedCache::size)
+            .tag("cache", name)
+            .description("Approximate number of client-side cached entries")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Stops serving tracked entries as soon as the tracking connection drops: tracking
+     * state is lost with it, and invalidations sent meanwhile never arrive.
+     */
+    private final class TrackingConnectionListener implements RedisConnectionStateListener {
+
+        private final StatefulRedisConnection<String, String> trackingConnection;
+
+        TrackingConnectionListener(StatefulRedisConnection<String, String> trackingConnection) {
+            this.trackingConnection = trackingConnection;
+        }
+
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> redisConnection, SocketAddress socketAddress) {
+        }
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> redisConnection) {
+            if (redisConnection == trackingConnection) {
+                active = false;
+                invalidateAll();
+                log.warn("Redis client tracking connection lost; tracked caches read from Redis until re-enabled");
+            }
+        }
+
+        @Override
+        public void onRedisExceptionCaught(RedisChannelHandler<?, ?> redisConnection, Throwable cause) {
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package kr.devport.api.domain.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cluster-wide fallback state stored in a Redis hash ({@code devport:cache:fallback:state},
+ * field = scope, value = {@code <markedAtMillis>|<jobId>}).
+ *
+ * Reads use the local snapshot kept by CacheFallbackStateStore, so isUncertain stays
+ * in-process. The snapshot follows local marks/clears, change messages from other nodes
+ * and a periodic HGETALL sync that covers lost pub/sub messages and nodes that started
+ * after a mark. If Redis is unreachable, marks still apply locally: this node bypasses
+ * the cache even when others cannot be told, and publishes the mark again on each sync
+ * until Redis accepts it, the scope is cleared or the mark ages out.
+ *
+ * Message format: {@code <nodeId>|M|<scope>|<markedAtMillis>|<jobId>} or {@code <nodeId>|C|<scope>}
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache.fallback", name = "state-store", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCacheFallbackStateStore extends CacheFallbackStateStore implements MessageListener {
+
+    public static final String CHANNEL = "devport:cache:fallback-state";
+
+    private static final String STATE_KEY = "devport:cache:fallback:state";
+    private static final String SEPARATOR = "|";
+    private static final String OP_MARK = "M";
+    private static final String OP_CLEAR = "C";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Local marks Redis did not accept yet; a sync must not drop them for lack of a hash field.
+     */
+    private final Map<CacheScope, UncertaintyState> unpublished = new ConcurrentHashMap<>();
+
+    @Override
+    public void markUncertain(CacheScope scope, String jobId) {
+        super.markUncertain(scope, jobId);
+
+        UncertaintyState state = new UncertaintyState(jobId, System.currentTimeMillis());
+        unpublished.put(scope, state);
+        try {
+            publish(scope, state);
+        } catch (Exception e) {
+            log.warn("Failed to share uncertainty of scope={} (jobId={}); only this node bypasses the cache "
+                + "until the next sync publishes it", scope, jobId, e);
+        }
+    }
+
+    @Override
+    public void clearUncertainty(CacheScope scope, String jobId) {
+        super.clearUncertainty(scope, jobId);
+        unpublished.remove(scope);
+
+        try {
+            stringRedisTemplate.opsForHash().delete(STATE_KEY, scope.name());
+            stringRedisTemplate.convertAndSend(CHANNEL, String.join(SEPARATOR, nodeId, OP_CLEAR, scope.name()));
+        } catch (Exception e) {
+            log.warn("Failed to share cleared uncertainty of scope={} (jobId={}); other nodes keep it until "
+                + "it ages out", scope, jobId, e);
+        }
+    }
+
+    @Override
+    public boolean isClusterWide() {
+        return true;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = payload.split("\\" + SEPARATOR, 5);
+
+        if (parts.length < 3) {
+            log.warn("Ignoring malformed fallback state message: {}", payload);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        try {
+            CacheScope scope = CacheScope.valueOf(parts[2]);
+            if (OP_MARK.equals(parts[1]) && parts.length == 5) {
+                applyUncertain(scope, parts[4], Long.parseLong(parts[3]));
+                log.warn("Scope={} marked uncertain by node={} (jobId={})", scope, parts[0], parts[4]);
+            } else if (OP_CLEAR.equals(parts[1])) {
+                unpublished.remove(scope);
+                applyCleared(scope);
+                log.info("Scope={} cleared by node={}", scope, parts[0]);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed fallback state message: {}", payload);
+        }
+    }
+
+    /**
+     * Loads the shared state as soon as the node starts serving.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        sync();
+    }
+
+    /**
+     * Replaces the local snapshot with the Redis hash, after publishing local marks Redis
+     * did not accept before. Entries older than the maximum uncertainty age are dropped
+     * from Redis as well.
+     */
+    @Scheduled(
+        initialDelayString = "${app.cache.fallback.sync-interval-ms:5000}",
+        fixedDelayString = "${app.cache.fallback.sync-interval-ms:5000}"
+    )
+    public void sync() {
+        long syncStartedAt = System.currentTimeMillis();
+        publishPending(syncStartedAt);
+
+        Map<Object, Object> entries;
+        try {
+            entries = stringRedisTemplate.opsForHash().entries(STATE_KEY);
+        } catch (Exception e) {
+            log.warn("Failed to sync cache fallback state; keeping local snapshot", e);
+            return;
+        }
+
+        for (CacheScope scope : CacheScope.values()) {
+            Object value = entries.get(scope.name());
+            String[] parts = value != null ? value.toString().split("\\" + SEPARATOR, 2) : null;
+
+            if (parts == null || parts.length < 2) {
+                // Keep marks made locally while the HGETALL was in flight or not published yet
+                if (!unpublished.containsKey(scope)) {
+                    applyClearedIf(scope, state -> state.markedAtMillis() < syncStartedAt);
+                }
+                continue;
+            }
+
+            long markedAt;
+            try {
+                markedAt = Long.parseLong(parts[0]);
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring malformed fallback state for scope={}: {}", scope, value);
+                continue;
+            }
+
+            if (syncStartedAt - markedAt > MAX_UNCERTAINTY_AGE_MS) {
+                applyClearedIf(scope, state -> state.markedAtMillis() <= markedAt);
+                deleteExpired(scope);
+            } else {
+                applyUncertain(scope, parts[1], markedAt);
+            }
+        }
+    }
+
+    private void publishPending(long now) {
+        unpublished.forEach((scope, state) -> {
+            if (now - state.markedAtMillis() > MAX_UNCERTAINTY_AGE_MS) {
+                unpublished.remove(scope, state);
+                return;
+            }
+            try {
+                publish(scope, state);
+            } catch (Exception e) {
+                log.warn("Failed to publish pending uncertainty of scope={} (jobId={})", scope, state.jobId(), e);
+            }
+        });
+    }
+
+    /**
+     * Writes the mark to the hash and notifies the other nodes. The mark stays pending
+     * until both succeed, unless a newer mark or a clear replaced it meanwhile.
+     */
+    private void publish(CacheScope scope, UncertaintyState state) {
+        String markedAt = Long.toString(state.markedAtMillis());
+        stringRedisTemplate.opsForHash().put(STATE_KEY, scope.name(), markedAt + SEPARATOR + state.jobId());
+        stringRedisTemplate.convertAndSend(CHANNEL,
+            String.join(SEPARATOR, nodeId, OP_MARK, scope.name(), markedAt, state.jobId()));
+        unpublished.remove(scope, state);
+    }
+
+    private void deleteExpired(CacheScope scope) {
+        try {
+            stringRedisTemplate.opsForHash().delete(STATE_KEY, scope.name());
+        } catch (Exception e) {
+            log.warn("Failed to drop expired fallback state for scope={}", scope, e);
+        }
+    }
+}
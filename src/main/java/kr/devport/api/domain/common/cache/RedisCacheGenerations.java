@@ -0,0 +1,160 @@
+package kr.devport.api.domain.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache generations stored as Redis counters ({@code devport:cache:gen:<cacheName>}).
+ *
+ * Reads use a local snapshot. The snapshot moves forward on local bumps, on clear
+ * messages from other nodes (NearCacheInvalidationBus) and on a periodic sync that
+ * covers lost pub/sub messages. Counters have no TTL: a reset would make old
+ * generations reachable again.
+ *
+ * A counter that reads lower than the local snapshot was lost (FLUSHALL, failover
+ * without persistence, eviction). It is raised back to the local value, and a bump that
+ * lands at or below it is moved past it, so clears keep working and nodes that start
+ * later use the same generation as the running ones.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCacheGenerations implements CacheGenerations {
+
+    private static final String KEY_PREFIX = "devport:cache:gen:";
+
+    /** Raises the counter to at least ARGV[1] and returns its value. */
+    private static final RedisScript<Long> RAISE_SCRIPT = new DefaultRedisScript<>(
+        "local current = tonumber(redis.call('get', KEYS[1]) or '0') "
+            + "if current < tonumber(ARGV[1]) then redis.call('set', KEYS[1], ARGV[1]) return tonumber(ARGV[1]) end "
+            + "return current",
+        Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    @Value("${app.cache.generation.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public long current(String cacheName) {
+        Long generation = generations.get(cacheName);
+        if (generation != null) {
+            return generation;
+        }
+        return generations.computeIfAbsent(cacheName, this::read);
+    }
+
+    @Override
+    public long bump(String cacheName) {
+        Long generation = stringRedisTemplate.opsForValue().increment(KEY_PREFIX + cacheName);
+        if (generation == null) {
+            throw new IllegalStateException("INCR returned no value for cache generation: " + cacheName);
+        }
+        long local = generations.getOrDefault(cacheName, 0L);
+        if (generation <= local) {
+            log.warn("Generation counter of cache={} went back to {} (local {}); re-seeding it",
+                cacheName, generation, local);
+            generation = raise(cacheName, local + 1);
+        }
+        advance(cacheName, generation);
+        log.debug("Bumped generation of cache={} to {}", cacheName, generation);
+        return generation;
+    }
+
+    @Override
+    public void refresh(String cacheName) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + cacheName);
+            reconcile(cacheName, parse(value));
+        } catch (Exception e) {
+            log.warn("Failed to refresh generation of cache={}; periodic sync will retry", cacheName, e);
+        }
+    }
+
+    /**
+     * Pulls all known generations in one MGET.
+     */
+    @Scheduled(
+        initialDelayString = "${app.cache.generation.sync-interval-ms:5000}",
+        fixedDelayString = "${app.cache.generation.sync-interval-ms:5000}"
+    )
+    public void sync() {
+        if (!enabled || generations.isEmpty()) {
+            return;
+        }
+
+        List<String> cacheNames = new ArrayList<>(generations.keySet());
+        List<String> keys = cacheNames.stream().map(name -> KEY_PREFIX + name).toList();
+
+        try {
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return;
+            }
+            for (int i = 0; i < cacheNames.size(); i++) {
+                reconcile(cacheNames.get(i), parse(values.get(i)));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to sync cache generations", e);
+        }
+    }
+
+    private long read(String cacheName) {
+        try {
+            return parse(stringRedisTemplate.opsForValue().get(KEY_PREFIX + cacheName));
+        } catch (Exception e) {
+            // Start unversioned; the periodic sync catches up once Redis is reachable
+            log.warn("Failed to read generation of cache={}, assuming 0", cacheName, e);
+            return 0;
+        }
+    }
+
+    /**
+     * Takes a generation read from Redis, restoring the counter if it is behind the local one.
+     */
+    private void reconcile(String cacheName, long generation) {
+        long local = generations.getOrDefault(cacheName, 0L);
+        if (generation < local) {
+            log.warn("Generation counter of cache={} went back to {} (local {}); restoring it",
+                cacheName, generation, local);
+            generation = raise(cacheName, local);
+        }
+        advance(cacheName, generation);
+    }
+
+    private long raise(String cacheName, long minimum) {
+        Long generation = stringRedisTemplate.execute(
+            RAISE_SCRIPT, List.of(KEY_PREFIX + cacheName), Long.toString(minimum));
+        return generation != null ? generation : minimum;
+    }
+
+    /**
+     * Generations only move forward, so a late or reordered update cannot roll back.
+     */
+    private void advance(String cacheName, long generation) {
+        generations.merge(cacheName, generation, Math::max);
+    }
+
+    private long parse(String value) {
+        return value == null ? 0 : Long.parseLong(value);
+    }
+}
@@ -0,0 +1,122 @@
+package kr.devport.api.domain.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Job ledger stored as Redis strings ({@code devport:cache:job:<scope>:<jobId>}).
+ *
+ * A claim is a SET NX with {@code app.cache.job-ledger.claim-ttl}, so a node that dies
+ * before finishing blocks retries only briefly; completion rewrites the key with
+ * {@code app.cache.job-ledger.ttl}, the window in which crawler redeliveries are
+ * recognised. Skipped while the RedisCircuitBreaker is open.
+ *
+ * Metrics: {@code cache.job_ledger.claims{result=claimed|duplicate|unavailable}}.
+ */
+@Component
+@Slf4j
+public class RedisCacheJobLedger implements CacheJobLedger {
+
+    private static final String KEY_PREFIX = "devport:cache:job:";
+    private static final String CLAIMED = "claimed";
+    private static final String COMPLETED = "completed";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    private final Counter claimed;
+    private final Counter duplicates;
+    private final Counter unavailable;
+
+    @Value("${app.cache.job-ledger.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.cache.job-ledger.claim-ttl:5m}")
+    private Duration claimTtl = Duration.ofMinutes(5);
+
+    @Value("${app.cache.job-ledger.ttl:24h}")
+    private Duration ttl = Duration.ofHours(24);
+
+    public RedisCacheJobLedger(
+        StringRedisTemplate stringRedisTemplate,
+        RedisCircuitBreaker circuitBreaker,
+        MeterRegistry meterRegistry
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.claimed = claimCounter(meterRegistry, "claimed");
+        this.duplicates = claimCounter(meterRegistry, "duplicate");
+        this.unavailable = claimCounter(meterRegistry, "unavailable");
+    }
+
+    @Override
+    public boolean tryClaim(CacheScope scope, String jobId) {
+        if (!enabled) {
+            return true;
+        }
+        if (!circuitBreaker.allowRequest()) {
+            unavailable.increment();
+            return true;
+        }
+
+        long start = System.nanoTime();
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key(scope, jobId), CLAIMED, claimTtl);
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            if (Boolean.FALSE.equals(acquired)) {
+                duplicates.increment();
+                return false;
+            }
+            claimed.increment();
+            return true;
+        } catch (Exception e) {
+            circuitBreaker.onFailure();
+            unavailable.increment();
+            log.warn("Failed to claim job in ledger: scope={}, jobId={}; processing anyway", scope, jobId, e);
+            return true;
+        }
+    }
+
+    @Override
+    public void complete(CacheScope scope, String jobId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(key(scope, jobId), COMPLETED, ttl);
+        } catch (Exception e) {
+            // The claim expires after claimTtl; a later redelivery is processed again
+            log.warn("Failed to mark job completed in ledger: scope={}, jobId={}", scope, jobId, e);
+        }
+    }
+
+    @Override
+    public void release(CacheScope scope, String jobId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(key(scope, jobId));
+        } catch (Exception e) {
+            log.warn("Failed to release job in ledger: scope={}, jobId={}; retries wait for claim expiry",
+                scope, jobId, e);
+        }
+    }
+
+    private String key(CacheScope scope, String jobId) {
+        return KEY_PREFIX + scope.name() + ":" + jobId;
+    }
+
+    private Counter claimCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.job_ledger.claims")
+            .tag("result", result)
+            .description("Invalidation job claims in the Redis ledger by result")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,87 @@
+package kr.devport.api.domain.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Cache key index stored as Redis sets ({@code devport:cache:idx:<cacheName>:<tag>}).
+ *
+ * Each set expires with the cache TTL and is extended on every write, so it never
+ * outlives the entries it points to by more than one TTL. Index writes are pipelined
+ * and best effort: a failed write only means a later targeted invalidation misses
+ * that entry until its TTL expires. Writes are skipped while the RedisCircuitBreaker is open.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCacheKeyIndex implements CacheKeyIndex {
+
+    private static final String KEY_PREFIX = "devport:cache:idx:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    @Value("${app.cache.key-index.enabled:true}")
+    private boolean enabled = true;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void record(String cacheName, Object key, Set<String> tags) {
+        if (!enabled || tags.isEmpty() || !circuitBreaker.allowRequest()) {
+            return;
+        }
+
+        String member = key.toString();
+        long ttlMillis = CacheTtlPolicy.getTtl(cacheName).toMillis();
+        long start = System.nanoTime();
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (String tag : tags) {
+                    String indexKey = indexKey(cacheName, tag);
+                    redis.sAdd(indexKey, member);
+                    redis.pExpire(indexKey, ttlMillis);
+                }
+                return null;
+            });
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+        } catch (Exception e) {
+            circuitBreaker.onFailure();
+            log.warn("Failed to index cache={}, key={}; targeted invalidation may miss it until TTL",
+                cacheName, key, e);
+        }
+    }
+
+    @Override
+    public Set<String> drain(String cacheName, Collection<String> tags) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String tag : tags) {
+            String indexKey = indexKey(cacheName, tag);
+            Set<String> members = stringRedisTemplate.opsForSet().members(indexKey);
+            if (members == null || members.isEmpty()) {
+                continue;
+            }
+            // SREM only what was read: keys indexed meanwhile belong to fresh entries
+            stringRedisTemplate.opsForSet().remove(indexKey, members.toArray());
+            keys.addAll(members);
+        }
+        return keys;
+    }
+
+    private String indexKey(String cacheName, String tag) {
+        return KEY_PREFIX + cacheName + ":" + tag;
+    }
+}
@@ -0,0 +1,98 @@
+package kr.devport.api.domain.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis lease (SET NX PX) used to elect a single loader per cache key across nodes.
+ *
+ * Disabled by default ({@code app.cache.lease-lock.enabled}); the in-JVM single-flight
+ * in TieredCache already collapses concurrent misses per node. The lease TTL bounds
+ * how long a crashed holder can block other nodes. Redis errors never block loading,
+ * and no lease is taken while the RedisCircuitBreaker is open.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCacheLeaseLock implements CacheLeaseLock {
+
+    private static final String KEY_PREFIX = "devport:cache:lease:";
+
+    /** Deletes the lease only if it is still ours (the TTL may have handed it to another node). */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    @Value("${app.cache.lease-lock.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.cache.lease-lock.lease-ms:5000}")
+    private long leaseMillis;
+
+    @Value("${app.cache.lease-lock.max-wait-ms:2000}")
+    private long maxWaitMillis;
+
+    @Value("${app.cache.lease-lock.poll-interval-ms:50}")
+    private long pollIntervalMillis;
+
+    @Override
+    public String tryAcquire(String cacheName, Object key) {
+        if (!enabled || !circuitBreaker.allowRequest()) {
+            return NO_LEASE;
+        }
+
+        String token = UUID.randomUUID().toString();
+        long start = System.nanoTime();
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(leaseKey(cacheName, key), token, Duration.ofMillis(leaseMillis));
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            circuitBreaker.onFailure();
+            log.warn("Failed to acquire cache lease for cache={}, key={}; loading without lease",
+                cacheName, key, e);
+            return NO_LEASE;
+        }
+    }
+
+    @Override
+    public void release(String cacheName, Object key, String token) {
+        if (token == null || NO_LEASE.equals(token)) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(cacheName, key)), token);
+        } catch (Exception e) {
+            // Lease expires on its own after leaseMillis
+            log.warn("Failed to release cache lease for cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public long maxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    @Override
+    public long pollIntervalMillis() {
+        return pollIntervalMillis;
+    }
+
+    private String leaseKey(String cacheName, Object key) {
+        return KEY_PREFIX + cacheName + ":" + key;
+    }
+}
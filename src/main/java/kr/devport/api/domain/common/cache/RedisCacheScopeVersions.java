@@ -0,0 +1,106 @@
+package kr.devport.api.domain.common.cache;
+
+import kr.devport.api.domain.common.cache.warmup.CacheScopeInvalidatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scope versions stored as Redis counters ({@code devport:cache:scope-version:<scope>}).
+ *
+ * Bumped when CacheInvalidationService publishes CacheScopeInvalidatedEvent, i.e. after
+ * the scope's caches were invalidated, so a response tagged with the new version never
+ * carries pre-invalidation data. Reads use a local snapshot that moves forward on local
+ * bumps and on a periodic MGET sync; other nodes therefore see a bump within
+ * {@code app.cache.etag.sync-interval-ms}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCacheScopeVersions implements CacheScopeVersions {
+
+    private static final String KEY_PREFIX = "devport:cache:scope-version:";
+
+    private static final List<CacheScope> DOMAIN_SCOPES = Arrays.stream(CacheScope.values())
+        .filter(scope -> scope != CacheScope.UNKNOWN)
+        .toList();
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Map<CacheScope, Long> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public long current(CacheScope scope) {
+        return versions.getOrDefault(scope, 0L);
+    }
+
+    @Override
+    public void bump(CacheScope scope) {
+        List<CacheScope> scopes = scope == CacheScope.UNKNOWN ? DOMAIN_SCOPES : List.of(scope);
+        for (CacheScope target : scopes) {
+            Long version = stringRedisTemplate.opsForValue().increment(KEY_PREFIX + target.name());
+            if (version == null) {
+                throw new IllegalStateException("INCR returned no value for scope version: " + target);
+            }
+            advance(target, version);
+            log.debug("Bumped version of scope={} to {}", target, version);
+        }
+    }
+
+    @EventListener
+    public void onScopeInvalidated(CacheScopeInvalidatedEvent event) {
+        try {
+            bump(event.scope());
+        } catch (Exception e) {
+            // ETags of the scope stay valid until their max-age bucket rolls over
+            log.warn("Failed to bump version of scope={} (jobId={})", event.scope(), event.jobId(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        sync();
+    }
+
+    /**
+     * Pulls all scope versions in one MGET.
+     */
+    @Scheduled(
+        initialDelayString = "${app.cache.etag.sync-interval-ms:5000}",
+        fixedDelayString = "${app.cache.etag.sync-interval-ms:5000}"
+    )
+    public void sync() {
+        List<String> keys = DOMAIN_SCOPES.stream().map(scope -> KEY_PREFIX + scope.name()).toList();
+
+        try {
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return;
+            }
+            for (int i = 0; i < DOMAIN_SCOPES.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    advance(DOMAIN_SCOPES.get(i), Long.parseLong(value));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to sync cache scope versions", e);
+        }
+    }
+
+    /**
+     * Versions only move forward, so a late or reordered update cannot roll back.
+     */
+    private void advance(CacheScope scope, long version) {
+        versions.merge(scope, version, Math::max);
+    }
+}
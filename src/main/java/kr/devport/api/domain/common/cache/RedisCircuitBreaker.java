@@ -0,0 +1,181 @@
+package kr.devport.api.domain.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker for the Redis calls on the request path (L2 cache, key index, lease lock).
+ *
+ * CLOSED: calls go to Redis; {@code failure-threshold} consecutive failures (calls slower than
+ * {@code slow-call-threshold} count as failures) open the breaker. OPEN: callers skip Redis
+ * immediately instead of waiting for the client timeout, so caches degrade to their in-process
+ * L1 and read-through to the database. After {@code open-duration} a scheduled probe moves the
+ * breaker to HALF_OPEN and PINGs Redis; success closes it, failure re-opens it. Request-path
+ * calls stay short-circuited while HALF_OPEN, so only the probe touches a recovering Redis.
+ *
+ * Metrics: {@code cache.redis.circuit.state} (0 closed, 1 half-open, 2 open) and
+ * {@code cache.redis.circuit.calls{outcome=failure|slow|short_circuited}}.
+ */
+@Component
+@Slf4j
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final RedisConnectionFactory connectionFactory;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAtMillis;
+
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder slowCalls = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+
+    @Value("${app.cache.circuit-breaker.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.cache.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold = 5;
+
+    @Value("${app.cache.circuit-breaker.open-duration:10s}")
+    private Duration openDuration = Duration.ofSeconds(10);
+
+    @Value("${app.cache.circuit-breaker.slow-call-threshold:500ms}")
+    private Duration slowCallThreshold = Duration.ofMillis(500);
+
+    public RedisCircuitBreaker(RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry) {
+        this.connectionFactory = connectionFactory;
+
+        Gauge.builder("cache.redis.circuit.state", state, current -> current.get().ordinal())
+            .description("Redis circuit breaker state (0 closed, 1 half-open, 2 open)")
+            .register(meterRegistry);
+        registerCounter(meterRegistry, "failure", failures);
+        registerCounter(meterRegistry, "slow", slowCalls);
+        registerCounter(meterRegistry, "short_circuited", shortCircuited);
+    }
+
+    /**
+     * True if a request-path call may go to Redis. A false answer counts as short-circuited.
+     */
+    public boolean allowRequest() {
+        if (!enabled || state.get() == State.CLOSED) {
+            return true;
+        }
+        shortCircuited.increment();
+        return false;
+    }
+
+    /**
+     * Records a completed call; slow calls count as failures.
+     */
+    public void onSuccess(long durationNanos) {
+        if (durationNanos > slowCallThreshold.toNanos()) {
+            slowCalls.increment();
+            recordFailure();
+            return;
+        }
+        consecutiveFailures.set(0);
+    }
+
+    /**
+     * Records a failed call (exception or timeout).
+     */
+    public void onFailure() {
+        failures.increment();
+        recordFailure();
+    }
+
+    /**
+     * Half-opens an open breaker after the open duration and closes it if Redis answers a PING.
+     */
+    @Scheduled(
+        initialDelayString = "${app.cache.circuit-breaker.probe-interval-ms:1000}",
+        fixedDelayString = "${app.cache.circuit-breaker.probe-interval-ms:1000}"
+    )
+    public void probe() {
+        if (state.get() != State.OPEN
+            || System.currentTimeMillis() - openedAtMillis < openDuration.toMillis()
+            || !state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.ping();
+            if (System.nanoTime() - start > slowCallThreshold.toNanos()) {
+                throw new IllegalStateException("PING slower than " + slowCallThreshold);
+            }
+            consecutiveFailures.set(0);
+            state.set(State.CLOSED);
+            log.info("Redis circuit breaker closed: probe succeeded");
+        } catch (Exception e) {
+            openedAtMillis = System.currentTimeMillis();
+            state.set(State.OPEN);
+            log.warn("Redis circuit breaker stays open: probe failed ({})", e.getMessage());
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public Snapshot snapshot() {
+        State current = state.get();
+        return new Snapshot(
+            enabled,
+            current,
+            consecutiveFailures.get(),
+            current == State.CLOSED ? null : Instant.ofEpochMilli(openedAtMillis),
+            failures.sum(),
+            slowCalls.sum(),
+            shortCircuited.sum()
+        );
+    }
+
+    private void recordFailure() {
+        if (enabled
+            && consecutiveFailures.incrementAndGet() >= failureThreshold
+            && state.compareAndSet(State.CLOSED, State.OPEN)) {
+            openedAtMillis = System.currentTimeMillis();
+            log.warn("Redis circuit breaker opened after {} consecutive failures; serving from L1/database for {}",
+                failureThreshold, openDuration);
+        }
+    }
+
+    private void registerCounter(MeterRegistry meterRegistry, String outcome, LongAdder counter) {
+        FunctionCounter.builder("cache.redis.circuit.calls", counter, LongAdder::sum)
+            .tag("outcome", outcome)
+            .description("Redis calls by circuit breaker outcome")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @param openedAt when the breaker last opened; null while closed
+     */
+    public record Snapshot(
+        boolean enabled,
+        State state,
+        int consecutiveFailures,
+        Instant openedAt,
+        long failures,
+        long slowCalls,
+        long shortCircuited
+    ) {
+    }
+}
@@ -0,0 +1,34 @@
+package kr.devport.api.domain.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the RedisCircuitBreaker as the {@code redisCircuitBreaker} health component.
+ *
+ * Always UP: an open breaker means the caches are degraded to L1 and the database,
+ * which still serves traffic, so it must not take the node out of rotation. The
+ * {@code redis} component reports Redis itself.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCircuitBreakerHealthIndicator implements HealthIndicator {
+
+    private final RedisCircuitBreaker circuitBreaker;
+
+    @Override
+    public Health health() {
+        RedisCircuitBreaker.Snapshot snapshot = circuitBreaker.snapshot();
+        Health.Builder builder = Health.up()
+            .withDetail("enabled", snapshot.enabled())
+            .withDetail("state", snapshot.state())
+            .withDetail("consecutiveFailures", snapshot.consecutiveFailures())
+            .withDetail("shortCircuited", snapshot.shortCircuited());
+        if (snapshot.openedAt() != null) {
+            builder.withDetail("openedAt", snapshot.openedAt());
+        }
+        return builder.build();
+    }
+}
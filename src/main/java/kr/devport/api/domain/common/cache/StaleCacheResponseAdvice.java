@@ -0,0 +1,37 @@
+package kr.devport.api.domain.common.cache;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds {@code X-Cache-Status: STALE} to responses built from a stale cache value
+ * (stale-while-revalidate fallback during scope uncertainty).
+ */
+@RestControllerAdvice
+public class StaleCacheResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+        Object body,
+        MethodParameter returnType,
+        MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request,
+        ServerHttpResponse response
+    ) {
+        if (StaleCacheResponses.isStale()) {
+            response.getHeaders().set(StaleCacheResponses.HEADER_NAME, StaleCacheResponses.HEADER_VALUE_STALE);
+        }
+        return body;
+    }
+}
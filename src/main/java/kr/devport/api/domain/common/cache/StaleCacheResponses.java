@@ -0,0 +1,41 @@
+package kr.devport.api.domain.common.cache;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Flags the current HTTP request as having been served a stale cache value.
+ *
+ * Set by TieredCache when it answers from a last-known copy; StaleCacheResponseAdvice
+ * turns the flag into a response header. No-op outside a request (e.g. warm-up threads).
+ */
+public final class StaleCacheResponses {
+
+    public static final String HEADER_NAME = "X-Cache-Status";
+    public static final String HEADER_VALUE_STALE = "STALE";
+
+    private static final String ATTRIBUTE_NAME = StaleCacheResponses.class.getName() + ".STALE";
+
+    /**
+     * Marks the current request as served from a stale cache value.
+     */
+    public static void markStale() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE_NAME, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Returns true if the current request was served a stale cache value.
+     */
+    public static boolean isStale() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+            && Boolean.TRUE.equals(attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    private StaleCacheResponses() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+}
@@ -0,0 +1,682 @@
+package kr.devport.api.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier cache: bounded in-process L1 (Caffeine) in front of the shared Redis L2.
+ *
+ * Read path: L1 → L2 → loader. L2 hits are promoted into L1 so hot keys
+ * (e.g. trendingTicker "10") skip the Redis round trip and deserialization.
+ *
+ * Write/evict path always goes to L2 first, then L1. Evictions and clears are
+ * broadcast to other nodes so their L1 copies are dropped as well.
+ * L1 TTL (see CacheTtlPolicy) bounds staleness if a broadcast is lost.
+ *
+ * With CacheGenerations enabled, L1/L2 keys are prefixed with the cache's generation
+ * ({@code g<generation>:<key>}) and clear() is a single counter bump instead of a
+ * SCAN+DEL over the keyspace; entries of older generations expire via their TTL.
+ * Generation 0 keeps unprefixed keys, so entries written before rollout stay valid.
+ *
+ * Misses loaded through {@link #get(Object, Callable)} (ReadThroughCache, @Cacheable(sync = true))
+ * are coalesced: one loader per key runs in this JVM while concurrent callers wait
+ * for its result, and the optional CacheLeaseLock extends that to one loader per
+ * key across nodes.
+ *
+ * While the owning scope is uncertain the fallback mode (see CacheFallbackMode) applies:
+ * BYPASS returns loaded values without storing them; STALE_WHILE_REVALIDATE answers a
+ * miss from the last-known copy and refreshes the key in the background. Last-known
+ * copies survive evict/clear and expire after the configured max staleness.
+ *
+ * Stored values are recorded in the CacheKeyIndex under their CacheEntryTags, so a
+ * change to a single entity can evict only the keys containing it ({@link #evictTagged}).
+ *
+ * Entries loaded by this node remember their expiry (jittered per key, see
+ * CacheTtlPolicy#getEntryTtl) and load time. A hit through {@link #get(Object, Callable)}
+ * close to expiry may refresh the entry in the background (CacheRefreshAhead), so hot
+ * keys are recomputed before they expire. Entries only promoted from L2 carry no timing
+ * and are refreshed by the node that loaded them.
+ *
+ * {@link #getAll} resolves many keys at once (per-entity caches behind CachedIdPage lists):
+ * one bulk L2 read (MGET, see BulkReadCache) and one loader call for all misses.
+ */
+@Slf4j
+public class TieredCache implements Cache {
+
+    private static final int MAX_TRACKED_TIMINGS = 1024;
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final NearCacheInvalidationPublisher publisher;
+    private final Supplier<CacheFallbackMode> fallbackMode;
+    private final CacheLeaseLock leaseLock;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> lastKnown;
+    private final Executor refreshExecutor;
+    private final CacheGenerations generations;
+    private final CacheLoadObserver loadObserver;
+    private final CacheKeyIndex keyIndex;
+    private final CacheRefreshAhead refreshAhead;
+
+    /**
+     * Expiry and load time of entries loaded by this node, keyed by storage key.
+     */
+    private final com.github.benmanes.caffeine.cache.Cache<Object, EntryTiming> timings;
+
+    /**
+     * Keys with a background refresh queued or running.
+     */
+    private final Set<Object> refreshesInFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Loads currently running in this JVM, keyed by storage key (single-flight).
+     */
+    private final ConcurrentMap<Object, CompletableFuture<Object>> loadsInFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped on every local eviction/clear. An L2 value read before the bump
+     * must not be promoted into L1 after it (would resurrect an evicted entry).
+     */
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder leaseWaits = new LongAdder();
+    private final LongAdder leaseWaitNanos = new LongAdder();
+    private final LongAdder leaseTimeouts = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+    private final LongAdder earlyRefreshes = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder clears = new LongAdder();
+
+    public TieredCache(
+        String name,
+        Cache remote,
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+        NearCacheInvalidationPublisher publisher
+    ) {
+        this(name, remote, local, publisher, () -> CacheFallbackMode.NONE, CacheLeaseLock.DISABLED,
+            Caffeine.newBuilder().maximumSize(0).build(), Runnable::run, CacheGenerations.DISABLED,
+            CacheLoadObserver.NONE, CacheKeyIndex.DISABLED, CacheRefreshAhead.DISABLED);
+    }
+
+    public TieredCache(
+        String name,
+        Cache remote,
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+        NearCacheInvalidationPublisher publisher,
+        Supplier<CacheFallbackMode> fallbackMode,
+        CacheLeaseLock leaseLock,
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> lastKnown,
+        Executor refreshExecutor,
+        CacheGenerations generations,
+        CacheLoadObserver loadObserver,
+        CacheKeyIndex keyIndex,
+        CacheRefreshAhead refreshAhead
+    ) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.publisher = publisher;
+        this.fallbackMode = fallbackMode;
+        this.leaseLock = leaseLock;
+        this.lastKnown = lastKnown;
+        this.refreshExecutor = refreshExecutor;
+        this.generations = generations;
+        this.loadObserver = loadObserver;
+        this.keyIndex = keyIndex;
+        this.refreshAhead = refreshAhead;
+        this.timings = Caffeine.newBuilder()
+            .maximumSize(refreshAhead.isEnabled() ? MAX_TRACKED_TIMINGS : 0)
+            .expireAfterWrite(CacheTtlPolicy.getTtl(name))
+            .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return lookup(key, storageKey(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // Captured once: a load that straddles a generation bump must not land in the new generation
+        Object storageKey = storageKey(key);
+
+        ValueWrapper wrapper = lookup(key, storageKey);
+        if (wrapper != null) {
+            refreshAheadIfDue(key, storageKey, valueLoader);
+            return (T) wrapper.get();
+        }
+
+        if (fallbackMode.get() == CacheFallbackMode.STALE_WHILE_REVALIDATE) {
+            Object staleValue = lastKnown.getIfPresent(key);
+            if (staleValue != null) {
+                staleServed.increment();
+                StaleCacheResponses.markStale();
+                refreshInBackground(key, valueLoader);
+                return (T) staleValue;
+            }
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loadsInFlight.putIfAbsent(storageKey, flight);
+        if (inFlight != null) {
+            coalescedLoads.increment();
+            return (T) awaitLoad(key, valueLoader, inFlight);
+        }
+
+        try {
+            Object value = load(key, storageKey, valueLoader);
+            flight.complete(value);
+            return (T) value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadsInFlight.remove(storageKey, flight);
+        }
+    }
+
+    /**
+     * Looks up many keys at once: L1 first, then one bulk L2 read for the rest, then one
+     * loader call for the keys missing in both. Loaded values are stored unless the scope
+     * is uncertain or the cache was invalidated while they were loading.
+     *
+     * @param loader loads the values of the given keys; keys it cannot find are left out
+     * @return values found or loaded, keyed by key; keys without a value are left out
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        long epoch = invalidationEpoch.get();
+        Map<K, V> result = new HashMap<>();
+        Map<Object, K> missing = new LinkedHashMap<>();
+
+        for (K key : keys) {
+            Object storageKey = storageKey(key);
+            Object localValue = local.getIfPresent(storageKey);
+            if (localValue != null) {
+                l1Hits.increment();
+                result.put(key, (V) localValue);
+            } else {
+                missing.put(storageKey, key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        BulkReadCache.getAll(remote, missing.keySet()).forEach((storageKey, wrapper) -> {
+            Object value = wrapper != null ? wrapper.get() : null;
+            K key = missing.get(storageKey);
+            if (key != null && value != null) {
+                missing.remove(storageKey);
+                l2Hits.increment();
+                promote(key, storageKey, value, epoch);
+                result.put(key, (V) value);
+            }
+        });
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        misses.add(missing.size());
+        Map<K, V> loaded = loadAll(new LinkedHashSet<>(missing.values()), loader);
+        boolean storable = fallbackMode.get() == CacheFallbackMode.NONE;
+        loaded.forEach((key, value) -> {
+            if (value == null) {
+                return;
+            }
+            // Evicted meanwhile: the value may predate the change behind the eviction
+            if (storable && invalidationEpoch.get() == epoch) {
+                store(key, storageKey(key), value);
+            }
+            result.put(key, value);
+        });
+        return result;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        store(key, storageKey(key), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictions.increment();
+        try {
+            remote.evict(storageKey(key));
+        } finally {
+            // Local copies go even if Redis failed; the caller sees the failure and retries
+            evictLocal(key);
+            publisher.publish(name, key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        clears.increment();
+        try {
+            if (generations.isEnabled()) {
+                clearByGeneration();
+            } else {
+                remote.clear();
+            }
+        } finally {
+            dropLocal();
+            publisher.publish(name, null);
+        }
+    }
+
+    private void clearByGeneration() {
+        try {
+            // O(1): previous-generation keys become unreachable and expire via TTL
+            generations.bump(name);
+        } catch (RuntimeException e) {
+            // Counter unreachable: a full remote clear, which CircuitBreakingCache
+            // defers until Redis is back if the breaker is open
+            try {
+                remote.clear();
+            } catch (RuntimeException clearFailure) {
+                e.addSuppressed(clearFailure);
+                throw e;
+            }
+            log.warn("Generation bump failed for cache={}; cleared remote entries instead", name, e);
+        }
+    }
+
+    /**
+     * True if the target can be applied to this cache by evicting indexed keys
+     * instead of clearing it.
+     */
+    public boolean supportsTargetedEviction(CacheInvalidationTarget target) {
+        return keyIndex.isEnabled() && CacheEntryTags.supports(name, target);
+    }
+
+    /**
+     * Evicts every key indexed under any of the tags.
+     *
+     * @return number of keys evicted
+     */
+    public int evictTagged(Collection<String> tags) {
+        Set<String> keys = keyIndex.drain(name, tags);
+        keys.forEach(this::evict);
+        return keys.size();
+    }
+
+    /**
+     * Drops a single L1 entry without touching L2 (remote invalidation message).
+     */
+    void evictLocal(Object key) {
+        invalidationEpoch.incrementAndGet();
+        Object storageKey = storageKey(key);
+        local.invalidate(storageKey);
+        timings.invalidate(storageKey);
+    }
+
+    /**
+     * Drops all L1 entries without touching L2 (remote invalidation message),
+     * picking up the generation bumped by the sending node.
+     */
+    void clearLocal() {
+        generations.refresh(name);
+        dropLocal();
+    }
+
+    /**
+     * Snapshot of L1/L2 hit counters for this cache.
+     */
+    public NearCacheStats getStats() {
+        return new NearCacheStats(
+            name,
+            l1Hits.sum(),
+            l2Hits.sum(),
+            misses.sum(),
+            local.estimatedSize()
+        );
+    }
+
+    long l1Hits() {
+        return l1Hits.sum();
+    }
+
+    long l2Hits() {
+        return l2Hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    long localSize() {
+        return local.estimatedSize();
+    }
+
+    long coalescedLoads() {
+        return coalescedLoads.sum();
+    }
+
+    long leaseWaits() {
+        return leaseWaits.sum();
+    }
+
+    double leaseWaitNanos() {
+        return leaseWaitNanos.sum();
+    }
+
+    long leaseTimeouts() {
+        return leaseTimeouts.sum();
+    }
+
+    long staleServed() {
+        return staleServed.sum();
+    }
+
+    long earlyRefreshes() {
+        return earlyRefreshes.sum();
+    }
+
+    long evictions() {
+        return evictions.sum();
+    }
+
+    long clears() {
+        return clears.sum();
+    }
+
+    private ValueWrapper lookup(Object key, Object storageKey) {
+        Object localValue = local.getIfPresent(storageKey);
+        if (localValue != null) {
+            l1Hits.increment();
+            return new SimpleValueWrapper(localValue);
+        }
+
+        long epoch = invalidationEpoch.get();
+        ValueWrapper remoteValue = remote.get(storageKey);
+
+        if (remoteValue != null) {
+            l2Hits.increment();
+            promote(key, storageKey, remoteValue.get(), epoch);
+            return remoteValue;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    private void store(Object key, Object storageKey, Object value) {
+        remote.put(storageKey, value);
+        if (value != null) {
+            local.put(storageKey, value);
+            remember(key, value);
+            index(key, value);
+        }
+    }
+
+    private void index(Object key, Object value) {
+        if (keyIndex.isEnabled() && CacheEntryTags.isIndexed(name)) {
+            keyIndex.record(name, key, CacheEntryTags.tagsOf(name, key, value));
+        }
+    }
+
+    private void dropLocal() {
+        invalidationEpoch.incrementAndGet();
+        local.invalidateAll();
+        timings.invalidateAll();
+    }
+
+    private void recordTiming(Object storageKey, long loadNanos) {
+        if (refreshAhead.isEnabled()) {
+            long ttlMillis = CacheTtlPolicy.getEntryTtl(name, storageKey).toMillis();
+            timings.put(storageKey, new EntryTiming(System.currentTimeMillis() + ttlMillis, ttlMillis, loadNanos));
+        }
+    }
+
+    /**
+     * Refreshes a hit in the background if CacheRefreshAhead decides it is close enough
+     * to expiry. Skipped while the scope is uncertain (refreshes would store values).
+     */
+    private void refreshAheadIfDue(Object key, Object storageKey, Callable<?> valueLoader) {
+        EntryTiming timing = timings.getIfPresent(storageKey);
+        if (timing == null) {
+            return;
+        }
+
+        long remainingMillis = timing.expiresAtMillis() - System.currentTimeMillis();
+        if (!refreshAhead.shouldRefresh(remainingMillis, timing.ttlMillis(), timing.loadNanos())
+            || fallbackMode.get() != CacheFallbackMode.NONE) {
+            return;
+        }
+
+        submitRefresh(key, () -> {
+            long epoch = invalidationEpoch.get();
+            long start = System.nanoTime();
+            Object value = call(key, valueLoader);
+
+            // Evicted meanwhile: the value may predate the change behind the eviction
+            if (value != null && invalidationEpoch.get() == epoch) {
+                store(key, storageKey, value);
+                recordTiming(storageKey, System.nanoTime() - start);
+                earlyRefreshes.increment();
+            }
+        });
+    }
+
+    private <K, V> Map<K, V> loadAll(Set<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Map<K, V> loaded = loader.apply(keys);
+            success = true;
+            return loaded != null ? loaded : Map.of();
+        } finally {
+            loadObserver.onLoad(System.nanoTime() - start, success);
+        }
+    }
+
+    private Object storageKey(Object key) {
+        if (!generations.isEnabled()) {
+            return key;
+        }
+        long generation = generations.current(name);
+        return generation == 0 ? key : "g" + generation + ":" + key;
+    }
+
+    /**
+     * Reloads the key on the refresh executor and stores the result, at most once
+     * concurrently per key. A rejected refresh is retried by the next stale read.
+     */
+    private void refreshInBackground(Object key, Callable<?> valueLoader) {
+        submitRefresh(key, () -> {
+            Object value = call(key, valueLoader);
+            if (value != null) {
+                put(key, value);
+            }
+        });
+    }
+
+    private void submitRefresh(Object key, Runnable refresh) {
+        if (!refreshesInFlight.add(key)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh.run();
+                } catch (RuntimeException e) {
+                    log.warn("Background refresh failed for cache={}, key={}", name, key, e);
+                } finally {
+                    refreshesInFlight.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshesInFlight.remove(key);
+            log.debug("Background refresh rejected for cache={}, key={}", name, key);
+        }
+    }
+
+    private void remember(Object key, Object value) {
+        if (value != null) {
+            lastKnown.put(key, value);
+        }
+    }
+
+    /**
+     * Runs the loader as the single in-JVM loader for the key.
+     */
+    private Object load(Object key, Object storageKey, Callable<?> valueLoader) {
+        // A previous loader may have finished between our miss and taking the flight
+        long epoch = invalidationEpoch.get();
+        ValueWrapper existing = remote.get(storageKey);
+        if (existing != null && existing.get() != null) {
+            promote(key, storageKey, existing.get(), epoch);
+            return existing.get();
+        }
+
+        if (fallbackMode.get() != CacheFallbackMode.NONE) {
+            // Scope uncertain (and no stale copy): read through to the source without caching the result
+            return call(key, valueLoader);
+        }
+
+        String leaseToken = leaseLock.tryAcquire(name, storageKey);
+        if (leaseToken == null) {
+            Object peerValue = awaitPeerLoad(key, storageKey);
+            if (peerValue != null) {
+                return peerValue;
+            }
+        }
+
+        try {
+            long start = System.nanoTime();
+            Object value = call(key, valueLoader);
+            if (value != null) {
+                store(key, storageKey, value);
+                recordTiming(storageKey, System.nanoTime() - start);
+            }
+            return value;
+        } finally {
+            leaseLock.release(name, storageKey, leaseToken);
+        }
+    }
+
+    /**
+     * Polls L2 while another node holds the lease. Returns null on timeout.
+     */
+    private Object awaitPeerLoad(Object key, Object storageKey) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(leaseLock.maxWaitMillis());
+        long epoch = invalidationEpoch.get();
+
+        try {
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(leaseLock.pollIntervalMillis());
+
+                ValueWrapper wrapper = remote.get(storageKey);
+                if (wrapper != null && wrapper.get() != null) {
+                    promote(key, storageKey, wrapper.get(), epoch);
+                    return wrapper.get();
+                }
+            }
+            leaseTimeouts.increment();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            leaseWaits.increment();
+            leaseWaitNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private Object awaitLoad(Object key, Callable<?> valueLoader, CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ValueRetrievalException(key, valueLoader, cause);
+        }
+    }
+
+    private Object call(Object key, Callable<?> valueLoader) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object value = valueLoader.call();
+            success = true;
+            return value;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loadObserver.onLoad(System.nanoTime() - start, success);
+        }
+    }
+
+    private void promote(Object key, Object storageKey, Object value, long epochBeforeRead) {
+        if (value == null) {
+            return;
+        }
+        remember(key, value);
+        local.put(storageKey, value);
+
+        // Lost a race with an eviction: drop what we just promoted
+        if (invalidationEpoch.get() != epochBeforeRead) {
+            local.invalidate(storageKey);
+        }
+    }
+
+    private record EntryTiming(long expiresAtMillis, long ttlMillis, long loadNanos) {
+    }
+}
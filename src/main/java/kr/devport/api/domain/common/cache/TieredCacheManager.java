@@ -0,0 +1,222 @@
+package kr.devport.api.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CacheManager that layers a bounded in-process L1 in front of every cache
+ * of the delegate (Redis) CacheManager.
+ *
+ * L1 size and TTL limits come from CacheTtlPolicy per CacheNames entry.
+ * Per-cache L1/L2 hit counters are published to Micrometer as
+ * {@code cache.near.requests{cache, result=l1_hit|l2_hit|miss}}; miss coalescing as
+ * {@code cache.load.coalesced}, {@code cache.lease.wait} and {@code cache.lease.timeouts};
+ * stale fallbacks as {@code cache.stale.served}; loader latency as the {@code cache.load}
+ * histogram; invalidations as {@code cache.evictions} / {@code cache.clears} tagged by scope.
+ *
+ * Each cache applies the fallback mode of the scope owning it (CacheGroups) while
+ * that scope is uncertain, replacing the per-method {@code unless} bypass expression.
+ * Stale-while-revalidate refreshes run on the given refresh executor.
+ * Keys are namespaced by the CacheGenerations counter of each cache and recorded
+ * in the CacheKeyIndex for targeted invalidation. Hot entries close to expiry are
+ * refreshed ahead of time per CacheRefreshAhead, counted as {@code cache.refresh.ahead}.
+ * Redis calls of every cache go through the shared RedisCircuitBreaker (CircuitBreakingCache),
+ * so a Redis outage degrades the caches to L1 plus read-through instead of failing requests.
+ * Caches enabled for CacheClientTracking keep Redis reads in memory until Redis invalidates them.
+ */
+public class TieredCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final NearCacheInvalidationPublisher publisher;
+    private final MeterRegistry meterRegistry;
+    private final CacheFallbackBypass fallbackBypass;
+    private final CacheLeaseLock leaseLock;
+    private final Executor refreshExecutor;
+    private final CacheGenerations generations;
+    private final CacheKeyIndex keyIndex;
+    private final CacheRefreshAhead refreshAhead;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final CacheClientTracking clientTracking;
+
+    private final Map<String, TieredCache> caches = new ConcurrentHashMap<>();
+
+    public TieredCacheManager(
+        CacheManager remoteCacheManager,
+        NearCacheInvalidationPublisher publisher,
+        MeterRegistry meterRegistry,
+        CacheFallbackBypass fallbackBypass,
+        CacheLeaseLock leaseLock,
+        Executor refreshExecutor,
+        CacheGenerations generations,
+        CacheKeyIndex keyIndex,
+        CacheRefreshAhead refreshAhead,
+        RedisCircuitBreaker circuitBreaker,
+        CacheClientTracking clientTracking
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+        this.fallbackBypass = fallbackBypass;
+        this.leaseLock = leaseLock;
+        this.refreshExecutor = refreshExecutor;
+        this.generations = generations;
+        this.keyIndex = keyIndex;
+        this.refreshAhead = refreshAhead;
+        this.circuitBreaker = circuitBreaker;
+        this.clientTracking = clientTracking;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return getTieredCache(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * Returns the tiered cache for the given name, or null if the remote manager
+     * does not know it.
+     */
+    public TieredCache getTieredCache(String name) {
+        TieredCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+
+        return caches.computeIfAbsent(name, cacheName -> createTieredCache(cacheName, remote));
+    }
+
+    /**
+     * L1/L2 hit statistics for all initialized caches.
+     */
+    public List<NearCacheStats> getStats() {
+        return getCacheNames().stream()
+            .map(this::getTieredCache)
+            .filter(cache -> cache != null)
+            .map(TieredCache::getStats)
+            .toList();
+    }
+
+    private TieredCache createTieredCache(String name, Cache remote) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+            .maximumSize(CacheTtlPolicy.getLocalMaxEntries(name))
+            .expireAfterWrite(CacheTtlPolicy.getLocalTtl(name))
+            .build();
+
+        // Last-known copies outlive invalidation; bounded by max staleness instead of the cache TTL
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> lastKnown = Caffeine.newBuilder()
+            .maximumSize(CacheTtlPolicy.getLocalMaxEntries(name))
+            .expireAfterWrite(fallbackBypass.getMaxStaleness())
+            .build();
+
+        CacheScope scope = CacheGroups.scopeOf(name);
+        TieredCache cache = new TieredCache(
+            name, clientTracking.decorate(new CircuitBreakingCache(remote, circuitBreaker)), local, publisher, () -> fallbackBypass.currentMode(scope),
+            leaseLock, lastKnown, refreshExecutor, generations, loadTimer(name), keyIndex,
+            refreshAhead);
+        registerMetrics(cache, scope);
+        return cache;
+    }
+
+    private CacheLoadObserver loadTimer(String name) {
+        Timer success = loadTimerBuilder(name, "success").register(meterRegistry);
+        Timer failure = loadTimerBuilder(name, "failure").register(meterRegistry);
+
+        return (durationNanos, succeeded) ->
+            (succeeded ? success : failure).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer.Builder loadTimerBuilder(String name, String result) {
+        return Timer.builder("cache.load")
+            .tag("cache", name)
+            .tag("result", result)
+            .description("Time spent recomputing a missing entry")
+            .publishPercentileHistogram();
+    }
+
+    private void registerMetrics(TieredCache cache, CacheScope scope) {
+        String name = cache.getName();
+
+        FunctionCounter.builder("cache.near.requests", cache, TieredCache::l1Hits)
+            .tag("cache", name)
+            .tag("result", "l1_hit")
+            .description("Lookups served from the in-process L1")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("cache.near.requests", cache, TieredCache::l2Hits)
+            .tag("cache", name)
+            .tag("result", "l2_hit")
+            .description("Lookups served from Redis (L2)")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("cache.near.requests", cache, TieredCache::misses)
+            .tag("cache", name)
+            .tag("result", "miss")
+            .description("Lookups that missed both tiers")
+            .register(meterRegistry);
+
+        Gauge.builder("cache.near.size", cache, TieredCache::localSize)
+            .tag("cache", name)
+            .description("Approximate number of L1 entries")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("cache.load.coalesced", cache, TieredCache::coalescedLoads)
+            .tag("cache", name)
+            .description("Misses that waited for an in-flight load instead of loading")
+            .register(meterRegistry);
+
+        FunctionTimer.builder("cache.lease.wait", cache,
+                TieredCache::leaseWaits, TieredCache::leaseWaitNanos, TimeUnit.NANOSECONDS)
+            .tag("cache", name)
+            .description("Time spent waiting for another node holding the load lease")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("cache.lease.timeouts", cache, TieredCache::leaseTimeouts)
+            .tag("cache", name)
+            .description("Lease waits that timed out and loaded locally")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("cache.stale.served", cache, TieredCache::staleServed)
+            .tag("cache", name)
+            .description("Misses answered with a last-known value during scope uncertainty")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("cache.refresh.ahead", cache, TieredCache::earlyRefreshes)
+            .tag("cache", name)
+            .description("Hot entries recomputed in the background before expiry")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("cache.evictions", cache, TieredCache::evictions)
+            .tag("cache", name)
+            .tag("scope", scope.name())
+            .description("Single-key evictions")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("cache.clears", cache, TieredCache::clears)
+            .tag("cache", name)
+            .tag("scope", scope.name())
+            .description("Whole-cache invalidations")
+            .register(meterRegistry);
+    }
+}
@@ -2,18 +2,26 @@ package kr.devport.api.domain.common.cache.admin;
 
 import kr.devport.api.domain.common.cache.CacheFallbackStateStore;
 import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.NearCacheStats;
+import kr.devport.api.domain.common.cache.RedisCircuitBreaker;
+import kr.devport.api.domain.common.cache.TieredCacheManager;
+import kr.devport.api.domain.common.cache.knownid.KnownIdFilter;
+import kr.devport.api.domain.common.cache.knownid.KnownIdFilterStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Admin/internal-only cache fallback controls.
  * 
  * Provides endpoints for inspecting and overriding fallback state.
+ * With the Redis state store (app.cache.fallback.state-store=redis) overrides
+ * apply to every node; "clusterWide" in override responses tells which store is active.
  * All endpoints are restricted to admin/internal routes per SecurityConfig.
  * 
  * DO NOT expose equivalent public endpoints.
@@ -25,6 +33,10 @@ import java.util.Map;
 public class CacheAdminController {
     
     private final CacheFallbackStateStore stateStore;
+    private final TieredCacheManager tieredCacheManager;
+    private final CacheStatisticsService cacheStatisticsService;
+    private final KnownIdFilter knownIdFilter;
+    private final RedisCircuitBreaker redisCircuitBreaker;
     
     /**
      * GET /api/admin/cache/fallback/status
@@ -108,7 +120,8 @@ public class CacheAdminController {
      * {
      *   "scope": "ARTICLE",
      *   "action": "marked_uncertain",
-     *   "jobId": "manual-override-reason"
+     *   "jobId": "manual-override-reason",
+     *   "clusterWide": true
      * }
      */
     @PostMapping("/fallback/override/{scope}")
@@ -125,7 +138,8 @@ public class CacheAdminController {
             OverrideResult result = new OverrideResult(
                 cacheScope.name(),
                 "marked_uncertain",
-                jobId
+                jobId,
+                stateStore.isClusterWide()
             );
             
             log.warn("Admin manually marked scope={} as uncertain with jobId={}", scope, jobId);
@@ -149,7 +163,8 @@ public class CacheAdminController {
      * {
      *   "scope": "ARTICLE",
      *   "action": "cleared_uncertainty",
-     *   "jobId": "manual-clear"
+     *   "jobId": "manual-clear",
+     *   "clusterWide": true
      * }
      */
     @DeleteMapping("/fallback/override/{scope}")
@@ -163,7 +178,8 @@ public class CacheAdminController {
             OverrideResult result = new OverrideResult(
                 cacheScope.name(),
                 "cleared_uncertainty",
-                jobId
+                jobId,
+                stateStore.isClusterWide()
             );
             
             log.info("Admin manually cleared uncertainty for scope={}", scope);
@@ -175,6 +191,81 @@ public class CacheAdminController {
         }
     }
     
+    /**
+     * GET /api/admin/cache/near/stats
+     * 
+     * Returns L1 (in-process) / L2 (Redis) hit ratios per cache on this node.
+     * 
+     * Response:
+     * [
+     *   { "cacheName": "articles", "l1Hits": 900, "l2Hits": 80, "misses": 20,
+     *     "l1Size": 12, "l1HitRatio": 0.9, "l2HitRatio": 0.08 }
+     * ]
+     */
+    @GetMapping("/near/stats")
+    public ResponseEntity<List<NearCacheStatsResponse>> getNearCacheStats() {
+        List<NearCacheStatsResponse> stats = tieredCacheManager.getStats().stream()
+            .map(NearCacheStatsResponse::from)
+            .toList();
+        
+        return ResponseEntity.ok(stats);
+    }
+    
+    /**
+     * GET /api/admin/cache/stats
+     * 
+     * Returns hit/miss counts, load latency, serialized value size and invalidation
+     * counts per cache (this node), plus approximate key count and memory usage per
+     * cache from a sampled SCAN + MEMORY USAGE (cluster-wide).
+     * 
+     * Response:
+     * [
+     *   { "cacheName": "articles", "scope": "ARTICLE", "requests": 1000, "hitRatio": 0.98,
+     *     "l1Hits": 900, "l2Hits": 80, "misses": 20, "loads": 20, "failedLoads": 0,
+     *     "loadMeanMs": 42.1, "loadMaxMs": 180.3, "valueSizeMeanBytes": 5120.0,
+     *     "valueSizeMaxBytes": 9800.0, "evictions": 0, "clears": 3,
+     *     "approxKeys": 140, "approxMemoryBytes": 917504, "keyCountExact": true }
+     * ]
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatisticsService.CacheStatistics>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatisticsService.getStatistics());
+    }
+    
+    /**
+     * GET /api/admin/cache/known-ids/stats
+     * 
+     * Returns the known-id Bloom filter per entity type (this node): estimated id count,
+     * size, expected false-positive rate and lookup outcomes.
+     * 
+     * Response:
+     * [
+     *   { "type": "ARTICLE", "ready": true, "approxIds": 48210, "bitSize": 693128,
+     *     "hashFunctions": 7, "expectedFalsePositiveRate": 0.0021, "rejected": 3120,
+     *     "negativeHits": 12, "passed": 90412, "missed": 40 }
+     * ]
+     */
+    @GetMapping("/known-ids/stats")
+    public ResponseEntity<List<KnownIdFilterStats>> getKnownIdStats() {
+        return ResponseEntity.ok(knownIdFilter.getStats());
+    }
+    
+    /**
+     * GET /api/admin/cache/redis/circuit
+     * 
+     * Returns the Redis circuit breaker state (this node). While OPEN/HALF_OPEN caches
+     * are served from L1 and the database without calling Redis.
+     * 
+     * Response:
+     * { "enabled": true, "state": "OPEN", "consecutiveFailures": 5,
+     *   "openedAt": "2026-10-17T03:12:45Z", "failures": 17, "slowCalls": 2,
+     *   "shortCircuited": 4210 }
+     */
+    @GetMapping("/redis/circuit")
+    public ResponseEntity<RedisCircuitBreaker.Snapshot> getRedisCircuit() {
+        return ResponseEntity.ok(redisCircuitBreaker.snapshot());
+    }
+    
     // ========== DTOs ==========
     
     /**
@@ -207,6 +298,32 @@ public class CacheAdminController {
     record OverrideResult(
         String scope,
         String action,
-        String jobId
+        String jobId,
+        boolean clusterWide
     ) {}
+    
+    /**
+     * L1/L2 hit statistics of a single cache.
+     */
+    record NearCacheStatsResponse(
+        String cacheName,
+        long l1Hits,
+        long l2Hits,
+        long misses,
+        long l1Size,
+        double l1HitRatio,
+        double l2HitRatio
+    ) {
+        static NearCacheStatsResponse from(NearCacheStats stats) {
+            return new NearCacheStatsResponse(
+                stats.cacheName(),
+                stats.l1Hits(),
+                stats.l2Hits(),
+                stats.misses(),
+                stats.l1Size(),
+                stats.l1HitRatio(),
+                stats.l2HitRatio()
+            );
+        }
+    }
 }
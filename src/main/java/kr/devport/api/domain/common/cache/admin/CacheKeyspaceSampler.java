@@ -0,0 +1,127 @@
+package kr.devport.api.domain.common.cache.admin;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimates key counts and memory usage per cache from a bounded SCAN of the keyspace.
+ *
+ * A single SCAN pass (at most {@code app.cache.stats.scan-limit} keys) attributes keys to
+ * caches by their {@code <cacheName>::} prefix. If the pass does not finish, counts are
+ * extrapolated with DBSIZE. Memory is MEMORY USAGE averaged over a few sampled keys per
+ * cache, multiplied by the estimated key count. Keys of older generations are included
+ * until their TTL expires.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheKeyspaceSampler {
+
+    private static final String CACHE_KEY_SEPARATOR = "::";
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${app.cache.stats.scan-limit:10000}")
+    private int scanLimit = 10_000;
+
+    @Value("${app.cache.stats.memory-samples:20}")
+    private int memorySamplesPerCache = 20;
+
+    /**
+     * Samples the keyspace for the given caches.
+     *
+     * @return estimates per cache name (caches without keys included with zeros)
+     */
+    public Map<String, KeyspaceEstimate> sample(Collection<String> cacheNames) {
+        Map<String, KeyspaceEstimate> estimates = stringRedisTemplate.execute(
+            (RedisCallback<Map<String, KeyspaceEstimate>>) connection -> sample(connection, cacheNames));
+        return estimates != null ? estimates : Map.of();
+    }
+
+    private Map<String, KeyspaceEstimate> sample(RedisConnection connection, Collection<String> cacheNames) {
+        Map<String, Long> matched = new HashMap<>();
+        Map<String, List<byte[]>> samples = new HashMap<>();
+        long scanned = 0;
+        boolean complete;
+
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_BATCH_SIZE).build();
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            while (cursor.hasNext() && scanned < scanLimit) {
+                byte[] key = cursor.next();
+                scanned++;
+
+                String cacheName = cacheNameOf(key);
+                if (cacheName == null || !cacheNames.contains(cacheName)) {
+                    continue;
+                }
+                matched.merge(cacheName, 1L, Long::sum);
+
+                List<byte[]> cacheSamples = samples.computeIfAbsent(cacheName, name -> new ArrayList<>());
+                if (cacheSamples.size() < memorySamplesPerCache) {
+                    cacheSamples.add(key);
+                }
+            }
+            complete = !cursor.hasNext();
+        }
+
+        Long dbSize = connection.serverCommands().dbSize();
+        double scale = complete || scanned == 0 || dbSize == null ? 1.0 : (double) dbSize / scanned;
+
+        Map<String, KeyspaceEstimate> estimates = new HashMap<>();
+        for (String cacheName : cacheNames) {
+            long keys = Math.round(matched.getOrDefault(cacheName, 0L) * scale);
+            List<byte[]> cacheSamples = samples.getOrDefault(cacheName, List.of());
+            long averageBytes = averageMemoryUsage(connection, cacheSamples);
+
+            estimates.put(cacheName, new KeyspaceEstimate(keys, keys * averageBytes, cacheSamples.size(), complete));
+        }
+        return estimates;
+    }
+
+    private long averageMemoryUsage(RedisConnection connection, List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        long total = 0;
+        int measured = 0;
+        for (byte[] key : keys) {
+            Object usage = connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), key);
+            if (usage instanceof Number bytes) {
+                total += bytes.longValue();
+                measured++;
+            }
+        }
+        return measured == 0 ? 0 : total / measured;
+    }
+
+    private String cacheNameOf(byte[] key) {
+        String value = new String(key, StandardCharsets.UTF_8);
+        int separator = value.indexOf(CACHE_KEY_SEPARATOR);
+        return separator > 0 ? value.substring(0, separator) : null;
+    }
+
+    /**
+     * @param approxKeys        estimated number of keys of the cache
+     * @param approxMemoryBytes estimated memory used by those keys
+     * @param sampledKeys       keys measured with MEMORY USAGE
+     * @param exact             true if the SCAN covered the whole keyspace (key count is exact)
+     */
+    public record KeyspaceEstimate(long approxKeys, long approxMemoryBytes, int sampledKeys, boolean exact) {
+    }
+}
@@ -0,0 +1,103 @@
+package kr.devport.api.domain.common.cache.admin;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.devport.api.domain.common.cache.CacheGroups;
+import kr.devport.api.domain.common.cache.TieredCacheManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summarizes the per-cache Micrometer meters of this node together with a
+ * keyspace estimate from Redis (shared by all nodes).
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final TieredCacheManager tieredCacheManager;
+    private final MeterRegistry meterRegistry;
+    private final CacheKeyspaceSampler keyspaceSampler;
+
+    public List<CacheStatistics> getStatistics() {
+        List<String> cacheNames = tieredCacheManager.getCacheNames().stream().sorted().toList();
+        Map<String, CacheKeyspaceSampler.KeyspaceEstimate> keyspace = keyspaceSampler.sample(cacheNames);
+
+        return cacheNames.stream()
+            .map(cacheName -> statistics(cacheName, keyspace.get(cacheName)))
+            .toList();
+    }
+
+    private CacheStatistics statistics(String cacheName, CacheKeyspaceSampler.KeyspaceEstimate estimate) {
+        long l1Hits = count("cache.near.requests", cacheName, "result", "l1_hit");
+        long l2Hits = count("cache.near.requests", cacheName, "result", "l2_hit");
+        long misses = count("cache.near.requests", cacheName, "result", "miss");
+        long requests = l1Hits + l2Hits + misses;
+
+        Timer loads = meterRegistry.find("cache.load").tags("cache", cacheName, "result", "success").timer();
+        Timer failedLoads = meterRegistry.find("cache.load").tags("cache", cacheName, "result", "failure").timer();
+        DistributionSummary valueSize = meterRegistry.find("cache.value.size").tag("cache", cacheName).summary();
+
+        return new CacheStatistics(
+            cacheName,
+            CacheGroups.scopeOf(cacheName).name(),
+            requests,
+            requests == 0 ? 0.0 : (double) (l1Hits + l2Hits) / requests,
+            l1Hits,
+            l2Hits,
+            misses,
+            loads != null ? loads.count() : 0,
+            failedLoads != null ? failedLoads.count() : 0,
+            loads != null ? loads.mean(TimeUnit.MILLISECONDS) : 0.0,
+            loads != null ? loads.max(TimeUnit.MILLISECONDS) : 0.0,
+            valueSize != null ? valueSize.mean() : 0.0,
+            valueSize != null ? valueSize.max() : 0.0,
+            count("cache.evictions", cacheName, null, null),
+            count("cache.clears", cacheName, null, null),
+            estimate != null ? estimate.approxKeys() : 0,
+            estimate != null ? estimate.approxMemoryBytes() : 0,
+            estimate != null && estimate.exact()
+        );
+    }
+
+    private long count(String meterName, String cacheName, String tagKey, String tagValue) {
+        var search = meterRegistry.find(meterName).tag("cache", cacheName);
+        if (tagKey != null) {
+            search = search.tag(tagKey, tagValue);
+        }
+        FunctionCounter counter = search.functionCounter();
+        return counter != null ? (long) counter.count() : 0;
+    }
+
+    /**
+     * Cache statistics. Counters and timings cover this node since startup;
+     * key count and memory are cluster-wide estimates.
+     */
+    public record CacheStatistics(
+        String cacheName,
+        String scope,
+        long requests,
+        double hitRatio,
+        long l1Hits,
+        long l2Hits,
+        long misses,
+        long loads,
+        long failedLoads,
+        double loadMeanMs,
+        double loadMaxMs,
+        double valueSizeMeanBytes,
+        double valueSizeMaxBytes,
+        long evictions,
+        long clears,
+        long approxKeys,
+        long approxMemoryBytes,
+        boolean keyCountExact
+    ) {
+    }
+}
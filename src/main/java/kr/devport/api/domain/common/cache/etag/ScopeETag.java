@@ -0,0 +1,24 @@
+package kr.devport.api.domain.common.cache.etag;
+
+import kr.devport.api.domain.common.cache.CacheScope;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a public GET endpoint whose response only changes when data of the given
+ * scope is invalidated. Such endpoints get strong ETags and answer matching
+ * If-None-Match requests with 304 before the handler runs (see ScopeETagInterceptor).
+ *
+ * Only for responses that do not depend on the caller.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ScopeETag {
+
+    CacheScope value();
+}
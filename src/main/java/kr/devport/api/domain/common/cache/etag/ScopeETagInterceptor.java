@@ -0,0 +1,150 @@
+package kr.devport.api.domain.common.cache.etag;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.devport.api.domain.common.cache.CacheFallbackStateStore;
+import kr.devport.api.domain.common.cache.CacheGenerations;
+import kr.devport.api.domain.common.cache.CacheGroups;
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.CacheScopeVersions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Conditional GETs for endpoints annotated with {@link ScopeETag}.
+ *
+ * The ETag is a hash of the scope version (CacheScopeVersions), the generations of the
+ * scope's caches (moved by admin @CacheEvict clears), a max-age bucket and the canonical
+ * request key (path plus sorted query parameters). It is computed before the handler
+ * runs, so a matching If-None-Match is answered with 304 without reading Redis payloads
+ * or the DB. Otherwise the tag is handed to ScopeETagResponseAdvice, which adds it to
+ * successful responses.
+ *
+ * Versions are read before the data, and bumped only after invalidation, so a body is
+ * never tagged with a version newer than its data. The max-age bucket
+ * ({@code app.cache.etag.max-age}) bounds staleness for changes that bypass invalidation
+ * (TTL expiry, missed webhooks, failed version bumps). While a scope is uncertain, no
+ * ETags are issued or honoured.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScopeETagInterceptor implements HandlerInterceptor {
+
+    static final String ETAG_ATTRIBUTE = ScopeETagInterceptor.class.getName() + ".ETAG";
+    static final String CACHE_CONTROL = "no-cache";
+
+    private static final String GZIP_SUFFIX = "-gzip";
+    private static final int HASH_BYTES = 12;
+
+    private final CacheScopeVersions scopeVersions;
+    private final CacheGenerations generations;
+    private final CacheFallbackStateStore fallbackStateStore;
+
+    @Value("${app.cache.etag.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.cache.etag.max-age:10m}")
+    private Duration maxAge = Duration.ofMinutes(10);
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || !(handler instanceof HandlerMethod handlerMethod) || !isGetOrHead(request)) {
+            return true;
+        }
+        ScopeETag annotation = handlerMethod.getMethodAnnotation(ScopeETag.class);
+        if (annotation == null) {
+            return true;
+        }
+
+        CacheScope scope = annotation.value();
+        if (fallbackStateStore.isUncertain(scope) || fallbackStateStore.isUncertain(CacheScope.UNKNOWN)) {
+            return true;
+        }
+
+        String etag = etag(scope, canonicalKey(request));
+        String matched = match(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag);
+        if (matched != null) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, matched);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            return false;
+        }
+
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    String etag(CacheScope scope, String requestKey) {
+        StringBuilder source = new StringBuilder()
+            .append(scope.name()).append('|')
+            .append(scopeVersions.current(scope)).append('|');
+        for (String cacheName : CacheGroups.forScope(scope)) {
+            source.append(generations.current(cacheName)).append(',');
+        }
+        source.append('|').append(System.currentTimeMillis() / maxAge.toMillis())
+            .append('|').append(requestKey);
+
+        return "\"" + scope.name().toLowerCase() + "-" + hash(source.toString()) + "\"";
+    }
+
+    /**
+     * Tag of the gzip-encoded representation (ResponseBodyCache) of the same response.
+     */
+    static String gzipVariant(String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    /**
+     * Path plus query parameters sorted by name, so parameter order does not split tags.
+     */
+    static String canonicalKey(HttpServletRequest request) {
+        String query = request.getParameterMap().entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry -> entry.getKey() + "=" + String.join(",", entry.getValue()))
+            .collect(Collectors.joining("&"));
+        return request.getRequestURI() + "?" + query;
+    }
+
+    /**
+     * Returns the If-None-Match entry matching either representation's tag
+     * (weak comparison, RFC 9110 13.1.2), or null.
+     */
+    static String match(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String gzipTag = gzipVariant(etag);
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+            .filter(candidate -> candidate.equals(etag) || candidate.equals(gzipTag))
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static boolean isGetOrHead(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+    }
+
+    private static String hash(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, HASH_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
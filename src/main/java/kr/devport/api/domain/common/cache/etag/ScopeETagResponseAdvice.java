@@ -0,0 +1,56 @@
+package kr.devport.api.domain.common.cache.etag;
+
+import kr.devport.api.domain.common.cache.StaleCacheResponses;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the ETag computed by ScopeETagInterceptor to successful, non-stale responses,
+ * with {@code Cache-Control: no-cache} so clients store the body and revalidate it.
+ */
+@RestControllerAdvice
+public class ScopeETagResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String GZIP = "gzip";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+        Object body,
+        MethodParameter returnType,
+        MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request,
+        ServerHttpResponse response
+    ) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+            || !(servletRequest.getServletRequest().getAttribute(ScopeETagInterceptor.ETAG_ATTRIBUTE) instanceof String etag)
+            || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        // Error bodies and stale fallbacks must not be revalidated as current
+        if (!HttpStatus.valueOf(servletResponse.getServletResponse().getStatus()).is2xxSuccessful()
+            || StaleCacheResponses.isStale()) {
+            return body;
+        }
+
+        HttpHeaders headers = response.getHeaders();
+        boolean gzip = GZIP.equalsIgnoreCase(headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        headers.setETag(gzip ? ScopeETagInterceptor.gzipVariant(etag) : etag);
+        headers.setCacheControl(ScopeETagInterceptor.CACHE_CONTROL);
+        return body;
+    }
+}
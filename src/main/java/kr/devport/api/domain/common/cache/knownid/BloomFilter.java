@@ -0,0 +1,136 @@
+package kr.devport.api.domain.common.cache.knownid;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ *
+ * Sized for an expected number of insertions and a target false-positive rate
+ * ({@code m = -n ln p / (ln 2)^2} bits, {@code k = m / n ln 2} hash functions). The k bit
+ * positions are derived from two 64-bit hashes by double hashing. Bits are only ever set,
+ * so concurrent {@link #put} and {@link #mightContain} need no locking.
+ */
+final class BloomFilter {
+
+    private static final long MIN_BITS = 64;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong bitCount = new AtomicLong();
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * @param expectedInsertions number of elements the filter is sized for
+     * @param falsePositiveRate  target false-positive rate at that size, in (0, 1)
+     */
+    static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False-positive rate must be in (0, 1): " + falsePositiveRate);
+        }
+
+        double ln2 = Math.log(2);
+        long bits = Math.max(MIN_BITS,
+            (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    void put(String value) {
+        long hash1 = hash(value, 0xcbf29ce484222325L);
+        long hash2 = hash(value, 0x84222325cbf29ce4L);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            if (setBit(Math.floorMod(hash1 + i * hash2, bitSize))) {
+                bitCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * False means the value was definitely never put; true means it probably was.
+     */
+    boolean mightContain(String value) {
+        long hash1 = hash(value, 0xcbf29ce484222325L);
+        long hash2 = hash(value, 0x84222325cbf29ce4L);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * Number of distinct elements put, estimated from the fraction of bits set.
+     */
+    long approximateElementCount() {
+        double fractionSet = (double) bitCount.get() / bitSize;
+        if (fractionSet >= 1) {
+            return Long.MAX_VALUE;
+        }
+        return Math.round(-Math.log1p(-fractionSet) * bitSize / hashFunctions);
+    }
+
+    /**
+     * Probability that {@link #mightContain} answers true for a value never put,
+     * given the bits set so far.
+     */
+    double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount.get() / bitSize, hashFunctions);
+    }
+
+    /**
+     * @return true if the bit was clear before
+     */
+    private boolean setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    /**
+     * FNV-1a over the UTF-16 code units, finished with the MurmurHash3 64-bit mixer.
+     */
+    private static long hash(String value, long seed) {
+        long hash = seed;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
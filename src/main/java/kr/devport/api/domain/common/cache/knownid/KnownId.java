@@ -0,0 +1,10 @@
+package kr.devport.api.domain.common.cache.knownid;
+
+/**
+ * A public lookup id with the primary key of its row.
+ *
+ * @param key primary key, used as the incremental load watermark
+ * @param id  public lookup id
+ */
+public record KnownId(long key, String id) {
+}
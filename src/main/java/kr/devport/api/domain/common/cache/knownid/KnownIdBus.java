@@ -0,0 +1,75 @@
+package kr.devport.api.domain.common.cache.knownid;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub channel for ids registered with KnownIdFilter.
+ *
+ * Ids written by an admin (a create, or a rename of an existing row that the incremental
+ * load by primary key does not see) are published here; other nodes add them to their
+ * filters. Messages sent by this node are ignored on receipt. A lost message is covered
+ * by the next full rebuild.
+ *
+ * Message format: {@code <nodeId>|<type>|<id>}
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KnownIdBus implements KnownIdPublisher, MessageListener {
+
+    public static final String CHANNEL = "devport:cache:known-ids";
+
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile KnownIdFilter knownIdFilter;
+
+    /**
+     * Binds the filter that incoming ids are added to.
+     */
+    public void bind(KnownIdFilter knownIdFilter) {
+        this.knownIdFilter = knownIdFilter;
+    }
+
+    @Override
+    public void publish(KnownIdType type, String id) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, String.join(SEPARATOR, nodeId, type.name(), id));
+        } catch (Exception e) {
+            // Other nodes find the id after their next rebuild; never fail the caller
+            log.warn("Failed to publish known id type={}, id={}", type, id, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = payload.split("\\" + SEPARATOR, 3);
+
+        if (parts.length < 3) {
+            log.warn("Ignoring malformed known-id message: {}", payload);
+            return;
+        }
+        if (nodeId.equals(parts[0]) || knownIdFilter == null) {
+            return;
+        }
+
+        try {
+            knownIdFilter.addLocal(KnownIdType.valueOf(parts[1]), parts[2]);
+            log.debug("Added known id type={}, id={} (from node={})", parts[1], parts[2], parts[0]);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed known-id message: {}", payload);
+        }
+    }
+}
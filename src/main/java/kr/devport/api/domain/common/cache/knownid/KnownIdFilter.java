@@ -0,0 +1,409 @@
+package kr.devport.api.domain.common.cache.knownid;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Rejects lookups of ids that certainly do not exist without a database round trip.
+ *
+ * One Bloom filter per KnownIdType holds the ids of the rows up to the highest primary
+ * key it has loaded. It is built from the type's KnownIdSource at startup and every
+ * {@code app.cache.known-ids.rebuild-interval-ms} (which also drops deleted ids); in
+ * between, rows inserted since (crawler writes included) are loaded incrementally by
+ * primary key. A negative answer - not in the filter, or passed the filter but not found
+ * (false positives, deleted rows; remembered in a short-TTL negative cache) - is only
+ * trusted while the filter was synced within {@code app.cache.known-ids.max-staleness}.
+ * Otherwise the lookup first loads the rows after the filter's highest key, and if that
+ * is not possible it checks the database. Ids written by this application, including
+ * renamed ids of existing rows, are registered after commit and broadcast to the other
+ * nodes through KnownIdPublisher. Until the first build succeeds a type is not filtered.
+ *
+ * Metrics: {@code cache.known_ids.size|bits|fpp{type}} and
+ * {@code cache.known_ids.lookups{type, result=rejected|negative_hit|passed|missed}}.
+ */
+@Component
+@Slf4j
+public class KnownIdFilter {
+
+    private static final int MIN_CAPACITY = 1024;
+
+    private final Map<KnownIdType, KnownIdSource> sources = new EnumMap<>(KnownIdType.class);
+    private final KnownIdPublisher publisher;
+
+    /**
+     * Replaced under {@code this} so that no concurrent {@link #add} is lost.
+     */
+    private final Map<KnownIdType, SyncedFilter> filters = new ConcurrentHashMap<>();
+
+    /**
+     * Ids added while a rebuild of the type is loading; replayed into the new filter.
+     * Guarded by {@code this}.
+     */
+    private final Map<KnownIdType, Set<String>> addedDuringRebuild = new EnumMap<>(KnownIdType.class);
+
+    private final Object rebuildLock = new Object();
+
+    private final Cache<AbsentId, Boolean> absent;
+    private final long maxStalenessNanos;
+    private final Map<KnownIdType, LookupCounters> counters = new EnumMap<>(KnownIdType.class);
+
+    @Value("${app.cache.known-ids.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.cache.known-ids.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * Keys below the highest loaded one that each incremental load reads again:
+     * concurrent inserts can commit out of key order.
+     */
+    @Value("${app.cache.known-ids.catch-up-overlap:100}")
+    private long catchUpOverlap = 100;
+
+    public KnownIdFilter(
+        List<KnownIdSource> sources,
+        KnownIdPublisher publisher,
+        MeterRegistry meterRegistry,
+        @Value("${app.cache.known-ids.negative-ttl:30s}") Duration negativeTtl,
+        @Value("${app.cache.known-ids.negative-max-entries:10000}") long negativeMaxEntries,
+        @Value("${app.cache.known-ids.max-staleness:1s}") Duration maxStaleness
+    ) {
+        for (KnownIdSource source : sources) {
+            if (this.sources.putIfAbsent(source.type(), source) != null) {
+                throw new IllegalStateException("Duplicate KnownIdSource for " + source.type());
+            }
+        }
+        this.publisher = publisher;
+        this.absent = Caffeine.newBuilder()
+            .maximumSize(negativeMaxEntries)
+            .expireAfterWrite(negativeTtl)
+            .build();
+        this.maxStalenessNanos = maxStaleness.toNanos();
+
+        for (KnownIdType type : KnownIdType.values()) {
+            counters.put(type, new LookupCounters(meterRegistry, type));
+            registerGauges(meterRegistry, type);
+        }
+    }
+
+    /**
+     * Looks the id up unless it is known to be absent, remembering ids that were not found.
+     *
+     * @param lookup database lookup by id
+     * @return empty if the id is known to be absent or was not found
+     */
+    public <T> Optional<T> find(KnownIdType type, String id, Function<String, Optional<T>> lookup) {
+        if (id == null || !enabled) {
+            return lookup.apply(id);
+        }
+
+        LookupCounters lookupCounters = counters.get(type);
+        AbsentId key = new AbsentId(type, id);
+        SyncedFilter filter = filters.get(type);
+        if (filter != null && !filter.isSyncedWithin(maxStalenessNanos) && isKnownAbsent(filter, key)) {
+            // The row may have been inserted since the last sync
+            filter = catchUp(type, filter);
+        }
+
+        if (filter != null) {
+            if (!filter.bloom().mightContain(id)) {
+                lookupCounters.rejected.increment();
+                return Optional.empty();
+            }
+            if (absent.getIfPresent(key) != null) {
+                lookupCounters.negativeHits.increment();
+                return Optional.empty();
+            }
+        }
+
+        lookupCounters.passed.increment();
+        Optional<T> found = lookup.apply(id);
+        if (found.isEmpty()) {
+            lookupCounters.missed.increment();
+            absent.put(key, Boolean.TRUE);
+        }
+        return found;
+    }
+
+    /**
+     * Registers an id written by this application (an admin create, or a renamed id of an
+     * existing row) once the surrounding transaction commits, and broadcasts it to the
+     * other nodes.
+     */
+    public void add(KnownIdType type, String id) {
+        if (id == null) {
+            return;
+        }
+
+        afterCommit(() -> {
+            addLocal(type, id);
+            publisher.publish(type, id);
+        });
+    }
+
+    /**
+     * Registers an id on this node only (ids broadcast by other nodes).
+     */
+    public void addLocal(KnownIdType type, String id) {
+        synchronized (this) {
+            SyncedFilter filter = filters.get(type);
+            if (filter != null) {
+                filter.bloom().put(id);
+            }
+            Set<String> pending = addedDuringRebuild.get(type);
+            if (pending != null) {
+                pending.add(id);
+            }
+        }
+        absent.invalidate(new AbsentId(type, id));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildAll();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.cache.known-ids.rebuild-interval-ms:600000}",
+        initialDelayString = "${app.cache.known-ids.rebuild-interval-ms:600000}"
+    )
+    public void rebuildAll() {
+        for (KnownIdType type : KnownIdType.values()) {
+            rebuild(type);
+        }
+    }
+
+    /**
+     * Replaces the type's filter with one built from its source. On failure the
+     * previous filter stays in place. Rebuilds run one at a time.
+     *
+     * @return false if the type has no source, filtering is disabled or loading failed
+     */
+    public boolean rebuild(KnownIdType type) {
+        KnownIdSource source = sources.get(type);
+        if (!enabled || source == null) {
+            return false;
+        }
+
+        synchronized (rebuildLock) {
+            return rebuild(type, source);
+        }
+    }
+
+    private boolean rebuild(KnownIdType type, KnownIdSource source) {
+        Set<String> pending = new HashSet<>();
+        synchronized (this) {
+            addedDuringRebuild.put(type, pending);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            List<KnownId> ids = source.loadIdsAfter(0);
+            BloomFilter next = BloomFilter.create(Math.max(MIN_CAPACITY, ids.size() + ids.size() / 2), falsePositiveRate);
+            ids.forEach(knownId -> next.put(knownId.id()));
+
+            synchronized (this) {
+                pending.forEach(next::put);
+                filters.put(type, new SyncedFilter(next, maxKey(ids, 0), startedAt));
+            }
+            absent.asMap().keySet().removeIf(key -> key.type() == type);
+
+            log.info("Built known-id filter: type={}, ids={}, bits={}, hashes={}",
+                type, ids.size(), next.bitSize(), next.hashFunctions());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to build known-id filter for type={}; keeping the previous one", type, e);
+            return false;
+        } finally {
+            synchronized (this) {
+                addedDuringRebuild.remove(type);
+            }
+        }
+    }
+
+    /**
+     * Loads the rows after the filter's highest key into it.
+     *
+     * @return the filter to answer from, or null if its answer cannot be trusted
+     *         (another lookup is already loading, or loading failed)
+     */
+    private SyncedFilter catchUp(KnownIdType type, SyncedFilter filter) {
+        if (!filter.catchUpLock().tryLock()) {
+            return null;
+        }
+
+        try {
+            SyncedFilter current = filters.get(type);
+            if (current != filter || filter.isSyncedWithin(maxStalenessNanos)) {
+                // Rebuilt or caught up by another lookup in the meantime
+                return current;
+            }
+
+            long startedAt = System.nanoTime();
+            List<KnownId> ids = sources.get(type).loadIdsAfter(Math.max(0, filter.maxKey() - catchUpOverlap));
+            for (KnownId knownId : ids) {
+                filter.bloom().put(knownId.id());
+                absent.invalidate(new AbsentId(type, knownId.id()));
+            }
+            filter.synced(maxKey(ids, filter.maxKey()), startedAt);
+            return filter;
+        } catch (RuntimeException e) {
+            log.warn("Failed to load new ids into the known-id filter for type={}; looking up directly", type, e);
+            return null;
+        } finally {
+            filter.catchUpLock().unlock();
+        }
+    }
+
+    private boolean isKnownAbsent(SyncedFilter filter, AbsentId key) {
+        return !filter.bloom().mightContain(key.id()) || absent.getIfPresent(key) != null;
+    }
+
+    private static long maxKey(List<KnownId> ids, long floor) {
+        return ids.stream().mapToLong(KnownId::key).reduce(floor, Math::max);
+    }
+
+    public List<KnownIdFilterStats> getStats() {
+        return Arrays.stream(KnownIdType.values())
+            .map(this::stats)
+            .toList();
+    }
+
+    private KnownIdFilterStats stats(KnownIdType type) {
+        SyncedFilter synced = filters.get(type);
+        BloomFilter filter = synced != null ? synced.bloom() : null;
+        LookupCounters lookupCounters = counters.get(type);
+        return new KnownIdFilterStats(
+            type,
+            filter != null,
+            filter != null ? filter.approximateElementCount() : 0,
+            filter != null ? filter.bitSize() : 0,
+            filter != null ? filter.hashFunctions() : 0,
+            filter != null ? filter.expectedFalsePositiveRate() : 0,
+            synced != null ? synced.maxKey() : 0,
+            (long) lookupCounters.rejected.count(),
+            (long) lookupCounters.negativeHits.count(),
+            (long) lookupCounters.passed.count(),
+            (long) lookupCounters.missed.count()
+        );
+    }
+
+    private void registerGauges(MeterRegistry meterRegistry, KnownIdType type) {
+        Gauge.builder("cache.known_ids.size", this, knownIds -> knownIds.stats(type).approxIds())
+            .tag("type", type.name())
+            .description("Estimated number of ids in the known-id Bloom filter")
+            .register(meterRegistry);
+
+        Gauge.builder("cache.known_ids.bits", this, knownIds -> knownIds.stats(type).bitSize())
+            .tag("type", type.name())
+            .baseUnit("bits")
+            .description("Size of the known-id Bloom filter")
+            .register(meterRegistry);
+
+        Gauge.builder("cache.known_ids.fpp", this, knownIds -> knownIds.stats(type).expectedFalsePositiveRate())
+            .tag("type", type.name())
+            .description("Expected false-positive rate of the known-id Bloom filter")
+            .register(meterRegistry);
+    }
+
+    private record AbsentId(KnownIdType type, String id) {
+    }
+
+    /**
+     * A Bloom filter with the highest primary key it has loaded and when that load
+     * started ({@link System#nanoTime}); rows inserted after then may be missing.
+     */
+    private static final class SyncedFilter {
+
+        private final BloomFilter bloom;
+        private final ReentrantLock catchUpLock = new ReentrantLock();
+        private volatile long maxKey;
+        private volatile long syncedAt;
+
+        SyncedFilter(BloomFilter bloom, long maxKey, long syncedAt) {
+            this.bloom = bloom;
+            this.maxKey = maxKey;
+            this.syncedAt = syncedAt;
+        }
+
+        BloomFilter bloom() {
+            return bloom;
+        }
+
+        ReentrantLock catchUpLock() {
+            return catchUpLock;
+        }
+
+        long maxKey() {
+            return maxKey;
+        }
+
+        boolean isSyncedWithin(long nanos) {
+            return System.nanoTime() - syncedAt <= nanos;
+        }
+
+        void synced(long maxKey, long syncedAt) {
+            this.maxKey = maxKey;
+            this.syncedAt = syncedAt;
+        }
+    }
+
+    private static final class LookupCounters {
+
+        private final Counter rejected;
+        private final Counter negativeHits;
+        private final Counter passed;
+        private final Counter missed;
+
+        LookupCounters(MeterRegistry meterRegistry, KnownIdType type) {
+            this.rejected = counter(meterRegistry, type, "rejected");
+            this.negativeHits = counter(meterRegistry, type, "negative_hit");
+            this.passed = counter(meterRegistry, type, "passed");
+            this.missed = counter(meterRegistry, type, "missed");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, KnownIdType type, String result) {
+            return Counter.builder("cache.known_ids.lookups")
+                .tag("type", type.name())
+                .tag("result", result)
+                .description("Lookups by id by known-id filter outcome")
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package kr.devport.api.domain.common.cache.knownid;
+
+/**
+ * Bloom filter statistics of one entity type on this node.
+ *
+ * @param ready                    false until the first successful build (lookups pass through)
+ * @param approxIds                estimated number of ids in the filter
+ * @param bitSize                  filter size in bits
+ * @param hashFunctions            bit positions per id
+ * @param expectedFalsePositiveRate probability that an absent id passes, given the bits set
+ * @param maxKey                   highest primary key loaded into the filter
+ * @param rejected                 lookups rejected by the filter
+ * @param negativeHits             lookups rejected by the negative cache
+ * @param passed                   lookups that reached the database
+ * @param missed                   passed lookups that found nothing (false positives and deleted ids)
+ */
+public record KnownIdFilterStats(
+    KnownIdType type,
+    boolean ready,
+    long approxIds,
+    long bitSize,
+    int hashFunctions,
+    double expectedFalsePositiveRate,
+    long maxKey,
+    long rejected,
+    long negativeHits,
+    long passed,
+    long missed
+) {
+}
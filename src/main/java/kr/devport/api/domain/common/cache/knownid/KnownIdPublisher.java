@@ -0,0 +1,14 @@
+package kr.devport.api.domain.common.cache.knownid;
+
+/**
+ * Broadcasts ids registered with KnownIdFilter to the other API nodes.
+ */
+@FunctionalInterface
+public interface KnownIdPublisher {
+
+    /**
+     * @param type Entity type of the id
+     * @param id Lookup id written by this node
+     */
+    void publish(KnownIdType type, String id);
+}
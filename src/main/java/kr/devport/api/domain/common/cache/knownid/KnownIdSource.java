@@ -0,0 +1,20 @@
+package kr.devport.api.domain.common.cache.knownid;
+
+import java.util.List;
+
+/**
+ * Supplies the existing lookup ids of one entity type to KnownIdFilter.
+ *
+ * Implementations live next to the domain service whose lookups they guard and
+ * select only the primary key and id columns.
+ */
+public interface KnownIdSource {
+
+    KnownIdType type();
+
+    /**
+     * Ids of the rows whose primary key is greater than {@code afterKey}, in key order;
+     * {@code 0} loads every row.
+     */
+    List<KnownId> loadIdsAfter(long afterKey);
+}
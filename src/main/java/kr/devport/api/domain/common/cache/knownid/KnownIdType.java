@@ -0,0 +1,16 @@
+package kr.devport.api.domain.common.cache.knownid;
+
+/**
+ * Entity types whose public lookup ids are tracked by KnownIdFilter.
+ */
+public enum KnownIdType {
+
+    /** Article.externalId */
+    ARTICLE,
+
+    /** LLMModel.modelId */
+    LLM_MODEL,
+
+    /** Project.externalId */
+    PROJECT
+}
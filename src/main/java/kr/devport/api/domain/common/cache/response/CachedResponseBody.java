@@ -0,0 +1,14 @@
+package kr.devport.api.domain.common.cache.response;
+
+/**
+ * Rendered JSON response body as written to the client.
+ *
+ * @param json UTF-8 JSON bytes
+ * @param gzip gzip-encoded copy of {@code json}, or null if the body is below the gzip threshold
+ */
+public record CachedResponseBody(byte[] json, byte[] gzip) {
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+}
@@ -0,0 +1,163 @@
+package kr.devport.api.domain.common.cache.response;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Opt-in cache of rendered JSON response bodies for public list endpoints.
+ *
+ * A hit answers with the stored bytes (gzip variant when the client accepts it), so
+ * neither the cached DTO is deserialized nor the response re-serialized. Misses run the
+ * regular service call (and its own cache) and render the result with the
+ * MVC JSON converter, so cached and uncached bodies are byte-identical.
+ *
+ * Body caches are TieredCaches registered in CacheNames and keyed by the source cache's
+ * CacheKeyFactory key. They belong to the same CacheGroups scope as their source (listed
+ * after it) and are cleared whole on any invalidation of that scope. Keys carry no user
+ * dimension, matching the unsegmented public caches they are built from.
+ *
+ * Disabled by default ({@code app.cache.response-body.enabled}); when disabled the loader's
+ * result is returned unchanged.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseBodyCache {
+
+    static final String GZIP = "gzip";
+
+    private final CacheManager cacheManager;
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+
+    @Value("${app.cache.response-body.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${app.cache.response-body.gzip-min-bytes:2048}")
+    private int gzipMinBytes = 2048;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Answers a GET from the body cache, rendering and caching the loader's result on a miss.
+     *
+     * @param cacheName body cache (CacheNames.*_BODY)
+     * @param key       CacheKeyFactory key of the source cache entry
+     * @param loader    service call producing the response DTO
+     */
+    public ResponseEntity<?> respond(String cacheName, String key, HttpServletRequest request, Supplier<?> loader) {
+        if (!enabled) {
+            return ResponseEntity.ok(loader.get());
+        }
+
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("Response body cache is not configured: " + cacheName);
+        }
+
+        CachedResponseBody body;
+        try {
+            body = cache.get(key, () -> render(loader.get()));
+        } catch (Cache.ValueRetrievalException e) {
+            // Surface the service's own exception, as @Cacheable(sync = true) does
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        boolean gzip = body.hasGzip() && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(gzip ? body.gzip() : body.json());
+    }
+
+    CachedResponseBody render(Object value) throws IOException {
+        BufferedOutputMessage message = new BufferedOutputMessage();
+        jsonConverter(value.getClass()).write(value, MediaType.APPLICATION_JSON, message);
+        byte[] json = message.body.toByteArray();
+
+        if (json.length < gzipMinBytes) {
+            return new CachedResponseBody(json, null);
+        }
+
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+            out.write(json);
+        }
+        return new CachedResponseBody(json, gzipped.toByteArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpMessageConverter<Object> jsonConverter(Class<?> type) {
+        for (HttpMessageConverter<?> converter : handlerAdapter.getObject().getMessageConverters()) {
+            if (converter.canWrite(type, MediaType.APPLICATION_JSON)) {
+                return (HttpMessageConverter<Object>) converter;
+            }
+        }
+        throw new IllegalStateException("No JSON message converter can write " + type.getName());
+    }
+
+    /**
+     * True if the Accept-Encoding header lists gzip without {@code q=0}.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (!parts[0].trim().equalsIgnoreCase(GZIP)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                if (parameter.matches("q=0(\\.0{0,3})?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Collects a converter's output in memory.
+     */
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(8 * 1024);
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
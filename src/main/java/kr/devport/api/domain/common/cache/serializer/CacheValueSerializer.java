@@ -0,0 +1,259 @@
+package kr.devport.api.domain.common.cache.serializer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Type-specialized cache value serializer.
+ *
+ * Values are encoded as Smile (binary JSON) against the declared value type of the
+ * cache, so no class names are written and deserialization goes straight to the DTO.
+ *
+ * Layout: {@code [MAGIC][FORMAT_VERSION][FLAGS][payload...]}
+ *
+ * Payloads of at least {@code compressionThreshold} bytes are deflated (zlib, BEST_SPEED)
+ * when that makes them smaller; such entries carry {@link #FLAG_DEFLATE} and the payload
+ * becomes {@code [raw length (int32)][deflated bytes...]}. Smaller entries are stored
+ * as-is, so reads of small hot keys pay nothing.
+ *
+ * Entries with an unknown magic/version (e.g. written by the previous default-typed
+ * JSON serializer) or an unreadable payload deserialize to null, which RedisCache
+ * reports as a miss. The entry is then overwritten by the next load.
+ */
+@Slf4j
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xDC;
+    static final byte FORMAT_VERSION = 1;
+    static final int HEADER_LENGTH = 3;
+
+    static final byte FLAGS_NONE = 0;
+
+    /** Payload is zlib-deflated and prefixed with its inflated length. */
+    static final byte FLAG_DEFLATE = 0x01;
+
+    private static final int KNOWN_FLAGS = FLAG_DEFLATE;
+    private static final int RAW_LENGTH_BYTES = Integer.BYTES;
+
+    /** Upper bound for the declared inflated length; larger values mean a corrupt entry. */
+    private static final int MAX_INFLATED_LENGTH = 64 * 1024 * 1024;
+
+    private static final ObjectMapper SMILE_MAPPER = createSmileMapper();
+
+    private final String cacheName;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final int compressionThreshold;
+    private final CompressionObserver compressionObserver;
+
+    public CacheValueSerializer(String cacheName, JavaType valueType) {
+        this(cacheName, valueType, 0, CompressionObserver.NONE);
+    }
+
+    /**
+     * @param compressionThreshold minimum payload size in bytes to compress; 0 or less disables compression
+     */
+    public CacheValueSerializer(
+        String cacheName,
+        JavaType valueType,
+        int compressionThreshold,
+        CompressionObserver compressionObserver
+    ) {
+        if (valueType == null) {
+            throw new IllegalArgumentException("Value type must not be null for cache: " + cacheName);
+        }
+        this.cacheName = cacheName;
+        this.reader = SMILE_MAPPER.readerFor(valueType);
+        this.writer = SMILE_MAPPER.writerFor(valueType);
+        this.compressionThreshold = compressionThreshold;
+        this.compressionObserver = compressionObserver;
+    }
+
+    /**
+     * Creates a serializer for the cache's registered value type.
+     *
+     * @throws IllegalArgumentException if the cache has no entry in CacheValueTypes
+     */
+    public static CacheValueSerializer forCache(String cacheName) {
+        JavaType valueType = CacheValueTypes.forCache(cacheName);
+        if (valueType == null) {
+            throw new IllegalArgumentException("No value type registered for cache: " + cacheName);
+        }
+        return new CacheValueSerializer(cacheName, valueType);
+    }
+
+    /**
+     * Creates a compressing serializer for the cache's registered value type.
+     *
+     * @throws IllegalArgumentException if the cache has no entry in CacheValueTypes
+     */
+    public static CacheValueSerializer forCache(
+        String cacheName,
+        int compressionThreshold,
+        CompressionObserver compressionObserver
+    ) {
+        JavaType valueType = CacheValueTypes.forCache(cacheName);
+        if (valueType == null) {
+            throw new IllegalArgumentException("No value type registered for cache: " + cacheName);
+        }
+        return new CacheValueSerializer(cacheName, valueType, compressionThreshold, compressionObserver);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            PayloadOutputStream out = new PayloadOutputStream(256);
+            out.write(MAGIC);
+            out.write(FORMAT_VERSION);
+            out.write(FLAGS_NONE);
+            writer.writeValue(out, value);
+
+            int payloadLength = out.size() - HEADER_LENGTH;
+            if (compressionThreshold > 0 && payloadLength >= compressionThreshold) {
+                byte[] compressed = compress(out.buffer(), payloadLength);
+                if (compressed != null) {
+                    return compressed;
+                }
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException(
+                "Could not serialize value for cache " + cacheName + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC || bytes[1] != FORMAT_VERSION
+            || (bytes[2] & ~KNOWN_FLAGS) != 0) {
+            // Legacy or foreign format: treat as miss so the entry gets rewritten
+            return null;
+        }
+        try {
+            if ((bytes[2] & FLAG_DEFLATE) != 0) {
+                byte[] payload = decompress(bytes);
+                return reader.readValue(payload);
+            }
+            return reader.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+        } catch (IOException | DataFormatException e) {
+            log.warn("Discarding unreadable cache entry in cache={}: {}", cacheName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the compressed entry, or null if compression does not make it smaller.
+     */
+    private byte[] compress(byte[] buffer, int payloadLength) {
+        long startedAt = System.nanoTime();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(buffer, HEADER_LENGTH, payloadLength);
+            deflater.finish();
+
+            int prefixLength = HEADER_LENGTH + RAW_LENGTH_BYTES;
+            // Only worth storing if it beats the raw payload
+            byte[] out = new byte[prefixLength + payloadLength];
+            int written = prefixLength;
+            while (!deflater.finished() && written < out.length) {
+                written += deflater.deflate(out, written, out.length - written);
+            }
+            if (!deflater.finished()) {
+                compressionObserver.onCompress(payloadLength, payloadLength, System.nanoTime() - startedAt);
+                return null;
+            }
+
+            out[0] = MAGIC;
+            out[1] = FORMAT_VERSION;
+            out[2] = FLAG_DEFLATE;
+            ByteBuffer.wrap(out, HEADER_LENGTH, RAW_LENGTH_BYTES).putInt(payloadLength);
+
+            compressionObserver.onCompress(payloadLength, written - HEADER_LENGTH, System.nanoTime() - startedAt);
+            return Arrays.copyOf(out, written);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] decompress(byte[] bytes) throws DataFormatException {
+        int prefixLength = HEADER_LENGTH + RAW_LENGTH_BYTES;
+        if (bytes.length < prefixLength) {
+            throw new DataFormatException("Truncated compressed entry");
+        }
+        int rawLength = ByteBuffer.wrap(bytes, HEADER_LENGTH, RAW_LENGTH_BYTES).getInt();
+        if (rawLength < 0 || rawLength > MAX_INFLATED_LENGTH) {
+            throw new DataFormatException("Invalid inflated length: " + rawLength);
+        }
+
+        long startedAt = System.nanoTime();
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, prefixLength, bytes.length - prefixLength);
+            byte[] payload = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength) {
+                int n = inflater.inflate(payload, read, rawLength - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != rawLength) {
+                throw new DataFormatException("Inflated " + read + " of " + rawLength + " bytes");
+            }
+            compressionObserver.onDecompress(bytes.length - HEADER_LENGTH, System.nanoTime() - startedAt);
+            return payload;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Exposes the internal buffer so the payload can be compressed without another copy.
+     */
+    private static final class PayloadOutputStream extends ByteArrayOutputStream {
+
+        PayloadOutputStream(int size) {
+            super(size);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+
+    private static ObjectMapper createSmileMapper() {
+        SmileFactory smileFactory = SmileFactory.builder()
+            // Repeated enum/category strings across list elements are back-referenced
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+
+        ObjectMapper mapper = new ObjectMapper(smileFactory);
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        return mapper;
+    }
+}
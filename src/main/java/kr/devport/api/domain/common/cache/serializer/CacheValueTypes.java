@@ -0,0 +1,76 @@
+package kr.devport.api.domain.common.cache.serializer;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import kr.devport.api.domain.article.dto.response.ArticleResponse;
+import kr.devport.api.domain.article.dto.response.TrendingTickerResponse;
+import kr.devport.api.domain.common.cache.CacheNames;
+import kr.devport.api.domain.common.cache.CachedIdPage;
+import kr.devport.api.domain.common.cache.response.CachedResponseBody;
+import kr.devport.api.domain.gitrepo.dto.response.GitRepoResponse;
+import kr.devport.api.domain.llm.dto.response.LLMBenchmarkResponse;
+import kr.devport.api.domain.llm.dto.response.LLMLeaderboardEntryResponse;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declared value type of each cache, used to build type-specialized serializers.
+ *
+ * Must match the return type of the cached service method writing into the cache.
+ * Caches without an entry here keep the polymorphic JSON serializer.
+ */
+public final class CacheValueTypes {
+
+    private static final Map<String, JavaType> VALUE_TYPES;
+
+    static {
+        TypeFactory types = TypeFactory.defaultInstance();
+        Map<String, JavaType> map = new HashMap<>();
+
+        // Article caches
+        map.put(CacheNames.ARTICLES, types.constructType(CachedIdPage.class));
+        map.put(CacheNames.ARTICLE_ENTITIES, types.constructType(ArticleResponse.class));
+        map.put(CacheNames.TRENDING_TICKER, types.constructCollectionType(List.class, TrendingTickerResponse.class));
+
+        // Git repository caches
+        map.put(CacheNames.GIT_REPOS, types.constructType(CachedIdPage.class));
+        map.put(CacheNames.TRENDING_GIT_REPOS, types.constructType(CachedIdPage.class));
+        map.put(CacheNames.GIT_REPO_ENTITIES, types.constructType(GitRepoResponse.class));
+        map.put(CacheNames.GIT_REPOS_BY_LANGUAGE, types.constructCollectionType(List.class, GitRepoResponse.class));
+
+        // LLM caches
+        map.put(CacheNames.LLM_LEADERBOARD, types.constructCollectionType(List.class, LLMLeaderboardEntryResponse.class));
+        map.put(CacheNames.LLM_BENCHMARKS, types.constructCollectionType(List.class, LLMBenchmarkResponse.class));
+
+        // Response body caches
+        JavaType responseBody = types.constructType(CachedResponseBody.class);
+        map.put(CacheNames.ARTICLES_BODY, responseBody);
+        map.put(CacheNames.GIT_REPOS_BODY, responseBody);
+        map.put(CacheNames.TRENDING_GIT_REPOS_BODY, responseBody);
+        map.put(CacheNames.GIT_REPOS_BY_LANGUAGE_BODY, responseBody);
+        map.put(CacheNames.LLM_LEADERBOARD_BODY, responseBody);
+
+        VALUE_TYPES = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Returns the declared value type for the cache, or null if not registered.
+     */
+    public static JavaType forCache(String cacheName) {
+        return VALUE_TYPES.get(cacheName);
+    }
+
+    /**
+     * Returns all registered cache value types.
+     */
+    public static Map<String, JavaType> getAll() {
+        return VALUE_TYPES;
+    }
+
+    private CacheValueTypes() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+}
@@ -0,0 +1,31 @@
+package kr.devport.api.domain.common.cache.serializer;
+
+/**
+ * Receives compression measurements of a CacheValueSerializer.
+ */
+public interface CompressionObserver {
+
+    CompressionObserver NONE = new CompressionObserver() {
+        @Override
+        public void onCompress(int rawBytes, int storedBytes, long durationNanos) {
+        }
+
+        @Override
+        public void onDecompress(int storedBytes, long durationNanos) {
+        }
+    };
+
+    /**
+     * Called after a payload above the threshold was compressed.
+     *
+     * @param rawBytes      Smile payload size before compression
+     * @param storedBytes   payload size written to Redis (raw size if compression did not pay off)
+     * @param durationNanos time spent compressing
+     */
+    void onCompress(int rawBytes, int storedBytes, long durationNanos);
+
+    /**
+     * Called after a compressed payload was inflated.
+     */
+    void onDecompress(int storedBytes, long durationNanos);
+}
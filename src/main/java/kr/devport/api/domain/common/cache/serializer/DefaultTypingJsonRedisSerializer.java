@@ -0,0 +1,62 @@
+package kr.devport.api.domain.common.cache.serializer;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Polymorphic JSON serializer (class names embedded via default typing).
+ *
+ * Used by RedisTemplate and by caches without a registered value type in CacheValueTypes.
+ * Typed caches use CacheValueSerializer instead.
+ */
+public class DefaultTypingJsonRedisSerializer implements RedisSerializer<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    public DefaultTypingJsonRedisSerializer() {
+        this.objectMapper = new ObjectMapper();
+
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        // Hibernate 프록시 직렬화 오류를 막기 위해 타입 정보를 포함
+        objectMapper.activateDefaultTyping(
+            BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType(Object.class)
+                .build(),
+            ObjectMapper.DefaultTyping.NON_FINAL,
+            JsonTypeInfo.As.PROPERTY
+        );
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new SerializationException("Could not serialize: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(bytes, Object.class);
+        } catch (Exception e) {
+            throw new SerializationException("Could not deserialize: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package kr.devport.api.domain.common.cache.serializer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes compression measurements of one cache to Micrometer:
+ * {@code cache.value.compression.ratio{cache}} (raw / stored size) and
+ * {@code cache.value.compression{cache, operation=compress|decompress}}.
+ */
+public class MeteredCompressionObserver implements CompressionObserver {
+
+    private final DistributionSummary ratio;
+    private final Timer compressTime;
+    private final Timer decompressTime;
+
+    public MeteredCompressionObserver(String cacheName, MeterRegistry meterRegistry) {
+        this.ratio = DistributionSummary.builder("cache.value.compression.ratio")
+            .tag("cache", cacheName)
+            .description("Raw payload size divided by stored size for compressed candidates")
+            .register(meterRegistry);
+        this.compressTime = timer(cacheName, "compress", meterRegistry);
+        this.decompressTime = timer(cacheName, "decompress", meterRegistry);
+    }
+
+    @Override
+    public void onCompress(int rawBytes, int storedBytes, long durationNanos) {
+        ratio.record(storedBytes == 0 ? 1.0 : (double) rawBytes / storedBytes);
+        compressTime.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onDecompress(int storedBytes, long durationNanos) {
+        decompressTime.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer timer(String cacheName, String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("cache.value.compression")
+            .tag("cache", cacheName)
+            .tag("operation", operation)
+            .description("Time spent compressing or inflating cache values")
+            .register(meterRegistry);
+    }
+}
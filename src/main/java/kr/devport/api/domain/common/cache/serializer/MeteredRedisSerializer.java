@@ -0,0 +1,34 @@
+package kr.devport.api.domain.common.cache.serializer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Records the serialized size of every value written through the delegate
+ * ({@code cache.value.size{cache}}, in bytes).
+ */
+public class MeteredRedisSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> delegate;
+    private final DistributionSummary valueSize;
+
+    public MeteredRedisSerializer(RedisSerializer<Object> delegate, DistributionSummary valueSize) {
+        this.delegate = delegate;
+        this.valueSize = valueSize;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes != null) {
+            valueSize.record(bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        return delegate.deserialize(bytes);
+    }
+}
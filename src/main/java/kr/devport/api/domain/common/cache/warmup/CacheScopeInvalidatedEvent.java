@@ -0,0 +1,12 @@
+package kr.devport.api.domain.common.cache.warmup;
+
+import kr.devport.api.domain.common.cache.CacheScope;
+
+/**
+ * Published by CacheInvalidationService after a scope was invalidated successfully.
+ *
+ * @param scope invalidated scope (UNKNOWN means every domain scope)
+ * @param jobId job that triggered the invalidation
+ */
+public record CacheScopeInvalidatedEvent(CacheScope scope, String jobId) {
+}
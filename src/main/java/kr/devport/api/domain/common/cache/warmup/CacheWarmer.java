@@ -0,0 +1,26 @@
+package kr.devport.api.domain.common.cache.warmup;
+
+import kr.devport.api.domain.common.cache.CacheScope;
+
+import java.util.List;
+
+/**
+ * Supplies the hot keys of one cache scope to CacheWarmupService.
+ *
+ * Implementations live next to the domain service they warm and load through its
+ * public methods, so warm-up goes through the regular cached read path.
+ */
+public interface CacheWarmer {
+
+    /**
+     * Scope whose caches this warmer repopulates.
+     */
+    CacheScope scope();
+
+    /**
+     * Hot keys to recompute, built with CacheKeyFactory.
+     *
+     * @param pages number of leading pages to warm for paginated lists
+     */
+    List<CacheWarmupTask> hotKeys(int pages);
+}
@@ -0,0 +1,126 @@
+package kr.devport.api.domain.common.cache.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.devport.api.domain.common.cache.CacheScope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Recomputes hot cache keys after a scope invalidation and at application startup,
+ * so the first users after a crawler run don't pay the cold-cache cost.
+ *
+ * Tasks from the scope's CacheWarmers run on the bounded cacheWarmupExecutor;
+ * the caller is never blocked. Duration per scope is recorded as
+ * {@code cache.warmup.duration{scope, outcome}}. A failed key is logged and skipped.
+ */
+@Service
+@Slf4j
+public class CacheWarmupService {
+
+    private final List<CacheWarmer> warmers;
+    private final Executor warmupExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cache.warmup.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.cache.warmup.pages:1}")
+    private int pages = 1;
+
+    public CacheWarmupService(
+        List<CacheWarmer> warmers,
+        @Qualifier("cacheWarmupExecutor") Executor warmupExecutor,
+        MeterRegistry meterRegistry
+    ) {
+        this.warmers = warmers;
+        this.warmupExecutor = warmupExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        warmUp(CacheScope.UNKNOWN, "startup");
+    }
+
+    @EventListener
+    public void onScopeInvalidated(CacheScopeInvalidatedEvent event) {
+        warmUp(event.scope(), event.jobId());
+    }
+
+    /**
+     * Starts warming the scope's hot keys in the background.
+     * UNKNOWN warms every domain scope, mirroring its broad invalidation.
+     *
+     * @return completes when all keys of the scope were attempted
+     */
+    public CompletableFuture<Void> warmUp(CacheScope scope, String jobId) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<CompletableFuture<Void>> scopeRuns = new ArrayList<>();
+        for (CacheWarmer warmer : warmers) {
+            if (scope == CacheScope.UNKNOWN || warmer.scope() == scope) {
+                scopeRuns.add(warmUp(warmer, jobId));
+            }
+        }
+        return CompletableFuture.allOf(scopeRuns.toArray(CompletableFuture[]::new));
+    }
+
+    private CompletableFuture<Void> warmUp(CacheWarmer warmer, String jobId) {
+        CacheScope scope = warmer.scope();
+        List<CacheWarmupTask> tasks = warmer.hotKeys(pages);
+        AtomicInteger failures = new AtomicInteger();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        log.info("Starting cache warm-up for scope={}, keys={}, jobId={}", scope, tasks.size(), jobId);
+
+        CompletableFuture<?>[] runs = tasks.stream()
+            .map(task -> submit(task, failures))
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(runs).whenComplete((ignored, error) -> {
+            String outcome = failures.get() == 0 ? "success" : "partial";
+            long nanos = sample.stop(Timer.builder("cache.warmup.duration")
+                .tag("scope", scope.name())
+                .tag("outcome", outcome)
+                .description("Time to recompute the hot keys of a cache scope")
+                .register(meterRegistry));
+
+            log.info("Finished cache warm-up for scope={} in {}ms (keys={}, failed={}, jobId={})",
+                scope, nanos / 1_000_000, tasks.size(), failures.get(), jobId);
+        });
+    }
+
+    private CompletableFuture<Void> submit(CacheWarmupTask task, AtomicInteger failures) {
+        try {
+            return CompletableFuture.runAsync(() -> run(task, failures), warmupExecutor);
+        } catch (RejectedExecutionException e) {
+            // Executor saturated: the key is loaded by the next request instead
+            failures.incrementAndGet();
+            log.warn("Cache warm-up rejected for cache={}, key={}", task.cacheName(), task.key());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void run(CacheWarmupTask task, AtomicInteger failures) {
+        try {
+            task.loader().run();
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            log.warn("Cache warm-up failed for cache={}, key={}", task.cacheName(), task.key(), e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package kr.devport.api.domain.common.cache.warmup;
+
+/**
+ * A single hot key and the call that populates it.
+ *
+ * @param cacheName target cache (CacheNames constant)
+ * @param key       cache key built via CacheKeyFactory, used for logging
+ * @param loader    invokes the cached service method for the key
+ */
+public record CacheWarmupTask(String cacheName, String key, Runnable loader) {
+}
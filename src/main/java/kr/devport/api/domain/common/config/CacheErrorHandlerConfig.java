@@ -0,0 +1,62 @@
+package kr.devport.api.domain.common.config;
+
+import kr.devport.api.domain.common.cache.RedisCircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Keeps cache errors from failing requests.
+ *
+ * CircuitBreakingCache already turns Redis failures of the L2 into misses and dropped
+ * writes; this handler covers whatever still escapes a cache operation (e.g. an
+ * unreachable generation counter). Errors are logged and swallowed, so a failed get
+ * falls through to the cached method, and Redis access failures count towards the
+ * RedisCircuitBreaker.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class CacheErrorHandlerConfig implements CachingConfigurer {
+
+    // Resolved lazily: CachingConfigurer beans are created before most of the context
+    private final ObjectProvider<RedisCircuitBreaker> redisCircuitBreaker;
+
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new CacheErrorHandler() {
+            @Override
+            public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+                handle("get", exception, cache, key);
+            }
+
+            @Override
+            public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+                handle("put", exception, cache, key);
+            }
+
+            @Override
+            public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+                handle("evict", exception, cache, key);
+            }
+
+            @Override
+            public void handleCacheClearError(RuntimeException exception, Cache cache) {
+                handle("clear", exception, cache, null);
+            }
+        };
+    }
+
+    private void handle(String operation, RuntimeException exception, Cache cache, Object key) {
+        if (exception instanceof DataAccessException) {
+            redisCircuitBreaker.ifAvailable(RedisCircuitBreaker::onFailure);
+        }
+        log.warn("Cache {} failed for cache={}, key={}; continuing without cache",
+            operation, cache.getName(), key, exception);
+    }
+}
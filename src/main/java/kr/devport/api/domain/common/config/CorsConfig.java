@@ -1,6 +1,8 @@
 package kr.devport.api.domain.common.config;
 
+import kr.devport.api.domain.common.cache.StaleCacheResponses;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -16,6 +18,7 @@ public class CorsConfig implements WebMvcConfigurer {
             )
             .allowedMethods("GET", "POST", "PUT", "DELETE")
             .allowedHeaders("*")
+            .exposedHeaders(StaleCacheResponses.HEADER_NAME, HttpHeaders.ETAG)
             .allowCredentials(true);
     }
 }
@@ -1,13 +1,29 @@
 package kr.devport.api.domain.common.config;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.devport.api.domain.common.cache.CacheClientTracking;
+import kr.devport.api.domain.common.cache.CacheFallbackBypass;
+import kr.devport.api.domain.common.cache.CacheGenerations;
+import kr.devport.api.domain.common.cache.CacheKeyIndex;
+import kr.devport.api.domain.common.cache.CacheLeaseLock;
+import kr.devport.api.domain.common.cache.CacheRefreshAhead;
 import kr.devport.api.domain.common.cache.CacheTtlPolicy;
-import org.springframework.cache.CacheManager;
+import kr.devport.api.domain.common.cache.MultiGetRedisCacheManager;
+import kr.devport.api.domain.common.cache.NearCacheInvalidationBus;
+import kr.devport.api.domain.common.cache.RedisCacheFallbackStateStore;
+import kr.devport.api.domain.common.cache.RedisCircuitBreaker;
+import kr.devport.api.domain.common.cache.TieredCacheManager;
+import kr.devport.api.domain.common.cache.knownid.KnownIdBus;
+import kr.devport.api.domain.common.cache.knownid.KnownIdFilter;
+import kr.devport.api.domain.common.cache.serializer.CacheValueSerializer;
+import kr.devport.api.domain.common.cache.serializer.CacheValueTypes;
+import kr.devport.api.domain.common.cache.serializer.DefaultTypingJsonRedisSerializer;
+import kr.devport.api.domain.common.cache.serializer.MeteredCompressionObserver;
+import kr.devport.api.domain.common.cache.serializer.MeteredRedisSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,17 +33,25 @@ import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
-import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableCaching
+@EnableScheduling
 public class RedisConfig {
 
     @Bean
@@ -46,7 +70,20 @@ public class RedisConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public TieredCacheManager cacheManager(
+        RedisConnectionFactory connectionFactory,
+        NearCacheInvalidationBus nearCacheInvalidationBus,
+        MeterRegistry meterRegistry,
+        CacheFallbackBypass cacheFallbackBypass,
+        CacheLeaseLock cacheLeaseLock,
+        @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+        CacheGenerations cacheGenerations,
+        CacheKeyIndex cacheKeyIndex,
+        CacheRefreshAhead cacheRefreshAhead,
+        RedisCircuitBreaker redisCircuitBreaker,
+        CacheClientTracking cacheClientTracking,
+        @Value("${app.cache.compression.threshold-bytes:16384}") int compressionThreshold
+    ) {
         // Base cache configuration with serialization settings
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(CacheTtlPolicy.DEFAULT_TTL)
@@ -55,64 +92,129 @@ public class RedisConfig {
             .disableCachingNullValues();
 
         // Build cache configurations from centralized TTL policy
+        // Caches with a declared value type use the compact typed serializer
+        // Per-entry TTL is jittered by key so entries written together do not expire together
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        CacheTtlPolicy.getAllTtls().forEach((cacheName, ttl) -> 
-            cacheConfigurations.put(cacheName, defaultConfig.entryTtl(ttl))
+        CacheTtlPolicy.getAllTtls().keySet().forEach(cacheName ->
+            cacheConfigurations.put(cacheName, defaultConfig
+                .entryTtl((key, value) -> CacheTtlPolicy.getEntryTtl(cacheName, key))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                    meteredValueSerializer(cacheName, meterRegistry, compressionThreshold))))
         );
 
         // Use SCAN-based batch strategy for production-safe cache clearing
         // Avoids KEYS command which blocks Redis in large keyspaces
+        // (only used when cache generations are disabled; see TieredCache.clear)
         RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
             connectionFactory,
             BatchStrategies.scan(1000) // SCAN with count hint of 1000 per iteration
         );
 
-        return RedisCacheManager.builder(cacheWriter)
-            .cacheDefaults(defaultConfig)
-            .withInitialCacheConfigurations(cacheConfigurations)
-            .build();
+        // Caches support MGET bulk reads (per-entity caches behind normalized list caching)
+        RedisCacheManager redisCacheManager = new MultiGetRedisCacheManager(
+            cacheWriter, connectionFactory, defaultConfig, cacheConfigurations);
+        // Not a bean itself, so initialize the configured caches explicitly
+        redisCacheManager.initializeCaches();
+
+        // In-process L1 in front of Redis; L1 invalidations are broadcast over pub/sub
+        TieredCacheManager cacheManager = new TieredCacheManager(
+            redisCacheManager, nearCacheInvalidationBus, meterRegistry, cacheFallbackBypass, cacheLeaseLock,
+            cacheRefreshExecutor, cacheGenerations, cacheKeyIndex, cacheRefreshAhead,
+            redisCircuitBreaker, cacheClientTracking);
+        nearCacheInvalidationBus.bind(cacheManager);
+        return cacheManager;
     }
 
-    private RedisSerializer<Object> jsonRedisSerializer() {
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-
-        // Hibernate 프록시 직렬화 오류를 막기 위해 타입 정보를 포함
-        objectMapper.activateDefaultTyping(
-            BasicPolymorphicTypeValidator.builder()
-                .allowIfSubType(Object.class)
-                .build(),
-            ObjectMapper.DefaultTyping.NON_FINAL,
-            JsonTypeInfo.As.PROPERTY
-        );
+    /**
+     * Probabilistic early refresh of hot entries close to expiry (see CacheRefreshAhead).
+     */
+    @Bean
+    public CacheRefreshAhead cacheRefreshAhead(
+        @Value("${app.cache.refresh-ahead.enabled:true}") boolean enabled,
+        @Value("${app.cache.refresh-ahead.window:0.2}") double window,
+        @Value("${app.cache.refresh-ahead.beta:1.0}") double beta
+    ) {
+        return new CacheRefreshAhead(enabled, window, beta);
+    }
+
+    /**
+     * Bounded executor for stale-while-revalidate and refresh-ahead refreshes. Refreshes run the
+     * cached service method off the request thread, so each one gets a read-only
+     * transaction (lazy associations are resolved while building the response DTOs).
+     * When saturated, refreshes are rejected and retried by the next stale read.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor(PlatformTransactionManager transactionManager) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setTaskDecorator(task -> () -> readOnlyTransaction.executeWithoutResult(status -> task.run()));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * Bounded executor for post-invalidation and startup cache warm-up
+     * (see CacheWarmupService). Parallelism caps the extra DB load of a warm-up.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheWarmupExecutor(
+        @Value("${app.cache.warmup.parallelism:4}") int parallelism
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("cache-warmup-");
+        return executor;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        RedisConnectionFactory connectionFactory,
+        NearCacheInvalidationBus nearCacheInvalidationBus,
+        KnownIdBus knownIdBus,
+        KnownIdFilter knownIdFilter,
+        ObjectProvider<RedisCacheFallbackStateStore> fallbackStateStore
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(nearCacheInvalidationBus, new ChannelTopic(NearCacheInvalidationBus.CHANNEL));
+        // Ids added on other nodes go into the local filter
+        knownIdBus.bind(knownIdFilter);
+        container.addMessageListener(knownIdBus, new ChannelTopic(KnownIdBus.CHANNEL));
+        fallbackStateStore.ifAvailable(store ->
+            container.addMessageListener(store, new ChannelTopic(RedisCacheFallbackStateStore.CHANNEL)));
+        return container;
+    }
+
+    private RedisSerializer<Object> meteredValueSerializer(
+        String cacheName,
+        MeterRegistry meterRegistry,
+        int compressionThreshold
+    ) {
+        // Typed caches deflate payloads above the threshold (flagged in the entry header)
+        RedisSerializer<Object> serializer = CacheValueTypes.forCache(cacheName) != null
+            ? CacheValueSerializer.forCache(cacheName, compressionThreshold,
+                new MeteredCompressionObserver(cacheName, meterRegistry))
+            : jsonRedisSerializer();
+
+        DistributionSummary valueSize = DistributionSummary.builder("cache.value.size")
+            .tag("cache", cacheName)
+            .baseUnit("bytes")
+            .description("Serialized size of values written to Redis")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+
+        return new MeteredRedisSerializer(serializer, valueSize);
+    }
 
-        return new RedisSerializer<Object>() {
-            @Override
-            public byte[] serialize(Object value) throws SerializationException {
-                if (value == null) {
-                    return new byte[0];
-                }
-                try {
-                    return objectMapper.writeValueAsBytes(value);
-                } catch (Exception e) {
-                    throw new SerializationException("Could not serialize: " + e.getMessage(), e);
-                }
-            }
-
-            @Override
-            public Object deserialize(byte[] bytes) throws SerializationException {
-                if (bytes == null || bytes.length == 0) {
-                    return null;
-                }
-                try {
-                    return objectMapper.readValue(bytes, Object.class);
-                } catch (Exception e) {
-                    throw new SerializationException("Could not deserialize: " + e.getMessage(), e);
-                }
-            }
-        };
+    private RedisSerializer<Object> jsonRedisSerializer() {
+        return new DefaultTypingJsonRedisSerializer();
     }
 }
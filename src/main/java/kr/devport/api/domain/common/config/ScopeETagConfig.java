@@ -0,0 +1,19 @@
+package kr.devport.api.domain.common.config;
+
+import kr.devport.api.domain.common.cache.etag.ScopeETagInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class ScopeETagConfig implements WebMvcConfigurer {
+
+    private final ScopeETagInterceptor scopeETagInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(scopeETagInterceptor).addPathPatterns("/api/**");
+    }
+}
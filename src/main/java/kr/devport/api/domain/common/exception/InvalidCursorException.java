@@ -0,0 +1,7 @@
+package kr.devport.api.domain.common.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package kr.devport.api.domain.common.exception;
+
+public class InvalidPageSizeException extends RuntimeException {
+    public InvalidPageSizeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,70 @@
+package kr.devport.api.domain.common.pagination;
+
+import kr.devport.api.domain.common.exception.InvalidCursorException;
+import kr.devport.api.domain.common.exception.InvalidPageSizeException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Sort key of the last row of a page in a list ordered by
+ * {@code score DESC, <timestamp> DESC, id DESC}; the next page starts strictly after it.
+ *
+ * Clients receive it as an opaque URL-safe string ({@link #encode()}). Unlike an offset,
+ * the next page is found by an index range scan from the key, so a deep page costs the
+ * same as the first, and rows inserted above the position do not shift the next page.
+ */
+public record KeysetCursor(int score, LocalDateTime sortedAt, long id) {
+
+    /** Largest page a cursor request may ask for. */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    public KeysetCursor {
+        if (sortedAt == null) {
+            throw new IllegalArgumentException("sortedAt must not be null");
+        }
+    }
+
+    /**
+     * Rows to fetch for a page of {@code size}: the extra row tells whether a next page exists.
+     *
+     * @throws InvalidPageSizeException if size is not between 1 and {@link #MAX_PAGE_SIZE}
+     */
+    public static int limitWithNext(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidPageSizeException("Page size must be between 1 and " + MAX_PAGE_SIZE + ": " + size);
+        }
+        return size + 1;
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, Integer.toString(score), sortedAt.toString(), Long.toString(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return null for a missing or empty cursor (first page)
+     * @throws InvalidCursorException if the cursor was not produced by {@link #encode()}
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor);
+            }
+            return new KeysetCursor(Integer.parseInt(parts[1]), LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package kr.devport.api.domain.common.pagination;
+
+/**
+ * Total row count reported with an offset page.
+ *
+ * @param exact false for a count reused from an earlier request or a planner estimate
+ */
+public record PageTotal(long count, boolean exact) {
+
+    /**
+     * Corrects the total with what the fetched page proves: a page without more rows ends
+     * the list, so its total is known exactly; a page with more rows needs a larger total.
+     *
+     * @param offset offset of the page
+     * @param rows rows on the page (without the extra row fetched for hasMore)
+     */
+    public PageTotal reconcile(long offset, int rows, boolean hasMore) {
+        if (!hasMore && (rows > 0 || offset == 0)) {
+            return new PageTotal(offset + rows, true);
+        }
+        if (hasMore && count <= offset + rows) {
+            return new PageTotal(offset + rows + 1, false);
+        }
+        return this;
+    }
+
+    public int totalPages(int size) {
+        return size > 0 ? (int) ((count + size - 1) / size) : 1;
+    }
+}
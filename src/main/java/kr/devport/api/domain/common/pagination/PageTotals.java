@@ -0,0 +1,143 @@
+package kr.devport.api.domain.common.pagination;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.CacheScopeVersions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Totals of offset-paged lists without a COUNT query per page.
+ *
+ * Pages themselves fetch one extra row to know whether more follow, so the count is only
+ * needed for the totals shown to the user. It runs on page 0 and is kept per canonical
+ * filter key (see CacheKeyFactory) and scope version: later pages reuse it, reported as
+ * not exact, and a crawler webhook or admin write that bumps the scope starts a fresh
+ * count. A later page whose count is not cached (expired, deep link) counts once, and
+ * a page that ends the list needs no count at all.
+ *
+ * Unfiltered lists of large tables skip the count entirely: on PostgreSQL the planner's
+ * row estimate ({@code pg_class.reltuples}, refreshed by ANALYZE/autovacuum) is used once
+ * it reaches {@code app.pagination.totals.estimate-min-rows}.
+ */
+@Component
+@Slf4j
+public class PageTotals {
+
+    private final CacheScopeVersions scopeVersions;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<TotalKey, Long> totals;
+
+    @Value("${app.pagination.totals.estimate-min-rows:100000}")
+    private long estimateMinRows = 100_000;
+
+    /**
+     * Cleared once the catalog query is rejected (not PostgreSQL).
+     */
+    private volatile boolean estimatesSupported = true;
+
+    public PageTotals(
+        CacheScopeVersions scopeVersions,
+        JdbcTemplate jdbcTemplate,
+        @Value("${app.pagination.totals.ttl:5m}") Duration ttl,
+        @Value("${app.pagination.totals.max-entries:10000}") long maxEntries
+    ) {
+        this.scopeVersions = scopeVersions;
+        this.jdbcTemplate = jdbcTemplate;
+        this.totals = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    /**
+     * @param filterKey canonical key of the list's filters
+     * @param slice the page being answered (see Slices)
+     * @param count exact count of the filtered list
+     */
+    public PageTotal total(CacheScope scope, String filterKey, Slice<?> slice, LongSupplier count) {
+        PageTotal ending = endingTotal(slice);
+        if (ending != null) {
+            return ending;
+        }
+
+        TotalKey key = new TotalKey(scope, scopeVersions.current(scope), filterKey);
+        if (slice.getNumber() > 0) {
+            Long cached = totals.getIfPresent(key);
+            if (cached != null) {
+                return reconcile(new PageTotal(cached, false), slice);
+            }
+        }
+
+        long counted = count.getAsLong();
+        totals.put(key, counted);
+        return reconcile(new PageTotal(counted, true), slice);
+    }
+
+    /**
+     * Total of an unfiltered list: the planner estimate for a large table, otherwise
+     * {@link #total}.
+     */
+    public PageTotal estimatedTotal(CacheScope scope, String table, Slice<?> slice, LongSupplier count) {
+        PageTotal ending = endingTotal(slice);
+        if (ending != null) {
+            return ending;
+        }
+
+        long estimate = plannerEstimate(table);
+        if (estimate >= estimateMinRows) {
+            return reconcile(new PageTotal(estimate, false), slice);
+        }
+        return total(scope, "table:" + table, slice, count);
+    }
+
+    /**
+     * The exact total if the slice is the last page (nothing to count), otherwise null.
+     */
+    private static PageTotal endingTotal(Slice<?> slice) {
+        long offset = slice.getPageable().getOffset();
+        if (!slice.hasNext() && (slice.hasContent() || offset == 0)) {
+            return new PageTotal(offset + slice.getNumberOfElements(), true);
+        }
+        return null;
+    }
+
+    private static PageTotal reconcile(PageTotal total, Slice<?> slice) {
+        return total.reconcile(slice.getPageable().getOffset(), slice.getNumberOfElements(), slice.hasNext());
+    }
+
+    private long plannerEstimate(String table) {
+        if (!estimatesSupported) {
+            return -1;
+        }
+
+        try {
+            Long rows = jdbcTemplate.queryForObject(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, table);
+            // -1 until the table is first analyzed
+            return rows != null ? rows : -1;
+        } catch (EmptyResultDataAccessException e) {
+            return -1;
+        } catch (BadSqlGrammarException e) {
+            estimatesSupported = false;
+            log.debug("Planner row estimates unavailable; list totals use COUNT", e);
+            return -1;
+        } catch (DataAccessException e) {
+            log.debug("Could not read planner row estimate of {}", table, e);
+            return -1;
+        }
+    }
+
+    private record TotalKey(CacheScope scope, long scopeVersion, String filterKey) {
+    }
+}
@@ -0,0 +1,31 @@
+package kr.devport.api.domain.common.pagination;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * Slices from queries that fetch one row more than the page size: the extra row only
+ * tells that another page follows, so no COUNT query is needed for hasNext.
+ */
+public final class Slices {
+
+    private Slices() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Row limit for a page of the pageable (page size + 1).
+     */
+    public static int limitWithNext(Pageable pageable) {
+        return pageable.getPageSize() + 1;
+    }
+
+    public static <T> Slice<T> of(List<T> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
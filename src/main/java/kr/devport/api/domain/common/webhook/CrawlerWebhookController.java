@@ -26,7 +26,8 @@ public class CrawlerWebhookController {
      * Receives crawler job-completed webhook.
      * 
      * Validates HMAC signature before processing.
-     * Returns 202 Accepted for idempotent retry safety.
+     * Returns 202 Accepted for idempotent retry safety; invalidation runs in the background.
+     * A repeated job_id is acknowledged with status "duplicate" and not processed again.
      * 
      * @param request Job completion payload with signature
      * @param rawPayload Raw JSON for signature verification
@@ -49,13 +50,13 @@ public class CrawlerWebhookController {
                 ));
         }
         
-        // Process webhook (idempotent)
-        crawlerWebhookService.handleJobCompleted(request);
+        // Queue invalidation (idempotent)
+        boolean queued = crawlerWebhookService.handleJobCompleted(request);
         
         // Return 202 Accepted for retry-safe semantics
         return ResponseEntity.status(HttpStatus.ACCEPTED)
             .body(Map.of(
-                "status", "accepted",
+                "status", queued ? "accepted" : "duplicate",
                 "job_id", request.getJobId(),
                 "scope", request.getEffectiveScope()
             ));
@@ -1,7 +1,7 @@
 package kr.devport.api.domain.common.webhook;
 
-import kr.devport.api.domain.common.cache.CacheInvalidationService;
-import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.CacheInvalidationQueue;
+import kr.devport.api.domain.common.cache.CacheInvalidationTarget;
 import kr.devport.api.domain.common.webhook.dto.CrawlerJobCompletedRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,7 +16,7 @@ import java.security.NoSuchAlgorithmException;
 import java.util.HexFormat;
 
 /**
- * Handles crawler webhook events and delegates to cache invalidation.
+ * Handles crawler webhook events and queues cache invalidation.
  * Validates webhook authenticity via HMAC signature before processing.
  */
 @Service
@@ -26,7 +26,7 @@ public class CrawlerWebhookService {
     
     private static final String HMAC_ALGORITHM = "HmacSHA256";
     
-    private final CacheInvalidationService cacheInvalidationService;
+    private final CacheInvalidationQueue cacheInvalidationQueue;
     
     @Value("${app.crawler.webhook-secret:}")
     private String webhookSecret;
@@ -71,27 +71,21 @@ public class CrawlerWebhookService {
     }
     
     /**
-     * Processes job-completed webhook and triggers cache invalidation.
-     * Idempotent - repeated calls for same job_id are safe.
+     * Queues cache invalidation for a job-completed webhook.
+     * Idempotent - repeated calls for same job_id and scope are acknowledged but not re-queued,
+     * on any node (CacheJobLedger).
+     * Invalidation runs in the background (CacheInvalidationQueue), coalesced per scope.
+     * Payloads naming entity_ids/categories/languages evict only the affected keys.
      * 
      * @param request Validated webhook payload
+     * @return true if queued, false if the job_id was a duplicate
      */
-    public void handleJobCompleted(CrawlerJobCompletedRequest request) {
-        CacheScope scope = request.getEffectiveScope();
+    public boolean handleJobCompleted(CrawlerJobCompletedRequest request) {
+        CacheInvalidationTarget target = request.toInvalidationTarget();
         
-        log.info("Processing crawler job completion: jobId={}, scope={}", 
-            request.getJobId(), scope);
+        log.info("Queueing crawler job completion: jobId={}, scope={}, targeted={}", 
+            request.getJobId(), target.scope(), !target.isScopeWide());
         
-        try {
-            cacheInvalidationService.invalidateScope(scope, request.getJobId());
-            
-            log.info("Successfully invalidated caches for scope={}, jobId={}", 
-                scope, request.getJobId());
-                
-        } catch (Exception e) {
-            log.error("Failed to invalidate caches for scope={}, jobId={}", 
-                scope, request.getJobId(), e);
-            // Don't throw - webhook should still return 202 for retry safety
-        }
+        return cacheInvalidationQueue.enqueue(target, request.getJobId());
     }
 }
@@ -2,12 +2,15 @@ package kr.devport.api.domain.common.webhook.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotBlank;
+import kr.devport.api.domain.common.cache.CacheInvalidationTarget;
 import kr.devport.api.domain.common.cache.CacheScope;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 /**
  * Webhook payload for crawler job completion events.
  * Received from external crawler system to signal data changes requiring cache invalidation.
@@ -32,6 +35,26 @@ public class CrawlerJobCompletedRequest {
     @JsonProperty("scope")
     private CacheScope scope;
     
+    /**
+     * Optional ids of entities whose content changed (articles or git repositories).
+     * Only cache entries containing these entities are evicted.
+     */
+    @JsonProperty("entity_ids")
+    private List<Long> entityIds;
+    
+    /**
+     * Optional categories whose list membership or ordering changed.
+     * Evicts list entries of these categories and the unfiltered lists.
+     */
+    @JsonProperty("categories")
+    private List<String> categories;
+    
+    /**
+     * Optional languages whose repository lists changed (GIT_REPO scope).
+     */
+    @JsonProperty("languages")
+    private List<String> languages;
+    
     /**
      * Optional timestamp of job completion (ISO-8601).
      */
@@ -52,4 +75,11 @@ public class CrawlerJobCompletedRequest {
     public CacheScope getEffectiveScope() {
         return scope != null ? scope : CacheScope.UNKNOWN;
     }
+    
+    /**
+     * Returns what to invalidate; without entity_ids/categories/languages the whole scope.
+     */
+    public CacheInvalidationTarget toInvalidationTarget() {
+        return CacheInvalidationTarget.of(getEffectiveScope(), entityIds, categories, languages);
+    }
 }
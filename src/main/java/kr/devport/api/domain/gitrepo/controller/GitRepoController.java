@@ -2,7 +2,17 @@ package kr.devport.api.domain.gitrepo.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import kr.devport.api.domain.common.cache.CacheKeyFactory;
+import kr.devport.api.domain.common.cache.CacheNames;
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.etag.ScopeETag;
+import kr.devport.api.domain.common.cache.response.ResponseBodyCache;
 import kr.devport.api.domain.gitrepo.enums.Category;
 import kr.devport.api.domain.gitrepo.dto.response.GitRepoPageResponse;
 import kr.devport.api.domain.gitrepo.dto.response.GitRepoResponse;
@@ -11,8 +21,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "GitRepo", description = "GitHub Repository API")
 @RestController
 @RequestMapping("/api/git-repos")
@@ -20,13 +28,19 @@ import java.util.List;
 public class GitRepoController {
 
     private final GitRepoService gitRepoService;
+    private final ResponseBodyCache responseBodyCache;
 
     @Operation(
         summary = "Get git repos",
         description = "Get paginated list of GitHub repositories with optional category filtering"
     )
+    @ApiResponse(
+        responseCode = "200",
+        content = @Content(schema = @Schema(implementation = GitRepoPageResponse.class))
+    )
+    @ScopeETag(CacheScope.GIT_REPO)
     @GetMapping
-    public ResponseEntity<GitRepoPageResponse> getGitRepos(
+    public ResponseEntity<?> getGitRepos(
         @Parameter(description = "Category filter (optional)")
         @RequestParam(required = false) Category category,
 
@@ -34,41 +48,66 @@ public class GitRepoController {
         @RequestParam(defaultValue = "0") int page,
 
         @Parameter(description = "Page size")
-        @RequestParam(defaultValue = "10") int size
+        @RequestParam(defaultValue = "10") int size,
+
+        @Parameter(description = "Cursor mode: empty for the first page, then the previous response's nextCursor (page is ignored, totals are omitted)")
+        @RequestParam(required = false) String cursor,
+
+        HttpServletRequest request
     ) {
-        GitRepoPageResponse response = gitRepoService.getGitRepos(category, page, size);
-        return ResponseEntity.ok(response);
+        if (cursor != null) {
+            return ResponseEntity.ok(gitRepoService.getGitReposAfter(category, cursor, size));
+        }
+        return responseBodyCache.respond(
+            CacheNames.GIT_REPOS_BODY, CacheKeyFactory.gitRepoListKey(category, page, size), request,
+            () -> gitRepoService.getGitRepos(category, page, size));
     }
 
     @Operation(
         summary = "Get trending git repos",
         description = "Get paginated list of trending GitHub repositories sorted by starsThisWeek"
     )
+    @ApiResponse(
+        responseCode = "200",
+        content = @Content(schema = @Schema(implementation = GitRepoPageResponse.class))
+    )
+    @ScopeETag(CacheScope.GIT_REPO)
     @GetMapping("/trending")
-    public ResponseEntity<GitRepoPageResponse> getTrendingGitRepos(
+    public ResponseEntity<?> getTrendingGitRepos(
         @Parameter(description = "Page number (0-indexed)")
         @RequestParam(defaultValue = "0") int page,
 
         @Parameter(description = "Page size")
-        @RequestParam(defaultValue = "10") int size
+        @RequestParam(defaultValue = "10") int size,
+
+        HttpServletRequest request
     ) {
-        GitRepoPageResponse response = gitRepoService.getTrendingGitRepos(page, size);
-        return ResponseEntity.ok(response);
+        return responseBodyCache.respond(
+            CacheNames.TRENDING_GIT_REPOS_BODY, CacheKeyFactory.trendingGitReposKey(page, size), request,
+            () -> gitRepoService.getTrendingGitRepos(page, size));
     }
 
     @Operation(
         summary = "Get git repos by language",
         description = "Get repositories filtered by programming language"
     )
+    @ApiResponse(
+        responseCode = "200",
+        content = @Content(array = @ArraySchema(schema = @Schema(implementation = GitRepoResponse.class)))
+    )
+    @ScopeETag(CacheScope.GIT_REPO)
     @GetMapping("/language/{language}")
-    public ResponseEntity<List<GitRepoResponse>> getGitReposByLanguage(
+    public ResponseEntity<?> getGitReposByLanguage(
         @Parameter(description = "Programming language (e.g., JavaScript, Python, Rust)")
         @PathVariable String language,
 
         @Parameter(description = "Number of repositories to return")
-        @RequestParam(defaultValue = "10") int limit
+        @RequestParam(defaultValue = "10") int limit,
+
+        HttpServletRequest request
     ) {
-        List<GitRepoResponse> response = gitRepoService.getGitReposByLanguage(language, limit);
-        return ResponseEntity.ok(response);
+        return responseBodyCache.respond(
+            CacheNames.GIT_REPOS_BY_LANGUAGE_BODY, CacheKeyFactory.gitReposByLanguageKey(language, limit), request,
+            () -> gitRepoService.getGitReposByLanguage(language, limit));
     }
 }
@@ -20,15 +20,21 @@ public class GitRepoPageResponse {
     @Schema(description = "List of git repositories")
     private List<GitRepoResponse> content;
 
-    @Schema(description = "Total number of repositories", example = "150")
-    private long totalElements;
+    @Schema(description = "Total number of repositories (omitted in cursor mode)", example = "150")
+    private Long totalElements;
 
-    @Schema(description = "Total number of pages", example = "15")
-    private int totalPages;
+    @Schema(description = "Total number of pages (omitted in cursor mode)", example = "15")
+    private Integer totalPages;
 
-    @Schema(description = "Current page number", example = "0")
-    private int currentPage;
+    @Schema(description = "Current page number (omitted in cursor mode)", example = "0")
+    private Integer currentPage;
 
     @Schema(description = "Whether there are more pages", example = "true")
-    private boolean hasMore;
+    private Boolean hasMore;
+
+    @Schema(description = "Whether totalElements/totalPages are exact; false for a reused count or an estimate (omitted in cursor mode)", example = "true")
+    private Boolean totalExact;
+
+    @Schema(description = "Cursor for the next page in cursor mode, null on the last page", example = "djF8MTAwfDIwMjYtMDEtMDFUMDA6MDB8NDI")
+    private String nextCursor;
 }
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import kr.devport.api.domain.gitrepo.enums.Category;
 import lombok.AllArgsConstructor;
@@ -19,7 +20,11 @@ import java.time.LocalDateTime;
 
 /** GitHub 트렌딩 repository 및 메타데이터 */
 @Entity
-@Table(name = "git_repos")
+@Table(name = "git_repos", indexes = {
+    // 커서 페이지네이션 정렬 키 (score, created_at, id) 범위 스캔용. 운영: db/manual/002_keyset_indexes.sql
+    @Index(name = "idx_git_repos_keyset", columnList = "score DESC, created_at DESC, id DESC"),
+    @Index(name = "idx_git_repos_category_keyset", columnList = "category, score DESC, created_at DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
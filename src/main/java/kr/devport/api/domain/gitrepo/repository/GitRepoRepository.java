@@ -7,7 +7,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,7 +14,7 @@ import java.util.Optional;
  * Spring Data JPA will automatically implement CRUD operations
  */
 @Repository
-public interface GitRepoRepository extends JpaRepository<GitRepo, Long> {
+public interface GitRepoRepository extends JpaRepository<GitRepo, Long>, GitRepoRepositoryCustom {
 
     /**
      * Find git repo by URL (unique constraint)
@@ -36,4 +35,9 @@ public interface GitRepoRepository extends JpaRepository<GitRepo, Long> {
      * Find git repos by programming language
      */
     Page<GitRepo> findByLanguageOrderByScoreDesc(String language, Pageable pageable);
+
+    /**
+     * Count git repos in a category (list totals, see PageTotals)
+     */
+    long countByCategory(Category category);
 }
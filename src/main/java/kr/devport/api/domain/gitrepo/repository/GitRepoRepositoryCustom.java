@@ -0,0 +1,29 @@
+package kr.devport.api.domain.gitrepo.repository;
+
+import kr.devport.api.domain.common.pagination.KeysetCursor;
+import kr.devport.api.domain.gitrepo.enums.Category;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public interface GitRepoRepositoryCustom {
+
+    /**
+     * 커서(키셋) 페이지네이션: 정렬 키 (score, createdAt, id) 기준 after 다음 행부터 limit개
+     * - 정렬 키만 조회 (저장소 DTO는 저장소별 캐시에서)
+     * - 오프셋/COUNT 없이 복합 인덱스 범위 스캔
+     */
+    List<KeysetCursor> findKeysetPage(Category category, KeysetCursor after, int limit);
+
+    /**
+     * 목록 캐시(CachedIdPage)용 id 슬라이스: score, createdAt, id 내림차순
+     * - 페이지 크기 + 1개 조회로 다음 페이지 여부 판단 (COUNT 없음)
+     */
+    Slice<Long> findIdSlice(Category category, Pageable pageable);
+
+    /**
+     * 트렌딩 목록 id 슬라이스: 이번 주 스타 증가 수 내림차순
+     */
+    Slice<Long> findTrendingIdSlice(Pageable pageable);
+}
@@ -0,0 +1,82 @@
+package kr.devport.api.domain.gitrepo.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.devport.api.domain.common.pagination.KeysetCursor;
+import kr.devport.api.domain.common.pagination.Slices;
+import kr.devport.api.domain.gitrepo.entity.QGitRepo;
+import kr.devport.api.domain.gitrepo.enums.Category;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class GitRepoRepositoryImpl implements GitRepoRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    private static final QGitRepo gitRepo = QGitRepo.gitRepo;
+
+    @Override
+    public List<KeysetCursor> findKeysetPage(Category category, KeysetCursor after, int limit) {
+        return queryFactory
+            .select(Projections.constructor(KeysetCursor.class, gitRepo.score, gitRepo.createdAt, gitRepo.id))
+            .from(gitRepo)
+            .where(
+                categoryEq(category),
+                keysetAfter(after)
+            )
+            .orderBy(gitRepo.score.desc(), gitRepo.createdAt.desc(), gitRepo.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public Slice<Long> findIdSlice(Category category, Pageable pageable) {
+        List<Long> rows = queryFactory
+            .select(gitRepo.id)
+            .from(gitRepo)
+            .where(categoryEq(category))
+            .orderBy(gitRepo.score.desc(), gitRepo.createdAt.desc(), gitRepo.id.desc())
+            .offset(pageable.getOffset())
+            .limit(Slices.limitWithNext(pageable))
+            .fetch();
+
+        return Slices.of(rows, pageable);
+    }
+
+    @Override
+    public Slice<Long> findTrendingIdSlice(Pageable pageable) {
+        List<Long> rows = queryFactory
+            .select(gitRepo.id)
+            .from(gitRepo)
+            .orderBy(gitRepo.starsThisWeek.desc(), gitRepo.id.desc())
+            .offset(pageable.getOffset())
+            .limit(Slices.limitWithNext(pageable))
+            .fetch();
+
+        return Slices.of(rows, pageable);
+    }
+
+    private BooleanExpression categoryEq(Category category) {
+        return category != null ? gitRepo.category.eq(category) : null;
+    }
+
+    private BooleanExpression keysetAfter(KeysetCursor after) {
+        if (after == null) {
+            return null;
+        }
+        // (score, createdAt, id) < cursor; the redundant score bound keeps it an index range scan
+        return gitRepo.score.loe(after.score()).and(
+            gitRepo.score.lt(after.score())
+                .or(gitRepo.score.eq(after.score()).and(gitRepo.createdAt.lt(after.sortedAt())))
+                .or(gitRepo.score.eq(after.score()).and(gitRepo.createdAt.eq(after.sortedAt()))
+                    .and(gitRepo.id.lt(after.id())))
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package kr.devport.api.domain.gitrepo.service;
+
+import kr.devport.api.domain.common.cache.CacheKeyFactory;
+import kr.devport.api.domain.common.cache.CacheNames;
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.warmup.CacheWarmer;
+import kr.devport.api.domain.common.cache.warmup.CacheWarmupTask;
+import kr.devport.api.domain.gitrepo.enums.Category;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Git 저장소 스코프 핫 키 워밍: 전체/카테고리별 목록과 트렌딩 목록 앞 페이지.
+ */
+@Component
+@RequiredArgsConstructor
+public class GitRepoCacheWarmer implements CacheWarmer {
+
+    // GitRepoController 기본 파라미터와 동일해야 실제 요청 키와 일치
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final GitRepoService gitRepoService;
+
+    @Override
+    public CacheScope scope() {
+        return CacheScope.GIT_REPO;
+    }
+
+    @Override
+    public List<CacheWarmupTask> hotKeys(int pages) {
+        List<CacheWarmupTask> tasks = new ArrayList<>();
+
+        List<Category> categories = new ArrayList<>();
+        categories.add(null);
+        categories.addAll(List.of(Category.values()));
+
+        for (int page = 0; page < pages; page++) {
+            int targetPage = page;
+            for (Category category : categories) {
+                tasks.add(new CacheWarmupTask(
+                    CacheNames.GIT_REPOS,
+                    CacheKeyFactory.gitRepoListKey(category, targetPage, DEFAULT_PAGE_SIZE),
+                    () -> gitRepoService.getGitRepos(category, targetPage, DEFAULT_PAGE_SIZE)
+                ));
+            }
+            tasks.add(new CacheWarmupTask(
+                CacheNames.TRENDING_GIT_REPOS,
+                CacheKeyFactory.trendingGitReposKey(targetPage, DEFAULT_PAGE_SIZE),
+                () -> gitRepoService.getTrendingGitRepos(targetPage, DEFAULT_PAGE_SIZE)
+            ));
+        }
+
+        return tasks;
+    }
+}
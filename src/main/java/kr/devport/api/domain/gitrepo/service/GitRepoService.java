@@ -7,16 +7,25 @@ import kr.devport.api.domain.gitrepo.dto.response.GitRepoResponse;
 import kr.devport.api.domain.gitrepo.repository.GitRepoRepository;
 import kr.devport.api.domain.common.cache.CacheKeyFactory;
 import kr.devport.api.domain.common.cache.CacheNames;
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.CachedIdPage;
+import kr.devport.api.domain.common.cache.NormalizedListCache;
+import kr.devport.api.domain.common.cache.ReadThroughCache;
+import kr.devport.api.domain.common.pagination.KeysetCursor;
+import kr.devport.api.domain.common.pagination.PageTotal;
+import kr.devport.api.domain.common.pagination.PageTotals;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,65 +34,83 @@ import java.util.stream.Collectors;
 public class GitRepoService {
 
     private final GitRepoRepository gitRepoRepository;
+    private final NormalizedListCache normalizedListCache;
+    private final ReadThroughCache readThroughCache;
+    private final PageTotals pageTotals;
 
-    @Cacheable(
-        value = CacheNames.GIT_REPOS,
-        key = "T(kr.devport.api.domain.common.cache.CacheKeyFactory).gitRepoListKey(#category, #page, #size)",
-        unless = "@cacheFallbackBypass.shouldBypass('GIT_REPO')"
-    )
+    /**
+     * 목록 캐시에는 정렬된 id만 저장하고 저장소 DTO는 저장소별 캐시에서 MGET으로 조회
+     * - 전체 개수는 첫 페이지에서만 집계 (전체 목록은 플래너 추정치 사용 가능)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public GitRepoPageResponse getGitRepos(Category category, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size,
-            Sort.by(Sort.Direction.DESC, "score")
-                .and(Sort.by(Sort.Direction.DESC, "createdAt"))
+        CachedIdPage idPage = normalizedListCache.idPage(
+            CacheNames.GIT_REPOS,
+            CacheKeyFactory.gitRepoListKey(category, page, size),
+            () -> {
+                Slice<Long> ids = gitRepoRepository.findIdSlice(category, PageRequest.of(page, size));
+                PageTotal total = category == null
+                    ? allGitReposTotal(ids)
+                    : pageTotals.total(CacheScope.GIT_REPO, "category:" + category.name(), ids,
+                        () -> gitRepoRepository.countByCategory(category));
+                return CachedIdPage.of(ids, total);
+            }
         );
+        return toPageResponse(idPage);
+    }
 
-        Page<GitRepo> gitRepoPage;
+    /**
+     * 커서 모드 목록: 정렬 키 (score, createdAt, id)만 limit+1개 조회, 전체 개수는 생략
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public GitRepoPageResponse getGitReposAfter(Category category, String cursor, int size) {
+        List<KeysetCursor> keys = gitRepoRepository.findKeysetPage(category, KeysetCursor.decode(cursor), KeysetCursor.limitWithNext(size));
+        boolean hasMore = keys.size() > size;
+        List<KeysetCursor> pageKeys = hasMore ? keys.subList(0, size) : keys;
 
-        if (category == null) {
-            gitRepoPage = gitRepoRepository.findAll(pageable);
-        } else {
-            gitRepoPage = gitRepoRepository.findByCategory(category, pageable);
-        }
+        List<GitRepoResponse> content = normalizedListCache.entities(
+            CacheNames.GIT_REPO_ENTITIES,
+            pageKeys.stream().map(KeysetCursor::id).toList(),
+            this::loadGitRepoResponses
+        );
 
-        // 캐시에 DTO를 넣어 지연 로딩 문제를 피한다.
         return GitRepoPageResponse.builder()
-            .content(gitRepoPage.getContent().stream()
-                .map(this::convertToGitRepoResponse)
-                .collect(Collectors.toList()))
-            .totalElements(gitRepoPage.getTotalElements())
-            .totalPages(gitRepoPage.getTotalPages())
-            .currentPage(gitRepoPage.getNumber())
-            .hasMore(gitRepoPage.hasNext())
+            .content(content)
+            .hasMore(hasMore)
+            .nextCursor(hasMore ? pageKeys.getLast().encode() : null)
             .build();
     }
 
-    @Cacheable(
-        value = CacheNames.TRENDING_GIT_REPOS,
-        key = "T(kr.devport.api.domain.common.cache.CacheKeyFactory).trendingGitReposKey(#page, #size)",
-        unless = "@cacheFallbackBypass.shouldBypass('GIT_REPO')"
-    )
+    @Transactional(propagation = Propagation.SUPPORTS)
     public GitRepoPageResponse getTrendingGitRepos(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-
-        Page<GitRepo> gitRepoPage = gitRepoRepository.findAllByOrderByStarsThisWeekDesc(pageable);
+        CachedIdPage idPage = normalizedListCache.idPage(
+            CacheNames.TRENDING_GIT_REPOS,
+            CacheKeyFactory.trendingGitReposKey(page, size),
+            () -> {
+                Slice<Long> ids = gitRepoRepository.findTrendingIdSlice(PageRequest.of(page, size));
+                return CachedIdPage.of(ids, allGitReposTotal(ids));
+            }
+        );
+        return toPageResponse(idPage);
+    }
 
-        return GitRepoPageResponse.builder()
-            .content(gitRepoPage.getContent().stream()
-                .map(this::convertToGitRepoResponse)
-                .collect(Collectors.toList()))
-            .totalElements(gitRepoPage.getTotalElements())
-            .totalPages(gitRepoPage.getTotalPages())
-            .currentPage(gitRepoPage.getNumber())
-            .hasMore(gitRepoPage.hasNext())
-            .build();
+    /**
+     * 전체 저장소 수 (필터 없는 목록과 트렌딩 목록이 공유)
+     */
+    private PageTotal allGitReposTotal(Slice<Long> ids) {
+        return pageTotals.estimatedTotal(CacheScope.GIT_REPO, "git_repos", ids, gitRepoRepository::count);
     }
 
-    @Cacheable(
-        value = CacheNames.GIT_REPOS_BY_LANGUAGE,
-        key = "T(kr.devport.api.domain.common.cache.CacheKeyFactory).gitReposByLanguageKey(#language, #limit)",
-        unless = "@cacheFallbackBypass.shouldBypass('GIT_REPO')"
-    )
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<GitRepoResponse> getGitReposByLanguage(String language, int limit) {
+        return readThroughCache.get(
+            CacheNames.GIT_REPOS_BY_LANGUAGE,
+            CacheKeyFactory.gitReposByLanguageKey(language, limit),
+            () -> loadGitReposByLanguage(language, limit)
+        );
+    }
+
+    private List<GitRepoResponse> loadGitReposByLanguage(String language, int limit) {
         Pageable pageable = PageRequest.of(0, limit);
 
         Page<GitRepo> gitRepos = gitRepoRepository.findByLanguageOrderByScoreDesc(language, pageable);
@@ -93,6 +120,26 @@ public class GitRepoService {
             .collect(Collectors.toList());
     }
 
+    private GitRepoPageResponse toPageResponse(CachedIdPage idPage) {
+        // 캐시에 DTO를 넣어 지연 로딩 문제를 피한다.
+        List<GitRepoResponse> content = normalizedListCache.entities(
+            CacheNames.GIT_REPO_ENTITIES, idPage.ids(), this::loadGitRepoResponses);
+
+        return GitRepoPageResponse.builder()
+            .content(content)
+            .totalElements(idPage.totalElements())
+            .totalPages(idPage.totalPages())
+            .currentPage(idPage.currentPage())
+            .hasMore(idPage.hasMore())
+            .totalExact(idPage.totalExact())
+            .build();
+    }
+
+    private Map<Long, GitRepoResponse> loadGitRepoResponses(Collection<Long> ids) {
+        return gitRepoRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(GitRepo::getId, this::convertToGitRepoResponse));
+    }
+
     private GitRepoResponse convertToGitRepoResponse(GitRepo gitRepo) {
         return GitRepoResponse.builder()
             .id(gitRepo.getId())
@@ -7,6 +7,7 @@ import kr.devport.api.domain.gitrepo.dto.response.GitRepoResponse;
 import kr.devport.api.domain.gitrepo.repository.GitRepoRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +23,10 @@ public class GitRepoAdminService {
     @CacheEvict(value = {
         "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS}",
         "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_GIT_REPOS}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS_BY_LANGUAGE}"
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS_BY_LANGUAGE}",
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS_BODY}",
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_GIT_REPOS_BODY}",
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS_BY_LANGUAGE_BODY}"
     }, allEntries = true)
     public GitRepoResponse createGitRepo(GitRepoCreateRequest request) {
         GitRepo gitRepo = GitRepo.builder()
@@ -45,11 +49,18 @@ public class GitRepoAdminService {
         return convertToResponse(saved);
     }
 
-    @CacheEvict(value = {
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_GIT_REPOS}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS_BY_LANGUAGE}"
-    }, allEntries = true)
+    // 목록(id 페이지)은 순서가 바뀔 수 있어 전체 삭제, 저장소 DTO는 해당 저장소만 삭제
+    @Caching(evict = {
+        @CacheEvict(value = {
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_GIT_REPOS}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS_BY_LANGUAGE}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS_BODY}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_GIT_REPOS_BODY}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS_BY_LANGUAGE_BODY}"
+        }, allEntries = true),
+        @CacheEvict(value = "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPO_ENTITIES}", key = "#id")
+    })
     public GitRepoResponse updateGitRepo(Long id, GitRepoUpdateRequest request) {
         GitRepo gitRepo = gitRepoRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("GitRepo not found with id: " + id));
@@ -71,11 +82,18 @@ public class GitRepoAdminService {
         return convertToResponse(updated);
     }
 
-    @CacheEvict(value = {
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_GIT_REPOS}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS_BY_LANGUAGE}"
-    }, allEntries = true)
+    // 목록(id 페이지)은 순서가 바뀔 수 있어 전체 삭제, 저장소 DTO는 해당 저장소만 삭제
+    @Caching(evict = {
+        @CacheEvict(value = {
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_GIT_REPOS}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS_BY_LANGUAGE}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS_BODY}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).TRENDING_GIT_REPOS_BODY}",
+            "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPOS_BY_LANGUAGE_BODY}"
+        }, allEntries = true),
+        @CacheEvict(value = "#{T(kr.devport.api.domain.common.cache.CacheNames).GIT_REPO_ENTITIES}", key = "#id")
+    })
     public void deleteGitRepo(Long id) {
         if (!gitRepoRepository.existsById(id)) {
             throw new IllegalArgumentException("GitRepo not found with id: " + id);
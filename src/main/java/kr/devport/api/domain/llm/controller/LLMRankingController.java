@@ -7,6 +7,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import kr.devport.api.domain.common.cache.CacheKeyFactory;
+import kr.devport.api.domain.common.cache.CacheNames;
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.etag.ScopeETag;
+import kr.devport.api.domain.common.cache.response.ResponseBodyCache;
 import kr.devport.api.domain.llm.enums.BenchmarkType;
 import kr.devport.api.domain.llm.dto.request.LLMModelSearchCondition;
 import kr.devport.api.domain.llm.dto.response.*;
@@ -30,6 +36,7 @@ import java.util.List;
 public class LLMRankingController {
 
     private final LLMRankingService llmRankingService;
+    private final ResponseBodyCache responseBodyCache;
 
     @Operation(
         summary = "Get all LLM models",
@@ -42,6 +49,7 @@ public class LLMRankingController {
             content = @Content(schema = @Schema(implementation = Page.class))
         )
     })
+    @ScopeETag(CacheScope.LLM)
     @GetMapping("/models")
     public ResponseEntity<Page<LLMModelSummaryResponse>> getAllModels(
         @Parameter(description = "Filter by provider (legacy field, e.g., 'OpenAI', 'Anthropic', 'Google')")
@@ -82,6 +90,7 @@ public class LLMRankingController {
             description = "Model not found"
         )
     })
+    @ScopeETag(CacheScope.LLM)
     @GetMapping("/models/{modelId}")
     public ResponseEntity<LLMModelDetailResponse> getModelById(
         @Parameter(description = "Model ID (e.g., 'gpt-4-turbo', 'claude-opus-4-5')")
@@ -102,6 +111,7 @@ public class LLMRankingController {
             content = @Content(schema = @Schema(implementation = Page.class))
         )
     })
+    @ScopeETag(CacheScope.LLM)
     @GetMapping("/models/search")
     public ResponseEntity<Page<LLMModelSummaryResponse>> searchModels(
         @Parameter(description = "Filter by provider (legacy field)")
@@ -161,8 +171,9 @@ public class LLMRankingController {
             content = @Content(schema = @Schema(implementation = LLMLeaderboardEntryResponse.class))
         )
     })
+    @ScopeETag(CacheScope.LLM)
     @GetMapping("/leaderboard/{benchmarkType}")
-    public ResponseEntity<List<LLMLeaderboardEntryResponse>> getLeaderboard(
+    public ResponseEntity<?> getLeaderboard(
         @Parameter(description = "Benchmark type", example = "AA_INTELLIGENCE_INDEX")
         @PathVariable BenchmarkType benchmarkType,
 
@@ -179,12 +190,17 @@ public class LLMRankingController {
         @RequestParam(required = false) BigDecimal maxPrice,
 
         @Parameter(description = "Minimum context window (tokens)")
-        @RequestParam(required = false) Long minContextWindow
+        @RequestParam(required = false) Long minContextWindow,
+
+        HttpServletRequest request
     ) {
-        List<LLMLeaderboardEntryResponse> leaderboard = llmRankingService.getLeaderboard(
+        String key = CacheKeyFactory.llmLeaderboardKey(
             benchmarkType, provider, creatorSlug, license, maxPrice, minContextWindow
         );
-        return ResponseEntity.ok(leaderboard);
+        return responseBodyCache.respond(CacheNames.LLM_LEADERBOARD_BODY, key, request,
+            () -> llmRankingService.getLeaderboard(
+                benchmarkType, provider, creatorSlug, license, maxPrice, minContextWindow
+            ));
     }
 
     @Operation(
@@ -198,6 +214,7 @@ public class LLMRankingController {
             content = @Content(schema = @Schema(implementation = LLMBenchmarkResponse.class))
         )
     })
+    @ScopeETag(CacheScope.LLM)
     @GetMapping("/benchmarks")
     public ResponseEntity<List<LLMBenchmarkResponse>> getAllBenchmarks() {
         List<LLMBenchmarkResponse> benchmarks = llmRankingService.getAllBenchmarks();
@@ -215,6 +232,7 @@ public class LLMRankingController {
             content = @Content(schema = @Schema(implementation = LLMBenchmarkResponse.class))
         )
     })
+    @ScopeETag(CacheScope.LLM)
     @GetMapping("/benchmarks/{categoryGroup}")
     public ResponseEntity<List<LLMBenchmarkResponse>> getBenchmarksByGroup(
         @Parameter(description = "Category group", example = "Agentic")
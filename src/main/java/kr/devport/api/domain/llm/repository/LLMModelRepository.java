@@ -65,4 +65,15 @@ public interface LLMModelRepository extends JpaRepository<LLMModel, Long>, LLMMo
 
     @Query("SELECT m FROM LLMModel m ORDER BY m.scoreAaIntelligenceIndex DESC NULLS LAST")
     List<LLMModel> findAllByOrderByScoreAaIntelligenceIndexDesc();
+
+    // 없는 id 선차단 필터: 기본 키가 afterId보다 큰 행만 증분 조회
+    @Query("SELECT m.id AS id, m.modelId AS modelId FROM LLMModel m WHERE m.id > :afterId ORDER BY m.id")
+    List<KnownIdRow> findKnownIdsAfter(@Param("afterId") long afterId);
+
+    interface KnownIdRow {
+
+        Long getId();
+
+        String getModelId();
+    }
 }
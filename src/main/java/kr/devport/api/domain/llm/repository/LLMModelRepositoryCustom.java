@@ -2,8 +2,8 @@ package kr.devport.api.domain.llm.repository;
 
 import kr.devport.api.domain.llm.entity.LLMModel;
 import kr.devport.api.domain.llm.dto.request.LLMModelSearchCondition;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -14,8 +14,14 @@ public interface LLMModelRepositoryCustom {
      * - 타입 안전한 쿼리 빌딩
      * - 선택적 필터 조건 지원
      * - LEFT JOIN FETCH로 N+1 방지
+     * - limit+1개 조회로 다음 페이지 여부 판단 (COUNT 없음)
      */
-    Page<LLMModel> searchWithCondition(LLMModelSearchCondition condition, Pageable pageable);
+    Slice<LLMModel> searchWithCondition(LLMModelSearchCondition condition, Pageable pageable);
+
+    /**
+     * searchWithCondition과 같은 필터의 전체 개수
+     */
+    long countWithCondition(LLMModelSearchCondition condition);
 
     /**
      * QueryDSL을 사용한 동적 검색 (전체 목록)
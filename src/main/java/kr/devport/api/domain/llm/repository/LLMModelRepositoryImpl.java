@@ -6,10 +6,10 @@ import kr.devport.api.domain.llm.entity.LLMModel;
 import kr.devport.api.domain.llm.entity.QLLMModel;
 import kr.devport.api.domain.llm.entity.QModelCreator;
 import kr.devport.api.domain.llm.dto.request.LLMModelSearchCondition;
+import kr.devport.api.domain.common.pagination.Slices;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
@@ -28,44 +28,29 @@ public class LLMModelRepositoryImpl implements LLMModelRepositoryCustom {
     private static final QModelCreator creator = QModelCreator.modelCreator;
 
     @Override
-    public Page<LLMModel> searchWithCondition(LLMModelSearchCondition condition, Pageable pageable) {
-        List<LLMModel> content = queryFactory
+    public Slice<LLMModel> searchWithCondition(LLMModelSearchCondition condition, Pageable pageable) {
+        List<LLMModel> rows = queryFactory
             .selectFrom(model)
             .leftJoin(model.modelCreator, creator).fetchJoin()
-            .where(
-                providerEq(condition.getProvider()),
-                creatorSlugEq(condition.getCreatorSlug()),
-                licenseEq(condition.getLicense()),
-                priceLoe(condition.getMaxPrice()),
-                contextWindowGoe(condition.getMinContextWindow()),
-                keywordContains(condition.getKeyword()),
-                releaseDateGoe(condition.getReleaseDateFrom()),
-                releaseDateLoe(condition.getReleaseDateTo()),
-                intelligenceScoreGoe(condition.getMinScore())
-            )
+            .where(conditionMatches(condition))
             .orderBy(model.scoreAaIntelligenceIndex.desc().nullsLast())
             .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
+            .limit(Slices.limitWithNext(pageable))
             .fetch();
 
+        return Slices.of(rows, pageable);
+    }
+
+    @Override
+    public long countWithCondition(LLMModelSearchCondition condition) {
         Long total = queryFactory
             .select(model.count())
             .from(model)
             .leftJoin(model.modelCreator, creator)
-            .where(
-                providerEq(condition.getProvider()),
-                creatorSlugEq(condition.getCreatorSlug()),
-                licenseEq(condition.getLicense()),
-                priceLoe(condition.getMaxPrice()),
-                contextWindowGoe(condition.getMinContextWindow()),
-                keywordContains(condition.getKeyword()),
-                releaseDateGoe(condition.getReleaseDateFrom()),
-                releaseDateLoe(condition.getReleaseDateTo()),
-                intelligenceScoreGoe(condition.getMinScore())
-            )
+            .where(conditionMatches(condition))
             .fetchOne();
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+        return total != null ? total : 0L;
     }
 
     @Override
@@ -73,23 +58,27 @@ public class LLMModelRepositoryImpl implements LLMModelRepositoryCustom {
         return queryFactory
             .selectFrom(model)
             .leftJoin(model.modelCreator, creator).fetchJoin()
-            .where(
-                providerEq(condition.getProvider()),
-                creatorSlugEq(condition.getCreatorSlug()),
-                licenseEq(condition.getLicense()),
-                priceLoe(condition.getMaxPrice()),
-                contextWindowGoe(condition.getMinContextWindow()),
-                keywordContains(condition.getKeyword()),
-                releaseDateGoe(condition.getReleaseDateFrom()),
-                releaseDateLoe(condition.getReleaseDateTo()),
-                intelligenceScoreGoe(condition.getMinScore())
-            )
+            .where(conditionMatches(condition))
             .orderBy(model.scoreAaIntelligenceIndex.desc().nullsLast())
             .fetch();
     }
 
     // ========== BooleanExpression Methods (Type-safe condition building) ==========
 
+    private BooleanExpression[] conditionMatches(LLMModelSearchCondition condition) {
+        return new BooleanExpression[] {
+            providerEq(condition.getProvider()),
+            creatorSlugEq(condition.getCreatorSlug()),
+            licenseEq(condition.getLicense()),
+            priceLoe(condition.getMaxPrice()),
+            contextWindowGoe(condition.getMinContextWindow()),
+            keywordContains(condition.getKeyword()),
+            releaseDateGoe(condition.getReleaseDateFrom()),
+            releaseDateLoe(condition.getReleaseDateTo()),
+            intelligenceScoreGoe(condition.getMinScore())
+        };
+    }
+
     private BooleanExpression providerEq(String provider) {
         return hasText(provider) ? model.provider.eq(provider) : null;
     }
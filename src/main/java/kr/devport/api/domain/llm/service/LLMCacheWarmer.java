@@ -0,0 +1,50 @@
+package kr.devport.api.domain.llm.service;
+
+import kr.devport.api.domain.common.cache.CacheKeyFactory;
+import kr.devport.api.domain.common.cache.CacheNames;
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.warmup.CacheWarmer;
+import kr.devport.api.domain.common.cache.warmup.CacheWarmupTask;
+import kr.devport.api.domain.llm.enums.BenchmarkType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LLM 스코프 핫 키 워밍: 필터 없는 벤치마크별 리더보드와 벤치마크 목록.
+ * 리더보드는 페이지가 없으므로 pages 값은 사용하지 않음.
+ */
+@Component
+@RequiredArgsConstructor
+public class LLMCacheWarmer implements CacheWarmer {
+
+    private final LLMRankingService llmRankingService;
+
+    @Override
+    public CacheScope scope() {
+        return CacheScope.LLM;
+    }
+
+    @Override
+    public List<CacheWarmupTask> hotKeys(int pages) {
+        List<CacheWarmupTask> tasks = new ArrayList<>();
+
+        for (BenchmarkType benchmarkType : BenchmarkType.values()) {
+            tasks.add(new CacheWarmupTask(
+                CacheNames.LLM_LEADERBOARD,
+                CacheKeyFactory.llmLeaderboardKey(benchmarkType, null, null, null, null, null),
+                () -> llmRankingService.getLeaderboard(benchmarkType, null, null, null, null, null)
+            ));
+        }
+
+        tasks.add(new CacheWarmupTask(
+            CacheNames.LLM_BENCHMARKS,
+            CacheKeyFactory.allBenchmarksKey(),
+            llmRankingService::getAllBenchmarks
+        ));
+
+        return tasks;
+    }
+}
@@ -0,0 +1,32 @@
+package kr.devport.api.domain.llm.service;
+
+import kr.devport.api.domain.common.cache.knownid.KnownId;
+import kr.devport.api.domain.common.cache.knownid.KnownIdSource;
+import kr.devport.api.domain.common.cache.knownid.KnownIdType;
+import kr.devport.api.domain.llm.repository.LLMModelRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * LLM 모델 modelId 목록 (모델 상세 조회의 존재하지 않는 id 선차단용).
+ */
+@Component
+@RequiredArgsConstructor
+public class LLMModelKnownIdSource implements KnownIdSource {
+
+    private final LLMModelRepository modelRepository;
+
+    @Override
+    public KnownIdType type() {
+        return KnownIdType.LLM_MODEL;
+    }
+
+    @Override
+    public List<KnownId> loadIdsAfter(long afterKey) {
+        return modelRepository.findKnownIdsAfter(afterKey).stream()
+            .map(row -> new KnownId(row.getId(), row.getModelId()))
+            .toList();
+    }
+}
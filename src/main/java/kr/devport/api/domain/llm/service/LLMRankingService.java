@@ -9,12 +9,20 @@ import kr.devport.api.domain.llm.repository.LLMBenchmarkRepository;
 import kr.devport.api.domain.llm.repository.LLMModelRepository;
 import kr.devport.api.domain.common.cache.CacheKeyFactory;
 import kr.devport.api.domain.common.cache.CacheNames;
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.ReadThroughCache;
+import kr.devport.api.domain.common.cache.knownid.KnownIdFilter;
+import kr.devport.api.domain.common.cache.knownid.KnownIdType;
+import kr.devport.api.domain.common.pagination.PageTotal;
+import kr.devport.api.domain.common.pagination.PageTotals;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -32,6 +40,9 @@ public class LLMRankingService {
 
     private final LLMModelRepository modelRepository;
     private final LLMBenchmarkRepository benchmarkRepository;
+    private final KnownIdFilter knownIdFilter;
+    private final ReadThroughCache readThroughCache;
+    private final PageTotals pageTotals;
 
     public Page<LLMModelSummaryResponse> getAllModels(
         String provider,
@@ -56,14 +67,20 @@ public class LLMRankingService {
      * - 기존 5개 + 신규 4개 = 9개 선택적 필터 조건
      * - LEFT JOIN FETCH로 N+1 문제 방지
      * - BooleanExpression 조합으로 null 조건 자동 제외
+     * - COUNT는 필터 조합별로 첫 페이지에서만 실행, 이후 페이지는 캐시된 개수 재사용
      */
     public Page<LLMModelSummaryResponse> searchModels(LLMModelSearchCondition condition, Pageable pageable) {
-        Page<LLMModel> models = modelRepository.searchWithCondition(condition, pageable);
-
-        return models.map(model -> {
-            Integer rank = calculateRankForModel(model, null);
-            return LLMModelSummaryResponse.fromEntity(model, rank);
-        });
+        Slice<LLMModel> models = modelRepository.searchWithCondition(condition, pageable);
+        PageTotal total = pageTotals.total(CacheScope.LLM, CacheKeyFactory.llmModelSearchFilterKey(condition),
+            models, () -> modelRepository.countWithCondition(condition));
+
+        List<LLMModelSummaryResponse> content = models.getContent().stream()
+            .map(model -> {
+                Integer rank = calculateRankForModel(model, null);
+                return LLMModelSummaryResponse.fromEntity(model, rank);
+            })
+            .toList();
+        return new PageImpl<>(content, pageable, total.count());
     }
 
     /**
@@ -81,17 +98,13 @@ public class LLMRankingService {
     }
 
     public LLMModelDetailResponse getModelById(String modelId) {
-        LLMModel model = modelRepository.findByModelId(modelId)
+        LLMModel model = knownIdFilter.find(KnownIdType.LLM_MODEL, modelId, modelRepository::findByModelId)
             .orElseThrow(() -> new RuntimeException("Model not found: " + modelId));
 
         return LLMModelDetailResponse.fromEntity(model);
     }
 
-    @Cacheable(
-        value = CacheNames.LLM_LEADERBOARD,
-        key = "T(kr.devport.api.domain.common.cache.CacheKeyFactory).llmLeaderboardKey(#benchmarkType, #provider, #creatorSlug, #license, #maxPrice, #minContextWindow)",
-        unless = "@cacheFallbackBypass.shouldBypass('LLM')"
-    )
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<LLMLeaderboardEntryResponse> getLeaderboard(
         BenchmarkType benchmarkType,
         String provider,
@@ -99,6 +112,21 @@ public class LLMRankingService {
         String license,
         BigDecimal maxPrice,
         Long minContextWindow
+    ) {
+        return readThroughCache.get(
+            CacheNames.LLM_LEADERBOARD,
+            CacheKeyFactory.llmLeaderboardKey(benchmarkType, provider, creatorSlug, license, maxPrice, minContextWindow),
+            () -> loadLeaderboard(benchmarkType, provider, creatorSlug, license, maxPrice, minContextWindow)
+        );
+    }
+
+    private List<LLMLeaderboardEntryResponse> loadLeaderboard(
+        BenchmarkType benchmarkType,
+        String provider,
+        String creatorSlug,
+        String license,
+        BigDecimal maxPrice,
+        Long minContextWindow
     ) {
         List<LLMModel> models = modelRepository.findAllWithFilters(
             provider, creatorSlug, license, maxPrice, minContextWindow
@@ -109,12 +137,16 @@ public class LLMRankingService {
         return calculateRanksForLeaderboard(models, benchmarkType);
     }
 
-    @Cacheable(
-        value = CacheNames.LLM_BENCHMARKS,
-        key = "T(kr.devport.api.domain.common.cache.CacheKeyFactory).allBenchmarksKey()",
-        unless = "@cacheFallbackBypass.shouldBypass('LLM')"
-    )
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<LLMBenchmarkResponse> getAllBenchmarks() {
+        return readThroughCache.get(
+            CacheNames.LLM_BENCHMARKS,
+            CacheKeyFactory.allBenchmarksKey(),
+            this::loadAllBenchmarks
+        );
+    }
+
+    private List<LLMBenchmarkResponse> loadAllBenchmarks() {
         return benchmarkRepository.findAllByOrderBySortOrderAsc().stream()
             .map(LLMBenchmarkResponse::fromEntity)
             .collect(Collectors.toList());
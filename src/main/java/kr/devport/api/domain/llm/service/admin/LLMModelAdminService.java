@@ -1,5 +1,7 @@
 package kr.devport.api.domain.llm.service.admin;
 
+import kr.devport.api.domain.common.cache.knownid.KnownIdFilter;
+import kr.devport.api.domain.common.cache.knownid.KnownIdType;
 import kr.devport.api.domain.llm.entity.LLMModel;
 import kr.devport.api.domain.llm.entity.ModelCreator;
 import kr.devport.api.domain.llm.dto.request.admin.LLMModelCreateRequest;
@@ -22,10 +24,12 @@ public class LLMModelAdminService {
 
     private final LLMModelRepository llmModelRepository;
     private final ModelCreatorRepository modelCreatorRepository;
+    private final KnownIdFilter knownIdFilter;
 
     @CacheEvict(value = {
         "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_MODELS}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD}"
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD}",
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD_BODY}"
     }, allEntries = true)
     public LLMModelDetailResponse createLLMModel(LLMModelCreateRequest request) {
         LLMModel model = LLMModel.builder()
@@ -70,12 +74,14 @@ public class LLMModelAdminService {
         }
 
         LLMModel saved = llmModelRepository.save(model);
+        knownIdFilter.add(KnownIdType.LLM_MODEL, saved.getModelId());
         return convertToDetailResponse(saved);
     }
 
     @CacheEvict(value = {
         "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_MODELS}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD}"
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD}",
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD_BODY}"
     }, allEntries = true)
     public LLMModelDetailResponse updateLLMModel(Long id, LLMModelUpdateRequest request) {
         LLMModel model = llmModelRepository.findById(id)
@@ -120,12 +126,15 @@ public class LLMModelAdminService {
 
         model.setUpdatedAt(LocalDateTime.now());
         LLMModel updated = llmModelRepository.save(model);
+        // modelId may have been renamed
+        knownIdFilter.add(KnownIdType.LLM_MODEL, updated.getModelId());
         return convertToDetailResponse(updated);
     }
 
     @CacheEvict(value = {
         "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_MODELS}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD}"
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD}",
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD_BODY}"
     }, allEntries = true)
     public void deleteLLMModel(Long id) {
         if (!llmModelRepository.existsById(id)) {
@@ -21,7 +21,8 @@ public class ModelCreatorAdminService {
 
     @CacheEvict(value = {
         "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_MODELS}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD}"
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD}",
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD_BODY}"
     }, allEntries = true)
     public ModelCreatorResponse createModelCreator(ModelCreatorCreateRequest request) {
         ModelCreator creator = ModelCreator.builder()
@@ -38,7 +39,8 @@ public class ModelCreatorAdminService {
 
     @CacheEvict(value = {
         "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_MODELS}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD}"
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD}",
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD_BODY}"
     }, allEntries = true)
     public ModelCreatorResponse updateModelCreator(Long id, ModelCreatorUpdateRequest request) {
         ModelCreator creator = modelCreatorRepository.findById(id)
@@ -55,7 +57,8 @@ public class ModelCreatorAdminService {
 
     @CacheEvict(value = {
         "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_MODELS}",
-        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD}"
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD}",
+        "#{T(kr.devport.api.domain.common.cache.CacheNames).LLM_LEADERBOARD_BODY}"
     }, allEntries = true)
     public void deleteModelCreator(Long id) {
         if (!modelCreatorRepository.existsById(id)) {
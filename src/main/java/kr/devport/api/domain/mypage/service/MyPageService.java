@@ -2,6 +2,8 @@ package kr.devport.api.domain.mypage.service;
 
 import kr.devport.api.domain.article.entity.Article;
 import kr.devport.api.domain.auth.entity.User;
+import kr.devport.api.domain.common.cache.knownid.KnownIdFilter;
+import kr.devport.api.domain.common.cache.knownid.KnownIdType;
 import kr.devport.api.domain.mypage.entity.UserReadHistory;
 import kr.devport.api.domain.mypage.entity.UserSavedArticle;
 import kr.devport.api.domain.mypage.dto.response.ReadHistoryResponse;
@@ -27,6 +29,7 @@ public class MyPageService {
     private final UserReadHistoryRepository readHistoryRepository;
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
+    private final KnownIdFilter knownIdFilter;
 
     // --- Saved Articles ---
 
@@ -71,7 +74,7 @@ public class MyPageService {
 
     @Transactional
     public void trackArticleView(Long userId, String articleExternalId) {
-        Article article = articleRepository.findByExternalId(articleExternalId)
+        Article article = knownIdFilter.find(KnownIdType.ARTICLE, articleExternalId, articleRepository::findByExternalId)
             .orElseThrow(() -> new IllegalArgumentException("Article not found: " + articleExternalId));
 
         Optional<UserReadHistory> existing = readHistoryRepository
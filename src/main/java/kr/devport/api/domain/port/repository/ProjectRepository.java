@@ -3,6 +3,8 @@ package kr.devport.api.domain.port.repository;
 import kr.devport.api.domain.port.entity.Project;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +14,13 @@ import java.util.Optional;
 public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
     Optional<Project> findByExternalId(String externalId);
     List<Project> findByPort_Slug(String portSlug, Sort sort);
+
+    // 없는 id 선차단 필터: 기본 키가 afterId보다 큰 행만 증분 조회
+    @Query("SELECT p.id AS id, p.externalId AS externalId FROM Project p WHERE p.id > :afterId ORDER BY p.id")
+    List<KnownIdRow> findKnownIdsAfter(@Param("afterId") long afterId);
+
+    interface KnownIdRow {
+        Long getId();
+        String getExternalId();
+    }
 }
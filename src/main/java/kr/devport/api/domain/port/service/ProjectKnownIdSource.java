@@ -0,0 +1,32 @@
+package kr.devport.api.domain.port.service;
+
+import kr.devport.api.domain.common.cache.knownid.KnownId;
+import kr.devport.api.domain.common.cache.knownid.KnownIdSource;
+import kr.devport.api.domain.common.cache.knownid.KnownIdType;
+import kr.devport.api.domain.port.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 프로젝트 외부 id 목록 (프로젝트 상세 조회의 존재하지 않는 id 선차단용).
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectKnownIdSource implements KnownIdSource {
+
+    private final ProjectRepository projectRepository;
+
+    @Override
+    public KnownIdType type() {
+        return KnownIdType.PROJECT;
+    }
+
+    @Override
+    public List<KnownId> loadIdsAfter(long afterKey) {
+        return projectRepository.findKnownIdsAfter(afterKey).stream()
+            .map(row -> new KnownId(row.getId(), row.getExternalId()))
+            .toList();
+    }
+}
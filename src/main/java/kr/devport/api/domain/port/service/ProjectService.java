@@ -1,5 +1,7 @@
 package kr.devport.api.domain.port.service;
 
+import kr.devport.api.domain.common.cache.knownid.KnownIdFilter;
+import kr.devport.api.domain.common.cache.knownid.KnownIdType;
 import kr.devport.api.domain.port.dto.response.ProjectDetailResponse;
 import kr.devport.api.domain.port.dto.response.ProjectEventResponse;
 import kr.devport.api.domain.port.dto.response.ProjectOverviewResponse;
@@ -33,10 +35,11 @@ public class ProjectService {
     private final ProjectEventRepository projectEventRepository;
     private final ProjectStarHistoryRepository starHistoryRepository;
     private final ProjectOverviewRepository overviewRepository;
+    private final KnownIdFilter knownIdFilter;
 
     @Transactional(readOnly = true)
     public ProjectDetailResponse getProjectById(String externalId) {
-        Project project = projectRepository.findByExternalId(externalId)
+        Project project = knownIdFilter.find(KnownIdType.PROJECT, externalId, projectRepository::findByExternalId)
             .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + externalId));
 
         return ProjectDetailResponse.builder()
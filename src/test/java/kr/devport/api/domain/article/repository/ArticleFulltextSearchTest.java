@@ -0,0 +1,125 @@
+package kr.devport.api.domain.article.repository;
+
+import kr.devport.api.domain.article.entity.Article;
+import kr.devport.api.domain.article.enums.Category;
+import kr.devport.api.domain.article.enums.ItemType;
+import kr.devport.api.domain.common.config.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Substring semantics of article search (LIKE path on H2). The GIN path rechecks its
+ * candidates with the same predicate, so these are its expected results as well.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+@DisplayName("ArticleRepository: 전체 텍스트 검색 부분 문자열 테스트")
+class ArticleFulltextSearchTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    // 검색 인덱스 미준비(H2): LIKE 경로
+    @MockitoBean
+    private ArticleSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        // Match far beyond the 16383 positions a tsvector keeps, after 300 other occurrences
+        String longBody = "모델 평가 ".repeat(300) + "가".repeat(20_000) + " 끝부분에 등장하는 초장문키워드";
+        persist(1, "GPT-4o 모델을 공개", "멀티모달 지원", 1);
+        persist(2, "긴 본문 기사", longBody, 2);
+        persist(3, "GPT-5 출시", "차세대 언어 모델", 3);
+        persist(4, "할인율 100% 적용", "쿠폰_코드 안내", 4);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("긴 본문 깊숙한 곳의 검색어도 찾음")
+    void searchFulltext_matchDeepInLongBody() {
+        // when
+        List<String> titles = titles("초장문키워드");
+
+        // then
+        assertThat(titles).containsExactly("긴 본문 기사");
+        assertThat(articleRepository.countFulltextMatches("초장문키워드")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한글/영문 혼합 검색어는 단어 일부로도 일치 (GPT-4 → GPT-4o)")
+    void searchFulltext_mixedKoreanAscii_matchesWordParts() {
+        // when / then
+        assertThat(titles("GPT-4")).containsExactly("GPT-4o 모델을 공개");
+        assertThat(titles("gpt-4o 모델")).containsExactly("GPT-4o 모델을 공개");
+        assertThat(titles("4o 모델을")).containsExactly("GPT-4o 모델을 공개");
+        assertThat(titles("GPT")).containsExactly("GPT-5 출시", "GPT-4o 모델을 공개");
+        assertThat(titles("GPT-6")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목 일치가 본문 일치보다 먼저, 같으면 최신순")
+    void searchFulltext_titleMatchesFirst() {
+        // when
+        List<String> titles = titles("모델");
+
+        // then
+        assertThat(titles).containsExactly("GPT-4o 모델을 공개", "GPT-5 출시", "긴 본문 기사");
+        assertThat(articleRepository.countFulltextMatches("모델")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("검색어의 LIKE 와일드카드는 문자 그대로 일치")
+    void searchFulltext_wildcardsAreLiteral() {
+        // when / then
+        assertThat(titles("100%")).containsExactly("할인율 100% 적용");
+        assertThat(titles("0% 적")).containsExactly("할인율 100% 적용");
+        assertThat(titles("폰_코")).containsExactly("할인율 100% 적용");
+        assertThat(titles("GPT_")).isEmpty();
+    }
+
+    private List<String> titles(String query) {
+        return articleRepository.searchFulltext(query, PageRequest.of(0, 10)).getContent().stream()
+            .map(ArticleListRow::summaryKoTitle)
+            .toList();
+    }
+
+    private void persist(int i, String title, String body, int hoursAfter) {
+        entityManager.persist(Article.builder()
+            .itemType(ItemType.BLOG)
+            .source("source")
+            .category(Category.AI_LLM)
+            .summaryKoTitle(title)
+            .summaryKoBody(body)
+            .titleEn("Article " + i)
+            .url("https://example.com/" + i)
+            .score(i)
+            .tags(new ArrayList<>())
+            .createdAtSource(NOW.plusHours(hoursAfter))
+            .createdAt(NOW)
+            .updatedAt(NOW)
+            .build());
+    }
+}
@@ -0,0 +1,153 @@
+package kr.devport.api.domain.article.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.devport.api.domain.article.dto.request.ArticleSearchCondition;
+import kr.devport.api.domain.article.entity.Article;
+import kr.devport.api.domain.article.entity.ArticleMetadata;
+import kr.devport.api.domain.article.enums.Category;
+import kr.devport.api.domain.article.enums.ItemType;
+import kr.devport.api.domain.common.config.QuerydslConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement counts of the article list queries: fixed per call, independent of the page
+ * size and of how many tags the articles have (no lazy tag load per row).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+@DisplayName("ArticleRepository: 목록 쿼리 실행 횟수 테스트")
+class ArticleListQueryCountTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // 검색 인덱스 미준비(H2): 전체 텍스트 검색은 LIKE 경로
+    @MockitoBean
+    private ArticleSearchIndex searchIndex;
+
+    private Statistics statistics;
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 12; i++) {
+            Article article = entityManager.persist(article(i));
+            ids.add(article.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("동적 검색: 행 조회 1회 + 태그 일괄 조회 1회, 엔티티 로드 없음")
+    void searchWithCondition_twoStatements() {
+        // given
+        ArticleSearchCondition condition = ArticleSearchCondition.builder().category(Category.AI_LLM).build();
+
+        // when
+        Slice<ArticleListRow> rows = countStatements(2,
+            () -> articleRepository.searchWithCondition(condition, PageRequest.of(0, 5)));
+
+        // then
+        assertThat(rows.getContent()).hasSize(5);
+        assertThat(rows.hasNext()).isTrue();
+        assertThat(rows.getContent()).allSatisfy(row -> assertThat(row.tags()).hasSize(3));
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 텍스트 검색: 행 조회 1회 + 태그 일괄 조회 1회")
+    void searchFulltext_twoStatements() {
+        // when
+        Slice<ArticleListRow> rows = countStatements(2,
+            () -> articleRepository.searchFulltext("모델", PageRequest.of(1, 4)));
+
+        // then
+        assertThat(rows.getContent()).hasSize(4);
+        assertThat(rows.getContent().getFirst().tags()).containsExactlyInAnyOrder("llm", "tag-a", "tag-b");
+    }
+
+    @Test
+    @DisplayName("기사별 캐시 미스 로드와 관리자 목록: 각 2회")
+    void idLoadAndAdminList_twoStatementsEach() {
+        // when
+        List<ArticleListRow> byIds = countStatements(2, () -> articleRepository.findListRowsByIds(ids));
+        Slice<ArticleListRow> latest = countStatements(2, () -> articleRepository.findLatestRows(PageRequest.of(0, 10)));
+
+        // then
+        assertThat(byIds).hasSize(12);
+        assertThat(latest.getContent()).extracting(ArticleListRow::id)
+            .startsWith(ids.getLast())
+            .doesNotContain(ids.getFirst());
+    }
+
+    @Test
+    @DisplayName("트렌딩 티커: 필요한 컬럼만 1회 조회")
+    void tickerRows_oneStatement() {
+        // when
+        List<ArticleRepository.TickerRow> rows = countStatements(1,
+            () -> articleRepository.findTickerRows(PageRequest.of(0, 10)));
+
+        // then
+        assertThat(rows).hasSize(10);
+        assertThat(rows.getFirst().getId()).isEqualTo(ids.getLast());
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private <T> T countStatements(long expected, Supplier<T> query) {
+        statistics.clear();
+        T result = query.get();
+        assertThat(statistics.getPrepareStatementCount()).as("prepared statements").isEqualTo(expected);
+        return result;
+    }
+
+    private static Article article(int i) {
+        return Article.builder()
+            .itemType(ItemType.BLOG)
+            .source("source")
+            .category(Category.AI_LLM)
+            .summaryKoTitle("언어 모델 " + i)
+            .summaryKoBody("본문 " + i)
+            .titleEn("Model " + i)
+            .url("https://example.com/" + i)
+            .score(i * 10)
+            .tags(new ArrayList<>(List.of("llm", "tag-a", "tag-b")))
+            .metadata(i % 2 == 0 ? ArticleMetadata.builder().stars(i).build() : null)
+            .createdAtSource(NOW.plusHours(i))
+            .createdAt(NOW.plusHours(i))
+            .updatedAt(NOW.plusHours(i))
+            .build();
+    }
+}
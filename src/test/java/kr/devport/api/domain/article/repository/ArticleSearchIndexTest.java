@@ -0,0 +1,35 @@
+package kr.devport.api.domain.article.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ArticleSearchIndex: 인덱스 사용 여부 테스트")
+class ArticleSearchIndexTest {
+
+    @Test
+    @DisplayName("두 글자 이상 단어가 있어야 바이그램으로 후보를 좁힘")
+    void hasBigram_needsWordOfTwoCharacters() {
+        assertThat(ArticleSearchIndex.hasBigram("모델")).isTrue();
+        assertThat(ArticleSearchIndex.hasBigram("GPT-4")).isTrue();
+        assertThat(ArticleSearchIndex.hasBigram("4o")).isTrue();
+
+        // Only one-character words: LIKE
+        assertThat(ArticleSearchIndex.hasBigram("웹 앱")).isFalse();
+        assertThat(ArticleSearchIndex.hasBigram("C#")).isFalse();
+        assertThat(ArticleSearchIndex.hasBigram("a-b")).isFalse();
+    }
+
+    @Test
+    @DisplayName("인덱스 확인 전에는 어떤 검색어도 인덱스를 쓰지 않음")
+    void covers_beforeInitialize_isFalse() {
+        // given
+        ArticleSearchIndex searchIndex = new ArticleSearchIndex(mock(JdbcTemplate.class));
+
+        // when / then
+        assertThat(searchIndex.covers("모델")).isFalse();
+    }
+}
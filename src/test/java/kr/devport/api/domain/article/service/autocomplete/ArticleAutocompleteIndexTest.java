@@ -0,0 +1,131 @@
+package kr.devport.api.domain.article.service.autocomplete;
+
+import kr.devport.api.domain.article.enums.Category;
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.CacheScopeVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ArticleAutocompleteIndex: 인메모리 자동완성 역색인 테스트")
+class ArticleAutocompleteIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private ArticleAutocompleteSource source;
+    private CacheScopeVersions scopeVersions;
+    private ArticleAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        source = mock(ArticleAutocompleteSource.class);
+        scopeVersions = mock(CacheScopeVersions.class);
+        index = new ArticleAutocompleteIndex(source, scopeVersions);
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열과 영문 접두사로 찾고 제목 매칭을 최신순으로 먼저 반환")
+    void search_titleMatchesFirstThenNewest() {
+        // given
+        when(source.loadAll()).thenReturn(List.of(
+            document(1L, "새로운 언어 모델을 공개", "New model", List.of(), 1),
+            document(2L, "추론 성능 비교", "Reasoning benchmark", List.of("언어모델"), 3),
+            document(3L, "대형 언어 모델 학습법", "Training large models", List.of(), 2),
+            document(4L, "데이터베이스 인덱스", "Database indexing", List.of(), 4)
+        ));
+        index.rebuild();
+
+        // when
+        ArticleAutocompleteIndex.Result korean = index.search("모델", 5);
+        ArticleAutocompleteIndex.Result english = index.search("Mode", 5);
+
+        // then
+        assertThat(korean.totalMatches()).isEqualTo(3);
+        assertThat(korean.hits()).extracting(hit -> hit.document().articleId()).containsExactly(3L, 1L, 2L);
+        assertThat(korean.hits()).extracting(ArticleAutocompleteIndex.Hit::titleMatch).containsExactly(true, true, false);
+        assertThat(english.hits()).extracting(hit -> hit.document().articleId()).containsExactly(3L, 1L);
+        assertThat(index.search("인덱스 모델", 5).totalMatches()).isZero();
+    }
+
+    @Test
+    @DisplayName("빌드 전에는 DB에서 상위 limit개와 일치 수만 조회")
+    void search_beforeBuild_queriesTopMatchesFromDatabase() {
+        // given: the database returns title matches first, then by recency
+        when(source.loadTopContaining(List.of("ing"), 5)).thenReturn(List.of(
+            document(2L, "Indexing 설계", "Indexing", List.of(), 2),
+            document(1L, "캐시 전략", "Caching", List.of(), 1)
+        ));
+        when(source.countContaining(List.of("ing"))).thenReturn(42L);
+
+        // when
+        ArticleAutocompleteIndex.Result result = index.search("ing", 5);
+
+        // then
+        assertThat(result.totalMatches()).isEqualTo(42);
+        assertThat(result.hits()).extracting(hit -> hit.document().articleId()).containsExactly(2L, 1L);
+        assertThat(result.hits()).extracting(ArticleAutocompleteIndex.Hit::titleMatch).containsExactly(true, false);
+        verify(source, never()).loadAll();
+    }
+
+    @Test
+    @DisplayName("관리자 변경은 커밋 후 즉시 반영")
+    void articleChanged_appliesLocalWrites() {
+        // given
+        when(source.loadAll()).thenReturn(List.of(document(1L, "검색 엔진 소개", "Search engines", List.of(), 1)));
+        index.rebuild();
+
+        // when
+        index.articleChanged(document(1L, "정렬 알고리즘", "Sorting", List.of(), 1));
+        index.articleChanged(document(2L, "검색 랭킹", "Ranking", List.of(), 2));
+
+        // then
+        assertThat(index.search("검색", 5).hits())
+            .extracting(hit -> hit.document().articleId())
+            .containsExactly(2L);
+
+        index.articleRemoved(2L);
+        assertThat(index.search("검색", 5).totalMatches()).isZero();
+        verify(scopeVersions, times(3)).bump(CacheScope.ARTICLE);
+    }
+
+    @Test
+    @DisplayName("스코프 버전이 바뀌면 변경된 기사를 반영하고 사라진 기사를 제거")
+    void syncChanged_appliesUpdatesAndDeletions() {
+        // given
+        when(scopeVersions.current(CacheScope.ARTICLE)).thenReturn(1L);
+        when(source.loadAll()).thenReturn(List.of(
+            document(1L, "캐시 전략", "Caching", List.of(), 1),
+            document(2L, "캐시 무효화", "Invalidation", List.of(), 2)
+        ));
+        index.rebuild();
+
+        when(scopeVersions.current(CacheScope.ARTICLE)).thenReturn(2L);
+        when(source.loadUpdatedSince(any())).thenReturn(List.of(document(3L, "캐시 일관성", "Consistency", List.of(), 3)));
+        when(source.loadIds()).thenReturn(Set.of(1L, 3L));
+
+        // when
+        index.syncChanged();
+
+        // then
+        assertThat(index.search("캐시", 5).hits())
+            .extracting(hit -> hit.document().articleId())
+            .containsExactly(3L, 1L);
+    }
+
+    private static AutocompleteDocument document(Long id, String title, String titleEn, List<String> tags, int daysAfter) {
+        return new AutocompleteDocument(
+            id, "external-" + id, title, titleEn, tags, "source", Category.OTHER, 100, NOW.plusDays(daysAfter));
+    }
+}
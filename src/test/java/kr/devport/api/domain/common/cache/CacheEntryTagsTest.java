@@ -0,0 +1,63 @@
+package kr.devport.api.domain.common.cache;
+
+import kr.devport.api.domain.article.enums.Category;
+import kr.devport.api.domain.common.pagination.PageTotal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheEntryTags: 캐시 엔트리 태그 도출 테스트")
+class CacheEntryTagsTest {
+
+    private final CachedIdPage page = CachedIdPage.of(
+        new SliceImpl<>(List.of(11L, 12L), PageRequest.of(0, 9), false), new PageTotal(2, true));
+
+    @Test
+    @DisplayName("밑줄이 들어간 카테고리의 기사 목록 키는 카테고리 전체 이름으로 태그되어 무효화 대상과 일치")
+    void tagsOf_articleListWithUnderscoreCategory_matchesInvalidationTags() {
+        // given
+        String key = CacheKeyFactory.articleListKey(Category.AI_LLM, 0, 9);
+        CacheInvalidationTarget target = CacheInvalidationTarget.of(
+            CacheScope.ARTICLE, List.of(), List.of("AI_LLM"), List.of());
+
+        // when
+        Set<String> tags = CacheEntryTags.tagsOf(CacheNames.ARTICLES, key, page);
+
+        // then
+        assertThat(key).isEqualTo("AI_LLM_0_9");
+        assertThat(tags).containsExactly("category:AI_LLM", "id:11", "id:12");
+        assertThat(CacheEntryTags.tagsFor(target)).contains("category:AI_LLM");
+    }
+
+    @Test
+    @DisplayName("밑줄이 들어간 카테고리의 저장소 목록 키는 카테고리 전체 이름으로 태그")
+    void tagsOf_gitRepoListWithUnderscoreCategory_tagsFullCategory() {
+        // given
+        String key = CacheKeyFactory.gitRepoListKey(kr.devport.api.domain.gitrepo.enums.Category.DEVOPS_SRE, 2, 20);
+
+        // when
+        Set<String> tags = CacheEntryTags.tagsOf(CacheNames.GIT_REPOS, key, page);
+
+        // then
+        assertThat(key).isEqualTo("DEVOPS_SRE_2_20");
+        assertThat(tags).containsExactly("category:DEVOPS_SRE", "id:11", "id:12");
+    }
+
+    @Test
+    @DisplayName("카테고리 필터 없는 목록 키는 category:all로 태그")
+    void tagsOf_unfilteredList_tagsAll() {
+        // when
+        Set<String> articleTags = CacheEntryTags.tagsOf(CacheNames.ARTICLES, "all_0_9", page);
+        Set<String> repoTags = CacheEntryTags.tagsOf(CacheNames.GIT_REPOS, "all_1_20", page);
+
+        // then
+        assertThat(articleTags).contains("category:all");
+        assertThat(repoTags).contains("category:all");
+    }
+}
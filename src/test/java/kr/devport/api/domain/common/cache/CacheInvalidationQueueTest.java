@@ -0,0 +1,138 @@
+package kr.devport.api.domain.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CacheInvalidationQueue: 웹훅 무효화 비동기 병합 큐 테스트")
+class CacheInvalidationQueueTest {
+
+    private CacheInvalidationService invalidationService;
+    private CacheJobLedger jobLedger;
+    private SimpleMeterRegistry meterRegistry;
+    private CacheInvalidationQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        invalidationService = mock(CacheInvalidationService.class);
+        jobLedger = mock(CacheJobLedger.class);
+        when(jobLedger.tryClaim(any(), anyString())).thenReturn(true);
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new CacheInvalidationQueue(invalidationService, jobLedger, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("윈도우 내 같은 스코프 이벤트는 마지막 jobId로 한 번만 무효화")
+    void enqueue_burstForSameScope_invalidatesOnce() {
+        // given
+        when(invalidationService.invalidate(any(), anyString())).thenReturn(true);
+
+        // when
+        queue.enqueue(CacheScope.ARTICLE, "job-1");
+        queue.enqueue(CacheScope.ARTICLE, "job-2");
+        queue.enqueue(CacheScope.ARTICLE, "job-3");
+
+        // then
+        verify(invalidationService, timeout(3000).times(1))
+            .invalidate(CacheInvalidationTarget.scope(CacheScope.ARTICLE), "job-3");
+        verify(invalidationService, times(1)).invalidate(any(), anyString());
+        assertThat(meterRegistry.get("cache.invalidation.queue.events").tag("outcome", "coalesced")
+            .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("병합된 이벤트의 엔티티 id는 합쳐서 한 번에 무효화")
+    void enqueue_targetedEvents_mergesTargets() {
+        // given
+        when(invalidationService.invalidate(any(), anyString())).thenReturn(true);
+
+        // when
+        queue.enqueue(CacheInvalidationTarget.of(CacheScope.GIT_REPO, List.of(1L), null, null), "job-a");
+        queue.enqueue(CacheInvalidationTarget.of(CacheScope.GIT_REPO, List.of(2L), null, null), "job-b");
+
+        // then
+        verify(invalidationService, timeout(3000)).invalidate(
+            CacheInvalidationTarget.of(CacheScope.GIT_REPO, List.of(1L, 2L), null, null), "job-b");
+    }
+
+    @Test
+    @DisplayName("같은 jobId는 중복으로 거부")
+    void enqueue_duplicateJobId_isRejected() {
+        // when
+        boolean first = queue.enqueue(CacheScope.GIT_REPO, "job-dup");
+        boolean second = queue.enqueue(CacheScope.GIT_REPO, "job-dup");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    @DisplayName("무효화 실패 시 jobId를 잊어 크롤러 재시도를 다시 처리")
+    void enqueue_afterFailedInvalidation_acceptsRetry() throws InterruptedException {
+        // given
+        when(invalidationService.invalidate(any(), anyString())).thenReturn(false);
+        queue.enqueue(CacheScope.LLM, "job-retry");
+        verify(invalidationService, timeout(3000)).invalidate(CacheInvalidationTarget.scope(CacheScope.LLM), "job-retry");
+        Thread.sleep(200);
+
+        // when
+        boolean retried = queue.enqueue(CacheScope.LLM, "job-retry");
+
+        // then
+        assertThat(retried).isTrue();
+        verify(jobLedger).release(CacheScope.LLM, "job-retry");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 처리된 jobId는 원장 조회로 무효화 없이 중복 처리")
+    void enqueue_jobIdInLedger_isDuplicateWithoutInvalidation() throws InterruptedException {
+        // given
+        when(jobLedger.tryClaim(CacheScope.ARTICLE, "job-elsewhere")).thenReturn(false);
+
+        // when
+        boolean first = queue.enqueue(CacheScope.ARTICLE, "job-elsewhere");
+        boolean second = queue.enqueue(CacheScope.ARTICLE, "job-elsewhere");
+        Thread.sleep(700);
+
+        // then: the second delivery is answered from memory
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        verify(jobLedger, times(1)).tryClaim(CacheScope.ARTICLE, "job-elsewhere");
+        verify(invalidationService, never()).invalidate(any(), anyString());
+        assertThat(meterRegistry.get("cache.invalidation.queue.events").tag("outcome", "duplicate")
+            .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화 성공 시 원장에 완료로 기록")
+    void enqueue_successfulInvalidation_completesLedgerEntry() {
+        // given
+        when(invalidationService.invalidate(any(), anyString())).thenReturn(true);
+
+        // when
+        queue.enqueue(CacheScope.GIT_REPO, "job-ok");
+
+        // then
+        verify(jobLedger, timeout(3000)).complete(CacheScope.GIT_REPO, "job-ok");
+    }
+}
@@ -0,0 +1,115 @@
+package kr.devport.api.domain.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CircuitBreakingCache: Redis 장애 시 차단기 기반 캐시 저하 테스트")
+class CircuitBreakingCacheTest {
+
+    private RedisConnectionFactory connectionFactory;
+    private RedisCircuitBreaker circuitBreaker;
+    private Cache redis;
+    private CircuitBreakingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = mock(RedisConnectionFactory.class);
+        circuitBreaker = new RedisCircuitBreaker(connectionFactory, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(circuitBreaker, "failureThreshold", 3);
+        ReflectionTestUtils.setField(circuitBreaker, "openDuration", Duration.ZERO);
+
+        redis = spy(new ConcurrentMapCache("articles"));
+        cache = new CircuitBreakingCache(redis, circuitBreaker);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 열리고 이후 Redis를 호출하지 않음")
+    void get_consecutiveFailures_opensAndShortCircuits() {
+        // given
+        doThrow(new RedisConnectionFailureException("down")).when(redis).get(any());
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get("k" + i)).isNull();
+        }
+        cache.get("after-open");
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        verify(redis, never()).get("after-open");
+        assertThat(circuitBreaker.snapshot().shortCircuited()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("열린 동안의 무효화는 dirty로 남고 복구 후 첫 조회 전에 전체 삭제")
+    void evictWhileOpen_clearsRemoteAfterRecovery() {
+        // given: stale entry, breaker opened by failures
+        redis.put("k", "stale");
+        doThrow(new RedisConnectionFailureException("down")).when(redis).put(any(), any());
+        for (int i = 0; i < 3; i++) {
+            cache.put("w" + i, "v");
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+
+        // when: invalidation skipped while open, then the probe succeeds
+        cache.evict("k");
+        when(connectionFactory.getConnection()).thenReturn(mock(RedisConnection.class));
+        circuitBreaker.probe();
+
+        // then
+        assertThat(cache.isDirty()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+        assertThat(cache.get("k")).isNull();
+        assertThat(cache.isDirty()).isFalse();
+        verify(redis).clear();
+    }
+
+    @Test
+    @DisplayName("프로브 실패 시 다시 열린 상태 유지")
+    void probe_failure_staysOpen() {
+        // given
+        doThrow(new RedisConnectionFailureException("down")).when(redis).get(any());
+        for (int i = 0; i < 3; i++) {
+            cache.get("k" + i);
+        }
+        when(connectionFactory.getConnection()).thenThrow(new RedisConnectionFailureException("still down"));
+
+        // when
+        circuitBreaker.probe();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("닫힌 상태에서 실패한 무효화는 호출자에게 전파되고 dirty로 표시")
+    void clearFailureWhileClosed_propagatesAndMarksDirty() {
+        // given
+        doThrow(new RedisConnectionFailureException("down")).when(redis).clear();
+
+        // when & then
+        assertThatThrownBy(() -> cache.clear()).isInstanceOf(RedisConnectionFailureException.class);
+        assertThat(cache.isDirty()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,88 @@
+package kr.devport.api.domain.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ClientTrackedCache: Redis CLIENT TRACKING 기반 클라이언트 캐시 테스트")
+class ClientTrackedCacheTest {
+
+    private Cache redis;
+    private AtomicBoolean trackingActive;
+    private ClientTrackedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        redis = spy(new ConcurrentMapCache("benchmarks"));
+        trackingActive = new AtomicBoolean(true);
+        cache = new ClientTrackedCache(redis, trackingActive::get, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("무효화 전까지 같은 키는 Redis를 다시 조회하지 않음")
+    void get_trackedKey_servedFromMemoryUntilInvalidated() {
+        // given
+        redis.put("g1:all", "v1");
+
+        // when
+        cache.get("g1:all");
+        Object second = cache.get("g1:all").get();
+        redis.put("g1:all", "v2");
+        cache.invalidate("g1:all");
+        Object afterInvalidation = cache.get("g1:all").get();
+
+        // then
+        assertThat(second).isEqualTo("v1");
+        assertThat(afterInvalidation).isEqualTo("v2");
+        verify(redis, times(2)).get("g1:all");
+        assertThat(cache.hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트래킹이 비활성이면 항상 Redis에서 조회")
+    void get_trackingInactive_readsRedis() {
+        // given
+        redis.put("g1:all", "v1");
+        trackingActive.set(false);
+
+        // when
+        cache.get("g1:all");
+        cache.get("g1:all");
+
+        // then
+        verify(redis, times(2)).get("g1:all");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 중 도착한 무효화가 있으면 읽은 값을 보관하지 않음")
+    void get_invalidationDuringRead_doesNotKeepValue() {
+        // given: Redis reports a change while the read is in flight
+        Cache racing = new ConcurrentMapCache("benchmarks") {
+            @Override
+            public ValueWrapper get(Object key) {
+                ValueWrapper wrapper = super.get(key);
+                cache.invalidateAll();
+                return wrapper;
+            }
+        };
+        racing.put("g1:all", "old");
+        cache = new ClientTrackedCache(racing, trackingActive::get, 100, Duration.ofMinutes(10));
+
+        // when
+        cache.get("g1:all");
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+}
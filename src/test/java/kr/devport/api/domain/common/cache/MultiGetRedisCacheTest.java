@@ -0,0 +1,81 @@
+package kr.devport.api.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.devport.api.domain.article.dto.response.TrendingTickerResponse;
+import kr.devport.api.domain.common.cache.serializer.CacheValueSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MultiGetRedisCache: MGET 일괄 조회 테스트")
+class MultiGetRedisCacheTest {
+
+    private final CacheValueSerializer serializer = CacheValueSerializer.forCache(CacheNames.TRENDING_TICKER);
+
+    private RedisStringCommands stringCommands;
+    private MultiGetRedisCache cache;
+
+    @BeforeEach
+    void setUp() {
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        RedisConnection connection = mock(RedisConnection.class);
+        stringCommands = mock(RedisStringCommands.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+
+        cache = new MultiGetRedisCache(
+            CacheNames.TRENDING_TICKER,
+            mock(RedisCacheWriter.class),
+            RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer)),
+            connectionFactory
+        );
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 엔트리는 null 값이 아닌 miss로 처리")
+    void getAll_unreadableEntry_isMiss() {
+        // given: "1" readable, "2" written in an old format, "3" absent
+        byte[] readable = serializer.serialize(List.of(new TrendingTickerResponse()));
+        byte[] unreadable = "[\"java.util.ArrayList\",[]]".getBytes();
+        when(stringCommands.mGet(any())).thenReturn(Arrays.asList(readable, unreadable, null));
+
+        // when
+        Map<Object, Cache.ValueWrapper> found = cache.getAll(List.of("1", "2", "3"));
+
+        // then
+        assertThat(found).containsOnlyKeys("1");
+        assertThat(found.get("1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("TieredCache 일괄 조회는 읽을 수 없는 엔트리를 다시 로드")
+    void tieredGetAll_unreadableEntry_loadsFromSource() {
+        // given
+        when(stringCommands.mGet(any())).thenReturn(Arrays.asList("[\"java.util.ArrayList\",[]]".getBytes()));
+        TieredCache tiered = new TieredCache(
+            CacheNames.TRENDING_TICKER, cache, Caffeine.newBuilder().maximumSize(16).build(), (cacheName, key) -> { });
+
+        // when
+        Map<String, Object> values = tiered.getAll(List.of("1"), missing -> Map.of("1", List.of()));
+
+        // then
+        assertThat(values).containsEntry("1", List.of());
+    }
+}
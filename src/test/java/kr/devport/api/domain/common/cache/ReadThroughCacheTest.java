@@ -0,0 +1,76 @@
+package kr.devport.api.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReadThroughCache: 타입 지정 키 기반 프로그래매틱 캐시 조회 테스트")
+class ReadThroughCacheTest {
+
+    private PlatformTransactionManager transactionManager;
+    private ReadThroughCache readThroughCache;
+
+    @BeforeEach
+    void setUp() {
+        TieredCache cache = new TieredCache(
+            CacheNames.TRENDING_TICKER,
+            new ConcurrentMapCache(CacheNames.TRENDING_TICKER),
+            Caffeine.newBuilder().maximumSize(16).build(),
+            (cacheName, key) -> { }
+        );
+        TieredCacheManager cacheManager = mock(TieredCacheManager.class);
+        when(cacheManager.getTieredCache(CacheNames.TRENDING_TICKER)).thenReturn(cache);
+        transactionManager = mock(PlatformTransactionManager.class);
+        readThroughCache = new ReadThroughCache(cacheManager, transactionManager);
+    }
+
+    @Test
+    @DisplayName("miss에서만 로더를 읽기 전용 트랜잭션 안에서 실행하고 이후 조회는 캐시에서 응답")
+    void get_loadsOnceInTransaction_thenServesHit() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        String key = CacheKeyFactory.trendingTickerKey(10);
+
+        // when
+        String first = readThroughCache.get(CacheNames.TRENDING_TICKER, key, () -> "ticker-" + loads.incrementAndGet());
+        String second = readThroughCache.get(CacheNames.TRENDING_TICKER, key, () -> "ticker-" + loads.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("ticker-1");
+        assertThat(second).isEqualTo("ticker-1");
+        assertThat(loads).hasValue(1);
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("로더 예외는 감싸지 않고 그대로 전달")
+    void get_loaderFailure_rethrowsOriginalException() {
+        // given
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        // when & then
+        assertThatThrownBy(() -> readThroughCache.get(CacheNames.TRENDING_TICKER, "10", () -> {
+            throw failure;
+        })).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 캐시 이름은 거부")
+    void get_unknownCache_throws() {
+        assertThatThrownBy(() -> readThroughCache.get("unknown", "1", () -> "value"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
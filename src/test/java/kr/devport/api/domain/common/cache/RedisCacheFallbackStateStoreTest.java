@@ -0,0 +1,168 @@
+package kr.devport.api.domain.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RedisCacheFallbackStateStore: 노드 간 불확실 상태 공유 테스트")
+class RedisCacheFallbackStateStoreTest {
+
+    private StringRedisTemplate redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private RedisCacheFallbackStateStore stateStore;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        stateStore = new RedisCacheFallbackStateStore(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("markUncertain은 해시에 기록하고 다른 노드에 변경을 알림")
+    void markUncertain_writesHashAndPublishes() {
+        // when
+        stateStore.markUncertain(CacheScope.ARTICLE, "job-1");
+
+        // then
+        assertThat(stateStore.isUncertain(CacheScope.ARTICLE)).isTrue();
+        verify(hashOperations).put(eq("devport:cache:fallback:state"), eq("ARTICLE"), anyString());
+        verify(redisTemplate).convertAndSend(eq(RedisCacheFallbackStateStore.CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 로컬 노드는 불확실 상태로 전환")
+    void markUncertain_redisDown_stillMarksLocally() {
+        // given
+        doThrow(new IllegalStateException("redis down"))
+            .when(hashOperations).put(anyString(), anyString(), anyString());
+
+        // when
+        stateStore.markUncertain(CacheScope.GIT_REPO, "job-2");
+
+        // then
+        assertThat(stateStore.isUncertain(CacheScope.GIT_REPO)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis에 기록하지 못한 로컬 마크는 동기화에서 지우지 않고 Redis가 복구되면 다시 기록")
+    void sync_unpublishedLocalMark_isKeptAndRepublished() {
+        // given
+        doThrow(new IllegalStateException("redis down"))
+            .when(hashOperations).put(anyString(), anyString(), anyString());
+        stateStore.markUncertain(CacheScope.ARTICLE, "job-5");
+        when(hashOperations.entries("devport:cache:fallback:state")).thenReturn(Map.of());
+
+        // when: Redis answers reads again but still rejects the write
+        stateStore.sync();
+
+        // then
+        assertThat(stateStore.isUncertain(CacheScope.ARTICLE)).isTrue();
+
+        // when: Redis recovers
+        doNothing().when(hashOperations).put(anyString(), anyString(), anyString());
+        when(hashOperations.entries("devport:cache:fallback:state"))
+            .thenReturn(Map.of("ARTICLE", System.currentTimeMillis() + "|job-5"));
+        stateStore.sync();
+        stateStore.sync();
+
+        // then: published once more, then synced like any other mark
+        assertThat(stateStore.isUncertain(CacheScope.ARTICLE)).isTrue();
+        verify(hashOperations, times(3)).put(eq("devport:cache:fallback:state"), eq("ARTICLE"), anyString());
+        verify(redisTemplate).convertAndSend(eq(RedisCacheFallbackStateStore.CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("해제된 로컬 마크는 다시 기록하지 않음")
+    void sync_clearedLocalMark_isNotRepublished() {
+        // given
+        doThrow(new IllegalStateException("redis down"))
+            .when(hashOperations).put(anyString(), anyString(), anyString());
+        stateStore.markUncertain(CacheScope.ARTICLE, "job-6");
+        stateStore.clearUncertainty(CacheScope.ARTICLE, "job-6");
+        doNothing().when(hashOperations).put(anyString(), anyString(), anyString());
+        when(hashOperations.entries("devport:cache:fallback:state")).thenReturn(Map.of());
+
+        // when
+        stateStore.sync();
+
+        // then
+        assertThat(stateStore.isUncertain(CacheScope.ARTICLE)).isFalse();
+        verify(hashOperations, times(1)).put(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("이전 시각의 마크는 더 최근의 로컬 마크를 덮어쓰지 않음")
+    void onMessage_olderMark_keepsNewerLocalMark() {
+        // given
+        stateStore.markUncertain(CacheScope.LLM, "job-new");
+
+        // when
+        stateStore.onMessage(message("other-node|M|LLM|" + (System.currentTimeMillis() - 60_000) + "|job-old"), null);
+
+        // then
+        assertThat(stateStore.getUncertainJobId(CacheScope.LLM)).isEqualTo("job-new");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 마크/해제 메시지를 로컬 스냅샷에 반영")
+    void onMessage_fromOtherNode_updatesSnapshot() {
+        // given
+        String mark = "other-node|M|LLM|" + System.currentTimeMillis() + "|job-3";
+
+        // when
+        stateStore.onMessage(message(mark), null);
+
+        // then
+        assertThat(stateStore.isUncertain(CacheScope.LLM)).isTrue();
+        assertThat(stateStore.getUncertainJobId(CacheScope.LLM)).isEqualTo("job-3");
+
+        stateStore.onMessage(message("other-node|C|LLM"), null);
+        assertThat(stateStore.isUncertain(CacheScope.LLM)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동기화는 해시 상태로 스냅샷을 맞추고 만료된 항목은 제거")
+    void sync_replacesSnapshotAndDropsExpired() {
+        // given
+        long now = System.currentTimeMillis();
+        stateStore.onMessage(message("other-node|M|GIT_REPO|" + (now - 1000) + "|job-old"), null);
+        when(hashOperations.entries("devport:cache:fallback:state")).thenReturn(Map.of(
+            "ARTICLE", now + "|job-4",
+            "LLM", (now - 10 * 60 * 1000) + "|job-expired"
+        ));
+
+        // when
+        stateStore.sync();
+
+        // then
+        assertThat(stateStore.isUncertain(CacheScope.ARTICLE)).isTrue();
+        assertThat(stateStore.isUncertain(CacheScope.GIT_REPO)).isFalse();
+        assertThat(stateStore.isUncertain(CacheScope.LLM)).isFalse();
+        verify(hashOperations).delete("devport:cache:fallback:state", "LLM");
+    }
+
+    private DefaultMessage message(String payload) {
+        return new DefaultMessage(
+            RedisCacheFallbackStateStore.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,94 @@
+package kr.devport.api.domain.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RedisCacheGenerations: Redis 세대 카운터 테스트")
+class RedisCacheGenerationsTest {
+
+    private static final String KEY = "devport:cache:gen:" + CacheNames.ARTICLES;
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RedisCacheGenerations generations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        generations = new RedisCacheGenerations(redisTemplate);
+        ReflectionTestUtils.setField(generations, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("카운터가 초기화된 뒤의 bump는 로컬 세대 다음 값으로 카운터를 다시 설정")
+    @SuppressWarnings("unchecked")
+    void bump_counterReset_reseedsAboveLocalGeneration() {
+        // given
+        when(valueOperations.get(KEY)).thenReturn("41");
+        generations.current(CacheNames.ARTICLES);
+        when(valueOperations.increment(KEY)).thenReturn(1L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq("42"))).thenReturn(42L);
+
+        // when
+        long bumped = generations.bump(CacheNames.ARTICLES);
+
+        // then
+        assertThat(bumped).isEqualTo(42);
+        assertThat(generations.current(CacheNames.ARTICLES)).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("동기화에서 카운터가 로컬보다 낮으면 로컬 세대로 되돌림")
+    @SuppressWarnings("unchecked")
+    void sync_counterBehindLocal_restoresCounter() {
+        // given
+        when(valueOperations.get(KEY)).thenReturn("7");
+        generations.current(CacheNames.ARTICLES);
+        when(valueOperations.multiGet(List.of(KEY))).thenReturn(Arrays.asList((String) null));
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq("7"))).thenReturn(7L);
+
+        // when
+        generations.sync();
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), eq("7"));
+        assertThat(generations.current(CacheNames.ARTICLES)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("정상적인 bump는 카운터를 다시 설정하지 않음")
+    @SuppressWarnings("unchecked")
+    void bump_counterAhead_doesNotReseed() {
+        // given
+        when(valueOperations.get(KEY)).thenReturn("3");
+        generations.current(CacheNames.ARTICLES);
+        when(valueOperations.increment(KEY)).thenReturn(4L);
+
+        // when
+        long bumped = generations.bump(CacheNames.ARTICLES);
+
+        // then
+        assertThat(bumped).isEqualTo(4);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+    }
+}
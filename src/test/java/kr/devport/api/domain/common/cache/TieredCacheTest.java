@@ -0,0 +1,442 @@
+package kr.devport.api.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.devport.api.domain.gitrepo.dto.response.GitRepoResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TieredCache: L1(in-process) + L2(Redis) 2단계 캐시 테스트")
+class TieredCacheTest {
+
+    private ConcurrentMapCache remote;
+    private List<String> published;
+    private TieredCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache(CacheNames.TRENDING_TICKER);
+        published = new ArrayList<>();
+        cache = new TieredCache(
+            CacheNames.TRENDING_TICKER,
+            remote,
+            Caffeine.newBuilder().maximumSize(16).build(),
+            (cacheName, key) -> published.add(cacheName + ":" + key)
+        );
+    }
+
+    @Test
+    @DisplayName("L2 적중 값은 L1으로 승격되어 다음 조회는 L1에서 응답")
+    void get_remoteHit_promotesToLocal() {
+        // given
+        remote.put("10", "ticker");
+
+        // when
+        Cache.ValueWrapper first = cache.get("10");
+        remote.evict("10");
+        Cache.ValueWrapper second = cache.get("10");
+
+        // then
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(second.get()).isEqualTo("ticker");
+        assertThat(cache.getStats().l2Hits()).isEqualTo(1);
+        assertThat(cache.getStats().l1Hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("양쪽 모두 없으면 miss로 집계")
+    void get_absentInBothTiers_countsMiss() {
+        // when
+        Cache.ValueWrapper value = cache.get("missing");
+
+        // then
+        assertThat(value).isNull();
+        assertThat(cache.getStats().misses()).isEqualTo(1);
+        assertThat(cache.getStats().l1HitRatio()).isZero();
+    }
+
+    @Test
+    @DisplayName("evict는 L1/L2 모두 제거하고 다른 노드로 전파")
+    void evict_removesBothTiers_andPublishes() {
+        // given
+        cache.put("10", "ticker");
+
+        // when
+        cache.evict("10");
+
+        // then
+        assertThat(cache.get("10")).isNull();
+        assertThat(remote.get("10")).isNull();
+        assertThat(published).containsExactly(CacheNames.TRENDING_TICKER + ":10");
+    }
+
+    @Test
+    @DisplayName("clear는 전체 키 무효화를 null 키로 전파")
+    void clear_publishesWholeCacheInvalidation() {
+        // given
+        cache.put("10", "ticker");
+        cache.put("20", "ticker-20");
+
+        // when
+        cache.clear();
+
+        // then
+        assertThat(cache.get("10")).isNull();
+        assertThat(cache.get("20")).isNull();
+        assertThat(published).containsExactly(CacheNames.TRENDING_TICKER + ":null");
+    }
+
+    @Test
+    @DisplayName("원격 무효화 메시지는 L1만 비우고 L2는 유지")
+    void clearLocal_keepsRemoteEntries() {
+        // given
+        cache.put("10", "ticker");
+
+        // when
+        cache.clearLocal();
+
+        // then
+        assertThat(remote.get("10")).isNotNull();
+        assertThat(cache.get("10").get()).isEqualTo("ticker");
+        assertThat(cache.getStats().l2Hits()).isEqualTo(1);
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동시 miss는 로더 1회 실행으로 합쳐지고 나머지는 결과를 공유")
+    void getWithLoader_concurrentMisses_loadOnce() throws Exception {
+        // given
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get("10", () -> {
+                    loads.incrementAndGet();
+                    loaderStarted.countDown();
+                    releaseLoader.await(5, TimeUnit.SECONDS);
+                    return "ticker";
+                })));
+            }
+            loaderStarted.await(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            releaseLoader.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("ticker");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(remote.get("10")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("스코프가 불확실하면 로더 결과를 저장하지 않음")
+    void getWithLoader_scopeUncertain_doesNotStore() {
+        // given
+        TieredCache bypassing = new TieredCache(
+            CacheNames.TRENDING_TICKER,
+            remote,
+            Caffeine.newBuilder().maximumSize(16).build(),
+            (cacheName, key) -> published.add(cacheName + ":" + key),
+            () -> CacheFallbackMode.BYPASS,
+            CacheLeaseLock.DISABLED,
+            Caffeine.newBuilder().maximumSize(16).build(),
+            Runnable::run,
+            CacheGenerations.DISABLED,
+            CacheLoadObserver.NONE,
+            CacheKeyIndex.DISABLED,
+            CacheRefreshAhead.DISABLED
+        );
+
+        // when
+        String value = bypassing.get("10", () -> "ticker");
+
+        // then
+        assertThat(value).isEqualTo("ticker");
+        assertThat(remote.get("10")).isNull();
+        assertThat(bypassing.get("10")).isNull();
+    }
+
+    @Test
+    @DisplayName("STALE_WHILE_REVALIDATE: 무효화 후 miss는 마지막 값으로 응답하고 백그라운드에서 재적재")
+    void getWithLoader_staleWhileRevalidate_servesLastKnownAndRefreshes() {
+        // given
+        List<Runnable> refreshes = new ArrayList<>();
+        TieredCache swr = new TieredCache(
+            CacheNames.TRENDING_TICKER,
+            remote,
+            Caffeine.newBuilder().maximumSize(16).build(),
+            (cacheName, key) -> published.add(cacheName + ":" + key),
+            () -> CacheFallbackMode.STALE_WHILE_REVALIDATE,
+            CacheLeaseLock.DISABLED,
+            Caffeine.newBuilder().maximumSize(16).build(),
+            refreshes::add,
+            CacheGenerations.DISABLED,
+            CacheLoadObserver.NONE,
+            CacheKeyIndex.DISABLED,
+            CacheRefreshAhead.DISABLED
+        );
+        swr.put("10", "ticker-old");
+        swr.clear();
+
+        // when
+        String served = swr.get("10", () -> "ticker-new");
+
+        // then
+        assertThat(served).isEqualTo("ticker-old");
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).run();
+        assertThat(remote.get("10").get()).isEqualTo("ticker-new");
+        assertThat(swr.get("10", () -> "unused")).isEqualTo("ticker-new");
+    }
+
+    @Test
+    @DisplayName("STALE_WHILE_REVALIDATE: 마지막 값이 없으면 BYPASS처럼 조회만 하고 저장하지 않음")
+    void getWithLoader_staleWhileRevalidateWithoutCopy_fallsBackToBypass() {
+        // given
+        TieredCache swr = new TieredCache(
+            CacheNames.TRENDING_TICKER,
+            remote,
+            Caffeine.newBuilder().maximumSize(16).build(),
+            (cacheName, key) -> published.add(cacheName + ":" + key),
+            () -> CacheFallbackMode.STALE_WHILE_REVALIDATE,
+            CacheLeaseLock.DISABLED,
+            Caffeine.newBuilder().maximumSize(16).build(),
+            Runnable::run,
+            CacheGenerations.DISABLED,
+            CacheLoadObserver.NONE,
+            CacheKeyIndex.DISABLED,
+            CacheRefreshAhead.DISABLED
+        );
+
+        // when
+        String value = swr.get("10", () -> "ticker");
+
+        // then
+        assertThat(value).isEqualTo("ticker");
+        assertThat(remote.get("10")).isNull();
+    }
+
+    @Test
+    @DisplayName("세대 카운터 사용 시 clear는 키 삭제 없이 세대만 올려 이전 엔트리를 무효화")
+    void clear_withGenerations_bumpsGenerationInsteadOfDeleting() {
+        // given
+        InMemoryGenerations generations = new InMemoryGenerations();
+        TieredCache versioned = new TieredCache(
+            CacheNames.TRENDING_TICKER,
+            remote,
+            Caffeine.newBuilder().maximumSize(16).build(),
+            (cacheName, key) -> published.add(cacheName + ":" + key),
+            () -> CacheFallbackMode.NONE,
+            CacheLeaseLock.DISABLED,
+            Caffeine.newBuilder().maximumSize(16).build(),
+            Runnable::run,
+            generations,
+            CacheLoadObserver.NONE,
+            CacheKeyIndex.DISABLED,
+            CacheRefreshAhead.DISABLED
+        );
+        versioned.put("10", "ticker-old");
+
+        // when
+        versioned.clear();
+        versioned.put("10", "ticker-new");
+
+        // then
+        assertThat(generations.current(CacheNames.TRENDING_TICKER)).isEqualTo(1);
+        assertThat(remote.get("10").get()).isEqualTo("ticker-old");
+        assertThat(remote.get("g1:10").get()).isEqualTo("ticker-new");
+        assertThat(versioned.get("10").get()).isEqualTo("ticker-new");
+        assertThat(published).containsExactly(CacheNames.TRENDING_TICKER + ":null");
+    }
+
+    @Test
+    @DisplayName("사전 갱신: 만료 임박 구간의 적중은 백그라운드에서 재계산해 만료 전에 값을 교체")
+    void getWithLoader_refreshAhead_recomputesHitInBackground() {
+        // given
+        List<Runnable> refreshes = new ArrayList<>();
+        AtomicInteger loads = new AtomicInteger();
+        TieredCache refreshing = new TieredCache(
+            CacheNames.TRENDING_TICKER,
+            remote,
+            Caffeine.newBuilder().maximumSize(16).build(),
+            (cacheName, key) -> published.add(cacheName + ":" + key),
+            () -> CacheFallbackMode.NONE,
+            CacheLeaseLock.DISABLED,
+            Caffeine.newBuilder().maximumSize(16).build(),
+            refreshes::add,
+            CacheGenerations.DISABLED,
+            CacheLoadObserver.NONE,
+            CacheKeyIndex.DISABLED,
+            // Whole TTL is the refresh window and the load time weight is huge: every hit refreshes
+            new CacheRefreshAhead(true, 1.0, 1e12)
+        );
+        refreshing.get("10", () -> "ticker-" + loads.incrementAndGet());
+
+        // when
+        String served = refreshing.get("10", () -> "ticker-" + loads.incrementAndGet());
+        refreshing.get("10", () -> "ticker-" + loads.incrementAndGet());
+
+        // then
+        assertThat(served).isEqualTo("ticker-1");
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).run();
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(remote.get("10").get()).isEqualTo("ticker-2");
+        assertThat(refreshing.earlyRefreshes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사전 갱신 판단: 윈도우 밖은 갱신 안 함, 만료 후는 항상 갱신, 윈도우 안은 로드 시간 가중 확률")
+    void refreshAhead_shouldRefresh_followsXFetch() {
+        // given
+        CacheRefreshAhead refreshAhead = new CacheRefreshAhead(true, 0.2, 1.0);
+        long ttlMillis = 600_000;
+        long loadNanos = TimeUnit.SECONDS.toNanos(1);
+
+        // then
+        assertThat(refreshAhead.shouldRefresh(200_000, ttlMillis, loadNanos, 1e-300)).isFalse();
+        assertThat(refreshAhead.shouldRefresh(0, ttlMillis, loadNanos, 0.99)).isTrue();
+        // gap = 1s * -ln(random): ~4.6s for 0.01, ~0.01s for 0.99
+        assertThat(refreshAhead.shouldRefresh(2_000, ttlMillis, loadNanos, 0.01)).isTrue();
+        assertThat(refreshAhead.shouldRefresh(2_000, ttlMillis, loadNanos, 0.99)).isFalse();
+        assertThat(CacheRefreshAhead.DISABLED.shouldRefresh(0, ttlMillis, loadNanos, 0.5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("태그 인덱스로 변경된 엔티티를 포함한 키만 제거")
+    void evictTagged_removesOnlyKeysContainingEntity() {
+        // given
+        ConcurrentMapCache byLanguage = new ConcurrentMapCache(CacheNames.GIT_REPOS_BY_LANGUAGE);
+        TieredCache indexed = new TieredCache(
+            CacheNames.GIT_REPOS_BY_LANGUAGE,
+            byLanguage,
+            Caffeine.newBuilder().maximumSize(16).build(),
+            (cacheName, key) -> published.add(cacheName + ":" + key),
+            () -> CacheFallbackMode.NONE,
+            CacheLeaseLock.DISABLED,
+            Caffeine.newBuilder().maximumSize(16).build(),
+            Runnable::run,
+            CacheGenerations.DISABLED,
+            CacheLoadObserver.NONE,
+            new InMemoryKeyIndex(),
+            CacheRefreshAhead.DISABLED
+        );
+        indexed.put("java_10", List.of(GitRepoResponse.builder().id(1L).build()));
+        indexed.put("go_10", List.of(GitRepoResponse.builder().id(2L).build()));
+        CacheInvalidationTarget target = CacheInvalidationTarget.of(CacheScope.GIT_REPO, List.of(1L), null, null);
+
+        // when
+        int evicted = indexed.evictTagged(CacheEntryTags.tagsFor(target));
+
+        // then
+        assertThat(indexed.supportsTargetedEviction(target)).isTrue();
+        assertThat(evicted).isEqualTo(1);
+        assertThat(indexed.get("java_10")).isNull();
+        assertThat(indexed.get("go_10")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 L1, L2 순으로 찾고 남은 키만 로더 1회로 적재")
+    void getAll_readsTiersThenLoadsMissingOnce() {
+        // given
+        cache.put(1L, "one");
+        remote.put(2L, "two");
+        List<Set<Long>> loaderCalls = new ArrayList<>();
+
+        // when
+        Map<Long, String> values = cache.getAll(List.of(1L, 2L, 3L, 4L), missing -> {
+            loaderCalls.add(missing);
+            return Map.of(3L, "three");
+        });
+
+        // then
+        assertThat(values).containsOnly(Map.entry(1L, "one"), Map.entry(2L, "two"), Map.entry(3L, "three"));
+        assertThat(loaderCalls).containsExactly(Set.of(3L, 4L));
+        assertThat(remote.get(3L)).isNotNull();
+        assertThat(cache.getStats().l1Hits()).isEqualTo(1);
+        assertThat(cache.getStats().l2Hits()).isEqualTo(1);
+        assertThat(cache.getStats().misses()).isEqualTo(2);
+    }
+
+    private static class InMemoryKeyIndex implements CacheKeyIndex {
+
+        private final Map<String, Set<String>> keysByTag = new HashMap<>();
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void record(String cacheName, Object key, Set<String> tags) {
+            tags.forEach(tag -> keysByTag.computeIfAbsent(tag, t -> new HashSet<>()).add(key.toString()));
+        }
+
+        @Override
+        public Set<String> drain(String cacheName, Collection<String> tags) {
+            Set<String> keys = new HashSet<>();
+            tags.forEach(tag -> {
+                Set<String> removed = keysByTag.remove(tag);
+                if (removed != null) {
+                    keys.addAll(removed);
+                }
+            });
+            return keys;
+        }
+    }
+
+    private static class InMemoryGenerations implements CacheGenerations {
+
+        private final Map<String, Long> generations = new HashMap<>();
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public long current(String cacheName) {
+            return generations.getOrDefault(cacheName, 0L);
+        }
+
+        @Override
+        public long bump(String cacheName) {
+            return generations.merge(cacheName, 1L, Long::sum);
+        }
+
+        @Override
+        public void refresh(String cacheName) {
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package kr.devport.api.domain.common.cache.etag;
+
+import kr.devport.api.domain.common.cache.CacheFallbackStateStore;
+import kr.devport.api.domain.common.cache.CacheGenerations;
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.CacheScopeVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScopeETagInterceptor: 스코프 버전 기반 조건부 GET 테스트")
+class ScopeETagInterceptorTest {
+
+    private final Map<CacheScope, Long> versions = new EnumMap<>(CacheScope.class);
+    private CacheFallbackStateStore fallbackStateStore;
+    private ScopeETagInterceptor interceptor;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        CacheScopeVersions scopeVersions = new CacheScopeVersions() {
+            @Override
+            public long current(CacheScope scope) {
+                return versions.getOrDefault(scope, 0L);
+            }
+
+            @Override
+            public void bump(CacheScope scope) {
+                versions.merge(scope, 1L, Long::sum);
+            }
+        };
+        fallbackStateStore = new CacheFallbackStateStore();
+        interceptor = new ScopeETagInterceptor(scopeVersions, CacheGenerations.DISABLED, fallbackStateStore);
+        // Keep the max-age bucket from rolling over between two requests of a test
+        ReflectionTestUtils.setField(interceptor, "maxAge", Duration.ofDays(1));
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("list"));
+    }
+
+    @Test
+    @DisplayName("첫 요청은 핸들러를 실행하고 응답용 ETag를 요청에 남김")
+    void preHandle_withoutIfNoneMatch_proceedsWithETag() {
+        // given
+        MockHttpServletRequest request = get(null);
+
+        // when
+        boolean proceed = interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+
+        // then
+        assertThat(proceed).isTrue();
+        assertThat((String) request.getAttribute(ScopeETagInterceptor.ETAG_ATTRIBUTE)).startsWith("\"article-");
+    }
+
+    @Test
+    @DisplayName("버전이 같으면 핸들러 없이 304 응답")
+    void preHandle_matchingETag_returnsNotModified() {
+        // given
+        String etag = issuedETag();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean proceed = interceptor.preHandle(get("W/" + etag), response, handler);
+
+        // then
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("gzip 표현의 ETag도 같은 버전이면 304")
+    void preHandle_matchingGzipVariant_returnsNotModified() {
+        // given
+        String gzipTag = ScopeETagInterceptor.gzipVariant(issuedETag());
+
+        // when
+        boolean proceed = interceptor.preHandle(get(gzipTag), new MockHttpServletResponse(), handler);
+
+        // then
+        assertThat(proceed).isFalse();
+    }
+
+    @Test
+    @DisplayName("스코프 무효화로 버전이 오르면 전체 응답")
+    void preHandle_afterScopeBump_proceeds() {
+        // given
+        String etag = issuedETag();
+        versions.put(CacheScope.ARTICLE, 1L);
+
+        // when
+        boolean proceed = interceptor.preHandle(get(etag), new MockHttpServletResponse(), handler);
+
+        // then
+        assertThat(proceed).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 스코프 무효화는 ETag에 영향 없음")
+    void preHandle_otherScopeBump_stillNotModified() {
+        // given
+        String etag = issuedETag();
+        versions.put(CacheScope.LLM, 3L);
+
+        // when
+        boolean proceed = interceptor.preHandle(get(etag), new MockHttpServletResponse(), handler);
+
+        // then
+        assertThat(proceed).isFalse();
+    }
+
+    @Test
+    @DisplayName("불확실 스코프는 ETag를 발급하지도 인정하지도 않음")
+    void preHandle_uncertainScope_skipsETags() {
+        // given
+        String etag = issuedETag();
+        fallbackStateStore.markUncertain(CacheScope.ARTICLE, "job-1");
+        MockHttpServletRequest request = get(etag);
+
+        // when
+        boolean proceed = interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+
+        // then
+        assertThat(proceed).isTrue();
+        assertThat(request.getAttribute(ScopeETagInterceptor.ETAG_ATTRIBUTE)).isNull();
+    }
+
+    @Test
+    @DisplayName("쿼리 파라미터 순서가 달라도 같은 요청 키")
+    void canonicalKey_ignoresParameterOrder() {
+        // given
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/api/articles");
+        first.addParameter("page", "1");
+        first.addParameter("category", "AI_LLM");
+        MockHttpServletRequest second = new MockHttpServletRequest("GET", "/api/articles");
+        second.addParameter("category", "AI_LLM");
+        second.addParameter("page", "1");
+
+        // then
+        assertThat(ScopeETagInterceptor.canonicalKey(first)).isEqualTo(ScopeETagInterceptor.canonicalKey(second));
+    }
+
+    private String issuedETag() {
+        MockHttpServletRequest request = get(null);
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        return (String) request.getAttribute(ScopeETagInterceptor.ETAG_ATTRIBUTE);
+    }
+
+    private MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addParameter("page", "0");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+
+    static class SampleController {
+
+        @ScopeETag(CacheScope.ARTICLE)
+        public String list() {
+            return "[]";
+        }
+    }
+}
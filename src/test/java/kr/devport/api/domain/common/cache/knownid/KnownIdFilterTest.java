@@ -0,0 +1,237 @@
+package kr.devport.api.domain.common.cache.knownid;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KnownIdFilter: 블룸 필터 + negative 캐시 기반 없는 id 선차단 테스트")
+class KnownIdFilterTest {
+
+    private List<KnownId> articleIds;
+    private List<Long> loadedAfter;
+    private List<String> published;
+    private boolean sourceDown;
+    private AtomicInteger dbLookups;
+
+    @BeforeEach
+    void setUp() {
+        articleIds = new ArrayList<>(List.of(new KnownId(1001, "a-1"), new KnownId(1002, "a-2"), new KnownId(1003, "a-3")));
+        loadedAfter = new ArrayList<>();
+        published = new ArrayList<>();
+        sourceDown = false;
+        dbLookups = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("필터 구성 전에는 모든 조회를 DB로 통과")
+    void find_beforeBuild_passesThrough() {
+        // given
+        KnownIdFilter knownIdFilter = knownIdFilter(Duration.ofMinutes(1));
+
+        // when
+        Optional<String> found = knownIdFilter.find(KnownIdType.ARTICLE, "random-uuid", database());
+
+        // then
+        assertThat(found).isEmpty();
+        assertThat(dbLookups.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최근 동기화된 필터는 없는 id를 DB 조회 없이 거절하고 있는 id는 조회")
+    void find_syncedFilter_rejectsUnknownIds() {
+        // given
+        KnownIdFilter knownIdFilter = knownIdFilter(Duration.ofMinutes(1));
+        knownIdFilter.rebuild(KnownIdType.ARTICLE);
+
+        // when
+        Optional<String> known = knownIdFilter.find(KnownIdType.ARTICLE, "a-2", database());
+        int notFound = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (knownIdFilter.find(KnownIdType.ARTICLE, "probe-" + i, database()).isEmpty()) {
+                notFound++;
+            }
+        }
+
+        // then
+        assertThat(known).contains("row:a-2");
+        assertThat(notFound).isEqualTo(1000);
+        // Only false positives (1% target) reach the database
+        assertThat(dbLookups.get()).isLessThan(1 + 50);
+        assertThat(loadedAfter).containsExactly(0L);
+        assertThat(knownIdFilter.getStats().get(0).ready()).isTrue();
+        assertThat(knownIdFilter.getStats().get(0).maxKey()).isEqualTo(1003);
+    }
+
+    @Test
+    @DisplayName("필터를 통과했지만 DB에 없던 id는 negative 캐시로 재조회하지 않음")
+    void find_missingAfterFilter_isNegativelyCached() {
+        // given: deleted row, still in the filter
+        KnownIdFilter knownIdFilter = knownIdFilter(Duration.ofMinutes(1));
+        knownIdFilter.rebuild(KnownIdType.ARTICLE);
+        Function<String, Optional<String>> deleted = id -> {
+            dbLookups.incrementAndGet();
+            return Optional.empty();
+        };
+
+        // when
+        knownIdFilter.find(KnownIdType.ARTICLE, "a-1", deleted);
+        Optional<String> second = knownIdFilter.find(KnownIdType.ARTICLE, "a-1", deleted);
+
+        // then
+        assertThat(second).isEmpty();
+        assertThat(dbLookups.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동기화가 오래된 필터는 거절 전에 마지막 키 이후 행을 증분 로드해 크롤러가 추가한 id를 찾음")
+    void find_staleFilter_loadsNewRowsBeforeRejecting() {
+        // given
+        KnownIdFilter knownIdFilter = knownIdFilter(Duration.ZERO);
+        knownIdFilter.rebuild(KnownIdType.ARTICLE);
+        articleIds.add(new KnownId(1200, "a-crawled"));
+
+        // when
+        Optional<String> crawled = knownIdFilter.find(KnownIdType.ARTICLE, "a-crawled", database());
+
+        // then: only keys above the watermark (less the overlap) are read again
+        assertThat(crawled).contains("row:a-crawled");
+        assertThat(loadedAfter).containsExactly(0L, 1003L - 100);
+        assertThat(knownIdFilter.getStats().get(0).maxKey()).isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("negative 캐시에 남은 id도 이후 삽입되면 증분 로드에서 풀려 조회됨")
+    void find_negativelyCachedIdInsertedLater_isFound() {
+        // given: looked up before the admin insert committed
+        KnownIdFilter knownIdFilter = knownIdFilter(Duration.ZERO);
+        knownIdFilter.rebuild(KnownIdType.ARTICLE);
+        knownIdFilter.add(KnownIdType.ARTICLE, "a-late");
+        knownIdFilter.find(KnownIdType.ARTICLE, "a-late", database());
+        articleIds.add(new KnownId(1004, "a-late"));
+
+        // when
+        Optional<String> found = knownIdFilter.find(KnownIdType.ARTICLE, "a-late", database());
+
+        // then
+        assertThat(found).contains("row:a-late");
+    }
+
+    @Test
+    @DisplayName("증분 로드에 실패하면 필터의 거절을 믿지 않고 DB 조회")
+    void find_catchUpFails_looksUpDatabase() {
+        // given
+        KnownIdFilter knownIdFilter = knownIdFilter(Duration.ZERO);
+        knownIdFilter.rebuild(KnownIdType.ARTICLE);
+        articleIds.add(new KnownId(1004, "a-new"));
+        sourceDown = true;
+
+        // when
+        Optional<String> found = knownIdFilter.find(KnownIdType.ARTICLE, "a-new", database());
+
+        // then
+        assertThat(found).contains("row:a-new");
+        assertThat(dbLookups.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("add는 새 id를 이 노드에서 즉시 통과시킴")
+    void add_registersIdImmediately() {
+        // given
+        KnownIdFilter knownIdFilter = knownIdFilter(Duration.ofMinutes(1));
+        knownIdFilter.rebuild(KnownIdType.ARTICLE);
+        articleIds.add(new KnownId(1004, "a-new"));
+
+        // when
+        knownIdFilter.add(KnownIdType.ARTICLE, "a-new");
+
+        // then
+        assertThat(knownIdFilter.find(KnownIdType.ARTICLE, "a-new", database())).contains("row:a-new");
+        assertThat(loadedAfter).containsExactly(0L);
+        assertThat(published).containsExactly("ARTICLE:a-new");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 add는 커밋 후에 등록하고 다른 노드로 전파")
+    void add_inTransaction_registersAfterCommit() {
+        // given
+        KnownIdFilter knownIdFilter = knownIdFilter(Duration.ofMinutes(1));
+        knownIdFilter.rebuild(KnownIdType.ARTICLE);
+        articleIds.add(new KnownId(1004, "a-new"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            knownIdFilter.add(KnownIdType.ARTICLE, "a-new");
+
+            // then: nothing visible before the commit
+            assertThat(published).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(knownIdFilter.find(KnownIdType.ARTICLE, "a-new", database())).contains("row:a-new");
+        assertThat(published).containsExactly("ARTICLE:a-new");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 바꾼 id(기존 행의 이름 변경)는 addLocal로 재전파 없이 통과")
+    void addLocal_renamedIdFromOtherNode_isFound() {
+        // given: an existing row renamed on another node, invisible to the load by primary key
+        KnownIdFilter knownIdFilter = knownIdFilter(Duration.ofMinutes(1));
+        knownIdFilter.rebuild(KnownIdType.ARTICLE);
+        articleIds.set(0, new KnownId(1001, "a-renamed"));
+
+        // when
+        knownIdFilter.addLocal(KnownIdType.ARTICLE, "a-renamed");
+
+        // then
+        assertThat(knownIdFilter.find(KnownIdType.ARTICLE, "a-renamed", database())).contains("row:a-renamed");
+        assertThat(published).isEmpty();
+    }
+
+    private KnownIdFilter knownIdFilter(Duration maxStaleness) {
+        KnownIdSource articles = new KnownIdSource() {
+            @Override
+            public KnownIdType type() {
+                return KnownIdType.ARTICLE;
+            }
+
+            @Override
+            public List<KnownId> loadIdsAfter(long afterKey) {
+                if (sourceDown) {
+                    throw new DataAccessResourceFailureException("database down");
+                }
+                loadedAfter.add(afterKey);
+                return articleIds.stream()
+                    .filter(knownId -> knownId.key() > afterKey)
+                    .toList();
+            }
+        };
+        return new KnownIdFilter(List.of(articles), (type, id) -> published.add(type + ":" + id),
+            new SimpleMeterRegistry(), Duration.ofSeconds(30), 100, maxStaleness);
+    }
+
+    private Function<String, Optional<String>> database() {
+        return id -> {
+            dbLookups.incrementAndGet();
+            return articleIds.stream().anyMatch(knownId -> knownId.id().equals(id))
+                ? Optional.of("row:" + id)
+                : Optional.empty();
+        };
+    }
+}
@@ -0,0 +1,152 @@
+package kr.devport.api.domain.common.cache.response;
+
+import kr.devport.api.domain.common.cache.CacheNames;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ResponseBodyCache: 직렬화된 응답 바디 캐시 테스트")
+class ResponseBodyCacheTest {
+
+    private ResponseBodyCache responseBodyCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RequestMappingHandlerAdapter handlerAdapter = new RequestMappingHandlerAdapter();
+        handlerAdapter.setMessageConverters(List.of(new QuotingJsonConverter()));
+        ObjectProvider<RequestMappingHandlerAdapter> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(handlerAdapter);
+
+        responseBodyCache = new ResponseBodyCache(new ConcurrentMapCacheManager(), provider);
+        ReflectionTestUtils.setField(responseBodyCache, "enabled", true);
+        ReflectionTestUtils.setField(responseBodyCache, "gzipMinBytes", 64);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 서비스 결과를 그대로 반환")
+    void respond_disabled_returnsLoaderResult() {
+        // given
+        ReflectionTestUtils.setField(responseBodyCache, "enabled", false);
+
+        // when
+        ResponseEntity<?> response = respond("all_0_9", "small", null);
+
+        // then
+        assertThat(response.getBody()).isEqualTo("small");
+    }
+
+    @Test
+    @DisplayName("두 번째 요청은 저장된 JSON 바이트로 응답하고 서비스를 호출하지 않음")
+    void respond_hit_servesStoredBytes() {
+        // when
+        respond("all_0_9", "small", null);
+        ResponseEntity<?> response = respond("all_0_9", "small", null);
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8)).isEqualTo("\"small\"");
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하는 클라이언트에는 미리 압축한 바디로 응답")
+    void respond_gzipAccepted_servesGzipVariant() throws IOException {
+        // given
+        String value = "x".repeat(1000);
+
+        // when
+        ResponseEntity<?> response = respond("all_1_9", value, "br, gzip");
+
+        // then
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream((byte[]) response.getBody()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("\"" + value + "\"");
+        }
+    }
+
+    @Test
+    @DisplayName("서비스 예외는 감싸지 않고 그대로 전파")
+    void respond_loaderFails_rethrowsOriginalException() {
+        // when & then
+        assertThatThrownBy(() -> responseBodyCache.respond(CacheNames.ARTICLES_BODY, "all_2_9",
+                new MockHttpServletRequest(), () -> {
+                    throw new IllegalArgumentException("bad category");
+                }))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("bad category");
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding의 gzip q=0은 거부로 처리")
+    void acceptsGzip_parsesQualityValues() {
+        assertThat(ResponseBodyCache.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("GZIP;q=0.5")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip("br")).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip(null)).isFalse();
+    }
+
+    private ResponseEntity<?> respond(String key, String value, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return responseBodyCache.respond(CacheNames.ARTICLES_BODY, key, request, () -> {
+            loads.incrementAndGet();
+            return value;
+        });
+    }
+
+    /**
+     * Stand-in for the MVC JSON converter: writes strings as JSON string literals.
+     */
+    private static final class QuotingJsonConverter extends AbstractHttpMessageConverter<Object> {
+
+        QuotingJsonConverter() {
+            super(MediaType.APPLICATION_JSON);
+        }
+
+        @Override
+        protected boolean supports(Class<?> clazz) {
+            return String.class.equals(clazz);
+        }
+
+        @Override
+        protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+            outputMessage.getBody().write(("\"" + value + "\"").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
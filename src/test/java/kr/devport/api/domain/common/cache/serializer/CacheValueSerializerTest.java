@@ -0,0 +1,130 @@
+package kr.devport.api.domain.common.cache.serializer;
+
+import kr.devport.api.domain.article.dto.response.TrendingTickerResponse;
+import kr.devport.api.domain.common.cache.CacheNames;
+import kr.devport.api.domain.common.cache.CachedIdPage;
+import kr.devport.api.domain.common.pagination.PageTotal;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CacheValueSerializer: 타입 지정 캐시 값 직렬화 테스트")
+class CacheValueSerializerTest {
+
+    private final CacheValueSerializer serializer = CacheValueSerializer.forCache(CacheNames.TRENDING_TICKER);
+
+    @Test
+    @DisplayName("선언된 타입으로 역직렬화되고 헤더가 기록됨")
+    void roundTrip_restoresDeclaredType() {
+        // given
+        TrendingTickerResponse ticker = new TrendingTickerResponse();
+        ticker.setId(1L);
+
+        // when
+        byte[] bytes = serializer.serialize(List.of(ticker));
+        Object restored = serializer.deserialize(bytes);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(CacheValueSerializer.MAGIC);
+        assertThat(bytes[1]).isEqualTo(CacheValueSerializer.FORMAT_VERSION);
+        assertThat(restored).asInstanceOf(InstanceOfAssertFactories.LIST)
+            .singleElement()
+            .isInstanceOfSatisfying(TrendingTickerResponse.class, t -> assertThat(t.getId()).isEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("목록 캐시의 id 페이지는 순서와 페이지 정보를 유지한 채 복원")
+    void roundTrip_cachedIdPage_keepsIdOrder() {
+        // given
+        CacheValueSerializer articles = CacheValueSerializer.forCache(CacheNames.ARTICLES);
+        List<Long> ids = List.of(9_001L, 8_999L, 12L, 3_000_000_000L, 1L);
+        CachedIdPage page = CachedIdPage.of(new SliceImpl<>(ids, PageRequest.of(1, 5), true), new PageTotal(42, false));
+
+        // when
+        Object restored = articles.deserialize(articles.serialize(page));
+
+        // then
+        assertThat(restored).isInstanceOfSatisfying(CachedIdPage.class, p -> {
+            assertThat(p.ids()).containsExactlyElementsOf(ids);
+            assertThat(p.totalElements()).isEqualTo(42);
+            assertThat(p.currentPage()).isEqualTo(1);
+            assertThat(p.hasMore()).isTrue();
+            assertThat(p.totalExact()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("이전 포맷(기본 타이핑 JSON) 엔트리는 miss(null)로 처리")
+    void deserialize_legacyEntry_returnsNull() {
+        // given
+        byte[] legacy = new DefaultTypingJsonRedisSerializer().serialize(List.of(new TrendingTickerResponse()));
+
+        // when & then
+        assertThat(serializer.deserialize(legacy)).isNull();
+    }
+
+    @Test
+    @DisplayName("손상된 본문도 예외 없이 miss로 처리")
+    void deserialize_corruptPayload_returnsNull() {
+        // given
+        byte[] corrupt = {CacheValueSerializer.MAGIC, CacheValueSerializer.FORMAT_VERSION, 0, 0x7F, 0x01};
+
+        // when & then
+        assertThat(serializer.deserialize(corrupt)).isNull();
+    }
+
+    @Test
+    @DisplayName("임계값 이상 값은 압축 플래그와 함께 더 작게 저장되고 그대로 복원")
+    void serialize_aboveThreshold_compressesAndRoundTrips() {
+        // given
+        CacheValueSerializer compressing = CacheValueSerializer.forCache(
+            CacheNames.TRENDING_TICKER, 1024, CompressionObserver.NONE);
+        List<TrendingTickerResponse> tickers = IntStream.range(0, 200)
+            .mapToObj(i -> TrendingTickerResponse.builder()
+                .id((long) i)
+                .summaryKoTitle("오픈소스 LLM 추론 서버 성능 비교 " + i)
+                .url("https://devport.kr/articles/" + i)
+                .build())
+            .toList();
+
+        // when
+        byte[] compressed = compressing.serialize(tickers);
+        byte[] raw = serializer.serialize(tickers);
+        Object restored = compressing.deserialize(compressed);
+
+        // then
+        assertThat(compressed[2]).isEqualTo(CacheValueSerializer.FLAG_DEFLATE);
+        assertThat(compressed.length).isLessThan(raw.length);
+        assertThat(restored).asInstanceOf(InstanceOfAssertFactories.LIST).hasSize(200);
+    }
+
+    @Test
+    @DisplayName("임계값 미만 값은 압축하지 않음")
+    void serialize_belowThreshold_storesRaw() {
+        // given
+        CacheValueSerializer compressing = CacheValueSerializer.forCache(
+            CacheNames.TRENDING_TICKER, 1024, CompressionObserver.NONE);
+
+        // when
+        byte[] bytes = compressing.serialize(List.of(new TrendingTickerResponse()));
+
+        // then
+        assertThat(bytes[2]).isEqualTo(CacheValueSerializer.FLAGS_NONE);
+        assertThat(compressing.deserialize(bytes)).asInstanceOf(InstanceOfAssertFactories.LIST).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("값 타입이 등록되지 않은 캐시는 생성 불가")
+    void forCache_unregisteredCache_throws() {
+        assertThatThrownBy(() -> CacheValueSerializer.forCache(CacheNames.LLM_MODELS))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
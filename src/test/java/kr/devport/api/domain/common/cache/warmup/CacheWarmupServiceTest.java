@@ -0,0 +1,107 @@
+package kr.devport.api.domain.common.cache.warmup;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.devport.api.domain.common.cache.CacheNames;
+import kr.devport.api.domain.common.cache.CacheScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheWarmupService: 무효화 후 핫 키 워밍 테스트")
+class CacheWarmupServiceTest {
+
+    private List<String> warmed;
+    private SimpleMeterRegistry meterRegistry;
+    private CacheWarmupService warmupService;
+
+    @BeforeEach
+    void setUp() {
+        warmed = new ArrayList<>();
+        meterRegistry = new SimpleMeterRegistry();
+        warmupService = new CacheWarmupService(
+            List.of(
+                warmer(CacheScope.ARTICLE, CacheNames.ARTICLES, "all_0_9"),
+                warmer(CacheScope.LLM, CacheNames.LLM_BENCHMARKS, "all")
+            ),
+            Runnable::run,
+            meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("무효화된 스코프의 워머만 실행하고 소요 시간을 기록")
+    void onScopeInvalidated_warmsOnlyThatScope() {
+        // when
+        warmupService.onScopeInvalidated(new CacheScopeInvalidatedEvent(CacheScope.ARTICLE, "job-1"));
+
+        // then
+        assertThat(warmed).containsExactly(CacheNames.ARTICLES + ":all_0_9");
+        Timer timer = meterRegistry.find("cache.warmup.duration").tag("scope", "ARTICLE").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("UNKNOWN 스코프는 모든 워머를 실행")
+    void warmUp_unknownScope_warmsAllScopes() {
+        // when
+        warmupService.warmUp(CacheScope.UNKNOWN, "startup").join();
+
+        // then
+        assertThat(warmed).containsExactlyInAnyOrder(
+            CacheNames.ARTICLES + ":all_0_9",
+            CacheNames.LLM_BENCHMARKS + ":all"
+        );
+    }
+
+    @Test
+    @DisplayName("키 하나의 실패는 나머지 워밍을 막지 않고 partial로 기록")
+    void warmUp_failingKey_continuesAndRecordsPartial() {
+        // given
+        CacheWarmer failing = new CacheWarmer() {
+            @Override
+            public CacheScope scope() {
+                return CacheScope.GIT_REPO;
+            }
+
+            @Override
+            public List<CacheWarmupTask> hotKeys(int pages) {
+                return List.of(
+                    new CacheWarmupTask(CacheNames.GIT_REPOS, "all_0_10", () -> {
+                        throw new IllegalStateException("db down");
+                    }),
+                    new CacheWarmupTask(CacheNames.TRENDING_GIT_REPOS, "0_10",
+                        () -> warmed.add(CacheNames.TRENDING_GIT_REPOS + ":0_10"))
+                );
+            }
+        };
+        CacheWarmupService service = new CacheWarmupService(List.of(failing), Runnable::run, meterRegistry);
+
+        // when
+        service.warmUp(CacheScope.GIT_REPO, "job-2").join();
+
+        // then
+        assertThat(warmed).containsExactly(CacheNames.TRENDING_GIT_REPOS + ":0_10");
+        assertThat(meterRegistry.find("cache.warmup.duration").tag("outcome", "partial").timer()).isNotNull();
+    }
+
+    private CacheWarmer warmer(CacheScope scope, String cacheName, String key) {
+        return new CacheWarmer() {
+            @Override
+            public CacheScope scope() {
+                return scope;
+            }
+
+            @Override
+            public List<CacheWarmupTask> hotKeys(int pages) {
+                return List.of(new CacheWarmupTask(cacheName, key, () -> warmed.add(cacheName + ":" + key)));
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package kr.devport.api.domain.common.pagination;
+
+import kr.devport.api.domain.common.exception.InvalidCursorException;
+import kr.devport.api.domain.common.exception.InvalidPageSizeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetCursor: 커서 페이지네이션 정렬 키 인코딩 테스트")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 URL 안전 문자열이고 정렬 키를 그대로 복원")
+    void encode_decode_roundTrip() {
+        // given
+        KeysetCursor cursor = new KeysetCursor(-5, LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_456_000), 42L);
+
+        // when
+        String encoded = cursor.encode();
+
+        // then
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지")
+    void decode_blank_returnsNull() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("직접 만든 값이나 깨진 커서는 InvalidCursorException")
+    void decode_malformed_throws() {
+        String forged = Base64.getUrlEncoder().encodeToString("v1|abc|2026-01-01T00:00|1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor!"))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(forged))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 1~MAX_PAGE_SIZE만 허용하고 다음 페이지 확인용 한 행을 더 조회")
+    void limitWithNext_validatesPageSize() {
+        assertThat(KeysetCursor.limitWithNext(1)).isEqualTo(2);
+        assertThat(KeysetCursor.limitWithNext(KeysetCursor.MAX_PAGE_SIZE)).isEqualTo(KeysetCursor.MAX_PAGE_SIZE + 1);
+
+        assertThatThrownBy(() -> KeysetCursor.limitWithNext(0))
+            .isInstanceOf(InvalidPageSizeException.class);
+        assertThatThrownBy(() -> KeysetCursor.limitWithNext(-1))
+            .isInstanceOf(InvalidPageSizeException.class);
+        assertThatThrownBy(() -> KeysetCursor.limitWithNext(Integer.MAX_VALUE))
+            .isInstanceOf(InvalidPageSizeException.class);
+    }
+}
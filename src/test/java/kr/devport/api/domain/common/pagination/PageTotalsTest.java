@@ -0,0 +1,108 @@
+package kr.devport.api.domain.common.pagination;
+
+import kr.devport.api.domain.common.cache.CacheScope;
+import kr.devport.api.domain.common.cache.CacheScopeVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PageTotals: 목록 전체 개수 캐시 테스트")
+class PageTotalsTest {
+
+    private CacheScopeVersions scopeVersions;
+    private JdbcTemplate jdbcTemplate;
+    private PageTotals pageTotals;
+
+    private final AtomicInteger counts = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        scopeVersions = mock(CacheScopeVersions.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        pageTotals = new PageTotals(scopeVersions, jdbcTemplate, Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    @DisplayName("첫 페이지에서 집계한 개수를 이후 페이지가 재사용하고 스코프 버전이 바뀌면 다시 집계")
+    void total_countsOnFirstPage_reusesUntilScopeChanges() {
+        // given
+        when(scopeVersions.current(CacheScope.ARTICLE)).thenReturn(1L);
+        LongSupplier count = counting(95);
+
+        // when
+        PageTotal first = pageTotals.total(CacheScope.ARTICLE, "AI_LLM", slice(0, true), count);
+        PageTotal second = pageTotals.total(CacheScope.ARTICLE, "AI_LLM", slice(1, true), count);
+
+        // then
+        assertThat(first).isEqualTo(new PageTotal(95, true));
+        assertThat(second).isEqualTo(new PageTotal(95, false));
+        assertThat(first.totalPages(10)).isEqualTo(10);
+        assertThat(counts).hasValue(1);
+
+        when(scopeVersions.current(CacheScope.ARTICLE)).thenReturn(2L);
+        assertThat(pageTotals.total(CacheScope.ARTICLE, "AI_LLM", slice(2, true), count))
+            .isEqualTo(new PageTotal(95, true));
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 집계 없이 정확한 개수, 재사용한 개수가 모자라면 보정")
+    void total_lastPageExact_staleCountRaised() {
+        // given
+        when(scopeVersions.current(CacheScope.ARTICLE)).thenReturn(1L);
+        pageTotals.total(CacheScope.ARTICLE, "all", slice(0, true), counting(15));
+
+        // when
+        Slice<Long> lastPage = new SliceImpl<>(List.of(1L, 2L, 3L), PageRequest.of(3, 10), false);
+        PageTotal last = pageTotals.total(CacheScope.ARTICLE, "all", lastPage, counting(0));
+        PageTotal grown = pageTotals.total(CacheScope.ARTICLE, "all", slice(1, true), counting(0));
+
+        // then
+        assertThat(last).isEqualTo(new PageTotal(33, true));
+        assertThat(grown).isEqualTo(new PageTotal(21, false));
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("큰 테이블의 필터 없는 목록은 플래너 추정치를 사용")
+    void estimatedTotal_largeTable_usesPlannerEstimate() {
+        // given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(Object[].class))).thenReturn(250_000L);
+
+        // when
+        PageTotal total = pageTotals.estimatedTotal(CacheScope.GIT_REPO, "git_repos", slice(0, true), counting(0));
+
+        // then
+        assertThat(total).isEqualTo(new PageTotal(250_000, false));
+        assertThat(counts).hasValue(0);
+    }
+
+    private LongSupplier counting(long total) {
+        return () -> {
+            counts.incrementAndGet();
+            return total;
+        };
+    }
+
+    private static Slice<Long> slice(int page, boolean hasNext) {
+        List<Long> ids = LongStream.rangeClosed(1, 10).boxed().toList();
+        return new SliceImpl<>(ids, PageRequest.of(page, 10), hasNext);
+    }
+}
@@ -48,7 +48,7 @@ class CacheInvalidationIntegrationTest {
         );
         
         fallbackStateStore = new CacheFallbackStateStore();
-        invalidationService = new CacheInvalidationService(cacheManager, fallbackStateStore);
+        invalidationService = new CacheInvalidationService(cacheManager, fallbackStateStore, event -> {});
     }
     
     @Test
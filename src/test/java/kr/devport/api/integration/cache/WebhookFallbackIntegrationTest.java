@@ -47,7 +47,7 @@ class WebhookFallbackIntegrationTest {
         
         fallbackStateStore = new CacheFallbackStateStore();
         cacheFallbackBypass = new CacheFallbackBypass(fallbackStateStore);
-        invalidationService = new CacheInvalidationService(cacheManager, fallbackStateStore);
+        invalidationService = new CacheInvalidationService(cacheManager, fallbackStateStore, event -> {});
     }
     
     @Test